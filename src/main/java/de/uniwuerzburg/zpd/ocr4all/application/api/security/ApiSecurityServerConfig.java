@@ -51,6 +51,12 @@ public class ApiSecurityServerConfig extends ApiSecurityConfig {
 	 */
 	private static final String errorContextPath = "/error";
 
+	/**
+	 * The actuator context path. The actuator endpoints are served on the
+	 * management port, which is only bound to the local host.
+	 */
+	private static final String actuatorContextPath = "/actuator";
+
 	/**
 	 * The logger.
 	 */
@@ -148,6 +154,9 @@ public class ApiSecurityServerConfig extends ApiSecurityConfig {
 				// RESTful web API documentation
 				.requestMatchers(HttpMethod.GET, matchAll(ApiDocumentationConfiguration.contextPath)).permitAll()
 
+				// actuator, e.g. metrics
+				.requestMatchers(HttpMethod.GET, matchAll(actuatorContextPath)).permitAll()
+
 				/*
 				 * The private end points
 				 */
@@ -7,7 +7,13 @@
  */
 package de.uniwuerzburg.zpd.ocr4all.application.api.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.crypto.SecretKey;
 
@@ -19,13 +25,21 @@ import org.springframework.stereotype.Component;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ApiConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.AccountService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
- * Defines JWT access token utilities.
+ * Defines JWT access token utilities. The validated access tokens are cached
+ * with their core user information by the hash of the token. The entries
+ * expire with the token or after the configured cache validity, whatever comes
+ * first, and are invalidated when the accounts change.
  *
  * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
  * @version 1.0
@@ -40,6 +54,16 @@ public class JwtTokenUtil {
 	 */
 	private static final SecretKey secretKey = Jwts.SIG.HS512.key().build();
 
+	/**
+	 * The parser to verify the JWT access tokens. It is immutable and thread-safe.
+	 */
+	private static final JwtParser parser = Jwts.parser().verifyWith(secretKey).build();
+
+	/**
+	 * The prefix of the meter names.
+	 */
+	private static final String prefix = "ocr4all.cache.jwt.";
+
 	/**
 	 * The logger.
 	 */
@@ -55,18 +79,62 @@ public class JwtTokenUtil {
 	 */
 	private final AccountService accountService;
 
+	/**
+	 * The cached validated access tokens in access order. The key is the hash of
+	 * the access token.
+	 */
+	private final LinkedHashMap<String, Entry> entries;
+
+	/**
+	 * The counter for the cache hits.
+	 */
+	private final Counter hits;
+
+	/**
+	 * The counter for the cache misses.
+	 */
+	private final Counter misses;
+
 	/**
 	 * Creates JWT access token utilities.
 	 * 
 	 * @param configurationService The configuration service.
 	 * @param accountService       The account service.
+	 * @param meterRegistry        The meter registry.
 	 * @since 17
 	 */
-	public JwtTokenUtil(ConfigurationService configurationService, AccountService accountService) {
+	public JwtTokenUtil(ConfigurationService configurationService, AccountService accountService,
+			MeterRegistry meterRegistry) {
 		super();
 
 		configuration = configurationService.getApi().getJwt();
 		this.accountService = accountService;
+
+		final int capacity = configuration.getCache();
+		entries = new LinkedHashMap<>(16, 0.75F, true) {
+			private static final long serialVersionUID = 1L;
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+
+		hits = Counter.builder(prefix + "requests").description("The requests of the JWT access token cache.")
+				.tag("result", "hit").register(meterRegistry);
+		misses = Counter.builder(prefix + "requests").description("The requests of the JWT access token cache.")
+				.tag("result", "miss").register(meterRegistry);
+
+		Gauge.builder(prefix + "size", entries, map -> {
+			synchronized (map) {
+				return map.size();
+			}
+		}).description("The number of entries in the JWT access token cache.").register(meterRegistry);
 	}
 
 	/**
@@ -104,7 +172,7 @@ public class JwtTokenUtil {
 	 * @since 17
 	 */
 	public String getUsername(String token) {
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+		return parser.parseSignedClaims(token).getPayload().getSubject();
 //		return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
 	}
 
@@ -116,7 +184,77 @@ public class JwtTokenUtil {
 	 * @since 17
 	 */
 	public Date getExpirationDate(String token) {
-		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+		return parser.parseSignedClaims(token).getPayload().getExpiration();
+	}
+
+	/**
+	 * Returns the hash of the JWT access token.
+	 * 
+	 * @param token The JWT access token.
+	 * @return The hash of the JWT access token. Null if the token is null or the
+	 *         hash algorithm is not available.
+	 * @since 17
+	 */
+	private static String getHash(String token) {
+		if (token == null)
+			return null;
+
+		try {
+			return Base64.getEncoder().encodeToString(
+					MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the cached core user information of the JWT access token.
+	 * 
+	 * @param hash The hash of the JWT access token.
+	 * @return The cached core user information. Null if the token is not cached,
+	 *         the entry expired or the accounts changed in the meantime.
+	 * @since 17
+	 */
+	private UserDetails getCached(String hash) {
+		if (hash == null || configuration.getCache() == 0)
+			return null;
+
+		synchronized (entries) {
+			Entry entry = entries.get(hash);
+
+			if (entry != null) {
+				if (entry.expiration > System.currentTimeMillis()
+						&& entry.revision == accountService.getRevision())
+					return entry.userDetails;
+
+				entries.remove(hash);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Caches the core user information of the JWT access token.
+	 * 
+	 * @param hash        The hash of the JWT access token.
+	 * @param claims      The verified claims of the JWT access token.
+	 * @param userDetails The core user information.
+	 * @param revision    The revision of the accounts the core user information was
+	 *                    loaded from.
+	 * @since 17
+	 */
+	private void cache(String hash, Claims claims, UserDetails userDetails, long revision) {
+		if (hash == null || configuration.getCache() == 0 || configuration.getCacheValidity() == 0)
+			return;
+
+		long expiration = System.currentTimeMillis() + configuration.getCacheValidity();
+		if (claims.getExpiration() != null)
+			expiration = Math.min(expiration, claims.getExpiration().getTime());
+
+		synchronized (entries) {
+			entries.put(hash, new Entry(userDetails, expiration, revision));
+		}
 	}
 
 	/**
@@ -127,10 +265,28 @@ public class JwtTokenUtil {
 	 * @since 17
 	 */
 	public UserDetails validate(String token) {
+		final String hash = getHash(token);
+
+		UserDetails userDetails = getCached(hash);
+		if (userDetails != null) {
+			hits.increment();
+
+			return userDetails;
+		}
+
+		misses.increment();
+
 		try {
-			Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+			final Claims claims = parser.parseSignedClaims(token).getPayload();
+
+			// The revision is read first, so that concurrent account changes invalidate the entry
+			final long revision = accountService.getRevision();
 
-			return accountService.loadUserByUsername(getUsername(token));
+			userDetails = accountService.loadUserByUsername(claims.getSubject());
+
+			cache(hash, claims, userDetails, revision);
+
+			return userDetails;
 		} catch (MalformedJwtException ex) {
 			logger.warn("Invalid JWT token - {}", ex.getMessage());
 		} catch (ExpiredJwtException ex) {
@@ -147,4 +303,45 @@ public class JwtTokenUtil {
 
 		return null;
 	}
+
+	/**
+	 * Defines cache entries of validated JWT access tokens.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Entry {
+		/**
+		 * The core user information.
+		 */
+		private final UserDetails userDetails;
+
+		/**
+		 * The expiration time of the entry in milliseconds.
+		 */
+		private final long expiration;
+
+		/**
+		 * The revision of the accounts the core user information was loaded from.
+		 */
+		private final long revision;
+
+		/**
+		 * Creates a cache entry of a validated JWT access token.
+		 * 
+		 * @param userDetails The core user information.
+		 * @param expiration  The expiration time of the entry in milliseconds.
+		 * @param revision    The revision of the accounts the core user information
+		 *                    was loaded from.
+		 * @since 17
+		 */
+		private Entry(UserDetails userDetails, long expiration, long revision) {
+			super();
+
+			this.userDetails = userDetails;
+			this.expiration = expiration;
+			this.revision = revision;
+		}
+	}
 }
@@ -29,6 +29,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationS
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.data.CollectionConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRWS;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -104,6 +105,14 @@ public class CollectionApiController extends CoreApiController {
 	 * Returns the list of collections sorted by name with rights in the response
 	 * body.
 	 *
+	 * @param sort   The sort order - name or updated, descending with a leading
+	 *               minus sign. Sorts by name if not set.
+	 * @param q      The search - a name part, a keyword or an owner. Use the
+	 *               prefix "keyword:" or "owner:" to search only the keywords or
+	 *               owners.
+	 * @param offset The number of selected collections to skip.
+	 * @param limit  The maximal number of collections. All selected collections if not
+	 *               positive.
 	 * @return The list of collections sorted by name with rights in the response
 	 *         body.
 	 * @since 1.8
@@ -113,13 +122,19 @@ public class CollectionApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, array = @ArraySchema(schema = @Schema(implementation = CollectionRightResponse.class))) }),
 			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
 	@GetMapping(listRequestMapping)
-	public ResponseEntity<List<CollectionRightResponse>> list() {
+	public ResponseEntity<List<CollectionRightResponse>> list(
+			@Parameter(description = "the sort order - name or updated, descending with a leading minus sign") @RequestParam(required = false) String sort,
+			@Parameter(description = "the search - prefix keyword: or owner: to search only the keywords or owners") @RequestParam(required = false) String q,
+			@Parameter(description = "the number of selected collections to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of collections - all selected collections if not positive") @RequestParam(required = false, defaultValue = "0") int limit) {
 		try {
+			Catalog.Page<CollectionService.Collection> page = collectionService.getCollections(sort, q, offset, limit);
+
 			List<CollectionRightResponse> collections = new ArrayList<>();
-			for (CollectionService.Collection collection : collectionService.getCollections())
+			for (CollectionService.Collection collection : page.getEntities())
 				collections.add(new CollectionRightResponse(collection));
 
-			return ResponseEntity.ok().body(collections);
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(page.getTotal())).body(collections);
 		} catch (Exception ex) {
 			log(ex);
 
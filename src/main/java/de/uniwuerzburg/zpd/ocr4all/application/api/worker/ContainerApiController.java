@@ -30,6 +30,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.repository.Con
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.repository.ContainerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRWS;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -113,6 +114,14 @@ public class ContainerApiController extends CoreApiController {
 	 * Returns the list of containers sorted by name with rights in the response
 	 * body.
 	 *
+	 * @param sort   The sort order - name or updated, descending with a leading
+	 *               minus sign. Sorts by name if not set.
+	 * @param q      The search - a name part, a keyword or an owner. Use the
+	 *               prefix "keyword:" or "owner:" to search only the keywords or
+	 *               owners.
+	 * @param offset The number of selected containers to skip.
+	 * @param limit  The maximal number of containers. All selected containers if not
+	 *               positive.
 	 * @return The list of containers sorted by name with rights in the response
 	 *         body.
 	 * @since 1.8
@@ -122,13 +131,19 @@ public class ContainerApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, array = @ArraySchema(schema = @Schema(implementation = ContainerRightResponse.class))) }),
 			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
 	@GetMapping(listRequestMapping)
-	public ResponseEntity<List<ContainerRightResponse>> list() {
+	public ResponseEntity<List<ContainerRightResponse>> list(
+			@Parameter(description = "the sort order - name or updated, descending with a leading minus sign") @RequestParam(required = false) String sort,
+			@Parameter(description = "the search - prefix keyword: or owner: to search only the keywords or owners") @RequestParam(required = false) String q,
+			@Parameter(description = "the number of selected containers to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of containers - all selected containers if not positive") @RequestParam(required = false, defaultValue = "0") int limit) {
 		try {
+			Catalog.Page<ContainerService.Container> page = service.getContainers(sort, q, offset, limit);
+
 			List<ContainerRightResponse> containers = new ArrayList<>();
-			for (ContainerService.Container container : service.getContainers())
+			for (ContainerService.Container container : page.getEntities())
 				containers.add(new ContainerRightResponse(container));
 
-			return ResponseEntity.ok().body(containers);
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(page.getTotal())).body(containers);
 		} catch (Exception ex) {
 			log(ex);
 
@@ -40,6 +40,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.api.domain.response.JobResponse;
 import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.SaturationException;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Work;
 import de.uniwuerzburg.zpd.ocr4all.application.core.repository.ContainerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
@@ -165,7 +166,7 @@ public class ContainerFolioApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, schema = @Schema(implementation = JobResponse.class)) }),
 			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
 			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
-			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
+			@ApiResponse(responseCode = "503", description = "Service Unavailable - the Retry-After header is set if the scheduler is saturated", content = @Content) })
 	@PostMapping(uploadRequestMapping + containerPathVariable)
 	public ResponseEntity<JobResponse> upload(
 			@Parameter(description = "the container id - this is the folder name") @PathVariable String containerId,
@@ -178,6 +179,10 @@ public class ContainerFolioApiController extends CoreApiController {
 
 			return work == null ? ResponseEntity.status(HttpStatus.BAD_REQUEST).build()
 					: ResponseEntity.ok().body(new JobResponse(false, work));
+		} catch (SaturationException ex) {
+			logger.warn(ex.getMessage());
+
+			return getRetryAfterResponse(ex.getRetryAfter());
 		} catch (Exception ex) {
 			log(ex);
 
@@ -199,7 +204,7 @@ public class ContainerFolioApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, schema = @Schema(implementation = JobResponse.class)) }),
 			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
 			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
-			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
+			@ApiResponse(responseCode = "503", description = "Service Unavailable - the Retry-After header is set if the scheduler is saturated", content = @Content) })
 	@PostMapping(exchangeRequestMapping + importRequestMapping + containerPathVariable)
 	public ResponseEntity<JobResponse> importExchange(
 			@Parameter(description = "the container id - this is the folder name") @PathVariable String containerId,
@@ -216,6 +221,10 @@ public class ContainerFolioApiController extends CoreApiController {
 
 			return work == null ? ResponseEntity.status(HttpStatus.BAD_REQUEST).build()
 					: ResponseEntity.ok().body(new JobResponse(false, work));
+		} catch (SaturationException ex) {
+			logger.warn(ex.getMessage());
+
+			return getRetryAfterResponse(ex.getRetryAfter());
 		} catch (Exception ex) {
 			log(ex);
 
@@ -15,8 +15,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Locale;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
@@ -390,6 +392,12 @@ public class CoreApiController {
 	 */
 	public static final String filenameMappingTSV = "filename-mapping.tsv";
 
+	/**
+	 * The name of the response header containing the total number of the
+	 * selected entities of a paged list.
+	 */
+	public static final String totalCountHeader = "X-Total-Count";
+
 	/**
 	 * Defines project rights.
 	 *
@@ -522,6 +530,21 @@ public class CoreApiController {
 		logger.error("throws exception " + exception.getClass().getName(), exception);
 	}
 
+	/**
+	 * Returns a service unavailable response with a retry after header. It is used
+	 * to reject requests, since the scheduler is saturated.
+	 *
+	 * @param <T>        The body type.
+	 * @param retryAfter The number of seconds the client should wait before
+	 *                   retrying.
+	 * @return The service unavailable response.
+	 * @since 17
+	 */
+	protected static <T> ResponseEntity<T> getRetryAfterResponse(int retryAfter) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter)).build();
+	}
+
 	/**
 	 * Returns the application preferred locale.
 	 *
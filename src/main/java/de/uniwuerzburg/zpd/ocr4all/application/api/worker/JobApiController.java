@@ -18,6 +18,7 @@ import java.util.Set;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,12 +26,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import de.uniwuerzburg.zpd.ocr4all.application.api.domain.response.JobResponse;
 import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.JobEventService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.JobLog;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.JobRecord;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService;
@@ -86,6 +94,16 @@ public class JobApiController extends CoreApiController {
 	 */
 	public static final String jobPathVariable = "/{jobId}";
 
+	/**
+	 * The log request mapping.
+	 */
+	public static final String logRequestMapping = "/log";
+
+	/**
+	 * The event request mapping.
+	 */
+	public static final String eventRequestMapping = "/event";
+
 	/**
 	 * Defines scheduler actions.
 	 *
@@ -152,6 +170,24 @@ public class JobApiController extends CoreApiController {
 		administration
 	}
 
+	/**
+	 * Defines log streams.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public enum LogStream {
+		/**
+		 * The standard output log stream.
+		 */
+		output,
+		/**
+		 * The standard error log stream.
+		 */
+		error
+	}
+
 	/**
 	 * The scheduler service.
 	 */
@@ -162,6 +198,11 @@ public class JobApiController extends CoreApiController {
 	 */
 	private final ProjectService projectService;
 
+	/**
+	 * The job event service.
+	 */
+	private final JobEventService eventService;
+
 	/**
 	 * Creates a folio controller for the api.
 	 *
@@ -171,16 +212,18 @@ public class JobApiController extends CoreApiController {
 	 * @param collectionService    The collection service.
 	 * @param modelService         The model service.
 	 * @param projectService       The project service.
+	 * @param eventService         The job event service.
 	 * @since 1.8
 	 */
 	public JobApiController(ConfigurationService configurationService, SecurityService securityService,
 			CollectionService collectionService, ModelService modelService, SchedulerService service,
-			ProjectService projectService) {
+			ProjectService projectService, JobEventService eventService) {
 		super(ProjectApiController.class, configurationService, securityService, collectionService, modelService,
 				projectService);
 
 		this.service = service;
 		this.projectService = projectService;
+		this.eventService = eventService;
 	}
 
 	/**
@@ -364,6 +407,64 @@ public class JobApiController extends CoreApiController {
 		}
 	}
 
+	/**
+	 * Returns the log lines of the job step starting at given offset in the
+	 * response body. Clients poll the log incrementally with the next offset of
+	 * the previous response.
+	 *
+	 * @param id     The job id.
+	 * @param stream The log stream. The default stream is output.
+	 * @param step   The journal step index. The first index is 0. If not set, the
+	 *               running step or the first step if no step is running.
+	 * @param offset The absolute offset of the first requested line. The default
+	 *               offset is 0.
+	 * @param limit  The maximal number of lines. If not positive, all available
+	 *               lines are returned.
+	 * @return The log lines in the response body.
+	 * @since 17
+	 */
+	@Operation(summary = "returns the log lines of the job step starting at given offset in the response body")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Job Log", content = {
+			@Content(mediaType = CoreApiController.applicationJson, schema = @Schema(implementation = JobLogResponse.class)) }),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
+	@GetMapping(logRequestMapping + idPathVariable)
+	public ResponseEntity<JobLogResponse> log(@Parameter(description = "the job id") @PathVariable int id,
+			@Parameter(description = "the log stream - available streams: output, error") @RequestParam(required = false) String stream,
+			@Parameter(description = "the journal step index - the running step if not set") @RequestParam(required = false) Integer step,
+			@Parameter(description = "the absolute offset of the first requested line") @RequestParam(required = false, defaultValue = "0") long offset,
+			@Parameter(description = "the maximal number of lines - all available lines if not positive") @RequestParam(required = false, defaultValue = "0") int limit) {
+		try {
+			LogStream logStream = LogStream.output;
+			if (stream != null && !stream.isBlank())
+				logStream = LogStream.valueOf(stream.trim().toLowerCase());
+
+			Job.Journal journal = getJob(id).getJournal();
+
+			Job.Journal.Step journalStep;
+			if (step == null)
+				journalStep = journal.isIndexSet() ? journal.getStep() : journal.getSteps().get(0);
+			else if (step < 0 || step >= journal.getSize())
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+			else
+				journalStep = journal.getSteps().get(step);
+
+			return ResponseEntity.ok()
+					.body(new JobLogResponse(id, journalStep.getIndex(), logStream,
+							(LogStream.output.equals(logStream) ? journalStep.getStandardOutputLog()
+									: journalStep.getStandardErrorLog()).getLines(offset, limit)));
+		} catch (IllegalArgumentException ex) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+		} catch (ResponseStatusException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			log(ex);
+
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+		}
+	}
+
 	/**
 	 * Returns the overview of the jobs of given type in the response body.
 	 *
@@ -387,47 +488,137 @@ public class JobApiController extends CoreApiController {
 			@Parameter(description = "the overview type - available types: project, domain administration") @PathVariable String type,
 			@Parameter(description = "the id of the project for the associated jobs - this parameter is only required for snapshot type project") @RequestParam(required = false) String id) {
 
+		try {
+			Selection selection = getSelection(type, id);
+
+			return ResponseEntity.ok().body(new JobOverviewResponse(service, selection.clusters,
+					selection.trainingModelIds, selection.owner));
+		} catch (ResponseStatusException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			log(ex);
+
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+		}
+	}
+
+	/**
+	 * Returns the selection of the jobs of given overview type.
+	 *
+	 * @param type The overview type. Available types: project, domain,
+	 *             administration.
+	 * @param id   The id of the project for the associated jobs. This parameter is
+	 *             only required for snapshot type project.
+	 * @return The selection of the jobs.
+	 * @throws ResponseStatusException Throws if the type is unknown or on security
+	 *                                 violation.
+	 * @since 17
+	 */
+	private Selection getSelection(String type, String id) throws ResponseStatusException {
 		SchedulerSnapshotType schedulerSnapshotType;
 		try {
 			schedulerSnapshotType = SchedulerSnapshotType.valueOf(type);
 		} catch (Exception e) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
 		}
 
-		try {
-			switch (schedulerSnapshotType) {
-			case administration:
-				return isCoordinator() ? ResponseEntity.ok().body(new JobOverviewResponse(service, null, null, null))
-						: ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-			case project:
-				Authorization authorization = authorizationFactory.authorize(id, ProjectRight.execute);
-
-				return ResponseEntity.ok()
-						.body(new JobOverviewResponse(service, Arrays.asList(authorization.project), null, null));
-			case domain:
-				if (!isSecured())
-					return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+		switch (schedulerSnapshotType) {
+		case administration:
+			if (!isCoordinator())
+				throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
 
-				// The process jobs
-				Set<Job.Cluster> clusters = new HashSet<>();
-				for (Project project : projectService.getProjectsRightExist())
-					if (project.isCoordinator()
-							|| (!project.getConfiguration().getConfiguration().isStateBlocked() && project.isExecute()))
-						clusters.add(project);
-
-				// The training model ids
-				Set<String> trainingModelIds = new HashSet<>();
-				for (ModelService.Model model : modelService.getModels())
-					if (model.getRight().isReadFulfilled())
-						trainingModelIds.add(model.getConfiguration().getId());
-
-				return ResponseEntity.ok()
-						.body(new JobOverviewResponse(service, clusters, trainingModelIds, securityService.getUser()));
-			default:
-				logger.warn("The scheduler snapshot type \"" + schedulerSnapshotType.name() + "\" is not implemented.");
+			return new Selection(null, null, null);
+		case project:
+			Authorization authorization = authorizationFactory.authorize(id, ProjectRight.execute);
+
+			return new Selection(Arrays.asList(authorization.project), null, null);
+		case domain:
+			if (!isSecured())
+				throw new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED);
+
+			// The process jobs
+			Set<Job.Cluster> clusters = new HashSet<>();
+			for (Project project : projectService.getProjectsRightExist())
+				if (project.isCoordinator()
+						|| (!project.getConfiguration().getConfiguration().isStateBlocked() && project.isExecute()))
+					clusters.add(project);
+
+			// The training model ids
+			Set<String> trainingModelIds = new HashSet<>();
+			for (ModelService.Model model : modelService.getModels())
+				if (model.getRight().isReadFulfilled())
+					trainingModelIds.add(model.getConfiguration().getId());
+
+			return new Selection(clusters, trainingModelIds, securityService.getUser());
+		default:
+			logger.warn("The scheduler snapshot type \"" + schedulerSnapshotType.name() + "\" is not implemented.");
+
+			throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED);
+		}
+	}
 
-				return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
-			}
+	/**
+	 * Returns the event stream of the jobs of given type. It starts with an
+	 * overview event with the selected jobs. Afterwards, a jobs event is sent with
+	 * the jobs whose state, progress or logs changed. The changes are coalesced
+	 * per job. The log lengths allow to fetch the new log lines incrementally. If
+	 * the client does not accept the events in time, the stream is completed and
+	 * the client can reconnect to receive a fresh overview.
+	 *
+	 * @param type The overview type. Available types: project, domain,
+	 *             administration.
+	 * @param id   The id of the project for the associated jobs. This parameter is
+	 *             only required for snapshot type project.
+	 * @return The event stream.
+	 * @since 17
+	 */
+	@Operation(summary = "returns the event stream of the jobs of given type")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Jobs Event Stream"),
+			@ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+			@ApiResponse(responseCode = "405", description = "Method Not Allowed", content = @Content),
+			@ApiResponse(responseCode = "501", description = "Not Implemented", content = @Content),
+			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
+	@GetMapping(value = eventRequestMapping + typePathVariable, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter event(
+			@Parameter(description = "the overview type - available types: project, domain administration") @PathVariable String type,
+			@Parameter(description = "the id of the project for the associated jobs - this parameter is only required for snapshot type project") @RequestParam(required = false) String id) {
+		try {
+			final Selection selection = getSelection(type, id);
+
+			final SseEmitter emitter = new SseEmitter(
+					configurationService.getApplication().getJobEventProperties().getTimeout());
+
+			final int subscription = eventService.subscribe(
+					job -> SchedulerService.isAssociated(job, selection.clusters, selection.trainingModelIds,
+							selection.owner),
+					events -> {
+						try {
+							if (events.isEmpty())
+								emitter.send(SseEmitter.event().comment("heartbeat"));
+							else {
+								List<JobEventResponse> responses = new ArrayList<>();
+								for (JobEventService.Event event : events)
+									responses.add(new JobEventResponse(event));
+
+								emitter.send(SseEmitter.event().name("jobs").data(responses, MediaType.APPLICATION_JSON));
+							}
+
+							return true;
+						} catch (Exception e) {
+							return false;
+						}
+					}, () -> emitter.complete());
+
+			emitter.onCompletion(() -> eventService.unsubscribe(subscription));
+			emitter.onTimeout(() -> eventService.unsubscribe(subscription));
+			emitter.onError(error -> eventService.unsubscribe(subscription));
+
+			emitter.send(SseEmitter.event().name("overview").data(
+					new JobOverviewResponse(service, selection.clusters, selection.trainingModelIds, selection.owner),
+					MediaType.APPLICATION_JSON));
+
+			return emitter;
 		} catch (ResponseStatusException ex) {
 			throw ex;
 		} catch (Exception ex) {
@@ -437,6 +628,48 @@ public class JobApiController extends CoreApiController {
 		}
 	}
 
+	/**
+	 * Defines selections of the jobs under control of the scheduler.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Selection {
+		/**
+		 * The clusters to select the jobs. If null, all jobs are selected.
+		 */
+		private final Collection<Job.Cluster> clusters;
+
+		/**
+		 * The assemble model ids of the selected training jobs.
+		 */
+		private final Set<String> trainingModelIds;
+
+		/**
+		 * The owner of the selected work jobs.
+		 */
+		private final String owner;
+
+		/**
+		 * Creates a selection.
+		 *
+		 * @param clusters         The clusters to select the jobs. If null, all jobs
+		 *                         are selected.
+		 * @param trainingModelIds The assemble model ids of the selected training
+		 *                         jobs.
+		 * @param owner            The owner of the selected work jobs.
+		 * @since 17
+		 */
+		public Selection(Collection<Job.Cluster> clusters, Set<String> trainingModelIds, String owner) {
+			super();
+
+			this.clusters = clusters;
+			this.trainingModelIds = trainingModelIds;
+			this.owner = owner;
+		}
+	}
+
 	/**
 	 * Secures the job task. Users with coordinator security permission are
 	 * authorized immediately.
@@ -615,190 +848,581 @@ public class JobApiController extends CoreApiController {
 	}
 
 	/**
-	 * Defines job summary responses for the api.
+	 * Defines job event responses for the api.
 	 *
 	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
 	 * @version 1.0
-	 * @since 1.8
+	 * @since 17
 	 */
-	public static class JobSummaryResponse implements Serializable {
+	public static class JobEventResponse implements Serializable {
 		/**
 		 * The serial version UID.
 		 */
 		private static final long serialVersionUID = 1L;
 
 		/**
-		 * The id.
+		 * True if the job was removed from the scheduler.
 		 */
-		private int id;
+		private boolean isRemoved;
 
 		/**
-		 * The state.
+		 * The job.
 		 */
-		private Job.State state;
+		private JobResponse job;
 
 		/**
-		 * The expected progress taking into account all journal steps.
+		 * The journal step index of the log lengths.
 		 */
-		private float progress;
+		private int step;
 
 		/**
-		 * Creates a job summary response for the api.
-		 * 
-		 * @param job The job.
-		 * @since 1.8
+		 * The total number of lines of the standard output log of the step.
 		 */
-		public JobSummaryResponse(Job job) {
+		@JsonProperty("output-length")
+		private long outputLength;
+
+		/**
+		 * The total number of lines of the standard error log of the step.
+		 */
+		@JsonProperty("error-length")
+		private long errorLength;
+
+		/**
+		 * Creates a job event response for the api.
+		 *
+		 * @param event The job event.
+		 * @since 17
+		 */
+		public JobEventResponse(JobEventService.Event event) {
 			super();
 
-			id = job.getId();
-			state = job.getState();
-			progress = job.getJournal().getProgress();
+			isRemoved = event.isRemoved();
+			job = new JobResponse(true, event.getJob());
+
+			Job.Journal journal = event.getJob().getJournal();
+			Job.Journal.Step journalStep = journal.isIndexSet() ? journal.getStep() : journal.getSteps().get(0);
+
+			step = journalStep.getIndex();
+			outputLength = journalStep.getStandardOutputLog().getLength();
+			errorLength = journalStep.getStandardErrorLog().getLength();
 		}
 
 		/**
-		 * Returns the id.
+		 * Returns true if the job was removed from the scheduler.
 		 *
-		 * @return The id.
+		 * @return True if the job was removed from the scheduler.
 		 * @since 17
 		 */
-		public int getId() {
-			return id;
+		@JsonGetter("removed")
+		public boolean isRemoved() {
+			return isRemoved;
 		}
 
 		/**
-		 * Set the id.
+		 * Set to true if the job was removed from the scheduler.
 		 *
-		 * @param id The id to set.
+		 * @param isRemoved The removed flag to set.
 		 * @since 17
 		 */
-		public void setId(int id) {
-			this.id = id;
+		public void setRemoved(boolean isRemoved) {
+			this.isRemoved = isRemoved;
 		}
 
 		/**
-		 * Returns the state.
+		 * Returns the job.
 		 *
-		 * @return The state.
+		 * @return The job.
 		 * @since 17
 		 */
-		public Job.State getState() {
-			return state;
+		public JobResponse getJob() {
+			return job;
 		}
 
 		/**
-		 * Set the state.
+		 * Set the job.
 		 *
-		 * @param state The state to set.
+		 * @param job The job to set.
 		 * @since 17
 		 */
-		public void setState(Job.State state) {
-			this.state = state;
+		public void setJob(JobResponse job) {
+			this.job = job;
 		}
 
 		/**
-		 * Returns the expected progress taking into account all journal steps.
+		 * Returns the journal step index of the log lengths.
 		 *
-		 * @return The expected progress.
-		 * @since 1.8
+		 * @return The journal step index of the log lengths.
+		 * @since 17
 		 */
-		public float getProgress() {
-			return progress;
+		public int getStep() {
+			return step;
 		}
 
 		/**
-		 * Set the expected progress taking into account all journal steps.
+		 * Set the journal step index of the log lengths.
 		 *
-		 * @param progress The expected progress to set.
-		 * @since 1.8
+		 * @param step The step to set.
+		 * @since 17
 		 */
-		public void setProgress(float progress) {
-			this.progress = progress;
+		public void setStep(int step) {
+			this.step = step;
+		}
+
+		/**
+		 * Returns the total number of lines of the standard output log of the step.
+		 *
+		 * @return The total number of lines of the standard output log of the step.
+		 * @since 17
+		 */
+		public long getOutputLength() {
+			return outputLength;
+		}
+
+		/**
+		 * Set the total number of lines of the standard output log of the step.
+		 *
+		 * @param outputLength The output length to set.
+		 * @since 17
+		 */
+		public void setOutputLength(long outputLength) {
+			this.outputLength = outputLength;
+		}
+
+		/**
+		 * Returns the total number of lines of the standard error log of the step.
+		 *
+		 * @return The total number of lines of the standard error log of the step.
+		 * @since 17
+		 */
+		public long getErrorLength() {
+			return errorLength;
+		}
+
+		/**
+		 * Set the total number of lines of the standard error log of the step.
+		 *
+		 * @param errorLength The error length to set.
+		 * @since 17
+		 */
+		public void setErrorLength(long errorLength) {
+			this.errorLength = errorLength;
 		}
+
 	}
 
 	/**
-	 * Defines scheduler information responses for the api.
+	 * Defines job log responses for the api.
 	 *
 	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
 	 * @version 1.0
-	 * @since 1.8
+	 * @since 17
 	 */
-	public static class SchedulerInformationResponse implements Serializable {
+	public static class JobLogResponse implements Serializable {
 		/**
 		 * The serial version UID.
 		 */
 		private static final long serialVersionUID = 1L;
 
 		/**
-		 * Defines the states.
-		 *
-		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
-		 * @version 1.0
-		 * @since 1.8
+		 * The job id.
 		 */
-		public enum State {
-			/**
-			 * The running state.
-			 */
-			running,
-			/**
-			 * The running state.
-			 */
-			paused
-		}
+		private int id;
 
 		/**
-		 * The start time.
+		 * The journal step index.
 		 */
-		private Date start;
+		private int step;
 
 		/**
-		 * The updated time.
+		 * The log stream.
 		 */
-		private Date updated;
+		private LogStream stream;
 
 		/**
-		 * The state.
+		 * The absolute offset of the first line.
 		 */
-		private State state;
+		private long offset;
 
 		/**
-		 * Creates a scheduler information response for the api.
+		 * The absolute offset to request the following lines.
+		 */
+		private long next;
+
+		/**
+		 * The total number of lines of the log.
+		 */
+		private long length;
+
+		/**
+		 * The lines.
+		 */
+		private List<String> lines;
+
+		/**
+		 * Creates a job log response for the api.
 		 *
-		 * @param service The scheduler service.
-		 * @since 1.8
+		 * @param id     The job id.
+		 * @param step   The journal step index.
+		 * @param stream The log stream.
+		 * @param lines  The log lines.
+		 * @since 17
 		 */
-		public SchedulerInformationResponse(SchedulerService service) {
+		public JobLogResponse(int id, int step, LogStream stream, JobLog.Lines lines) {
 			super();
 
-			start = service.getStart();
-			updated = service.getStateUpdated();
-			state = service.isRunning() ? State.running : State.paused;
+			this.id = id;
+			this.step = step;
+			this.stream = stream;
+
+			offset = lines.getOffset();
+			next = lines.getNext();
+			length = lines.getLength();
+			this.lines = lines.getLines();
 		}
 
 		/**
-		 * Returns the start time.
+		 * Returns the job id.
 		 *
-		 * @return The start time.
-		 * @since 1.8
+		 * @return The job id.
+		 * @since 17
 		 */
-		public Date getStart() {
-			return start;
+		public int getId() {
+			return id;
 		}
 
 		/**
-		 * Set the start time.
+		 * Set the job id.
 		 *
-		 * @param start The start time to set.
-		 * @since 1.8
+		 * @param id The id to set.
+		 * @since 17
 		 */
-		public void setStart(Date start) {
-			this.start = start;
+		public void setId(int id) {
+			this.id = id;
 		}
 
 		/**
-		 * Returns the updated time.
+		 * Returns the journal step index.
+		 *
+		 * @return The journal step index.
+		 * @since 17
+		 */
+		public int getStep() {
+			return step;
+		}
+
+		/**
+		 * Set the journal step index.
+		 *
+		 * @param step The step to set.
+		 * @since 17
+		 */
+		public void setStep(int step) {
+			this.step = step;
+		}
+
+		/**
+		 * Returns the log stream.
+		 *
+		 * @return The log stream.
+		 * @since 17
+		 */
+		public LogStream getStream() {
+			return stream;
+		}
+
+		/**
+		 * Set the log stream.
+		 *
+		 * @param stream The stream to set.
+		 * @since 17
+		 */
+		public void setStream(LogStream stream) {
+			this.stream = stream;
+		}
+
+		/**
+		 * Returns the absolute offset of the first line.
+		 *
+		 * @return The absolute offset of the first line.
+		 * @since 17
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Set the absolute offset of the first line.
+		 *
+		 * @param offset The offset to set.
+		 * @since 17
+		 */
+		public void setOffset(long offset) {
+			this.offset = offset;
+		}
+
+		/**
+		 * Returns the absolute offset to request the following lines.
+		 *
+		 * @return The absolute offset to request the following lines.
+		 * @since 17
+		 */
+		public long getNext() {
+			return next;
+		}
+
+		/**
+		 * Set the absolute offset to request the following lines.
+		 *
+		 * @param next The next offset to set.
+		 * @since 17
+		 */
+		public void setNext(long next) {
+			this.next = next;
+		}
+
+		/**
+		 * Returns the total number of lines of the log.
+		 *
+		 * @return The total number of lines of the log.
+		 * @since 17
+		 */
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Set the total number of lines of the log.
+		 *
+		 * @param length The length to set.
+		 * @since 17
+		 */
+		public void setLength(long length) {
+			this.length = length;
+		}
+
+		/**
+		 * Returns the lines.
+		 *
+		 * @return The lines.
+		 * @since 17
+		 */
+		public List<String> getLines() {
+			return lines;
+		}
+
+		/**
+		 * Set the lines.
+		 *
+		 * @param lines The lines to set.
+		 * @since 17
+		 */
+		public void setLines(List<String> lines) {
+			this.lines = lines;
+		}
+
+	}
+
+	/**
+	 * Defines job summary responses for the api.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 1.8
+	 */
+	public static class JobSummaryResponse implements Serializable {
+		/**
+		 * The serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The id.
+		 */
+		private int id;
+
+		/**
+		 * The state.
+		 */
+		private Job.State state;
+
+		/**
+		 * The expected progress taking into account all journal steps.
+		 */
+		private float progress;
+
+		/**
+		 * Creates a job summary response for the api.
+		 * 
+		 * @param job The job.
+		 * @since 1.8
+		 */
+		public JobSummaryResponse(Job job) {
+			super();
+
+			id = job.getId();
+			state = job.getState();
+			progress = job.getJournal().getProgress();
+		}
+
+		/**
+		 * Returns the id.
+		 *
+		 * @return The id.
+		 * @since 17
+		 */
+		public int getId() {
+			return id;
+		}
+
+		/**
+		 * Set the id.
+		 *
+		 * @param id The id to set.
+		 * @since 17
+		 */
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		/**
+		 * Returns the state.
+		 *
+		 * @return The state.
+		 * @since 17
+		 */
+		public Job.State getState() {
+			return state;
+		}
+
+		/**
+		 * Set the state.
+		 *
+		 * @param state The state to set.
+		 * @since 17
+		 */
+		public void setState(Job.State state) {
+			this.state = state;
+		}
+
+		/**
+		 * Returns the expected progress taking into account all journal steps.
+		 *
+		 * @return The expected progress.
+		 * @since 1.8
+		 */
+		public float getProgress() {
+			return progress;
+		}
+
+		/**
+		 * Set the expected progress taking into account all journal steps.
+		 *
+		 * @param progress The expected progress to set.
+		 * @since 1.8
+		 */
+		public void setProgress(float progress) {
+			this.progress = progress;
+		}
+	}
+
+	/**
+	 * Defines scheduler information responses for the api.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 1.8
+	 */
+	public static class SchedulerInformationResponse implements Serializable {
+		/**
+		 * The serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Defines the states.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 1.8
+		 */
+		public enum State {
+			/**
+			 * The running state.
+			 */
+			running,
+			/**
+			 * The running state.
+			 */
+			paused
+		}
+
+		/**
+		 * The start time.
+		 */
+		private Date start;
+
+		/**
+		 * The updated time.
+		 */
+		private Date updated;
+
+		/**
+		 * The state.
+		 */
+		private State state;
+
+		/**
+		 * The scheduling policy.
+		 */
+		private String policy;
+
+		/**
+		 * The tenants of the scheduling policy.
+		 */
+		private List<TenantResponse> tenants;
+
+		/**
+		 * Creates a scheduler information response for the api.
+		 *
+		 * @param service The scheduler service.
+		 * @since 1.8
+		 */
+		public SchedulerInformationResponse(SchedulerService service) {
+			super();
+
+			start = service.getStart();
+			updated = service.getStateUpdated();
+			state = service.isRunning() ? State.running : State.paused;
+
+			policy = service.getPolicy().getType().name();
+
+			tenants = new ArrayList<>();
+			for (SchedulerService.Tenant tenant : service.getTenants())
+				tenants.add(new TenantResponse(tenant));
+		}
+
+		/**
+		 * Returns the start time.
+		 *
+		 * @return The start time.
+		 * @since 1.8
+		 */
+		public Date getStart() {
+			return start;
+		}
+
+		/**
+		 * Set the start time.
+		 *
+		 * @param start The start time to set.
+		 * @since 1.8
+		 */
+		public void setStart(Date start) {
+			this.start = start;
+		}
+
+		/**
+		 * Returns the updated time.
 		 *
 		 * @return The updated time.
 		 * @since 1.8
@@ -807,36 +1431,287 @@ public class JobApiController extends CoreApiController {
 			return updated;
 		}
 
-		/**
-		 * Set the updated time.
-		 *
-		 * @param updated The updated time to set.
-		 * @since 1.8
-		 */
-		public void setUpdated(Date updated) {
-			this.updated = updated;
-		}
+		/**
+		 * Set the updated time.
+		 *
+		 * @param updated The updated time to set.
+		 * @since 1.8
+		 */
+		public void setUpdated(Date updated) {
+			this.updated = updated;
+		}
+
+		/**
+		 * Returns the state.
+		 *
+		 * @return The state.
+		 * @since 1.8
+		 */
+		public State getState() {
+			return state;
+		}
+
+		/**
+		 * Set the state.
+		 *
+		 * @param state The state to set.
+		 * @since 1.8
+		 */
+		public void setState(State state) {
+			this.state = state;
+		}
+
+		/**
+		 * Returns the scheduling policy.
+		 *
+		 * @return The scheduling policy.
+		 * @since 17
+		 */
+		public String getPolicy() {
+			return policy;
+		}
+
+		/**
+		 * Set the scheduling policy.
+		 *
+		 * @param policy The scheduling policy to set.
+		 * @since 17
+		 */
+		public void setPolicy(String policy) {
+			this.policy = policy;
+		}
+
+		/**
+		 * Returns the tenants of the scheduling policy.
+		 *
+		 * @return The tenants of the scheduling policy.
+		 * @since 17
+		 */
+		public List<TenantResponse> getTenants() {
+			return tenants;
+		}
+
+		/**
+		 * Set the tenants of the scheduling policy.
+		 *
+		 * @param tenants The tenants to set.
+		 * @since 17
+		 */
+		public void setTenants(List<TenantResponse> tenants) {
+			this.tenants = tenants;
+		}
+
+		/**
+		 * Defines tenant responses for the api.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class TenantResponse implements Serializable {
+			/**
+			 * The serial version UID.
+			 */
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * The name, this means, the user or the project id.
+			 */
+			private String name;
+
+			/**
+			 * The weight.
+			 */
+			private int weight;
+
+			/**
+			 * The number of scheduled jobs.
+			 */
+			private int scheduled;
+
+			/**
+			 * The number of started jobs.
+			 */
+			private long started;
+
+			/**
+			 * The wait time of the longest waiting scheduled job in milliseconds.
+			 */
+			@JsonProperty("wait-oldest")
+			private long waitOldest;
+
+			/**
+			 * The mean wait time of the recently started jobs in milliseconds.
+			 */
+			@JsonProperty("wait-mean")
+			private long waitMean;
+
+			/**
+			 * The 95th percentile wait time of the recently started jobs in milliseconds.
+			 */
+			@JsonProperty("wait-percentile-95")
+			private long waitPercentile95;
+
+			/**
+			 * Creates a tenant response for the api.
+			 *
+			 * @param tenant The tenant.
+			 * @since 17
+			 */
+			public TenantResponse(SchedulerService.Tenant tenant) {
+				super();
+
+				name = tenant.getName();
+				weight = tenant.getWeight();
+				scheduled = tenant.getScheduled();
+				started = tenant.getStarted();
+				waitOldest = tenant.getWaitOldest();
+				waitMean = tenant.getWaitMean();
+				waitPercentile95 = tenant.getWaitPercentile95();
+			}
+
+			/**
+			 * Returns the name, this means, the user or the project id.
+			 *
+			 * @return The name.
+			 * @since 17
+			 */
+			public String getName() {
+				return name;
+			}
+
+			/**
+			 * Set the name.
+			 *
+			 * @param name The name to set.
+			 * @since 17
+			 */
+			public void setName(String name) {
+				this.name = name;
+			}
+
+			/**
+			 * Returns the weight.
+			 *
+			 * @return The weight.
+			 * @since 17
+			 */
+			public int getWeight() {
+				return weight;
+			}
 
-		/**
-		 * Returns the state.
-		 *
-		 * @return The state.
-		 * @since 1.8
-		 */
-		public State getState() {
-			return state;
-		}
+			/**
+			 * Set the weight.
+			 *
+			 * @param weight The weight to set.
+			 * @since 17
+			 */
+			public void setWeight(int weight) {
+				this.weight = weight;
+			}
 
-		/**
-		 * Set the state.
-		 *
-		 * @param state The state to set.
-		 * @since 1.8
-		 */
-		public void setState(State state) {
-			this.state = state;
-		}
+			/**
+			 * Returns the number of scheduled jobs.
+			 *
+			 * @return The number of scheduled jobs.
+			 * @since 17
+			 */
+			public int getScheduled() {
+				return scheduled;
+			}
+
+			/**
+			 * Set the number of scheduled jobs.
+			 *
+			 * @param scheduled The number to set.
+			 * @since 17
+			 */
+			public void setScheduled(int scheduled) {
+				this.scheduled = scheduled;
+			}
+
+			/**
+			 * Returns the number of started jobs.
+			 *
+			 * @return The number of started jobs.
+			 * @since 17
+			 */
+			public long getStarted() {
+				return started;
+			}
+
+			/**
+			 * Set the number of started jobs.
+			 *
+			 * @param started The number to set.
+			 * @since 17
+			 */
+			public void setStarted(long started) {
+				this.started = started;
+			}
+
+			/**
+			 * Returns the wait time of the longest waiting scheduled job in milliseconds.
+			 *
+			 * @return The wait time of the longest waiting scheduled job.
+			 * @since 17
+			 */
+			public long getWaitOldest() {
+				return waitOldest;
+			}
+
+			/**
+			 * Set the wait time of the longest waiting scheduled job in milliseconds.
+			 *
+			 * @param waitOldest The wait time to set.
+			 * @since 17
+			 */
+			public void setWaitOldest(long waitOldest) {
+				this.waitOldest = waitOldest;
+			}
+
+			/**
+			 * Returns the mean wait time of the recently started jobs in milliseconds.
+			 *
+			 * @return The mean wait time of the recently started jobs.
+			 * @since 17
+			 */
+			public long getWaitMean() {
+				return waitMean;
+			}
+
+			/**
+			 * Set the mean wait time of the recently started jobs in milliseconds.
+			 *
+			 * @param waitMean The wait time to set.
+			 * @since 17
+			 */
+			public void setWaitMean(long waitMean) {
+				this.waitMean = waitMean;
+			}
+
+			/**
+			 * Returns the 95th percentile wait time of the recently started jobs in
+			 * milliseconds.
+			 *
+			 * @return The 95th percentile wait time of the recently started jobs.
+			 * @since 17
+			 */
+			public long getWaitPercentile95() {
+				return waitPercentile95;
+			}
 
+			/**
+			 * Set the 95th percentile wait time of the recently started jobs in
+			 * milliseconds.
+			 *
+			 * @param waitPercentile95 The wait time to set.
+			 * @since 17
+			 */
+			public void setWaitPercentile95(long waitPercentile95) {
+				this.waitPercentile95 = waitPercentile95;
+			}
+		}
 	}
 
 	/**
@@ -867,6 +1742,11 @@ public class JobApiController extends CoreApiController {
 		 */
 		private List<JobResponse> done;
 
+		/**
+		 * The records of the evicted done jobs sorted by end time in descending order.
+		 */
+		private List<JobRecordResponse> records;
+
 		/**
 		 * Creates a job overview response for the api.
 		 *
@@ -887,6 +1767,10 @@ public class JobApiController extends CoreApiController {
 			scheduled = getJobResponses(jobs.getScheduled());
 			running = getJobResponses(jobs.getRunning());
 			done = getJobResponses(jobs.getDone());
+
+			records = new ArrayList<>();
+			for (JobRecord record : jobs.getRecords())
+				records.add(new JobRecordResponse(record));
 		}
 
 		/**
@@ -965,6 +1849,263 @@ public class JobApiController extends CoreApiController {
 			this.done = done;
 		}
 
+		/**
+		 * Returns the records of the evicted done jobs sorted by end time in
+		 * descending order.
+		 *
+		 * @return The records of the evicted done jobs.
+		 * @since 17
+		 */
+		public List<JobRecordResponse> getRecords() {
+			return records;
+		}
+
+		/**
+		 * Set the records of the evicted done jobs sorted by end time in descending
+		 * order.
+		 *
+		 * @param records The records to set.
+		 * @since 17
+		 */
+		public void setRecords(List<JobRecordResponse> records) {
+			this.records = records;
+		}
+
+	}
+
+	/**
+	 * Defines job record responses for the api. They are compact summaries of the
+	 * done jobs that were evicted by the retention policy.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class JobRecordResponse implements Serializable {
+		/**
+		 * The serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The id.
+		 */
+		private int id;
+
+		/**
+		 * The type.
+		 */
+		private String type;
+
+		/**
+		 * The description.
+		 */
+		private String description;
+
+		/**
+		 * The final state.
+		 */
+		private Job.State state;
+
+		/**
+		 * The created time.
+		 */
+		private Date created;
+
+		/**
+		 * The start time.
+		 */
+		private Date start;
+
+		/**
+		 * The end time.
+		 */
+		private Date end;
+
+		/**
+		 * The truncated note.
+		 */
+		private String note;
+
+		/**
+		 * Creates a job record response for the api.
+		 *
+		 * @param record The job record.
+		 * @since 17
+		 */
+		public JobRecordResponse(JobRecord record) {
+			super();
+
+			id = record.getId();
+			type = record.getType();
+			description = record.getDescription();
+			state = record.getState();
+			created = record.getCreated();
+			start = record.getStart();
+			end = record.getEnd();
+			note = record.getNote();
+		}
+
+		/**
+		 * Returns the id.
+		 *
+		 * @return The id.
+		 * @since 17
+		 */
+		public int getId() {
+			return id;
+		}
+
+		/**
+		 * Set the id.
+		 *
+		 * @param id The id to set.
+		 * @since 17
+		 */
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		/**
+		 * Returns the type.
+		 *
+		 * @return The type.
+		 * @since 17
+		 */
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * Set the type.
+		 *
+		 * @param type The type to set.
+		 * @since 17
+		 */
+		public void setType(String type) {
+			this.type = type;
+		}
+
+		/**
+		 * Returns the description.
+		 *
+		 * @return The description.
+		 * @since 17
+		 */
+		public String getDescription() {
+			return description;
+		}
+
+		/**
+		 * Set the description.
+		 *
+		 * @param description The description to set.
+		 * @since 17
+		 */
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		/**
+		 * Returns the final state.
+		 *
+		 * @return The final state.
+		 * @since 17
+		 */
+		public Job.State getState() {
+			return state;
+		}
+
+		/**
+		 * Set the final state.
+		 *
+		 * @param state The state to set.
+		 * @since 17
+		 */
+		public void setState(Job.State state) {
+			this.state = state;
+		}
+
+		/**
+		 * Returns the created time.
+		 *
+		 * @return The created time.
+		 * @since 17
+		 */
+		public Date getCreated() {
+			return created;
+		}
+
+		/**
+		 * Set the created time.
+		 *
+		 * @param created The created time to set.
+		 * @since 17
+		 */
+		public void setCreated(Date created) {
+			this.created = created;
+		}
+
+		/**
+		 * Returns the start time.
+		 *
+		 * @return The start time.
+		 * @since 17
+		 */
+		public Date getStart() {
+			return start;
+		}
+
+		/**
+		 * Set the start time.
+		 *
+		 * @param start The start time to set.
+		 * @since 17
+		 */
+		public void setStart(Date start) {
+			this.start = start;
+		}
+
+		/**
+		 * Returns the end time.
+		 *
+		 * @return The end time.
+		 * @since 17
+		 */
+		public Date getEnd() {
+			return end;
+		}
+
+		/**
+		 * Set the end time.
+		 *
+		 * @param end The end time to set.
+		 * @since 17
+		 */
+		public void setEnd(Date end) {
+			this.end = end;
+		}
+
+		/**
+		 * Returns the truncated note.
+		 *
+		 * @return The truncated note.
+		 * @since 17
+		 */
+		public String getNote() {
+			return note;
+		}
+
+		/**
+		 * Set the truncated note.
+		 *
+		 * @param note The note to set.
+		 * @since 17
+		 */
+		public void setNote(String note) {
+			this.note = note;
+		}
+
 	}
 
 }
@@ -37,6 +37,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationS
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.assemble.ModelConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.assemble.Engine;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRWS;
@@ -119,6 +120,14 @@ public class ModelApiController extends CoreApiController {
 	/**
 	 * Returns the list of models sorted by name with rights in the response body.
 	 *
+	 * @param sort   The sort order - name or updated, descending with a leading
+	 *               minus sign. Sorts by name if not set.
+	 * @param q      The search - a name part, a keyword or an owner. Use the
+	 *               prefix "keyword:" or "owner:" to search only the keywords or
+	 *               owners.
+	 * @param offset The number of selected models to skip.
+	 * @param limit  The maximal number of models. All selected models if not
+	 *               positive.
 	 * @return The list of models sorted by name with rights in the response body.
 	 * @since 1.8
 	 */
@@ -127,13 +136,19 @@ public class ModelApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, array = @ArraySchema(schema = @Schema(implementation = ModelRightResponse.class))) }),
 			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
 	@GetMapping(listRequestMapping)
-	public ResponseEntity<List<ModelRightResponse>> list() {
+	public ResponseEntity<List<ModelRightResponse>> list(
+			@Parameter(description = "the sort order - name or updated, descending with a leading minus sign") @RequestParam(required = false) String sort,
+			@Parameter(description = "the search - prefix keyword: or owner: to search only the keywords or owners") @RequestParam(required = false) String q,
+			@Parameter(description = "the number of selected models to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of models - all selected models if not positive") @RequestParam(required = false, defaultValue = "0") int limit) {
 		try {
+			Catalog.Page<ModelService.Model> page = modelService.getModels(sort, q, offset, limit);
+
 			List<ModelRightResponse> models = new ArrayList<>();
-			for (ModelService.Model model : modelService.getModels())
+			for (ModelService.Model model : page.getEntities())
 				models.add(new ModelRightResponse(model));
 
-			return ResponseEntity.ok().body(models);
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(page.getTotal())).body(models);
 		} catch (Exception ex) {
 			log(ex);
 
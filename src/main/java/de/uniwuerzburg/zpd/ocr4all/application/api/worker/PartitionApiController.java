@@ -32,6 +32,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.exchange.Parti
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.exchange.PartitionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRW;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -116,6 +117,14 @@ public class PartitionApiController extends CoreApiController {
 	 * Returns the list of partitions sorted by name with rights in the response
 	 * body.
 	 *
+	 * @param sort   The sort order - name or updated, descending with a leading
+	 *               minus sign. Sorts by name if not set.
+	 * @param q      The search - a name part, a keyword or an owner. Use the
+	 *               prefix "keyword:" or "owner:" to search only the keywords or
+	 *               owners.
+	 * @param offset The number of selected partitions to skip.
+	 * @param limit  The maximal number of partitions. All selected partitions if not
+	 *               positive.
 	 * @return The list of partitions sorted by name with rights in the response
 	 *         body.
 	 * @since 1.8
@@ -125,13 +134,19 @@ public class PartitionApiController extends CoreApiController {
 			@Content(mediaType = CoreApiController.applicationJson, array = @ArraySchema(schema = @Schema(implementation = PartitionRightResponse.class))) }),
 			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
 	@GetMapping(listRequestMapping)
-	public ResponseEntity<List<PartitionRightResponse>> list() {
+	public ResponseEntity<List<PartitionRightResponse>> list(
+			@Parameter(description = "the sort order - name or updated, descending with a leading minus sign") @RequestParam(required = false) String sort,
+			@Parameter(description = "the search - prefix keyword: or owner: to search only the keywords or owners") @RequestParam(required = false) String q,
+			@Parameter(description = "the number of selected partitions to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of partitions - all selected partitions if not positive") @RequestParam(required = false, defaultValue = "0") int limit) {
 		try {
+			Catalog.Page<PartitionService.Partition> page = service.getPartitions(sort, q, offset, limit);
+
 			List<PartitionRightResponse> partitions = new ArrayList<>();
-			for (PartitionService.Partition partition : service.getPartitions())
+			for (PartitionService.Partition partition : page.getEntities())
 				partitions.add(new PartitionRightResponse(partition));
 
-			return ResponseEntity.ok().body(partitions);
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(page.getTotal())).body(partitions);
 		} catch (Exception ex) {
 			log(ex);
 
@@ -33,6 +33,8 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.History;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -231,7 +233,11 @@ public class ProjectApiController extends CoreApiController {
 	/**
 	 * Returns the project history in the response body.
 	 * 
-	 * @param id The project id. This is the folder name.
+	 * @param id      The project id. This is the folder name.
+	 * @param offset  The number of newest entries to skip.
+	 * @param limit   The maximal number of entries. All entries if not positive.
+	 * @param summary True if the standard output and error of the process
+	 *                entries are omitted.
 	 * @return The project history in the response body.
 	 * @since 1.8
 	 */
@@ -245,10 +251,16 @@ public class ProjectApiController extends CoreApiController {
 			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
 	@GetMapping(historyInformationRequestMapping)
 	public ResponseEntity<HistoryResponse> historyInformation(
-			@Parameter(description = "the project id - this is the folder name") @RequestParam String id) {
+			@Parameter(description = "the project id - this is the folder name") @RequestParam String id,
+			@Parameter(description = "the number of newest entries to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of entries - all entries if not positive") @RequestParam(required = false, defaultValue = "0") int limit,
+			@Parameter(description = "omit the standard output and error of the process entries") @RequestParam(required = false, defaultValue = "false") boolean summary) {
 		Authorization authorization = authorizationFactory.authorize(id, ProjectRight.execute);
 		try {
-			return ResponseEntity.ok().body(new HistoryResponse(authorization.project.getHistory()));
+			Catalog.Page<History> history = authorization.project.getHistory(offset, limit, summary);
+
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(history.getTotal()))
+					.body(new HistoryResponse(history.getEntities()));
 		} catch (Exception ex) {
 			log(ex);
 
@@ -38,7 +38,9 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Sandbox;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.SandboxService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.History;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -170,6 +172,8 @@ public class SandboxApiController extends CoreApiController {
 	 * 
 	 * @param projectId The project id. This is the folder name.
 	 * @param id        The sandbox id. This is the folder name.
+	 * @param check     True if the snapshot tree should be synchronized with the
+	 *                  file system first.
 	 * @return The snapshot tree in the response body.
 	 * @since 1.8
 	 */
@@ -184,10 +188,12 @@ public class SandboxApiController extends CoreApiController {
 	@GetMapping(treeRequestMapping + projectPathVariable)
 	public ResponseEntity<SnapshotTreeResponse> snapshotTree(
 			@Parameter(description = "the project id - this is the folder name") @PathVariable String projectId,
-			@Parameter(description = "the sandbox id - this is the folder name") @RequestParam String id) {
+			@Parameter(description = "the sandbox id - this is the folder name") @RequestParam String id,
+			@Parameter(description = "synchronize the snapshot tree with the file system first") @RequestParam(required = false, defaultValue = "false") boolean check) {
 		Authorization authorization = authorizationFactory.authorize(projectId, id);
 		try {
-			SandboxService.SnapshotTree tree = service.getSnapshotTree(authorization.project, authorization.sandbox);
+			SandboxService.SnapshotTree tree = service.getSnapshotTree(authorization.project, authorization.sandbox,
+					check);
 
 			return tree == null ? ResponseEntity.status(HttpStatus.UNAUTHORIZED).build()
 					: ResponseEntity.ok().body(new SnapshotTreeResponse(tree));
@@ -297,6 +303,11 @@ public class SandboxApiController extends CoreApiController {
 	 * 
 	 * @param projectId The project id. This is the folder name.
 	 * @param id        The sandbox id. This is the folder name.
+	 * @param offset    The number of newest entries to skip.
+	 * @param limit     The maximal number of entries. All entries if not
+	 *                  positive.
+	 * @param summary   True if the standard output and error of the process
+	 *                  entries are omitted.
 	 * @return The sandbox history in the response body.
 	 * @since 1.8
 	 */
@@ -311,10 +322,16 @@ public class SandboxApiController extends CoreApiController {
 	@GetMapping(historyInformationRequestMapping + projectPathVariable)
 	public ResponseEntity<HistoryResponse> historyInformation(
 			@Parameter(description = "the project id - this is the folder name") @PathVariable String projectId,
-			@Parameter(description = "the sandbox id - this is the folder name") @RequestParam String id) {
+			@Parameter(description = "the sandbox id - this is the folder name") @RequestParam String id,
+			@Parameter(description = "the number of newest entries to skip") @RequestParam(required = false, defaultValue = "0") int offset,
+			@Parameter(description = "the maximal number of entries - all entries if not positive") @RequestParam(required = false, defaultValue = "0") int limit,
+			@Parameter(description = "omit the standard output and error of the process entries") @RequestParam(required = false, defaultValue = "false") boolean summary) {
 		Authorization authorization = authorizationFactory.authorize(projectId, id, ProjectRight.execute);
 		try {
-			return ResponseEntity.ok().body(new HistoryResponse(authorization.sandbox.getHistory()));
+			Catalog.Page<History> history = authorization.sandbox.getHistory(offset, limit, summary);
+
+			return ResponseEntity.ok().header(totalCountHeader, String.valueOf(history.getTotal()))
+					.body(new HistoryResponse(history.getEntities()));
 		} catch (Exception ex) {
 			log(ex);
 
@@ -30,6 +30,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.SaturationException;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService;
@@ -323,7 +324,7 @@ public class WorkflowApiController extends CoreApiController {
 			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
 			@ApiResponse(responseCode = "405", description = "Method Not Allowed", content = @Content),
 			@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
-			@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content) })
+			@ApiResponse(responseCode = "503", description = "Service Unavailable - the Retry-After header is set if the scheduler is saturated", content = @Content) })
 	@PostMapping(scheduleRequestMapping + projectPathVariable + sandboxPathVariable + workflowPathVariable)
 	public ResponseEntity<JobJsonResponse> schedule(
 			@Parameter(description = "the project id - this is the folder name") @PathVariable String projectId,
@@ -337,6 +338,10 @@ public class WorkflowApiController extends CoreApiController {
 		if (!isAvailable(authorization.project, authorization.sandbox))
 			throw new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED);
 
+		// Rejects the workflow if the workflow thread pool is saturated
+		if (schedulerService.isSaturated(SchedulerService.ThreadPool.workflow))
+			return getRetryAfterResponse(schedulerService.getRetryAfter());
+
 		try {
 			de.uniwuerzburg.zpd.ocr4all.application.core.job.Workflow workflow = service.getJobWorkflow(getLocale(lang),
 					request.getJobShortDescription(), authorization.project, authorization.sandbox,
@@ -350,6 +355,10 @@ public class WorkflowApiController extends CoreApiController {
 			return ResponseEntity.ok().body(new JobJsonResponse(workflow.getId(), jobState));
 		} catch (ResponseStatusException ex) {
 			throw ex;
+		} catch (SaturationException ex) {
+			logger.warn(ex.getMessage());
+
+			return getRetryAfterResponse(ex.getRetryAfter());
 		} catch (IllegalArgumentException ex) {
 			log(ex);
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
@@ -27,6 +28,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.SaturationException;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Task;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
@@ -254,6 +256,11 @@ public class ProcessServiceProviderApiController<P extends ProcessorServiceProvi
 			response.getWriter().flush();
 		} catch (ResponseStatusException ex) {
 			throw ex;
+		} catch (SaturationException ex) {
+			logger.warn(ex.getMessage());
+
+			response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter()));
 		} catch (Exception ex) {
 			log(ex);
 
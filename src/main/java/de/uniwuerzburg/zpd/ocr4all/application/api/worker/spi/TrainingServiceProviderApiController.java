@@ -34,6 +34,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.AssembleService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.assemble.ModelService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.data.CollectionService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.SaturationException;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Training;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
@@ -188,18 +189,27 @@ public class TrainingServiceProviderApiController extends CoreServiceProviderApi
 
 			authorizeRead(request.getWeights());
 
+			String modelId = null;
 			try {
 				// Create the model
 				ModelService.Model model = modelService.create(request.getAssembleModel().getName(),
 						request.getAssembleModel().getDescription(), request.getAssembleModel().getKeywords());
+				modelId = model.getConfiguration().getFolder().getFileName().toString();
 
 				// Create training job
 				Training training = new Training(configurationService, getLocale(lang),
-						request.getJobShortDescription(), securityService.getUser(), dataset,
-						model.getConfiguration().getFolder().getFileName().toString(), provider, request);
+						request.getJobShortDescription(), securityService.getUser(), dataset, modelId, provider,
+						request);
 
 				return ResponseEntity.ok()
 						.body(new JobJsonResponse(training.getId(), schedulerService.schedule(training)));
+			} catch (SaturationException ex) {
+				logger.warn(ex.getMessage());
+
+				// The model is not trained
+				modelService.discard(modelId);
+
+				return getRetryAfterResponse(ex.getRetryAfter());
 			} catch (Exception ex) {
 				log(ex);
 
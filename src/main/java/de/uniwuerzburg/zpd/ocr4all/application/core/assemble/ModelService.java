@@ -15,11 +15,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.springframework.stereotype.Service;
@@ -30,6 +30,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationS
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.assemble.ModelConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.assemble.ModelConfiguration.Configuration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.assemble.Engine;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRWS;
@@ -58,6 +59,11 @@ public class ModelService extends CoreService {
 	 */
 	protected final Path folder;
 
+	/**
+	 * The catalog of the models.
+	 */
+	private final Catalog<ModelConfiguration> catalog;
+
 	/**
 	 * Creates a model service.
 	 * 
@@ -74,6 +80,8 @@ public class ModelService extends CoreService {
 		this.dataService = dataService;
 
 		folder = configurationService.getAssemble().getFolder().normalize();
+
+		catalog = new Catalog<>(ModelService::describe, this::scan);
 	}
 
 	/**
@@ -156,8 +164,12 @@ public class ModelService extends CoreService {
 				return null;
 			}
 
-			return getModel(new ModelConfiguration(configurationService.getAssemble().getModel(), folder,
-					new Configuration.CoreData(user, name, description, keywords)));
+			ModelConfiguration configuration = new ModelConfiguration(
+					configurationService.getAssemble().getModel(), folder,
+					new Configuration.CoreData(user, name, description, keywords));
+			catalog.register(configuration);
+
+			return getModel(configuration);
 		} else
 			return null;
 	}
@@ -210,28 +222,83 @@ public class ModelService extends CoreService {
 	}
 
 	/**
-	 * Returns the models sorted by name.
+	 * Returns the model configurations of the folder.
 	 * 
-	 * @return The models.
-	 * @since 1.8
+	 * @return The model configurations.
+	 * @since 17
 	 */
-	public List<Model> getModels() {
-		List<Model> models = new ArrayList<>();
+	private List<ModelConfiguration> scan() {
+		List<ModelConfiguration> configurations = new ArrayList<>();
 
-		try {
-			Files.list(ModelService.this.folder).filter(Files::isDirectory).forEach(path -> {
+		try (Stream<Path> stream = Files.list(ModelService.this.folder)) {
+			stream.filter(Files::isDirectory).forEach(path -> {
 				// Ignore directories beginning with a dot
 				if (!path.getFileName().toString().startsWith("."))
-					models.add(getModel(path));
+					configurations.add(new ModelConfiguration(configurationService.getAssemble().getModel(), path));
 			});
 		} catch (IOException e) {
 			logger.warn("Cannot not load models - " + e.getMessage());
 		}
 
-		Collections.sort(models, (p1, p2) -> p1.getConfiguration().getConfiguration().getName()
-				.compareToIgnoreCase(p2.getConfiguration().getConfiguration().getName()));
+		logger.info("Catalogued " + configurations.size() + " models.");
+
+		return configurations;
+	}
+
+	/**
+	 * Returns the catalog descriptor of the model configuration.
+	 * 
+	 * @param configuration The model configuration.
+	 * @return The catalog descriptor.
+	 * @since 17
+	 */
+	private static Catalog.Descriptor describe(ModelConfiguration configuration) {
+		Configuration.Information information = configuration.getConfiguration().getInformation();
+
+		return new Catalog.Descriptor(configuration.getId(), configuration.getConfiguration().getName(),
+				information == null ? null : information.getKeywords(), configuration.getConfiguration().getUser(),
+				configuration.getConfiguration().getUpdated());
+	}
+
+	/**
+	 * Returns the models sorted by name.
+	 * 
+	 * @return The models.
+	 * @since 1.8
+	 */
+	public List<Model> getModels() {
+		return getModels(null, null, 0, 0).getEntities();
+	}
+
+	/**
+	 * Returns the models from the catalog.
+	 * 
+	 * @param sort   The sort order, this means, name or updated. A leading minus
+	 *               sign selects the descending order. If null, sorts by name.
+	 * @param search The search. If it starts with "keyword:" or "owner:", the
+	 *               models with the keyword or owner are selected. Otherwise,
+	 *               the models whose name contains the search or that have it
+	 *               as keyword or owner, ignoring case. If null or blank, all
+	 *               models are selected.
+	 * @param offset The number of selected models to skip.
+	 * @param limit  The maximal number of models to return. All selected
+	 *               models if not positive.
+	 * @return The page with the models.
+	 * @since 17
+	 */
+	public Catalog.Page<Model> getModels(String sort, String search, int offset, int limit) {
+		Catalog.Page<ModelConfiguration> page = catalog.getEntities(Catalog.Sort.getSort(sort),
+				Catalog.Sort.isDescending(sort), search, offset, limit);
+
+		List<Model> models = new ArrayList<>();
+		for (ModelConfiguration configuration : page.getEntities()) {
+			// The engine state is updated by the training jobs
+			configuration.getConfiguration().reloadEngineConfiguration();
 
-		return models;
+			models.add(getModel(configuration));
+		}
+
+		return new Catalog.Page<>(models, page.getTotal());
 	}
 
 	/**
@@ -333,18 +400,48 @@ public class ModelService extends CoreService {
 			if (model.getRight().isSpecialFulfilled()
 					&& model.getConfiguration().getConfiguration().isEngineConfigurationAvailable()
 					&& model.getConfiguration().getConfiguration().getEngineConfiguration().getState().isDone())
-				try {
-					Files.walk(path).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+				return delete(path);
+		}
 
-					if (!Files.exists(path)) {
-						logger.info("Removed model '" + path.toString() + "'.");
+		return false;
+	}
 
-						return true;
-					} else
-						logger.warn("Troubles removing the model '" + path.toString() + "'.");
-				} catch (Exception e) {
-					logger.warn("Cannot remove model '" + path.toString() + "' - " + e.getMessage() + ".");
-				}
+	/**
+	 * Discards a created model that has not been trained yet, e.g. if its training
+	 * could not be scheduled.
+	 * 
+	 * @param uuid The model uuid.
+	 * @return True if the model could be discarded.
+	 * @since 17
+	 */
+	public boolean discard(String uuid) {
+		Path path = getPath(uuid);
+
+		return path != null && !getModel(path).getConfiguration().getConfiguration().isEngineConfigurationAvailable()
+				&& delete(path);
+	}
+
+	/**
+	 * Deletes the model folder.
+	 * 
+	 * @param path The model folder.
+	 * @return True if the model folder could be deleted.
+	 * @since 17
+	 */
+	private boolean delete(Path path) {
+		try {
+			Files.walk(path).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+
+			if (!Files.exists(path)) {
+				logger.info("Removed model '" + path.toString() + "'.");
+
+				catalog.remove(path.getFileName().toString());
+
+				return true;
+			} else
+				logger.warn("Troubles removing the model '" + path.toString() + "'.");
+		} catch (Exception e) {
+			logger.warn("Cannot remove model '" + path.toString() + "' - " + e.getMessage() + ".");
 		}
 
 		return false;
@@ -368,8 +465,11 @@ public class ModelService extends CoreService {
 
 			if (model.getRight().isSpecialFulfilled()
 					&& model.getConfiguration().getConfiguration().update(securityService.getUser(),
-							new ModelConfiguration.Configuration.Information(name, description, keywords)))
+							new ModelConfiguration.Configuration.Information(name, description, keywords))) {
+				catalog.register(model.getConfiguration());
+
 				return model;
+			}
 		}
 
 		return null;
@@ -390,8 +490,11 @@ public class ModelService extends CoreService {
 			Model model = getModel(path);
 
 			if (model.getRight().isSpecialFulfilled()
-					&& model.getConfiguration().getConfiguration().update(securityService.getUser(), security))
+					&& model.getConfiguration().getConfiguration().update(securityService.getUser(), security)) {
+				catalog.register(model.getConfiguration());
+
 				return model;
+			}
 		}
 
 		return null;
@@ -412,8 +515,11 @@ public class ModelService extends CoreService {
 			Model model = getModel(path);
 
 			if (model.getRight().isSpecialFulfilled()
-					&& model.getConfiguration().getConfiguration().update(securityService.getUser(), engine))
+					&& model.getConfiguration().getConfiguration().update(securityService.getUser(), engine)) {
+				catalog.register(model.getConfiguration());
+
 				return model;
+			}
 		}
 
 		return null;
@@ -456,6 +562,7 @@ public class ModelService extends CoreService {
 				model.getConfiguration().getConfiguration().update(securityService.getUser(),
 						new ModelConfiguration.Configuration.EngineInformation(null,
 								isSored ? Engine.State.completed : Engine.State.interrupted, null, null, null, null));
+				catalog.register(model.getConfiguration());
 
 				return model;
 			}
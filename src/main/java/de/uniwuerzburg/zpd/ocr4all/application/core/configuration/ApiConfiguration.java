@@ -102,6 +102,15 @@ public class ApiConfiguration {
 		 * The JWT access token validity time in milliseconds.
 		 */
 		private final long validity;
+		/**
+		 * The maximal number of cached validated access tokens. If 0, the access
+		 * tokens are not cached.
+		 */
+		private final int cache;
+		/**
+		 * The validity time of the cached access tokens in milliseconds.
+		 */
+		private final long cacheValidity;
 
 		/**
 		 * Creates a JWT configuration for the application.
@@ -114,6 +123,8 @@ public class ApiConfiguration {
 
 			issuer = properties.getIssuer();
 			validity = properties.getValidity();
+			cache = properties.getCache();
+			cacheValidity = properties.getCacheValidity();
 		}
 
 		/**
@@ -136,6 +147,27 @@ public class ApiConfiguration {
 			return validity;
 		}
 
+		/**
+		 * Returns the maximal number of cached validated access tokens.
+		 *
+		 * @return The maximal number of cached validated access tokens. If 0, the
+		 *         access tokens are not cached.
+		 * @since 17
+		 */
+		public int getCache() {
+			return cache;
+		}
+
+		/**
+		 * Returns the validity time of the cached access tokens in milliseconds.
+		 *
+		 * @return The validity time of the cached access tokens in milliseconds.
+		 * @since 17
+		 */
+		public long getCacheValidity() {
+			return cacheValidity;
+		}
+
 	}
 
 	/**
@@ -71,11 +71,104 @@ public class ApplicationConfiguration {
 	 */
 	private final long monitorInterval;
 
+	/**
+	 * The maximal number of cached entities of the persistence files.
+	 */
+	private final int cacheEntities;
+
+	/**
+	 * The maximal number of sandbox snapshot trees that are held in memory.
+	 */
+	private final int cacheSnapshots;
+
+	/**
+	 * The number of records of a mutation log that triggers its compaction.
+	 */
+	private final int mutationThreshold;
+
+	/**
+	 * The number of entries of a history segment that triggers its rotation.
+	 */
+	private final int historySegment;
+
+	/**
+	 * The maximal number of shards of a launcher run.
+	 */
+	private final int shardThreads;
+
 	/**
 	 * The thread pool size properties.
 	 */
 	private final ThreadPoolSizeProperties threadPoolSizeProperties;
 
+	/**
+	 * The thread pool capacity properties.
+	 */
+	private final ThreadPoolCapacityProperties threadPoolCapacityProperties;
+
+	/**
+	 * The thread pool virtual thread mode properties.
+	 */
+	private final ThreadPoolVirtualProperties threadPoolVirtualProperties;
+
+	/**
+	 * The thread pool resource budget properties.
+	 */
+	private final ThreadPoolBudgetProperties threadPoolBudgetProperties;
+
+	/**
+	 * The number of seconds a client should wait before retrying a request that was
+	 * rejected, since the thread pool is saturated.
+	 */
+	private final int threadPoolRetryAfter;
+
+	/**
+	 * The maximal number of sibling paths of a workflow that are executed
+	 * concurrently.
+	 */
+	private final int workflowBranches;
+
+	/**
+	 * True if completed workflow steps are reused.
+	 */
+	private final boolean isWorkflowCache;
+
+	/**
+	 * True if the job store is enabled.
+	 */
+	private final boolean isJobStore;
+
+	/**
+	 * The minimal interval in milliseconds to persist the progress and messages of
+	 * a running process in its snapshot.
+	 */
+	private final long jobSnapshotInterval;
+
+	/**
+	 * The job timeout properties.
+	 */
+	private final JobTimeoutProperties jobTimeoutProperties;
+
+	/**
+	 * The coalescing interval in milliseconds of the folio uploads.
+	 */
+	private final long jobBatchInterval;
+
+	/**
+	 * The job log properties.
+	 */
+	private final JobLogProperties jobLogProperties;
+
+	/**
+	 * The job event properties.
+	 */
+	private final JobEventProperties jobEventProperties;
+
+	/**
+	 * The job retention properties.
+	 */
+	private final JobRetentionProperties jobRetentionProperties;
+
 	/**
 	 * The SPI configuration.
 	 */
@@ -169,11 +262,72 @@ public class ApplicationConfiguration {
 		// The monitor interval
 		monitorInterval = properties.getMonitor().getInterval();
 
+		// The entity cache
+		cacheEntities = Math.max(0, properties.getCache().getEntities());
+
+		// The snapshot trees
+		cacheSnapshots = Math.max(1, properties.getCache().getSnapshots());
+
+		// The mutation logs
+		mutationThreshold = Math.max(0, properties.getMutation().getThreshold());
+
+		// The history segments
+		historySegment = Math.max(0, properties.getHistory().getSegment());
+
+		// The shards
+		shardThreads = Math.max(1, properties.getShard().getThreads());
+
 		threadPoolSizeProperties = new ThreadPoolSizeProperties(properties.getThread().getPool().getSize().getWork(),
 				properties.getThread().getPool().getSize().getTask(),
 				properties.getThread().getPool().getSize().getWorkflow(),
 				properties.getThread().getPool().getSize().getTraining());
 
+		threadPoolCapacityProperties = new ThreadPoolCapacityProperties(
+				properties.getThread().getPool().getCapacity().getWork(),
+				properties.getThread().getPool().getCapacity().getTask(),
+				properties.getThread().getPool().getCapacity().getWorkflow(),
+				properties.getThread().getPool().getCapacity().getTraining(),
+				properties.getThread().getPool().getCapacity().getWorkspace());
+
+		threadPoolVirtualProperties = new ThreadPoolVirtualProperties(
+				properties.getThread().getPool().getVirtual().isWork(),
+				properties.getThread().getPool().getVirtual().isTask(),
+				properties.getThread().getPool().getVirtual().isWorkflow(),
+				properties.getThread().getPool().getVirtual().isTraining(),
+				properties.getThread().getPool().getVirtual().isWorkspace());
+
+		threadPoolBudgetProperties = new ThreadPoolBudgetProperties(
+				properties.getThread().getPool().getBudget().getCpu(),
+				properties.getThread().getPool().getBudget().getMemory());
+
+		threadPoolRetryAfter = Math.max(1, properties.getThread().getPool().getRetryAfter());
+
+		workflowBranches = Math.max(1, properties.getThread().getWorkflow().getBranches());
+		isWorkflowCache = properties.getThread().getWorkflow().isCache();
+
+		isJobStore = properties.getJob().getStore().isEnabled();
+		jobSnapshotInterval = Math.max(0, properties.getJob().getSnapshot().getInterval());
+
+		jobTimeoutProperties = new JobTimeoutProperties(properties.getJob().getTimeout().getWork(),
+				properties.getJob().getTimeout().getTask(), properties.getJob().getTimeout().getWorkflow(),
+				properties.getJob().getTimeout().getTraining(), properties.getJob().getTimeout().getStall(),
+				properties.getJob().getTimeout().getInterval());
+
+		jobBatchInterval = Math.max(0, properties.getJob().getBatch().getInterval());
+
+		jobLogProperties = new JobLogProperties(properties.getJob().getLog().getLines(),
+				properties.getJob().getLog().getBytes(), properties.getJob().getLog().isSpill());
+
+		jobEventProperties = new JobEventProperties(properties.getJob().getEvent().getInterval(),
+				properties.getJob().getEvent().getHeartbeat(), properties.getJob().getEvent().getTimeout());
+
+		jobRetentionProperties = new JobRetentionProperties(properties.getJob().getRetention().getCount(),
+				properties.getJob().getRetention().getAge(), properties.getJob().getRetention().getBytes(),
+				properties.getJob().getRetention().getRecords(),
+				properties.getJob().getRetention().getArchive().isEnabled(),
+				properties.getJob().getRetention().getArchive().getSize(),
+				properties.getJob().getRetention().getArchive().getBackups());
+
 		// The spi
 		spi = new SPI(properties.getSpi());
 
@@ -313,6 +467,61 @@ public class ApplicationConfiguration {
 		return monitorInterval;
 	}
 
+	/**
+	 * Returns the maximal number of parsed entities of the persistence files that
+	 * are held in memory.
+	 *
+	 * @return The maximal number of cached entities. 0 if the entities are not
+	 *         cached.
+	 * @since 17
+	 */
+	public int getCacheEntities() {
+		return cacheEntities;
+	}
+
+	/**
+	 * Returns the maximal number of sandbox snapshot trees that are held in
+	 * memory.
+	 *
+	 * @return The maximal number of cached snapshot trees.
+	 * @since 17
+	 */
+	public int getCacheSnapshots() {
+		return cacheSnapshots;
+	}
+
+	/**
+	 * Returns the number of records of a mutation log that triggers its
+	 * compaction.
+	 *
+	 * @return The threshold. 0 if the mutations rewrite the files directly.
+	 * @since 17
+	 */
+	public int getMutationThreshold() {
+		return mutationThreshold;
+	}
+
+	/**
+	 * Returns the number of entries of a history segment that triggers its
+	 * rotation.
+	 *
+	 * @return The segment size. 0 if the histories are not rotated.
+	 * @since 17
+	 */
+	public int getHistorySegment() {
+		return historySegment;
+	}
+
+	/**
+	 * Returns the maximal number of shards of a launcher run.
+	 *
+	 * @return The maximal number of shards. 1 if the sharding is disabled.
+	 * @since 17
+	 */
+	public int getShardThreads() {
+		return shardThreads;
+	}
+
 	/**
 	 * Returns the thread pool size properties.
 	 *
@@ -323,6 +532,148 @@ public class ApplicationConfiguration {
 		return threadPoolSizeProperties;
 	}
 
+	/**
+	 * Returns the thread pool capacity properties.
+	 *
+	 * @return The thread pool capacity properties.
+	 * @since 17
+	 */
+	public ThreadPoolCapacityProperties getThreadPoolCapacityProperties() {
+		return threadPoolCapacityProperties;
+	}
+
+	/**
+	 * Returns the thread pool virtual thread mode properties.
+	 *
+	 * @return The thread pool virtual thread mode properties.
+	 * @since 17
+	 */
+	public ThreadPoolVirtualProperties getThreadPoolVirtualProperties() {
+		return threadPoolVirtualProperties;
+	}
+
+	/**
+	 * Returns the thread pool resource budget properties.
+	 *
+	 * @return The thread pool resource budget properties.
+	 * @since 17
+	 */
+	public ThreadPoolBudgetProperties getThreadPoolBudgetProperties() {
+		return threadPoolBudgetProperties;
+	}
+
+	/**
+	 * Returns the number of seconds a client should wait before retrying a request
+	 * that was rejected, since the thread pool is saturated.
+	 *
+	 * @return The number of seconds a client should wait before retrying a
+	 *         rejected request.
+	 * @since 17
+	 */
+	public int getThreadPoolRetryAfter() {
+		return threadPoolRetryAfter;
+	}
+
+	/**
+	 * Returns the maximal number of sibling paths of a workflow that are executed
+	 * concurrently. If 1, the paths are executed sequentially.
+	 *
+	 * @return The maximal number of sibling paths of a workflow that are executed
+	 *         concurrently.
+	 * @since 17
+	 */
+	public int getWorkflowBranches() {
+		return workflowBranches;
+	}
+
+	/**
+	 * Returns true if completed workflow steps are reused by later workflows with
+	 * the same service provider, arguments and parent snapshot output.
+	 *
+	 * @return True if completed workflow steps are reused.
+	 * @since 17
+	 */
+	public boolean isWorkflowCache() {
+		return isWorkflowCache;
+	}
+
+	/**
+	 * Returns true if the job store is enabled, this means, the scheduled
+	 * workflows are resumed after a restart.
+	 *
+	 * @return True if the job store is enabled.
+	 * @since 17
+	 */
+	public boolean isJobStore() {
+		return isJobStore;
+	}
+
+	/**
+	 * Returns the minimal interval in milliseconds to persist the progress and
+	 * messages of a running process in its snapshot. The updates in between are
+	 * coalesced in memory.
+	 *
+	 * @return The minimal interval in milliseconds. 0 if the progress and messages
+	 *         are only persisted with the process state transitions.
+	 * @since 17
+	 */
+	public long getJobSnapshotInterval() {
+		return jobSnapshotInterval;
+	}
+
+	/**
+	 * Returns the job timeout properties.
+	 *
+	 * @return The job timeout properties.
+	 * @since 17
+	 */
+	public JobTimeoutProperties getJobTimeoutProperties() {
+		return jobTimeoutProperties;
+	}
+
+	/**
+	 * Returns the coalescing interval in milliseconds of the folio uploads. The
+	 * uploads into the same container that arrive within the interval are imported
+	 * together in one batch.
+	 *
+	 * @return The coalescing interval in milliseconds. 0 if the uploads are not
+	 *         coalesced.
+	 * @since 17
+	 */
+	public long getJobBatchInterval() {
+		return jobBatchInterval;
+	}
+
+	/**
+	 * Returns the job log properties.
+	 *
+	 * @return The job log properties.
+	 * @since 17
+	 */
+	public JobLogProperties getJobLogProperties() {
+		return jobLogProperties;
+	}
+
+	/**
+	 * Returns the job event properties.
+	 *
+	 * @return The job event properties.
+	 * @since 17
+	 */
+	public JobEventProperties getJobEventProperties() {
+		return jobEventProperties;
+	}
+
+	/**
+	 * Returns the job retention properties.
+	 *
+	 * @return The job retention properties.
+	 * @since 17
+	 */
+	public JobRetentionProperties getJobRetentionProperties() {
+		return jobRetentionProperties;
+	}
+
 	/**
 	 * Returns the spi configuration.
 	 *
@@ -471,6 +822,690 @@ public class ApplicationConfiguration {
 
 	}
 
+	/**
+	 * Defines thread pool capacity properties, this means, the maximal number of
+	 * scheduled jobs that are waiting for a thread of the pool. If 0, the capacity
+	 * is not limited.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class ThreadPoolCapacityProperties {
+		/**
+		 * The work pool capacity.
+		 */
+		private final int work;
+
+		/**
+		 * The task pool capacity.
+		 */
+		private final int task;
+
+		/**
+		 * The workflow pool capacity.
+		 */
+		private final int workflow;
+
+		/**
+		 * The training pool capacity.
+		 */
+		private final int training;
+
+		/**
+		 * The capacity of every workspace pool.
+		 */
+		private final int workspace;
+
+		/**
+		 * Creates properties for the thread pool capacity.
+		 * 
+		 * @param work      The work pool capacity.
+		 * @param task      The task pool capacity.
+		 * @param workflow  The workflow pool capacity.
+		 * @param training  The training pool capacity.
+		 * @param workspace The capacity of every workspace pool.
+		 * @since 17
+		 */
+		public ThreadPoolCapacityProperties(int work, int task, int workflow, int training, int workspace) {
+			super();
+
+			this.work = Math.max(0, work);
+			this.task = Math.max(0, task);
+			this.workflow = Math.max(0, workflow);
+			this.training = Math.max(0, training);
+			this.workspace = Math.max(0, workspace);
+		}
+
+		/**
+		 * Returns the work pool capacity.
+		 *
+		 * @return The work pool capacity.
+		 * @since 17
+		 */
+		public int getWork() {
+			return work;
+		}
+
+		/**
+		 * Returns the task pool capacity.
+		 *
+		 * @return The task pool capacity.
+		 * @since 17
+		 */
+		public int getTask() {
+			return task;
+		}
+
+		/**
+		 * Returns the workflow pool capacity.
+		 *
+		 * @return The workflow pool capacity.
+		 * @since 17
+		 */
+		public int getWorkflow() {
+			return workflow;
+		}
+
+		/**
+		 * Returns the training pool capacity.
+		 *
+		 * @return The training pool capacity.
+		 * @since 17
+		 */
+		public int getTraining() {
+			return training;
+		}
+
+		/**
+		 * Returns the capacity of every workspace pool.
+		 *
+		 * @return The capacity of every workspace pool.
+		 * @since 17
+		 */
+		public int getWorkspace() {
+			return workspace;
+		}
+
+	}
+
+	/**
+	 * Defines thread pool resource budget properties, this means, the CPU cores and
+	 * the memory of the host that the running jobs can use together.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class ThreadPoolBudgetProperties {
+		/**
+		 * The CPU cores.
+		 */
+		private final int cpu;
+
+		/**
+		 * The memory in megabytes. If 0, the memory is not limited.
+		 */
+		private final long memory;
+
+		/**
+		 * Creates properties for the thread pool resource budget.
+		 * 
+		 * @param cpu    The CPU cores. If not positive, the number of available
+		 *               processors is used.
+		 * @param memory The memory in megabytes. If not positive, the memory is not
+		 *               limited.
+		 * @since 17
+		 */
+		public ThreadPoolBudgetProperties(int cpu, long memory) {
+			super();
+
+			this.cpu = cpu > 0 ? cpu : Runtime.getRuntime().availableProcessors();
+			this.memory = Math.max(0, memory);
+		}
+
+		/**
+		 * Returns the CPU cores.
+		 *
+		 * @return The CPU cores.
+		 * @since 17
+		 */
+		public int getCpu() {
+			return cpu;
+		}
+
+		/**
+		 * Returns the memory in megabytes.
+		 *
+		 * @return The memory in megabytes. If 0, the memory is not limited.
+		 * @since 17
+		 */
+		public long getMemory() {
+			return memory;
+		}
+
+	}
+
+	/**
+	 * Defines thread pool virtual thread mode properties. If the mode is set, the
+	 * jobs of the pool run on virtual threads and the pool size is the number of
+	 * permits.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class ThreadPoolVirtualProperties {
+		/**
+		 * True if work runs on virtual threads.
+		 */
+		private final boolean work;
+
+		/**
+		 * True if task runs on virtual threads.
+		 */
+		private final boolean task;
+
+		/**
+		 * True if workflow runs on virtual threads.
+		 */
+		private final boolean workflow;
+
+		/**
+		 * True if training runs on virtual threads.
+		 */
+		private final boolean training;
+
+		/**
+		 * True if the workspace pools run on virtual threads.
+		 */
+		private final boolean workspace;
+
+		/**
+		 * Creates properties for the thread pool virtual thread modes.
+		 * 
+		 * @param work      True if work runs on virtual threads.
+		 * @param task      True if task runs on virtual threads.
+		 * @param workflow  True if workflow runs on virtual threads.
+		 * @param training  True if training runs on virtual threads.
+		 * @param workspace True if the workspace pools run on virtual threads.
+		 * @since 17
+		 */
+		public ThreadPoolVirtualProperties(boolean work, boolean task, boolean workflow, boolean training,
+				boolean workspace) {
+			super();
+
+			this.work = work;
+			this.task = task;
+			this.workflow = workflow;
+			this.training = training;
+			this.workspace = workspace;
+		}
+
+		/**
+		 * Returns true if work runs on virtual threads.
+		 *
+		 * @return True if work runs on virtual threads.
+		 * @since 17
+		 */
+		public boolean isWork() {
+			return work;
+		}
+
+		/**
+		 * Returns true if task runs on virtual threads.
+		 *
+		 * @return True if task runs on virtual threads.
+		 * @since 17
+		 */
+		public boolean isTask() {
+			return task;
+		}
+
+		/**
+		 * Returns true if workflow runs on virtual threads.
+		 *
+		 * @return True if workflow runs on virtual threads.
+		 * @since 17
+		 */
+		public boolean isWorkflow() {
+			return workflow;
+		}
+
+		/**
+		 * Returns true if training runs on virtual threads.
+		 *
+		 * @return True if training runs on virtual threads.
+		 * @since 17
+		 */
+		public boolean isTraining() {
+			return training;
+		}
+
+		/**
+		 * Returns true if the workspace pools run on virtual threads.
+		 *
+		 * @return True if the workspace pools run on virtual threads.
+		 * @since 17
+		 */
+		public boolean isWorkspace() {
+			return workspace;
+		}
+
+	}
+
+	/**
+	 * Defines job log properties.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class JobLogProperties {
+		/**
+		 * The maximal number of buffered lines per log.
+		 */
+		private final int lines;
+
+		/**
+		 * The maximal number of buffered bytes per log.
+		 */
+		private final long bytes;
+
+		/**
+		 * True if the dropped lines are spilled to the temporary folder.
+		 */
+		private final boolean isSpill;
+
+		/**
+		 * Creates properties for the job logs.
+		 * 
+		 * @param lines   The maximal number of buffered lines per log.
+		 * @param bytes   The maximal number of buffered bytes per log.
+		 * @param isSpill True if the dropped lines are spilled to the temporary
+		 *                folder.
+		 * @since 17
+		 */
+		public JobLogProperties(int lines, long bytes, boolean isSpill) {
+			super();
+
+			this.lines = Math.max(1, lines);
+			this.bytes = Math.max(1024, bytes);
+			this.isSpill = isSpill;
+		}
+
+		/**
+		 * Returns the maximal number of buffered lines per log.
+		 *
+		 * @return The maximal number of buffered lines per log.
+		 * @since 17
+		 */
+		public int getLines() {
+			return lines;
+		}
+
+		/**
+		 * Returns the maximal number of buffered bytes per log.
+		 *
+		 * @return The maximal number of buffered bytes per log.
+		 * @since 17
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * Returns true if the dropped lines are spilled to the temporary folder.
+		 *
+		 * @return True if the dropped lines are spilled to the temporary folder.
+		 * @since 17
+		 */
+		public boolean isSpill() {
+			return isSpill;
+		}
+
+	}
+
+	/**
+	 * Defines job event properties.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class JobEventProperties {
+		/**
+		 * The interval in milliseconds to publish the changed jobs.
+		 */
+		private final long interval;
+
+		/**
+		 * The heartbeat interval in milliseconds.
+		 */
+		private final long heartbeat;
+
+		/**
+		 * The timeout of an event stream in milliseconds.
+		 */
+		private final long timeout;
+
+		/**
+		 * Creates properties for the job events.
+		 * 
+		 * @param interval  The interval in milliseconds to publish the changed jobs.
+		 * @param heartbeat The heartbeat interval in milliseconds.
+		 * @param timeout   The timeout of an event stream in milliseconds.
+		 * @since 17
+		 */
+		public JobEventProperties(long interval, long heartbeat, long timeout) {
+			super();
+
+			this.interval = Math.max(100, interval);
+			this.heartbeat = Math.max(1000, heartbeat);
+			this.timeout = Math.max(0, timeout);
+		}
+
+		/**
+		 * Returns the interval in milliseconds to publish the changed jobs.
+		 *
+		 * @return The interval in milliseconds to publish the changed jobs.
+		 * @since 17
+		 */
+		public long getInterval() {
+			return interval;
+		}
+
+		/**
+		 * Returns the heartbeat interval in milliseconds.
+		 *
+		 * @return The heartbeat interval in milliseconds.
+		 * @since 17
+		 */
+		public long getHeartbeat() {
+			return heartbeat;
+		}
+
+		/**
+		 * Returns the timeout of an event stream in milliseconds.
+		 *
+		 * @return The timeout of an event stream in milliseconds.
+		 * @since 17
+		 */
+		public long getTimeout() {
+			return timeout;
+		}
+
+	}
+
+	/**
+	 * Defines job timeout properties. The timeouts are in milliseconds, 0 means
+	 * no timeout.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class JobTimeoutProperties {
+		/**
+		 * The timeout of the work jobs in milliseconds.
+		 */
+		private final long work;
+
+		/**
+		 * The timeout of the task jobs in milliseconds.
+		 */
+		private final long task;
+
+		/**
+		 * The timeout of the workflow jobs in milliseconds.
+		 */
+		private final long workflow;
+
+		/**
+		 * The timeout of the training jobs in milliseconds.
+		 */
+		private final long training;
+
+		/**
+		 * The time in milliseconds after which a running service provider instance
+		 * whose progress has not changed is interrupted.
+		 */
+		private final long stall;
+
+		/**
+		 * The interval in milliseconds of the watchdog.
+		 */
+		private final long interval;
+
+		/**
+		 * Creates properties for the job timeouts.
+		 * 
+		 * @param work     The timeout of the work jobs in minutes.
+		 * @param task     The timeout of the task jobs in minutes.
+		 * @param workflow The timeout of the workflow jobs in minutes.
+		 * @param training The timeout of the training jobs in minutes.
+		 * @param stall    The minutes after which a running service provider instance
+		 *                 whose progress has not changed is interrupted.
+		 * @param interval The interval in milliseconds of the watchdog.
+		 * @since 17
+		 */
+		public JobTimeoutProperties(int work, int task, int workflow, int training, int stall, long interval) {
+			super();
+
+			this.work = Math.max(0, work) * 60000L;
+			this.task = Math.max(0, task) * 60000L;
+			this.workflow = Math.max(0, workflow) * 60000L;
+			this.training = Math.max(0, training) * 60000L;
+			this.stall = Math.max(0, stall) * 60000L;
+			this.interval = Math.max(1000, interval);
+		}
+
+		/**
+		 * Returns the timeout of the work jobs in milliseconds.
+		 *
+		 * @return The timeout of the work jobs in milliseconds. 0 means no timeout.
+		 * @since 17
+		 */
+		public long getWork() {
+			return work;
+		}
+
+		/**
+		 * Returns the timeout of the task jobs in milliseconds.
+		 *
+		 * @return The timeout of the task jobs in milliseconds. 0 means no timeout.
+		 * @since 17
+		 */
+		public long getTask() {
+			return task;
+		}
+
+		/**
+		 * Returns the timeout of the workflow jobs in milliseconds.
+		 *
+		 * @return The timeout of the workflow jobs in milliseconds. 0 means no
+		 *         timeout.
+		 * @since 17
+		 */
+		public long getWorkflow() {
+			return workflow;
+		}
+
+		/**
+		 * Returns the timeout of the training jobs in milliseconds.
+		 *
+		 * @return The timeout of the training jobs in milliseconds. 0 means no
+		 *         timeout.
+		 * @since 17
+		 */
+		public long getTraining() {
+			return training;
+		}
+
+		/**
+		 * Returns the time in milliseconds after which a running service provider
+		 * instance whose progress has not changed is interrupted.
+		 *
+		 * @return The stall time in milliseconds. 0 means stalls are not detected.
+		 * @since 17
+		 */
+		public long getStall() {
+			return stall;
+		}
+
+		/**
+		 * Returns the interval in milliseconds of the watchdog.
+		 *
+		 * @return The interval in milliseconds of the watchdog.
+		 * @since 17
+		 */
+		public long getInterval() {
+			return interval;
+		}
+	}
+
+	/**
+	 * Defines job retention properties.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class JobRetentionProperties {
+		/**
+		 * The maximal number of retained done jobs.
+		 */
+		private final int count;
+
+		/**
+		 * The maximal age of the retained done jobs in milliseconds.
+		 */
+		private final long age;
+
+		/**
+		 * The maximal number of log bytes of the retained done jobs.
+		 */
+		private final long bytes;
+
+		/**
+		 * The maximal number of job records kept in memory.
+		 */
+		private final int records;
+
+		/**
+		 * True if the job records are archived.
+		 */
+		private final boolean isArchive;
+
+		/**
+		 * The maximal size of the archive file in bytes before it is rolled.
+		 */
+		private final long archiveSize;
+
+		/**
+		 * The number of rolled archive files to keep.
+		 */
+		private final int archiveBackups;
+
+		/**
+		 * Creates properties for the job retention.
+		 * 
+		 * @param count          The maximal number of retained done jobs.
+		 * @param age            The maximal age of the retained done jobs in minutes.
+		 * @param bytes          The maximal number of log bytes of the retained done
+		 *                       jobs.
+		 * @param records        The maximal number of job records kept in memory.
+		 * @param isArchive      True if the job records are archived.
+		 * @param archiveSize    The maximal size of the archive file in bytes before
+		 *                       it is rolled.
+		 * @param archiveBackups The number of rolled archive files to keep.
+		 * @since 17
+		 */
+		public JobRetentionProperties(int count, long age, long bytes, int records, boolean isArchive,
+				long archiveSize, int archiveBackups) {
+			super();
+
+			this.count = Math.max(0, count);
+			this.age = Math.max(1, age) * 60000;
+			this.bytes = Math.max(0, bytes);
+			this.records = Math.max(0, records);
+			this.isArchive = isArchive;
+			this.archiveSize = Math.max(1024, archiveSize);
+			this.archiveBackups = Math.max(0, archiveBackups);
+		}
+
+		/**
+		 * Returns the maximal number of retained done jobs.
+		 *
+		 * @return The maximal number of retained done jobs.
+		 * @since 17
+		 */
+		public int getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the maximal age of the retained done jobs in milliseconds.
+		 *
+		 * @return The maximal age of the retained done jobs in milliseconds.
+		 * @since 17
+		 */
+		public long getAge() {
+			return age;
+		}
+
+		/**
+		 * Returns the maximal number of log bytes of the retained done jobs.
+		 *
+		 * @return The maximal number of log bytes of the retained done jobs.
+		 * @since 17
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * Returns the maximal number of job records kept in memory.
+		 *
+		 * @return The maximal number of job records kept in memory.
+		 * @since 17
+		 */
+		public int getRecords() {
+			return records;
+		}
+
+		/**
+		 * Returns true if the job records are archived.
+		 *
+		 * @return True if the job records are archived.
+		 * @since 17
+		 */
+		public boolean isArchive() {
+			return isArchive;
+		}
+
+		/**
+		 * Returns the maximal size of the archive file in bytes before it is rolled.
+		 *
+		 * @return The maximal size of the archive file in bytes.
+		 * @since 17
+		 */
+		public long getArchiveSize() {
+			return archiveSize;
+		}
+
+		/**
+		 * Returns the number of rolled archive files to keep.
+		 *
+		 * @return The number of rolled archive files to keep.
+		 * @since 17
+		 */
+		public int getArchiveBackups() {
+			return archiveBackups;
+		}
+
+	}
+
 	/**
 	 * Defines SPI configurations.
 	 *
@@ -15,6 +15,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -24,9 +26,14 @@ import org.springframework.web.context.annotation.ApplicationScope;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.assemble.AssembleConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.data.DataConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.exchange.ExchangeConfiguration;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.SnapshotsConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.property.OCR4all;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.repository.RepositoryConfiguration;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.EntityCache;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.HistoryStore;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.MutationLog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.ShardUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Instance;
 import de.uniwuerzburg.zpd.ocr4all.application.spi.env.Framework;
 
@@ -201,9 +208,11 @@ public class ConfigurationService {
 	 * @param serverProperties The server properties for a web server (e.g. port and
 	 *                         path settings).
 	 * @param properties       The ocr4all properties.
+	 * @param meterRegistry    The meter registry.
 	 * @since 1.8
 	 */
-	public ConfigurationService(Environment environment, ServerProperties serverProperties, OCR4all properties) {
+	public ConfigurationService(Environment environment, ServerProperties serverProperties, OCR4all properties,
+			MeterRegistry meterRegistry) {
 		super();
 
 		this.environment = environment;
@@ -211,6 +220,12 @@ public class ConfigurationService {
 
 		systemCommand = new SystemCommand(properties.getSystem());
 		application = new ApplicationConfiguration(properties.getApplication());
+		EntityCache.setCapacity(application.getCacheEntities());
+		EntityCache.register(meterRegistry);
+		SnapshotsConfiguration.setCapacity(application.getCacheSnapshots());
+		MutationLog.setThreshold(application.getMutationThreshold());
+		HistoryStore.setSegmentSize(application.getHistorySegment());
+		ShardUtils.setMaximalShards(application.getShardThreads());
 		image = new ImageConfiguration(properties.getImage());
 		exchange = new ExchangeConfiguration(properties);
 		repository = new RepositoryConfiguration(properties);
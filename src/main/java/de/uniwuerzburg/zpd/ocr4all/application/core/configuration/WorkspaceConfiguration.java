@@ -134,7 +134,10 @@ public class WorkspaceConfiguration extends CoreFolder {
 	private enum MainConfigurationField {
 		configurationVersion("configuration-version"), instanceName("instance-name"),
 		systemCommandDocker("system-command.docker"), systemCommandConvert("system-command.convert"),
-		systemCommandIdentify("system-command.identify"), serviceProvider(true, "service-provider.");
+		systemCommandIdentify("system-command.identify"), serviceProvider(true, "service-provider."),
+		schedulerPolicy("scheduler.policy"), schedulerWeight(true, "scheduler.weight."),
+		schedulerPriority(true, "scheduler.priority."), schedulerCpu(true, "scheduler.cpu."),
+		schedulerMemory(true, "scheduler.memory."), schedulerTimeout(true, "scheduler.timeout.");
 
 		/**
 		 * The label.
@@ -534,6 +537,16 @@ public class WorkspaceConfiguration extends CoreFolder {
 		 */
 		private final Path passwordFile;
 
+		/**
+		 * The jobs file.
+		 */
+		private final Path jobsFile;
+
+		/**
+		 * The job store file.
+		 */
+		private final Path jobStoreFile;
+
 		/**
 		 * The system command.
 		 */
@@ -554,6 +567,40 @@ public class WorkspaceConfiguration extends CoreFolder {
 		 */
 		private String systemCommandIdentify = null;
 
+		/**
+		 * The scheduler policy. Null if not set.
+		 */
+		private String schedulerPolicy = null;
+
+		/**
+		 * The scheduler weights. The key is the tenant, this means, the user or the
+		 * project id.
+		 */
+		private final Hashtable<String, Integer> schedulerWeights = new Hashtable<>();
+
+		/**
+		 * The scheduler priorities. The key is the thread pool name.
+		 */
+		private final Hashtable<String, Integer> schedulerPriorities = new Hashtable<>();
+
+		/**
+		 * The estimated CPU cores used by the service providers. The key is the
+		 * service provider id.
+		 */
+		private final Hashtable<String, Integer> schedulerCpuCosts = new Hashtable<>();
+
+		/**
+		 * The estimated memory in megabytes used by the service providers. The key is
+		 * the service provider id.
+		 */
+		private final Hashtable<String, Integer> schedulerMemoryCosts = new Hashtable<>();
+
+		/**
+		 * The timeouts in minutes of the service providers. The key is the service
+		 * provider id.
+		 */
+		private final Hashtable<String, Integer> schedulerTimeouts = new Hashtable<>();
+
 		/**
 		 * The service provider configuration persistence manager.
 		 */
@@ -605,6 +652,8 @@ public class WorkspaceConfiguration extends CoreFolder {
 			userFile = getPath(properties.getFiles().getUser());
 			groupFile = getPath(properties.getFiles().getGroup());
 			passwordFile = getPath(properties.getFiles().getPassword());
+			jobsFile = getPath(properties.getFiles().getJobs());
+			jobStoreFile = getPath(properties.getFiles().getStore());
 
 			// Loads the main configuration file
 			loadMainConfiguration(Paths.get(folder.toString(), properties.getFiles().getMain()));
@@ -744,6 +793,80 @@ public class WorkspaceConfiguration extends CoreFolder {
 												"Empty service provider collection/key part - ignored main application configuration line "
 														+ line + ": " + entry + ".");
 
+									break;
+								case schedulerPolicy:
+									if (schedulerPolicy == null) {
+										schedulerPolicy = split[1].trim();
+
+										logger.debug("Read scheduler policy: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn("Scheduler policy already set to '" + schedulerPolicy
+												+ "' - ignored main application configuration line " + line + ": "
+												+ entry + ".");
+
+									break;
+								case schedulerWeight:
+									if (putSchedulerValue(schedulerWeights, 1, field.get().getSuffix(split[0].trim()),
+											split[1])) {
+										logger.debug("Read scheduler weight: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn(
+												"Can not parse scheduler weight - ignored main application configuration line "
+														+ line + ": " + entry + ".");
+
+									break;
+								case schedulerPriority:
+									if (putSchedulerValue(schedulerPriorities, Integer.MIN_VALUE,
+											field.get().getSuffix(split[0].trim()), split[1])) {
+										logger.debug("Read scheduler priority: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn(
+												"Can not parse scheduler priority - ignored main application configuration line "
+														+ line + ": " + entry + ".");
+
+									break;
+								case schedulerCpu:
+									if (putSchedulerValue(schedulerCpuCosts, 0, field.get().getSuffix(split[0].trim()),
+											split[1])) {
+										logger.debug("Read scheduler CPU cost: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn(
+												"Can not parse scheduler CPU cost - ignored main application configuration line "
+														+ line + ": " + entry + ".");
+
+									break;
+								case schedulerMemory:
+									if (putSchedulerValue(schedulerMemoryCosts, 0,
+											field.get().getSuffix(split[0].trim()), split[1])) {
+										logger.debug(
+												"Read scheduler memory cost: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn(
+												"Can not parse scheduler memory cost - ignored main application configuration line "
+														+ line + ": " + entry + ".");
+
+									break;
+								case schedulerTimeout:
+									if (putSchedulerValue(schedulerTimeouts, 0, field.get().getSuffix(split[0].trim()),
+											split[1])) {
+										logger.debug("Read scheduler timeout: '" + entry + "' (line " + line + ").");
+
+										return true;
+									} else
+										logger.warn(
+												"Can not parse scheduler timeout - ignored main application configuration line "
+														+ line + ": " + entry + ".");
+
 									break;
 								}
 							} else
@@ -769,6 +892,35 @@ public class WorkspaceConfiguration extends CoreFolder {
 					getSystemCommand(SystemCommand.Type.identify, systemCommandIdentify, systemCommand.getIdentify()));
 		}
 
+		/**
+		 * Puts the scheduler value if the key is not blank and not yet set and the
+		 * value is a number not less than the minimum.
+		 * 
+		 * @param values  The scheduler values.
+		 * @param minimum The minimum value.
+		 * @param key     The key.
+		 * @param value   The value.
+		 * @return True if the value was put.
+		 * @since 17
+		 */
+		private boolean putSchedulerValue(Hashtable<String, Integer> values, int minimum, String key, String value) {
+			if (key == null || key.isBlank() || values.containsKey(key.trim()))
+				return false;
+
+			try {
+				int number = Integer.parseInt(value.trim());
+
+				if (number < minimum)
+					return false;
+
+				values.put(key.trim(), number);
+
+				return true;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+
 		/**
 		 * Returns the system command.
 		 * 
@@ -822,7 +974,13 @@ public class WorkspaceConfiguration extends CoreFolder {
 					MainConfigurationField.systemCommandDocker.getLabel() + ": " + systemCommand.getDocker(),
 					MainConfigurationField.systemCommandConvert.getLabel() + ": " + systemCommand.getConvert(),
 					MainConfigurationField.systemCommandIdentify.getLabel() + ": " + systemCommand.getIdentify(),
-					MainConfigurationField.serviceProvider.getLabel() + "{collection.key}: [value]" };
+					MainConfigurationField.serviceProvider.getLabel() + "{collection.key}: [value]",
+					MainConfigurationField.schedulerPolicy.getLabel() + ": {fifo|user|project|priority}",
+					MainConfigurationField.schedulerWeight.getLabel() + "{user|project id}: [weight]",
+					MainConfigurationField.schedulerPriority.getLabel() + "{work|task|workflow|training}: [priority]",
+					MainConfigurationField.schedulerCpu.getLabel() + "{service provider id}: [CPU cores]",
+					MainConfigurationField.schedulerMemory.getLabel() + "{service provider id}: [memory in MB]",
+					MainConfigurationField.schedulerTimeout.getLabel() + "{service provider id}: [minutes]" };
 		}
 
 		/**
@@ -978,6 +1136,72 @@ public class WorkspaceConfiguration extends CoreFolder {
 			return poolSize;
 		}
 
+		/**
+		 * Returns the scheduler policy.
+		 *
+		 * @return The scheduler policy. Null if not set.
+		 * @since 17
+		 */
+		public String getSchedulerPolicy() {
+			return schedulerPolicy;
+		}
+
+		/**
+		 * Returns the scheduler weights. The key is the tenant, this means, the user or
+		 * the project id, and the value its weight.
+		 *
+		 * @return The scheduler weights.
+		 * @since 17
+		 */
+		public Hashtable<String, Integer> getSchedulerWeights() {
+			return new Hashtable<>(schedulerWeights);
+		}
+
+		/**
+		 * Returns the scheduler priorities. The key is the thread pool name and the
+		 * value its priority.
+		 *
+		 * @return The scheduler priorities.
+		 * @since 17
+		 */
+		public Hashtable<String, Integer> getSchedulerPriorities() {
+			return new Hashtable<>(schedulerPriorities);
+		}
+
+		/**
+		 * Returns the estimated CPU cores used by the service providers. The key is
+		 * the service provider id.
+		 *
+		 * @return The estimated CPU cores.
+		 * @since 17
+		 */
+		public Hashtable<String, Integer> getSchedulerCpuCosts() {
+			return new Hashtable<>(schedulerCpuCosts);
+		}
+
+		/**
+		 * Returns the estimated memory in megabytes used by the service providers.
+		 * The key is the service provider id.
+		 *
+		 * @return The estimated memory in megabytes.
+		 * @since 17
+		 */
+		public Hashtable<String, Integer> getSchedulerMemoryCosts() {
+			return new Hashtable<>(schedulerMemoryCosts);
+		}
+
+		/**
+		 * Returns the timeouts in minutes of the service providers. A running
+		 * service provider instance is interrupted when it exceeds its timeout. The
+		 * key is the service provider id.
+		 *
+		 * @return The timeouts in minutes.
+		 * @since 17
+		 */
+		public Hashtable<String, Integer> getSchedulerTimeouts() {
+			return new Hashtable<>(schedulerTimeouts);
+		}
+
 		/**
 		 * Returns the task executor service providers, this means, the scheduler
 		 * service executes the service providers in a separate pool of threads. The key
@@ -1173,6 +1397,27 @@ public class WorkspaceConfiguration extends CoreFolder {
 			return passwordFile;
 		}
 
+		/**
+		 * Returns the jobs file. It archives the records of the done jobs.
+		 *
+		 * @return The jobs file.
+		 * @since 17
+		 */
+		public Path getJobsFile() {
+			return jobsFile;
+		}
+
+		/**
+		 * Returns the job store file. It logs the scheduled workflows and their
+		 * completed steps, so that they are resumed after a restart.
+		 *
+		 * @return The job store file.
+		 * @since 17
+		 */
+		public Path getJobStoreFile() {
+			return jobStoreFile;
+		}
+
 	}
 
 }
@@ -160,6 +160,11 @@ public class ProjectConfiguration extends CoreFolder {
 		 */
 		private de.uniwuerzburg.zpd.ocr4all.application.persistence.project.Project project = null;
 
+		/**
+		 * The main configuration file.
+		 */
+		private final Path mainFile;
+
 		/**
 		 * The folio configuration file.
 		 */
@@ -206,8 +211,8 @@ public class ProjectConfiguration extends CoreFolder {
 			historyFile = getPath(properties.getFiles().getHistory());
 
 			// Loads the main configuration file
-			mainConfigurationManager = new PersistenceManager(getPath(properties.getFiles().getMain()),
-					Type.project_v1);
+			mainFile = getPath(properties.getFiles().getMain());
+			mainConfigurationManager = new PersistenceManager(mainFile, Type.project_v1);
 			loadMainConfiguration();
 		}
 
@@ -936,6 +941,16 @@ public class ProjectConfiguration extends CoreFolder {
 			return new Right(project.getSecurity().getOther());
 		}
 
+		/**
+		 * Returns the main configuration file.
+		 *
+		 * @return The main configuration file.
+		 * @since 17
+		 */
+		public Path getMainFile() {
+			return mainFile;
+		}
+
 		/**
 		 * Returns the folio configuration file.
 		 *
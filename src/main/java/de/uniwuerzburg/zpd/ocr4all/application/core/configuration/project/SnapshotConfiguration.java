@@ -24,6 +24,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.CoreFolder;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.TrackingData;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.property.project.Snapshots;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.EntityCache;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Instance;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
@@ -65,7 +66,7 @@ public class SnapshotConfiguration extends CoreFolder {
 	private final List<Integer> track;
 
 	/**
-	 * The user.
+	 * The user. Null if the snapshot was loaded.
 	 */
 	private final String user;
 
@@ -80,20 +81,26 @@ public class SnapshotConfiguration extends CoreFolder {
 	private final DerivedContainer derivedContainer;
 
 	/**
-	 * Creates a configuration for a snapshot.
+	 * The derived snapshots sorted by label. They are loaded on demand and
+	 * maintained by the create and remove methods, thus, the snapshot tree is kept
+	 * in memory. Null if not yet loaded.
+	 */
+	private List<SnapshotConfiguration> derived = null;
+
+	/**
+	 * Loads a configuration for a snapshot.
 	 * 
 	 * @param properties The configuration properties for the snapshot.
 	 * @param parent     The parent snapshot configuration. Null if this is a root
 	 *                   snapshot configuration.
 	 * @param folder     The snapshot folder.
 	 * @param track      The track. An empty track is the root. It can not be null.
-	 * @param user       The user.
 	 * @throws IllegalArgumentException Throws if the track is null.
 	 * @since 1.8
 	 */
-	SnapshotConfiguration(Snapshots.Snapshot properties, SnapshotConfiguration parent, Path folder, List<Integer> track,
-			String user) throws IllegalArgumentException {
-		this(properties, false, parent, folder, track, user, null, null, null, null, null);
+	SnapshotConfiguration(Snapshots.Snapshot properties, SnapshotConfiguration parent, Path folder, List<Integer> track)
+			throws IllegalArgumentException {
+		this(properties, false, parent, folder, track, null, null, null, null, null, null);
 	}
 
 	/**
@@ -178,6 +185,19 @@ public class SnapshotConfiguration extends CoreFolder {
 				&& configuration.isMainConfigurationAvailable() && configuration.isProcessConfigurationAvailable();
 	}
 
+	/**
+	 * Returns true if the main configuration file still belongs to this snapshot,
+	 * this means, it was not removed or replaced by the one of a new snapshot.
+	 * 
+	 * @return True if the main configuration file still belongs to this snapshot.
+	 * @since 17
+	 */
+	boolean isCurrent() {
+		Snapshot snapshot = configuration.getMainConfiguration();
+
+		return snapshot != null && snapshot.getDate() != null && snapshot.getDate().equals(configuration.getCreated());
+	}
+
 	/**
 	 * Returns true if it is a root snapshot configuration.
 	 *
@@ -367,14 +387,12 @@ public class SnapshotConfiguration extends CoreFolder {
 	 *         and it is inconsistent.
 	 * @since 1.8
 	 */
-	public SnapshotConfiguration getDerived(boolean isConsistent, int id) {
-		Path path = Paths.get(derivedContainer.getFolder().toString(), "" + id);
+	public synchronized SnapshotConfiguration getDerived(boolean isConsistent, int id) {
+		for (SnapshotConfiguration snapshot : getDerivedSnapshots())
+			if (snapshot.getTrackId() == id)
+				return isConsistent && !snapshot.isConsistent() ? null : snapshot;
 
-		SnapshotConfiguration snapshot = Files.isDirectory(path)
-				? new SnapshotConfiguration(properties, this, path, getTrackDerivedSnapshot(id), user)
-				: null;
-
-		return snapshot == null || (isConsistent && !snapshot.isConsistent()) ? null : snapshot;
+		return null;
 	}
 
 	/**
@@ -394,51 +412,87 @@ public class SnapshotConfiguration extends CoreFolder {
 	 * @return The derived snapshots sorted by label.
 	 * @since 1.8
 	 */
-	public List<SnapshotConfiguration> getDerived(boolean isConsistent) {
+	public synchronized List<SnapshotConfiguration> getDerived(boolean isConsistent) {
 		List<SnapshotConfiguration> snapshots = new ArrayList<>();
 
-		try (Stream<Path> stream = Files.list(derivedContainer.getFolder())) {
-			for (Path path : stream.filter(path -> Files.isDirectory(path)).filter(path -> isDerivedSnapshot(path))
-					.collect(Collectors.toList())) {
-				SnapshotConfiguration snapshot = new SnapshotConfiguration(properties, this, path,
-						getTrackDerivedSnapshot(Integer.parseInt(path.getFileName().toString())), user);
+		for (SnapshotConfiguration snapshot : getDerivedSnapshots())
+			if (!isConsistent || snapshot.isConsistent())
+				snapshots.add(snapshot);
 
-				if (!isConsistent || snapshot.isConsistent())
-					snapshots.add(snapshot);
-			}
+		return snapshots;
+	}
 
-			Collections.sort(snapshots, new Comparator<SnapshotConfiguration>() {
-				/*
-				 * (non-Javadoc)
-				 * 
-				 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
-				 */
-				@Override
-				public int compare(SnapshotConfiguration o1, SnapshotConfiguration o2) {
-					String label1 = o1.getLabel();
-					String label2 = o2.getLabel();
-
-					if (label2 == null)
-						return -1;
-					else if (label1 == null)
-						return 1;
-					else
-						return label1.compareToIgnoreCase(label2);
-				}
-			});
+	/**
+	 * Returns the derived snapshots sorted by label. Loads them from the container
+	 * for derived snapshots if they are not yet loaded. The caller has to hold the
+	 * lock of this snapshot.
+	 * 
+	 * @return The derived snapshots sorted by label.
+	 * @since 17
+	 */
+	private List<SnapshotConfiguration> getDerivedSnapshots() {
+		if (derived == null) {
+			derived = new ArrayList<>();
 
-			return snapshots;
-		} catch (IOException e) {
-			logger.warn("can not recover derived snapshots directories - " + e.getMessage());
+			try (Stream<Path> stream = Files.list(derivedContainer.getFolder())) {
+				for (Path path : stream.filter(path -> Files.isDirectory(path)).filter(path -> isDerivedSnapshot(path))
+						.collect(Collectors.toList()))
+					derived.add(new SnapshotConfiguration(properties, this, path,
+							getTrackDerivedSnapshot(Integer.parseInt(path.getFileName().toString()))));
+			} catch (IOException e) {
+				logger.warn("can not recover derived snapshots directories - " + e.getMessage());
+			}
 
-			return snapshots;
+			sortDerived(derived);
 		}
+
+		return derived;
+	}
+
+	/**
+	 * Sorts the derived snapshots by label.
+	 * 
+	 * @param snapshots The derived snapshots to sort.
+	 * @since 17
+	 */
+	private static void sortDerived(List<SnapshotConfiguration> snapshots) {
+		Collections.sort(snapshots, new Comparator<SnapshotConfiguration>() {
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+			 */
+			@Override
+			public int compare(SnapshotConfiguration o1, SnapshotConfiguration o2) {
+				String label1 = o1.getLabel();
+				String label2 = o2.getLabel();
+
+				if (label2 == null)
+					return -1;
+				else if (label1 == null)
+					return 1;
+				else
+					return label1.compareToIgnoreCase(label2);
+			}
+		});
+	}
+
+	/**
+	 * Sorts the loaded derived snapshots by label again. It is called when the
+	 * label of a derived snapshot changes.
+	 * 
+	 * @since 17
+	 */
+	private synchronized void resortDerived() {
+		if (derived != null)
+			sortDerived(derived);
 	}
 
 	/**
 	 * Creates a derived snapshot. A derived can be created only when a process has
 	 * been executed and completed on the snapshot and the snapshot is not locked.
 	 * 
+	 * @param user            The user.
 	 * @param type            The type.
 	 * @param label           The label. It can not be null nor blank.
 	 * @param description     The description.
@@ -448,8 +502,8 @@ public class SnapshotConfiguration extends CoreFolder {
 	 * @return The created derived snapshot. Null if could not be created.
 	 * @since 1.8
 	 */
-	public SnapshotConfiguration createDerived(Snapshot.Type type, String label, String description,
-			ServiceProvider serviceProvider, Instance instance) {
+	public synchronized SnapshotConfiguration createDerived(String user, Snapshot.Type type, String label,
+			String description, ServiceProvider serviceProvider, Instance instance) {
 		if (isAllowDerivedSnapshots())
 			try (Stream<Path> stream = Files.list(derivedContainer.getFolder())) {
 				int id = 0;
@@ -459,9 +513,15 @@ public class SnapshotConfiguration extends CoreFolder {
 
 				id++;
 
-				return new SnapshotConfiguration(properties, this,
+				SnapshotConfiguration snapshot = new SnapshotConfiguration(properties, this,
 						Paths.get(derivedContainer.getFolder().toString(), "" + id), getTrackDerivedSnapshot(id), user,
 						type, label, description, serviceProvider, instance);
+
+				List<SnapshotConfiguration> snapshots = getDerivedSnapshots();
+				snapshots.add(snapshot);
+				sortDerived(snapshots);
+
+				return snapshot;
 			} catch (IOException e) {
 				logger.warn("can not create derived snapshot - " + e.getMessage());
 			}
@@ -476,9 +536,15 @@ public class SnapshotConfiguration extends CoreFolder {
 	 * @return True if the derived snapshot could be removed.
 	 * @since 1.8
 	 */
-	public boolean removeDerived(int id) {
+	public synchronized boolean removeDerived(int id) {
 		// TODO: remove information from mets file
-		return id > 0 && delete(Paths.get(derivedContainer.getFolder().toString(), "" + id));
+		if (id > 0 && delete(Paths.get(derivedContainer.getFolder().toString(), "" + id))) {
+			if (derived != null)
+				derived.removeIf(snapshot -> snapshot.getTrackId() == id);
+
+			return true;
+		} else
+			return false;
 	}
 
 	/**
@@ -487,7 +553,10 @@ public class SnapshotConfiguration extends CoreFolder {
 	 * @return True if the derived snapshots could be removed.
 	 * @since 1.8
 	 */
-	public boolean removeDerived() {
+	public synchronized boolean removeDerived() {
+		// Reloads the derived snapshots on demand, since the reset can be partial
+		derived = null;
+
 		return derivedContainer.reset();
 	}
 
@@ -539,6 +608,32 @@ public class SnapshotConfiguration extends CoreFolder {
 		 */
 		private final Path processFile;
 
+		/**
+		 * The lock for the write-behind buffer of the process.
+		 */
+		private final Object bufferLock = new Object();
+
+		/**
+		 * The buffered process progress. Negative if not buffered.
+		 */
+		private float bufferedProgress = -1;
+
+		/**
+		 * The buffered process standard output message. Null if not buffered.
+		 */
+		private String bufferedStandardOutput = null;
+
+		/**
+		 * The buffered process standard error message. Null if not buffered.
+		 */
+		private String bufferedStandardError = null;
+
+		/**
+		 * The time in milliseconds when the buffered process updates were flushed the
+		 * last time.
+		 */
+		private long bufferFlushed = 0;
+
 		/**
 		 * Creates a configuration for the snapshot.
 		 * 
@@ -778,6 +873,9 @@ public class SnapshotConfiguration extends CoreFolder {
 
 					logger.info("Updated the main configuration of the snapshot '" + getLoggerIdentifier() + "'.");
 
+					if (parent != null)
+						parent.resortDerived();
+
 					return true;
 				} catch (IOException e) {
 					logger.warn("Could not update the main configuration of the snapshot '" + getLoggerIdentifier()
@@ -859,6 +957,7 @@ public class SnapshotConfiguration extends CoreFolder {
 				synchronized (process) {
 					if (reloadProcessConfiguration())
 						try {
+							applyBuffer();
 							process.setState(state.getPersistence());
 
 							process.setUpdated(new Date());
@@ -896,7 +995,7 @@ public class SnapshotConfiguration extends CoreFolder {
 							process.setUpdated(new Date());
 							processConfigurationManager.persist(process);
 
-							logger.info(
+							logger.debug(
 									"Updated the process progress of the snapshot '" + getLoggerIdentifier() + "'.");
 
 							return true;
@@ -928,7 +1027,7 @@ public class SnapshotConfiguration extends CoreFolder {
 						process.setUpdated(new Date());
 						processConfigurationManager.persist(process);
 
-						logger.info("Updated the process standard output messages of the snapshot '"
+						logger.debug("Updated the process standard output messages of the snapshot '"
 								+ getLoggerIdentifier() + "'.");
 
 						return true;
@@ -960,7 +1059,7 @@ public class SnapshotConfiguration extends CoreFolder {
 						process.setUpdated(new Date());
 						processConfigurationManager.persist(process);
 
-						logger.info("Updated the process standard error messages of the snapshot '"
+						logger.debug("Updated the process standard error messages of the snapshot '"
 								+ getLoggerIdentifier() + "'.");
 
 						return true;
@@ -1022,6 +1121,8 @@ public class SnapshotConfiguration extends CoreFolder {
 			synchronized (process) {
 				if (reloadProcessConfiguration())
 					try {
+						applyBuffer();
+
 						if (state != null)
 							process.setState(state.getPersistence());
 
@@ -1050,14 +1151,117 @@ public class SnapshotConfiguration extends CoreFolder {
 		}
 
 		/**
-		 * Returns the main configuration.
+		 * Buffers the process progress and messages write-behind. The updates are
+		 * coalesced in memory and persisted with the next process state update, thus,
+		 * the final state of the process is consistent. If an interval is set, they
+		 * are additionally persisted at most once per interval.
+		 * 
+		 * @param progress       The progress. This is a value between 0 and 1
+		 *                       inclusive. Otherwise, it is not buffered.
+		 * @param standardOutput The standard output message. Null if not buffered.
+		 * @param standardError  The standard error message. Null if not buffered.
+		 * @param interval       The minimal interval in milliseconds between two
+		 *                       flushes. If 0, the updates are only persisted with
+		 *                       the process state updates.
+		 * @return True if the buffered updates were persisted.
+		 * @since 17
+		 */
+		public boolean bufferProcess(float progress, String standardOutput, String standardError, long interval) {
+			synchronized (bufferLock) {
+				if (progress >= 0 && progress <= 1)
+					bufferedProgress = progress;
+
+				if (standardOutput != null)
+					bufferedStandardOutput = standardOutput;
+
+				if (standardError != null)
+					bufferedStandardError = standardError;
+
+				if (interval == 0 || System.currentTimeMillis() - bufferFlushed < interval)
+					return false;
+			}
+
+			return flushProcess();
+		}
+
+		/**
+		 * Persists the buffered process updates if the process configuration is
+		 * available.
+		 * 
+		 * @return True if buffered updates were persisted.
+		 * @since 17
+		 */
+		public boolean flushProcess() {
+			synchronized (process) {
+				if (isBufferPending() && reloadProcessConfiguration())
+					try {
+						applyBuffer();
+
+						process.setUpdated(new Date());
+						processConfigurationManager.persist(process);
+
+						logger.debug("Flushed the buffered process updates of the snapshot '" + getLoggerIdentifier()
+								+ "'.");
+
+						return true;
+					} catch (IOException e) {
+						logger.warn("Could not flush the buffered process updates of the snapshot '"
+								+ getLoggerIdentifier() + "' - " + e.getMessage());
+
+						loadProcessConfiguration();
+					}
+			}
+
+			return false;
+		}
+
+		/**
+		 * Returns true if process updates are buffered.
+		 * 
+		 * @return True if process updates are buffered.
+		 * @since 17
+		 */
+		private boolean isBufferPending() {
+			synchronized (bufferLock) {
+				return bufferedProgress >= 0 || bufferedStandardOutput != null || bufferedStandardError != null;
+			}
+		}
+
+		/**
+		 * Applies the buffered updates to the process and resets the buffer.
+		 * 
+		 * @since 17
+		 */
+		private void applyBuffer() {
+			synchronized (bufferLock) {
+				if (bufferedProgress >= 0)
+					process.setProgress(bufferedProgress);
+
+				if (bufferedStandardOutput != null)
+					process.setStandardOutput(bufferedStandardOutput);
+
+				if (bufferedStandardError != null)
+					process.setStandardError(bufferedStandardError);
+
+				bufferedProgress = -1;
+				bufferedStandardOutput = null;
+				bufferedStandardError = null;
+
+				bufferFlushed = System.currentTimeMillis();
+			}
+		}
+
+		/**
+		 * Returns the main configuration. It is shared by the entity cache as long as
+		 * the file does not change, thus, it should not be modified.
 		 * 
 		 * @return The main configuration.
 		 * @since 1.8
 		 */
 		public Snapshot getMainConfiguration() {
 			try {
-				return mainConfigurationManager.getEntity(Snapshot.class, null, message -> logger.warn(message));
+				return EntityCache.getEntity(mainFile, Snapshot.class, () -> mainConfigurationManager
+						.getEntity(Snapshot.class, null, message -> logger.warn(message)));
 			} catch (IOException e) {
 				logger.warn(e.getMessage());
 
@@ -1066,16 +1270,19 @@ public class SnapshotConfiguration extends CoreFolder {
 		}
 
 		/**
-		 * Returns the process configuration.
+		 * Returns the process configuration. It is shared by the entity cache as long as
+		 * the file does not change, thus, it should not be modified.
 		 * 
 		 * @return The process configuration.
 		 * @since 1.8
 		 */
 		public de.uniwuerzburg.zpd.ocr4all.application.persistence.job.Process getProcessConfiguration() {
 			try {
-				return processConfigurationManager.getEntity(
-						de.uniwuerzburg.zpd.ocr4all.application.persistence.job.Process.class, null,
-						message -> logger.warn(message));
+				return EntityCache.getEntity(processFile,
+						de.uniwuerzburg.zpd.ocr4all.application.persistence.job.Process.class,
+						() -> processConfigurationManager.getEntity(
+								de.uniwuerzburg.zpd.ocr4all.application.persistence.job.Process.class, null,
+								message -> logger.warn(message)));
 			} catch (IOException e) {
 				logger.warn(e.getMessage());
 
@@ -10,6 +10,7 @@ package de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
@@ -28,6 +29,19 @@ import de.uniwuerzburg.zpd.ocr4all.application.persistence.spi.ServiceProvider;
  * @since 1.8
  */
 public class SnapshotsConfiguration extends CoreFolder {
+	/**
+	 * The root snapshots of the sandboxes with their derived snapshot trees in
+	 * access order. They are shared by the requests, thus, the trees are
+	 * maintained in memory. The least recently used trees are evicted if the
+	 * capacity is exceeded. The key is the snapshots folder.
+	 */
+	private static final LinkedHashMap<Path, SnapshotConfiguration> roots = new LinkedHashMap<>(16, 0.75F, true);
+
+	/**
+	 * The maximal number of root snapshots held in memory.
+	 */
+	private static int capacity = 256;
+
 	/**
 	 * The snapshot properties.
 	 */
@@ -63,9 +77,64 @@ public class SnapshotsConfiguration extends CoreFolder {
 		this.properties = properties.getSnapshot();
 		this.user = user;
 
-		root = new SnapshotConfiguration(this.properties, null, this.folder, new ArrayList<>(), user);
-		if (!root.isConsistent())
-			root = null;
+		root = getRoot(this.properties, this.folder);
+	}
+
+	/**
+	 * Set the maximal number of root snapshots held in memory. The least recently
+	 * used ones are evicted if the new capacity is exceeded.
+	 *
+	 * @param capacity The maximal number of root snapshots. At least 1.
+	 * @since 17
+	 */
+	public static void setCapacity(int capacity) {
+		synchronized (roots) {
+			SnapshotsConfiguration.capacity = Math.max(1, capacity);
+
+			evict();
+		}
+	}
+
+	/**
+	 * Evicts the least recently used root snapshots while the capacity is
+	 * exceeded. The caller has to synchronize on the roots.
+	 *
+	 * @since 17
+	 */
+	private static void evict() {
+		while (roots.size() > capacity)
+			roots.remove(roots.keySet().iterator().next());
+	}
+
+	/**
+	 * Returns the shared root snapshot of the snapshots folder. Loads it if it is
+	 * not available or its main configuration file was replaced.
+	 * 
+	 * @param properties The snapshot properties.
+	 * @param folder     The snapshots folder.
+	 * @return The root snapshot. Null if not available or inconsistent.
+	 * @since 17
+	 */
+	private static SnapshotConfiguration getRoot(Snapshots.Snapshot properties, Path folder) {
+		synchronized (roots) {
+			SnapshotConfiguration root = roots.get(folder);
+
+			if (root == null || !root.isCurrent()) {
+				root = new SnapshotConfiguration(properties, null, folder, new ArrayList<>());
+
+				if (root.isConsistent()) {
+					roots.put(folder, root);
+
+					evict();
+				} else {
+					roots.remove(folder);
+
+					root = null;
+				}
+			}
+
+			return root;
+		}
 	}
 
 	/**
@@ -102,13 +171,22 @@ public class SnapshotsConfiguration extends CoreFolder {
 	 */
 	public SnapshotConfiguration createRoot(Snapshot.Type type, String label, String description,
 			ServiceProvider serviceProvider, Instance instance) {
-		if (isRootSet())
-			return null;
-		else {
-			root = new SnapshotConfiguration(this.properties, null, this.folder, new ArrayList<>(), user, type, label,
-					description, serviceProvider, instance);
+		synchronized (roots) {
+			if (isRootSet() || roots.containsKey(folder))
+				return null;
+			else {
+				root = new SnapshotConfiguration(this.properties, null, this.folder, new ArrayList<>(), user, type,
+						label, description, serviceProvider, instance);
 
-			return root.isConsistent() ? root : null;
+				if (root.isConsistent()) {
+					roots.put(folder, root);
+
+					evict();
+
+					return root;
+				} else
+					return null;
+			}
 		}
 	}
 
@@ -164,11 +242,34 @@ public class SnapshotsConfiguration extends CoreFolder {
 	 * @since 1.8
 	 */
 	public boolean reset() {
+		synchronized (roots) {
+			roots.remove(folder);
+		}
+
 		if (deleteContents()) {
+			// The root could have been loaded again during the deletion
+			synchronized (roots) {
+				roots.remove(folder);
+			}
+
 			root = null;
 
 			return true;
 		} else
 			return false;
 	}
+
+	/**
+	 * Synchronizes the snapshot tree with the file system, this means, the root
+	 * snapshot and its derived snapshots are loaded again.
+	 * 
+	 * @since 17
+	 */
+	public void synchronize() {
+		synchronized (roots) {
+			roots.remove(folder);
+
+			root = getRoot(properties, folder);
+		}
+	}
 }
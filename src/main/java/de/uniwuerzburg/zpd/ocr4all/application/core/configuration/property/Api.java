@@ -154,6 +154,20 @@ public class Api {
 		@Min(value = 1000, message = "The access token validity should not be less than 1000 ms")
 		private long validity = 604800000;
 
+		/**
+		 * The maximal number of cached validated access tokens. If 0, the access
+		 * tokens are not cached. The default value is 1000.
+		 */
+		@Min(value = 0, message = "The number of cached access tokens should not be less than 0")
+		private int cache = 1000;
+
+		/**
+		 * The validity time of the cached access tokens in milliseconds. The default
+		 * value is one minute.
+		 */
+		@Min(value = 0, message = "The cached access token validity should not be less than 0 ms")
+		private long cacheValidity = 60000;
+
 		/**
 		 * Returns the access token issuer.
 		 *
@@ -194,6 +208,48 @@ public class Api {
 			this.validity = validity;
 		}
 
+		/**
+		 * Returns the maximal number of cached validated access tokens.
+		 *
+		 * @return The maximal number of cached validated access tokens. If 0, the
+		 *         access tokens are not cached.
+		 * @since 17
+		 */
+		public int getCache() {
+			return cache;
+		}
+
+		/**
+		 * Set the maximal number of cached validated access tokens.
+		 *
+		 * @param cache The maximal number to set. If 0, the access tokens are not
+		 *              cached.
+		 * @since 17
+		 */
+		public void setCache(int cache) {
+			this.cache = cache;
+		}
+
+		/**
+		 * Returns the validity time of the cached access tokens in milliseconds.
+		 *
+		 * @return The validity time of the cached access tokens in milliseconds.
+		 * @since 17
+		 */
+		public long getCacheValidity() {
+			return cacheValidity;
+		}
+
+		/**
+		 * Set the validity time of the cached access tokens in milliseconds.
+		 *
+		 * @param cacheValidity The validity in milliseconds to set.
+		 * @since 17
+		 */
+		public void setCacheValidity(long cacheValidity) {
+			this.cacheValidity = cacheValidity;
+		}
+
 	}
 
 	/**
@@ -66,11 +66,36 @@ public class Application {
 	 */
 	private Monitor monitor = new Monitor();
 
+	/**
+	 * The cache properties.
+	 */
+	private Cache cache = new Cache();
+
+	/**
+	 * The mutation properties.
+	 */
+	private Mutation mutation = new Mutation();
+
+	/**
+	 * The history properties.
+	 */
+	private History history = new History();
+
+	/**
+	 * The shard properties.
+	 */
+	private Shard shard = new Shard();
+
 	/**
 	 * The thread properties.
 	 */
 	private Thread thread = new Thread();
 
+	/**
+	 * The job properties.
+	 */
+	private Job job = new Job();
+
 	/**
 	 * The SPI properties.
 	 */
@@ -221,6 +246,86 @@ public class Application {
 		this.monitor = monitor;
 	}
 
+	/**
+	 * Returns the cache properties.
+	 *
+	 * @return The cache properties.
+	 * @since 17
+	 */
+	public Cache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Set the cache properties.
+	 *
+	 * @param cache The cache properties to set.
+	 * @since 17
+	 */
+	public void setCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the mutation properties.
+	 *
+	 * @return The mutation properties.
+	 * @since 17
+	 */
+	public Mutation getMutation() {
+		return mutation;
+	}
+
+	/**
+	 * Set the mutation properties.
+	 *
+	 * @param mutation The mutation properties to set.
+	 * @since 17
+	 */
+	public void setMutation(Mutation mutation) {
+		this.mutation = mutation;
+	}
+
+	/**
+	 * Returns the history properties.
+	 *
+	 * @return The history properties.
+	 * @since 17
+	 */
+	public History getHistory() {
+		return history;
+	}
+
+	/**
+	 * Set the history properties.
+	 *
+	 * @param history The history properties to set.
+	 * @since 17
+	 */
+	public void setHistory(History history) {
+		this.history = history;
+	}
+
+	/**
+	 * Returns the shard properties.
+	 *
+	 * @return The shard properties.
+	 * @since 17
+	 */
+	public Shard getShard() {
+		return shard;
+	}
+
+	/**
+	 * Set the shard properties.
+	 *
+	 * @param shard The shard properties to set.
+	 * @since 17
+	 */
+	public void setShard(Shard shard) {
+		this.shard = shard;
+	}
+
 	/**
 	 * Returns the thread properties.
 	 *
@@ -241,6 +346,26 @@ public class Application {
 		this.thread = thread;
 	}
 
+	/**
+	 * Returns the job properties.
+	 *
+	 * @return The job properties.
+	 * @since 17
+	 */
+	public Job getJob() {
+		return job;
+	}
+
+	/**
+	 * Set the job properties.
+	 *
+	 * @param job The job properties to set.
+	 * @since 17
+	 */
+	public void setJob(Job job) {
+		this.job = job;
+	}
+
 	/**
 	 * Returns the spi properties.
 	 *
@@ -487,6 +612,189 @@ public class Application {
 		}
 	}
 
+	/**
+	 * Defines cache properties.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Cache {
+		/**
+		 * The maximal number of parsed entities of the persistence files that are
+		 * held in memory. If 0, the entities are not cached. The default value is
+		 * 100000.
+		 */
+		@Min(value = 0, message = "The number of cached entities should not be less than 0")
+		private int entities = 100000;
+
+		/**
+		 * Returns the maximal number of cached entities.
+		 *
+		 * @return The maximal number of cached entities.
+		 * @since 17
+		 */
+		public int getEntities() {
+			return entities;
+		}
+
+		/**
+		 * Set the maximal number of cached entities.
+		 *
+		 * @param entities The number to set.
+		 * @since 17
+		 */
+		public void setEntities(int entities) {
+			this.entities = entities;
+		}
+
+		/**
+		 * The maximal number of sandbox snapshot trees that are held in memory. The
+		 * least recently used trees are evicted and loaded again on demand. The
+		 * default value is 256.
+		 */
+		@Min(value = 1, message = "The number of cached snapshot trees should not be less than 1")
+		private int snapshots = 256;
+
+		/**
+		 * Returns the maximal number of cached snapshot trees.
+		 *
+		 * @return The maximal number of cached snapshot trees.
+		 * @since 17
+		 */
+		public int getSnapshots() {
+			return snapshots;
+		}
+
+		/**
+		 * Set the maximal number of cached snapshot trees.
+		 *
+		 * @param snapshots The number to set.
+		 * @since 17
+		 */
+		public void setSnapshots(int snapshots) {
+			this.snapshots = snapshots;
+		}
+	}
+
+	/**
+	 * Defines mutation properties. The sort, update and remove mutations of the
+	 * container folios are appended to a log of their file, that is folded into
+	 * the file once it holds the threshold number of records.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Mutation {
+		/**
+		 * The number of records of a mutation log that triggers its compaction. If
+		 * 0, the mutations rewrite the files directly. The default value is 1000.
+		 */
+		@Min(value = 0, message = "The mutation log threshold should not be less than 0")
+		private int threshold = 1000;
+
+		/**
+		 * Returns the number of records of a mutation log that triggers its
+		 * compaction.
+		 *
+		 * @return The threshold.
+		 * @since 17
+		 */
+		public int getThreshold() {
+			return threshold;
+		}
+
+		/**
+		 * Set the number of records of a mutation log that triggers its
+		 * compaction.
+		 *
+		 * @param threshold The threshold to set.
+		 * @since 17
+		 */
+		public void setThreshold(int threshold) {
+			this.threshold = threshold;
+		}
+	}
+
+	/**
+	 * Defines history properties. The project and sandbox histories are rotated
+	 * into sealed segments, thus, the latest entries can be read without reading
+	 * the whole history.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class History {
+		/**
+		 * The number of entries of a history segment that triggers its rotation. If 0,
+		 * the histories are not rotated. The default value is 1000.
+		 */
+		@Min(value = 0, message = "The history segment size should not be less than 0")
+		private int segment = 1000;
+
+		/**
+		 * Returns the number of entries of a history segment that triggers its
+		 * rotation.
+		 *
+		 * @return The segment size.
+		 * @since 17
+		 */
+		public int getSegment() {
+			return segment;
+		}
+
+		/**
+		 * Set the number of entries of a history segment that triggers its rotation.
+		 *
+		 * @param segment The segment size to set.
+		 * @since 17
+		 */
+		public void setSegment(int segment) {
+			this.segment = segment;
+		}
+	}
+
+	/**
+	 * Defines shard properties. The launchers can preprocess the folio images
+	 * concurrently in shards. The shard threads run beside the thread pools and
+	 * the resource budget of the scheduler, thus, the CPU cost of the launchers
+	 * should be declared with the number of shards.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Shard {
+		/**
+		 * The maximal number of shards of a launcher run. If 1, the images are
+		 * processed sequentially. The default value is 1.
+		 */
+		@Min(value = 1, message = "The maximal number of shards should not be less than 1")
+		private int threads = 1;
+
+		/**
+		 * Returns the maximal number of shards of a launcher run.
+		 *
+		 * @return The maximal number of shards.
+		 * @since 17
+		 */
+		public int getThreads() {
+			return threads;
+		}
+
+		/**
+		 * Set the maximal number of shards of a launcher run.
+		 *
+		 * @param threads The maximal number of shards to set.
+		 * @since 17
+		 */
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+	}
+
 	/**
 	 * Defines thread properties.
 	 *
@@ -500,6 +808,11 @@ public class Application {
 		 */
 		private Pool pool = new Pool();
 
+		/**
+		 * The workflow.
+		 */
+		private Workflow workflow = new Workflow();
+
 		/**
 		 * Returns the pool.
 		 *
@@ -520,6 +833,95 @@ public class Application {
 			this.pool = pool;
 		}
 
+		/**
+		 * Returns the workflow.
+		 *
+		 * @return The workflow.
+		 * @since 17
+		 */
+		public Workflow getWorkflow() {
+			return workflow;
+		}
+
+		/**
+		 * Set the workflow.
+		 *
+		 * @param workflow The workflow to set.
+		 * @since 17
+		 */
+		public void setWorkflow(Workflow workflow) {
+			this.workflow = workflow;
+		}
+
+		/**
+		 * Defines workflow properties.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Workflow {
+			/**
+			 * The maximal number of sibling paths of a workflow that are executed
+			 * concurrently. The default value is 1, this means, the paths are executed
+			 * sequentially.
+			 */
+			@Min(value = 1, message = "The workflow branches should not be less than 1")
+			private int branches = 1;
+
+			/**
+			 * True if completed workflow steps are reused by later workflows with the
+			 * same service provider, arguments and parent snapshot output. The default
+			 * value is false.
+			 */
+			private boolean cache = false;
+
+			/**
+			 * Returns the maximal number of sibling paths of a workflow that are executed
+			 * concurrently.
+			 *
+			 * @return The maximal number of sibling paths of a workflow that are executed
+			 *         concurrently.
+			 * @since 17
+			 */
+			public int getBranches() {
+				return branches;
+			}
+
+			/**
+			 * Set the maximal number of sibling paths of a workflow that are executed
+			 * concurrently.
+			 *
+			 * @param branches The branches to set.
+			 * @since 17
+			 */
+			public void setBranches(int branches) {
+				this.branches = branches;
+			}
+
+			/**
+			 * Returns true if completed workflow steps are reused by later workflows with
+			 * the same service provider, arguments and parent snapshot output.
+			 *
+			 * @return True if completed workflow steps are reused.
+			 * @since 17
+			 */
+			public boolean isCache() {
+				return cache;
+			}
+
+			/**
+			 * Set to true if completed workflow steps are reused by later workflows with
+			 * the same service provider, arguments and parent snapshot output.
+			 *
+			 * @param cache The cache flag to set.
+			 * @since 17
+			 */
+			public void setCache(boolean cache) {
+				this.cache = cache;
+			}
+		}
+
 		/**
 		 * Defines pool properties.
 		 *
@@ -533,6 +935,28 @@ public class Application {
 			 */
 			private Size size = new Size();
 
+			/**
+			 * The capacity.
+			 */
+			private Capacity capacity = new Capacity();
+
+			/**
+			 * The virtual thread modes.
+			 */
+			private Virtual virtual = new Virtual();
+
+			/**
+			 * The resource budget.
+			 */
+			private Budget budget = new Budget();
+
+			/**
+			 * The number of seconds a client should wait before retrying a request that
+			 * was rejected, since the thread pool is saturated. The default value is 30.
+			 */
+			@Min(value = 1, message = "The thread pool retry after seconds should not be less than 1")
+			private int retryAfter = 30;
+
 			/**
 			 * Returns the size.
 			 *
@@ -554,41 +978,336 @@ public class Application {
 			}
 
 			/**
-			 * Defines size properties.
+			 * Returns the capacity.
 			 *
-			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
-			 * @version 1.0
-			 * @since 1.8
+			 * @return The capacity.
+			 * @since 17
 			 */
-			public static class Size {
-				/**
-				 * The thread pool size for work. The default value is 12.
-				 */
-				@Min(value = 1, message = "The thread pool size for work should not be less than 1")
-				private int work = 12;
+			public Capacity getCapacity() {
+				return capacity;
+			}
 
-				/**
-				 * The thread pool size for task. The default value is 6.
+			/**
+			 * Set the capacity.
+			 *
+			 * @param capacity The capacity to set.
+			 * @since 17
+			 */
+			public void setCapacity(Capacity capacity) {
+				this.capacity = capacity;
+			}
+
+			/**
+			 * Returns the virtual thread modes.
+			 *
+			 * @return The virtual thread modes.
+			 * @since 17
+			 */
+			public Virtual getVirtual() {
+				return virtual;
+			}
+
+			/**
+			 * Set the virtual thread modes.
+			 *
+			 * @param virtual The virtual thread modes to set.
+			 * @since 17
+			 */
+			public void setVirtual(Virtual virtual) {
+				this.virtual = virtual;
+			}
+
+			/**
+			 * Returns the resource budget.
+			 *
+			 * @return The resource budget.
+			 * @since 17
+			 */
+			public Budget getBudget() {
+				return budget;
+			}
+
+			/**
+			 * Set the resource budget.
+			 *
+			 * @param budget The resource budget to set.
+			 * @since 17
+			 */
+			public void setBudget(Budget budget) {
+				this.budget = budget;
+			}
+
+			/**
+			 * Returns the number of seconds a client should wait before retrying a
+			 * rejected request.
+			 *
+			 * @return The number of seconds a client should wait before retrying a
+			 *         rejected request.
+			 * @since 17
+			 */
+			public int getRetryAfter() {
+				return retryAfter;
+			}
+
+			/**
+			 * Set the number of seconds a client should wait before retrying a rejected
+			 * request.
+			 *
+			 * @param retryAfter The seconds to set.
+			 * @since 17
+			 */
+			public void setRetryAfter(int retryAfter) {
+				this.retryAfter = retryAfter;
+			}
+
+			/**
+			 * Defines virtual thread mode properties. If the mode is set, the jobs of the
+			 * pool run on virtual threads and the pool size is the number of permits,
+			 * this means, the maximal number of jobs running concurrently. Virtual
+			 * threads require a Java 21 runtime, otherwise platform threads are used.
+			 *
+			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+			 * @version 1.0
+			 * @since 17
+			 */
+			public static class Virtual {
+				/**
+				 * True if work runs on virtual threads. The default value is false.
 				 */
-				@Min(value = 1, message = "The thread pool size for task should not be less than 1")
-				private int task = 6;
+				private boolean work = false;
 
 				/**
-				 * The thread pool size for workflow. The default value is 12.
+				 * True if task runs on virtual threads. The default value is false.
 				 */
-				@Min(value = 1, message = "The thread pool size for workflow should not be less than 1")
-				private int workflow = 12;
+				private boolean task = false;
 
 				/**
-				 * The thread pool size for training. The default value is 6.
+				 * True if workflow runs on virtual threads. The default value is false.
 				 */
-				@Min(value = 1, message = "The thread pool size for training should not be less than 1")
-				private int training = 6;
+				private boolean workflow = false;
 
 				/**
-				 * Returns the thread pool size for work.
+				 * True if training runs on virtual threads. The default value is false.
+				 */
+				private boolean training = false;
+
+				/**
+				 * True if the workspace pools run on virtual threads. The default value is
+				 * false.
+				 */
+				private boolean workspace = false;
+
+				/**
+				 * Returns true if work runs on virtual threads.
 				 *
-				 * @return The thread pool size for work.
+				 * @return True if work runs on virtual threads.
+				 * @since 17
+				 */
+				public boolean isWork() {
+					return work;
+				}
+
+				/**
+				 * Set to true if work runs on virtual threads.
+				 *
+				 * @param isVirtual The virtual mode to set.
+				 * @since 17
+				 */
+				public void setWork(boolean isVirtual) {
+					work = isVirtual;
+				}
+
+				/**
+				 * Returns true if task runs on virtual threads.
+				 *
+				 * @return True if task runs on virtual threads.
+				 * @since 17
+				 */
+				public boolean isTask() {
+					return task;
+				}
+
+				/**
+				 * Set to true if task runs on virtual threads.
+				 *
+				 * @param isVirtual The virtual mode to set.
+				 * @since 17
+				 */
+				public void setTask(boolean isVirtual) {
+					task = isVirtual;
+				}
+
+				/**
+				 * Returns true if workflow runs on virtual threads.
+				 *
+				 * @return True if workflow runs on virtual threads.
+				 * @since 17
+				 */
+				public boolean isWorkflow() {
+					return workflow;
+				}
+
+				/**
+				 * Set to true if workflow runs on virtual threads.
+				 *
+				 * @param isVirtual The virtual mode to set.
+				 * @since 17
+				 */
+				public void setWorkflow(boolean isVirtual) {
+					workflow = isVirtual;
+				}
+
+				/**
+				 * Returns true if training runs on virtual threads.
+				 *
+				 * @return True if training runs on virtual threads.
+				 * @since 17
+				 */
+				public boolean isTraining() {
+					return training;
+				}
+
+				/**
+				 * Set to true if training runs on virtual threads.
+				 *
+				 * @param isVirtual The virtual mode to set.
+				 * @since 17
+				 */
+				public void setTraining(boolean isVirtual) {
+					training = isVirtual;
+				}
+
+				/**
+				 * Returns true if the workspace pools run on virtual threads.
+				 *
+				 * @return True if the workspace pools run on virtual threads.
+				 * @since 17
+				 */
+				public boolean isWorkspace() {
+					return workspace;
+				}
+
+				/**
+				 * Set to true if the workspace pools run on virtual threads.
+				 *
+				 * @param isVirtual The virtual mode to set.
+				 * @since 17
+				 */
+				public void setWorkspace(boolean isVirtual) {
+					workspace = isVirtual;
+				}
+			}
+
+			/**
+			 * Defines resource budget properties, this means, the CPU cores and the
+			 * memory of the host that the running jobs can use together. The jobs are
+			 * admitted with the costs declared for their service providers in the
+			 * workspace configuration.
+			 *
+			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+			 * @version 1.0
+			 * @since 17
+			 */
+			public static class Budget {
+				/**
+				 * The CPU cores. If 0, the number of available processors is used. The
+				 * default value is 0.
+				 */
+				@Min(value = 0, message = "The thread pool budget for CPU cores should not be less than 0")
+				private int cpu = 0;
+
+				/**
+				 * The memory in megabytes. If 0, the memory is not limited. The default
+				 * value is 0.
+				 */
+				@Min(value = 0, message = "The thread pool budget for memory should not be less than 0")
+				private long memory = 0;
+
+				/**
+				 * Returns the CPU cores.
+				 *
+				 * @return The CPU cores.
+				 * @since 17
+				 */
+				public int getCpu() {
+					return cpu;
+				}
+
+				/**
+				 * Set the CPU cores.
+				 *
+				 * @param cpu The CPU cores to set.
+				 * @since 17
+				 */
+				public void setCpu(int cpu) {
+					this.cpu = cpu;
+				}
+
+				/**
+				 * Returns the memory in megabytes.
+				 *
+				 * @return The memory in megabytes.
+				 * @since 17
+				 */
+				public long getMemory() {
+					return memory;
+				}
+
+				/**
+				 * Set the memory in megabytes.
+				 *
+				 * @param memory The memory to set.
+				 * @since 17
+				 */
+				public void setMemory(long memory) {
+					this.memory = memory;
+				}
+			}
+
+			/**
+			 * Defines capacity properties, this means, the maximal number of scheduled
+			 * jobs that are waiting for a thread of the pool. If 0, the capacity is not
+			 * limited.
+			 *
+			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+			 * @version 1.0
+			 * @since 17
+			 */
+			public static class Capacity {
+				/**
+				 * The thread pool capacity for work. The default value is 256.
+				 */
+				@Min(value = 0, message = "The thread pool capacity for work should not be less than 0")
+				private int work = 256;
+
+				/**
+				 * The thread pool capacity for task. The default value is 256.
+				 */
+				@Min(value = 0, message = "The thread pool capacity for task should not be less than 0")
+				private int task = 256;
+
+				/**
+				 * The thread pool capacity for workflow. The default value is 64.
+				 */
+				@Min(value = 0, message = "The thread pool capacity for workflow should not be less than 0")
+				private int workflow = 64;
+
+				/**
+				 * The thread pool capacity for training. The default value is 32.
+				 */
+				@Min(value = 0, message = "The thread pool capacity for training should not be less than 0")
+				private int training = 32;
+
+				/**
+				 * The capacity of every workspace thread pool. The default value is 256.
+				 */
+				@Min(value = 0, message = "The thread pool capacity for workspace should not be less than 0")
+				private int workspace = 256;
+
+				/**
+				 * Returns the thread pool capacity for work.
+				 *
+				 * @return The thread pool capacity for work.
 				 * @since 17
 				 */
 				public int getWork() {
@@ -596,73 +1315,1085 @@ public class Application {
 				}
 
 				/**
-				 * Set the thread pool size for work.
+				 * Set the thread pool capacity for work.
 				 *
-				 * @param size The size to set.
+				 * @param capacity The capacity to set.
 				 * @since 17
 				 */
-				public void setWork(int size) {
-					work = size;
+				public void setWork(int capacity) {
+					work = capacity;
 				}
 
 				/**
-				 * Returns the thread pool size for task.
+				 * Returns the thread pool capacity for task.
 				 *
-				 * @return The size.
-				 * @since 1.8
+				 * @return The thread pool capacity for task.
+				 * @since 17
 				 */
 				public int getTask() {
 					return task;
 				}
 
 				/**
-				 * Set the thread pool size for task.
+				 * Set the thread pool capacity for task.
 				 *
-				 * @param size The size to set.
-				 * @since 1.8
+				 * @param capacity The capacity to set.
+				 * @since 17
 				 */
-				public void setTask(int size) {
-					task = size;
+				public void setTask(int capacity) {
+					task = capacity;
 				}
 
 				/**
-				 * Returns the thread pool size for workflow.
+				 * Returns the thread pool capacity for workflow.
 				 *
-				 * @return The size.
-				 * @since 1.8
+				 * @return The thread pool capacity for workflow.
+				 * @since 17
 				 */
 				public int getWorkflow() {
 					return workflow;
 				}
 
 				/**
-				 * Set the thread pool size for workflow.
+				 * Set the thread pool capacity for workflow.
 				 *
-				 * @param size The size to set.
-				 * @since 1.8
+				 * @param capacity The capacity to set.
+				 * @since 17
 				 */
-				public void setWorkflow(int size) {
-					workflow = size;
+				public void setWorkflow(int capacity) {
+					workflow = capacity;
 				}
 
 				/**
-				 * Returns the thread pool size for training.
+				 * Returns the thread pool capacity for training.
 				 *
-				 * @return The size.
-				 * @since 1.8
+				 * @return The thread pool capacity for training.
+				 * @since 17
 				 */
 				public int getTraining() {
 					return training;
 				}
 
 				/**
-				 * Set the thread pool size for training.
+				 * Set the thread pool capacity for training.
 				 *
-				 * @param size The size to set.
-				 * @since 1.8
+				 * @param capacity The capacity to set.
+				 * @since 17
 				 */
-				public void setTraining(int size) {
-					training = size;
+				public void setTraining(int capacity) {
+					training = capacity;
+				}
+
+				/**
+				 * Returns the capacity of every workspace thread pool.
+				 *
+				 * @return The capacity of every workspace thread pool.
+				 * @since 17
+				 */
+				public int getWorkspace() {
+					return workspace;
+				}
+
+				/**
+				 * Set the capacity of every workspace thread pool.
+				 *
+				 * @param capacity The capacity to set.
+				 * @since 17
+				 */
+				public void setWorkspace(int capacity) {
+					workspace = capacity;
+				}
+			}
+
+			/**
+			 * Defines size properties.
+			 *
+			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+			 * @version 1.0
+			 * @since 1.8
+			 */
+			public static class Size {
+				/**
+				 * The thread pool size for work. The default value is 12.
+				 */
+				@Min(value = 1, message = "The thread pool size for work should not be less than 1")
+				private int work = 12;
+
+				/**
+				 * The thread pool size for task. The default value is 6.
+				 */
+				@Min(value = 1, message = "The thread pool size for task should not be less than 1")
+				private int task = 6;
+
+				/**
+				 * The thread pool size for workflow. The default value is 12.
+				 */
+				@Min(value = 1, message = "The thread pool size for workflow should not be less than 1")
+				private int workflow = 12;
+
+				/**
+				 * The thread pool size for training. The default value is 6.
+				 */
+				@Min(value = 1, message = "The thread pool size for training should not be less than 1")
+				private int training = 6;
+
+				/**
+				 * Returns the thread pool size for work.
+				 *
+				 * @return The thread pool size for work.
+				 * @since 17
+				 */
+				public int getWork() {
+					return work;
+				}
+
+				/**
+				 * Set the thread pool size for work.
+				 *
+				 * @param size The size to set.
+				 * @since 17
+				 */
+				public void setWork(int size) {
+					work = size;
+				}
+
+				/**
+				 * Returns the thread pool size for task.
+				 *
+				 * @return The size.
+				 * @since 1.8
+				 */
+				public int getTask() {
+					return task;
+				}
+
+				/**
+				 * Set the thread pool size for task.
+				 *
+				 * @param size The size to set.
+				 * @since 1.8
+				 */
+				public void setTask(int size) {
+					task = size;
+				}
+
+				/**
+				 * Returns the thread pool size for workflow.
+				 *
+				 * @return The size.
+				 * @since 1.8
+				 */
+				public int getWorkflow() {
+					return workflow;
+				}
+
+				/**
+				 * Set the thread pool size for workflow.
+				 *
+				 * @param size The size to set.
+				 * @since 1.8
+				 */
+				public void setWorkflow(int size) {
+					workflow = size;
+				}
+
+				/**
+				 * Returns the thread pool size for training.
+				 *
+				 * @return The size.
+				 * @since 1.8
+				 */
+				public int getTraining() {
+					return training;
+				}
+
+				/**
+				 * Set the thread pool size for training.
+				 *
+				 * @param size The size to set.
+				 * @since 1.8
+				 */
+				public void setTraining(int size) {
+					training = size;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Defines job properties.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Job {
+		/**
+		 * The log.
+		 */
+		private Log log = new Log();
+
+		/**
+		 * The event.
+		 */
+		private Event event = new Event();
+
+		/**
+		 * The retention.
+		 */
+		private Retention retention = new Retention();
+
+		/**
+		 * The store.
+		 */
+		private Store store = new Store();
+
+		/**
+		 * The snapshot.
+		 */
+		private Snapshot snapshot = new Snapshot();
+
+		/**
+		 * The timeout.
+		 */
+		private Timeout timeout = new Timeout();
+
+		/**
+		 * The batch.
+		 */
+		private Batch batch = new Batch();
+
+		/**
+		 * Returns the log.
+		 *
+		 * @return The log.
+		 * @since 17
+		 */
+		public Log getLog() {
+			return log;
+		}
+
+		/**
+		 * Set the log.
+		 *
+		 * @param log The log to set.
+		 * @since 17
+		 */
+		public void setLog(Log log) {
+			this.log = log;
+		}
+
+		/**
+		 * Returns the event.
+		 *
+		 * @return The event.
+		 * @since 17
+		 */
+		public Event getEvent() {
+			return event;
+		}
+
+		/**
+		 * Set the event.
+		 *
+		 * @param event The event to set.
+		 * @since 17
+		 */
+		public void setEvent(Event event) {
+			this.event = event;
+		}
+
+		/**
+		 * Returns the retention.
+		 *
+		 * @return The retention.
+		 * @since 17
+		 */
+		public Retention getRetention() {
+			return retention;
+		}
+
+		/**
+		 * Set the retention.
+		 *
+		 * @param retention The retention to set.
+		 * @since 17
+		 */
+		public void setRetention(Retention retention) {
+			this.retention = retention;
+		}
+
+		/**
+		 * Returns the store.
+		 *
+		 * @return The store.
+		 * @since 17
+		 */
+		public Store getStore() {
+			return store;
+		}
+
+		/**
+		 * Set the store.
+		 *
+		 * @param store The store to set.
+		 * @since 17
+		 */
+		public void setStore(Store store) {
+			this.store = store;
+		}
+
+		/**
+		 * Returns the snapshot.
+		 *
+		 * @return The snapshot.
+		 * @since 17
+		 */
+		public Snapshot getSnapshot() {
+			return snapshot;
+		}
+
+		/**
+		 * Set the snapshot.
+		 *
+		 * @param snapshot The snapshot to set.
+		 * @since 17
+		 */
+		public void setSnapshot(Snapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		/**
+		 * Returns the timeout.
+		 *
+		 * @return The timeout.
+		 * @since 17
+		 */
+		public Timeout getTimeout() {
+			return timeout;
+		}
+
+		/**
+		 * Set the timeout.
+		 *
+		 * @param timeout The timeout to set.
+		 * @since 17
+		 */
+		public void setTimeout(Timeout timeout) {
+			this.timeout = timeout;
+		}
+
+		/**
+		 * Returns the batch.
+		 *
+		 * @return The batch.
+		 * @since 17
+		 */
+		public Batch getBatch() {
+			return batch;
+		}
+
+		/**
+		 * Set the batch.
+		 *
+		 * @param batch The batch to set.
+		 * @since 17
+		 */
+		public void setBatch(Batch batch) {
+			this.batch = batch;
+		}
+
+		/**
+		 * Defines batch properties. The folio uploads into the same container that
+		 * arrive within the interval are imported together in one batch.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Batch {
+			/**
+			 * The coalescing interval in milliseconds of the folio uploads. If 0, every
+			 * upload is imported by itself. The default value is 0.
+			 */
+			@Min(value = 0, message = "The batch interval should not be less than 0 milliseconds")
+			private long interval = 0;
+
+			/**
+			 * Returns the coalescing interval in milliseconds of the folio uploads.
+			 *
+			 * @return The coalescing interval in milliseconds.
+			 * @since 17
+			 */
+			public long getInterval() {
+				return interval;
+			}
+
+			/**
+			 * Set the coalescing interval in milliseconds of the folio uploads.
+			 *
+			 * @param interval The interval to set.
+			 * @since 17
+			 */
+			public void setInterval(long interval) {
+				this.interval = interval;
+			}
+		}
+
+		/**
+		 * Defines timeout properties of the running jobs. A watchdog interrupts the
+		 * jobs that exceed the timeout of their type and the service provider
+		 * instances that exceed the timeout of their service provider or stall.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Timeout {
+			/**
+			 * The timeout in minutes of the work jobs. If 0, the work jobs have no timeout. The
+			 * default value is 0.
+			 */
+			@Min(value = 0, message = "The timeout of the work jobs should not be less than 0 minutes")
+			private int work = 0;
+
+			/**
+			 * The timeout in minutes of the task jobs. If 0, the task jobs have no timeout. The
+			 * default value is 0.
+			 */
+			@Min(value = 0, message = "The timeout of the task jobs should not be less than 0 minutes")
+			private int task = 0;
+
+			/**
+			 * The timeout in minutes of the workflow jobs. If 0, the workflow jobs have no timeout. The
+			 * default value is 0.
+			 */
+			@Min(value = 0, message = "The timeout of the workflow jobs should not be less than 0 minutes")
+			private int workflow = 0;
+
+			/**
+			 * The timeout in minutes of the training jobs. If 0, the training jobs have no timeout. The
+			 * default value is 0.
+			 */
+			@Min(value = 0, message = "The timeout of the training jobs should not be less than 0 minutes")
+			private int training = 0;
+
+			/**
+			 * The minutes after which a running service provider instance is
+			 * interrupted if its progress has not changed. If 0, stalls are not
+			 * detected. The default value is 0.
+			 */
+			@Min(value = 0, message = "The stall timeout should not be less than 0 minutes")
+			private int stall = 0;
+
+			/**
+			 * The interval in milliseconds of the watchdog to inspect the running jobs.
+			 * The default value is 30000.
+			 */
+			@Min(value = 1000, message = "The watchdog interval should not be less than 1000 milliseconds")
+			private long interval = 30000;
+
+			/**
+			 * Returns the timeout in minutes of the work jobs.
+			 *
+			 * @return The timeout in minutes of the work jobs.
+			 * @since 17
+			 */
+			public int getWork() {
+				return work;
+			}
+
+			/**
+			 * Set the timeout in minutes of the work jobs.
+			 *
+			 * @param work The timeout to set.
+			 * @since 17
+			 */
+			public void setWork(int work) {
+				this.work = work;
+			}
+
+			/**
+			 * Returns the timeout in minutes of the task jobs.
+			 *
+			 * @return The timeout in minutes of the task jobs.
+			 * @since 17
+			 */
+			public int getTask() {
+				return task;
+			}
+
+			/**
+			 * Set the timeout in minutes of the task jobs.
+			 *
+			 * @param task The timeout to set.
+			 * @since 17
+			 */
+			public void setTask(int task) {
+				this.task = task;
+			}
+
+			/**
+			 * Returns the timeout in minutes of the workflow jobs.
+			 *
+			 * @return The timeout in minutes of the workflow jobs.
+			 * @since 17
+			 */
+			public int getWorkflow() {
+				return workflow;
+			}
+
+			/**
+			 * Set the timeout in minutes of the workflow jobs.
+			 *
+			 * @param workflow The timeout to set.
+			 * @since 17
+			 */
+			public void setWorkflow(int workflow) {
+				this.workflow = workflow;
+			}
+
+			/**
+			 * Returns the timeout in minutes of the training jobs.
+			 *
+			 * @return The timeout in minutes of the training jobs.
+			 * @since 17
+			 */
+			public int getTraining() {
+				return training;
+			}
+
+			/**
+			 * Set the timeout in minutes of the training jobs.
+			 *
+			 * @param training The timeout to set.
+			 * @since 17
+			 */
+			public void setTraining(int training) {
+				this.training = training;
+			}
+
+			/**
+			 * Returns the minutes after which a running service provider instance is
+			 * interrupted if its progress has not changed.
+			 *
+			 * @return The stall timeout in minutes.
+			 * @since 17
+			 */
+			public int getStall() {
+				return stall;
+			}
+
+			/**
+			 * Set the minutes after which a running service provider instance is
+			 * interrupted if its progress has not changed.
+			 *
+			 * @param stall The stall timeout to set.
+			 * @since 17
+			 */
+			public void setStall(int stall) {
+				this.stall = stall;
+			}
+
+			/**
+			 * Returns the interval in milliseconds of the watchdog.
+			 *
+			 * @return The interval in milliseconds of the watchdog.
+			 * @since 17
+			 */
+			public long getInterval() {
+				return interval;
+			}
+
+			/**
+			 * Set the interval in milliseconds of the watchdog.
+			 *
+			 * @param interval The interval to set.
+			 * @since 17
+			 */
+			public void setInterval(long interval) {
+				this.interval = interval;
+			}
+		}
+
+		/**
+		 * Defines snapshot properties for the process updates of the running jobs.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Snapshot {
+			/**
+			 * The minimal interval in milliseconds to persist the progress and messages
+			 * of a running process in its snapshot. If 0, they are only persisted with
+			 * the process state transitions. The default value is 0.
+			 */
+			@Min(value = 0, message = "The snapshot process flush interval should not be less than 0 milliseconds")
+			private long interval = 0;
+
+			/**
+			 * Returns the minimal interval in milliseconds to persist the progress and
+			 * messages of a running process in its snapshot.
+			 *
+			 * @return The minimal interval in milliseconds.
+			 * @since 17
+			 */
+			public long getInterval() {
+				return interval;
+			}
+
+			/**
+			 * Set the minimal interval in milliseconds to persist the progress and
+			 * messages of a running process in its snapshot.
+			 *
+			 * @param interval The interval to set.
+			 * @since 17
+			 */
+			public void setInterval(long interval) {
+				this.interval = interval;
+			}
+		}
+
+		/**
+		 * Defines store properties. If the store is enabled, the scheduled workflows
+		 * and their completed steps are logged durably in the workspace, so that they
+		 * are resumed after a restart.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Store {
+			/**
+			 * True if the job store is enabled. The default value is true.
+			 */
+			private boolean enabled = true;
+
+			/**
+			 * Returns true if the job store is enabled.
+			 *
+			 * @return True if the job store is enabled.
+			 * @since 17
+			 */
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			/**
+			 * Set to true if the job store is enabled.
+			 *
+			 * @param enabled The enabled flag to set.
+			 * @since 17
+			 */
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+		}
+
+		/**
+		 * Defines log properties for the standard output and error of the job steps.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Log {
+			/**
+			 * The maximal number of buffered lines per log. The default value is 1000.
+			 */
+			@Min(value = 1, message = "The maximal number of buffered lines should not be less than 1")
+			private int lines = 1000;
+
+			/**
+			 * The maximal number of buffered bytes per log. The default value is 1048576.
+			 */
+			@Min(value = 1024, message = "The maximal number of buffered bytes should not be less than 1024")
+			private long bytes = 1048576;
+
+			/**
+			 * True if the dropped lines are spilled to the temporary folder. The default
+			 * value is false.
+			 */
+			private boolean spill = false;
+
+			/**
+			 * Returns the maximal number of buffered lines per log.
+			 *
+			 * @return The maximal number of buffered lines per log.
+			 * @since 17
+			 */
+			public int getLines() {
+				return lines;
+			}
+
+			/**
+			 * Set the maximal number of buffered lines per log.
+			 *
+			 * @param lines The lines to set.
+			 * @since 17
+			 */
+			public void setLines(int lines) {
+				this.lines = lines;
+			}
+
+			/**
+			 * Returns the maximal number of buffered bytes per log.
+			 *
+			 * @return The maximal number of buffered bytes per log.
+			 * @since 17
+			 */
+			public long getBytes() {
+				return bytes;
+			}
+
+			/**
+			 * Set the maximal number of buffered bytes per log.
+			 *
+			 * @param bytes The bytes to set.
+			 * @since 17
+			 */
+			public void setBytes(long bytes) {
+				this.bytes = bytes;
+			}
+
+			/**
+			 * Returns true if the dropped lines are spilled to the temporary folder.
+			 *
+			 * @return True if the dropped lines are spilled to the temporary folder.
+			 * @since 17
+			 */
+			public boolean isSpill() {
+				return spill;
+			}
+
+			/**
+			 * Set to true if the dropped lines are spilled to the temporary folder.
+			 *
+			 * @param spill The spill flag to set.
+			 * @since 17
+			 */
+			public void setSpill(boolean spill) {
+				this.spill = spill;
+			}
+		}
+
+		/**
+		 * Defines event properties for the job event streams.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Event {
+			/**
+			 * The interval in milliseconds to publish the changed jobs. The default value
+			 * is 1000.
+			 */
+			@Min(value = 100, message = "The event interval should not be less than 100 ms")
+			private long interval = 1000;
+
+			/**
+			 * The heartbeat interval in milliseconds, if no job changed. The default value
+			 * is 15000.
+			 */
+			@Min(value = 1000, message = "The event heartbeat should not be less than 1000 ms")
+			private long heartbeat = 15000;
+
+			/**
+			 * The timeout of an event stream in milliseconds. Clients have to reconnect
+			 * after this time. The default value is 3600000.
+			 */
+			@Min(value = 0, message = "The event timeout should not be less than 0 ms")
+			private long timeout = 3600000;
+
+			/**
+			 * Returns the interval in milliseconds to publish the changed jobs.
+			 *
+			 * @return The interval in milliseconds to publish the changed jobs.
+			 * @since 17
+			 */
+			public long getInterval() {
+				return interval;
+			}
+
+			/**
+			 * Set the interval in milliseconds to publish the changed jobs.
+			 *
+			 * @param interval The interval to set.
+			 * @since 17
+			 */
+			public void setInterval(long interval) {
+				this.interval = interval;
+			}
+
+			/**
+			 * Returns the heartbeat interval in milliseconds.
+			 *
+			 * @return The heartbeat interval in milliseconds.
+			 * @since 17
+			 */
+			public long getHeartbeat() {
+				return heartbeat;
+			}
+
+			/**
+			 * Set the heartbeat interval in milliseconds.
+			 *
+			 * @param heartbeat The heartbeat to set.
+			 * @since 17
+			 */
+			public void setHeartbeat(long heartbeat) {
+				this.heartbeat = heartbeat;
+			}
+
+			/**
+			 * Returns the timeout of an event stream in milliseconds.
+			 *
+			 * @return The timeout of an event stream in milliseconds.
+			 * @since 17
+			 */
+			public long getTimeout() {
+				return timeout;
+			}
+
+			/**
+			 * Set the timeout of an event stream in milliseconds.
+			 *
+			 * @param timeout The timeout to set.
+			 * @since 17
+			 */
+			public void setTimeout(long timeout) {
+				this.timeout = timeout;
+			}
+		}
+
+		/**
+		 * Defines retention properties for the done jobs. If a limit is exceeded, the
+		 * oldest done jobs are replaced by compact records.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		public static class Retention {
+			/**
+			 * The maximal number of retained done jobs. The default value is 256.
+			 */
+			@Min(value = 0, message = "The maximal number of retained done jobs should not be less than 0")
+			private int count = 256;
+
+			/**
+			 * The maximal age of the retained done jobs in minutes. The default value is
+			 * 1440.
+			 */
+			@Min(value = 1, message = "The maximal age of retained done jobs should not be less than 1 minute")
+			private long age = 1440;
+
+			/**
+			 * The maximal number of log bytes of the retained done jobs. The default value
+			 * is 67108864.
+			 */
+			@Min(value = 0, message = "The maximal number of log bytes of retained done jobs should not be less than 0")
+			private long bytes = 67108864;
+
+			/**
+			 * The maximal number of job records kept in memory. The default value is
+			 * 4096.
+			 */
+			@Min(value = 0, message = "The maximal number of job records should not be less than 0")
+			private int records = 4096;
+
+			/**
+			 * The archive.
+			 */
+			private Archive archive = new Archive();
+
+			/**
+			 * Returns the maximal number of retained done jobs.
+			 *
+			 * @return The maximal number of retained done jobs.
+			 * @since 17
+			 */
+			public int getCount() {
+				return count;
+			}
+
+			/**
+			 * Set the maximal number of retained done jobs.
+			 *
+			 * @param count The count to set.
+			 * @since 17
+			 */
+			public void setCount(int count) {
+				this.count = count;
+			}
+
+			/**
+			 * Returns the maximal age of the retained done jobs in minutes.
+			 *
+			 * @return The maximal age of the retained done jobs in minutes.
+			 * @since 17
+			 */
+			public long getAge() {
+				return age;
+			}
+
+			/**
+			 * Set the maximal age of the retained done jobs in minutes.
+			 *
+			 * @param age The age to set.
+			 * @since 17
+			 */
+			public void setAge(long age) {
+				this.age = age;
+			}
+
+			/**
+			 * Returns the maximal number of log bytes of the retained done jobs.
+			 *
+			 * @return The maximal number of log bytes of the retained done jobs.
+			 * @since 17
+			 */
+			public long getBytes() {
+				return bytes;
+			}
+
+			/**
+			 * Set the maximal number of log bytes of the retained done jobs.
+			 *
+			 * @param bytes The bytes to set.
+			 * @since 17
+			 */
+			public void setBytes(long bytes) {
+				this.bytes = bytes;
+			}
+
+			/**
+			 * Returns the maximal number of job records kept in memory.
+			 *
+			 * @return The maximal number of job records kept in memory.
+			 * @since 17
+			 */
+			public int getRecords() {
+				return records;
+			}
+
+			/**
+			 * Set the maximal number of job records kept in memory.
+			 *
+			 * @param records The records to set.
+			 * @since 17
+			 */
+			public void setRecords(int records) {
+				this.records = records;
+			}
+
+			/**
+			 * Returns the archive.
+			 *
+			 * @return The archive.
+			 * @since 17
+			 */
+			public Archive getArchive() {
+				return archive;
+			}
+
+			/**
+			 * Set the archive.
+			 *
+			 * @param archive The archive to set.
+			 * @since 17
+			 */
+			public void setArchive(Archive archive) {
+				this.archive = archive;
+			}
+
+			/**
+			 * Defines archive properties for the job records. The archive is a rolling
+			 * file in the workspace configuration folder.
+			 *
+			 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+			 * @version 1.0
+			 * @since 17
+			 */
+			public static class Archive {
+				/**
+				 * True if the job records are archived. The default value is true.
+				 */
+				private boolean enabled = true;
+
+				/**
+				 * The maximal size of the archive file in bytes before it is rolled. The
+				 * default value is 1048576.
+				 */
+				@Min(value = 1024, message = "The maximal size of the archive file should not be less than 1024 bytes")
+				private long size = 1048576;
+
+				/**
+				 * The number of rolled archive files to keep. The default value is 3.
+				 */
+				@Min(value = 0, message = "The number of rolled archive files should not be less than 0")
+				private int backups = 3;
+
+				/**
+				 * Returns true if the job records are archived.
+				 *
+				 * @return True if the job records are archived.
+				 * @since 17
+				 */
+				public boolean isEnabled() {
+					return enabled;
+				}
+
+				/**
+				 * Set to true if the job records are archived.
+				 *
+				 * @param enabled The enabled flag to set.
+				 * @since 17
+				 */
+				public void setEnabled(boolean enabled) {
+					this.enabled = enabled;
+				}
+
+				/**
+				 * Returns the maximal size of the archive file in bytes.
+				 *
+				 * @return The maximal size of the archive file in bytes.
+				 * @since 17
+				 */
+				public long getSize() {
+					return size;
+				}
+
+				/**
+				 * Set the maximal size of the archive file in bytes.
+				 *
+				 * @param size The size to set.
+				 * @since 17
+				 */
+				public void setSize(long size) {
+					this.size = size;
+				}
+
+				/**
+				 * Returns the number of rolled archive files to keep.
+				 *
+				 * @return The number of rolled archive files to keep.
+				 * @since 17
+				 */
+				public int getBackups() {
+					return backups;
+				}
+
+				/**
+				 * Set the number of rolled archive files to keep.
+				 *
+				 * @param backups The backups to set.
+				 * @since 17
+				 */
+				public void setBackups(int backups) {
+					this.backups = backups;
 				}
 			}
 		}
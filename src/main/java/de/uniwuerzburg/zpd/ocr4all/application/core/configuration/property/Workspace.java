@@ -243,6 +243,16 @@ public class Workspace {
 		 */
 		private static final String defaultProviderFileName = "service-provider";
 
+		/**
+		 * The default jobs file name.
+		 */
+		private static final String defaultJobsFileName = "jobs";
+
+		/**
+		 * The default job store file name.
+		 */
+		private static final String defaultStoreFileName = "job-store";
+
 		/**
 		 * The main file name. The default value is ocr4all.
 		 */
@@ -268,6 +278,16 @@ public class Workspace {
 		 */
 		private String provider = defaultProviderFileName;
 
+		/**
+		 * The jobs file name. The default value is jobs.
+		 */
+		private String jobs = defaultJobsFileName;
+
+		/**
+		 * The job store file name. The default value is job-store.
+		 */
+		private String store = defaultStoreFileName;
+
 		/**
 		 * Returns the main file name.
 		 *
@@ -368,6 +388,46 @@ public class Workspace {
 			this.provider = provider;
 		}
 
+		/**
+		 * Returns the jobs file name.
+		 *
+		 * @return The jobs file name.
+		 * @since 17
+		 */
+		public String getJobs() {
+			return OCR4all.getNotEmpty(jobs, defaultJobsFileName);
+		}
+
+		/**
+		 * Set the jobs file name.
+		 *
+		 * @param jobs The file name to set.
+		 * @since 17
+		 */
+		public void setJobs(String jobs) {
+			this.jobs = jobs;
+		}
+
+		/**
+		 * Returns the job store file name.
+		 *
+		 * @return The job store file name.
+		 * @since 17
+		 */
+		public String getStore() {
+			return OCR4all.getNotEmpty(store, defaultStoreFileName);
+		}
+
+		/**
+		 * Set the job store file name.
+		 *
+		 * @param store The file name to set.
+		 * @since 17
+		 */
+		public void setStore(String store) {
+			this.store = store;
+		}
+
 	}
 
 	/**
@@ -32,11 +32,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.data.CollectionConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.data.CollectionConfiguration.Configuration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.EntityCache;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.MutationLog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
@@ -53,6 +60,21 @@ import de.uniwuerzburg.zpd.ocr4all.application.spi.util.pagexml.PageXMLParser;
  */
 @Service
 public class CollectionService extends CoreService {
+	/**
+	 * The sort operation of the set mutation records.
+	 */
+	private static final String operationSort = "sort";
+
+	/**
+	 * The update operation of the set mutation records.
+	 */
+	private static final String operationUpdate = "update";
+
+	/**
+	 * The remove operation of the set mutation records.
+	 */
+	private static final String operationRemove = "remove";
+
 	/**
 	 * The security service.
 	 */
@@ -68,6 +90,11 @@ public class CollectionService extends CoreService {
 	 */
 	protected final Path folder;
 
+	/**
+	 * The catalog of the collections.
+	 */
+	private final Catalog<CollectionConfiguration> catalog;
+
 	/**
 	 * Creates a collection service.
 	 * 
@@ -84,6 +111,8 @@ public class CollectionService extends CoreService {
 		this.dataService = dataService;
 
 		folder = configurationService.getData().getFolder().normalize();
+
+		catalog = new Catalog<>(CollectionService::describe, this::scan);
 	}
 
 	/**
@@ -167,8 +196,12 @@ public class CollectionService extends CoreService {
 				return null;
 			}
 
-			return getCollection(new CollectionConfiguration(configurationService.getData().getCollection(), folder,
-					new Configuration.CoreData(user, name, description, keywords)));
+			CollectionConfiguration configuration = new CollectionConfiguration(
+					configurationService.getData().getCollection(), folder,
+					new Configuration.CoreData(user, name, description, keywords));
+			catalog.register(configuration);
+
+			return getCollection(configuration);
 		} else
 			return null;
 	}
@@ -187,28 +220,80 @@ public class CollectionService extends CoreService {
 	}
 
 	/**
-	 * Returns the collections sorted by name.
+	 * Returns the collection configurations of the folder.
 	 * 
-	 * @return The collections.
-	 * @since 1.8
+	 * @return The collection configurations.
+	 * @since 17
 	 */
-	public List<Collection> getCollections() {
-		List<Collection> collections = new ArrayList<>();
+	private List<CollectionConfiguration> scan() {
+		List<CollectionConfiguration> configurations = new ArrayList<>();
 
-		try {
-			Files.list(CollectionService.this.folder).filter(Files::isDirectory).forEach(path -> {
+		try (Stream<Path> stream = Files.list(CollectionService.this.folder)) {
+			stream.filter(Files::isDirectory).forEach(path -> {
 				// Ignore directories beginning with a dot
 				if (!path.getFileName().toString().startsWith("."))
-					collections.add(getCollection(path));
+					configurations.add(
+							new CollectionConfiguration(configurationService.getData().getCollection(), path));
 			});
 		} catch (IOException e) {
 			logger.warn("Cannot not load collections - " + e.getMessage());
 		}
 
-		Collections.sort(collections, (p1, p2) -> p1.getConfiguration().getConfiguration().getName()
-				.compareToIgnoreCase(p2.getConfiguration().getConfiguration().getName()));
+		logger.info("Catalogued " + configurations.size() + " collections.");
+
+		return configurations;
+	}
+
+	/**
+	 * Returns the catalog descriptor of the collection configuration.
+	 * 
+	 * @param configuration The collection configuration.
+	 * @return The catalog descriptor.
+	 * @since 17
+	 */
+	private static Catalog.Descriptor describe(CollectionConfiguration configuration) {
+		Configuration.Information information = configuration.getConfiguration().getInformation();
 
-		return collections;
+		return new Catalog.Descriptor(configuration.getId(), configuration.getConfiguration().getName(),
+				information == null ? null : information.getKeywords(), configuration.getConfiguration().getUser(),
+				configuration.getConfiguration().getUpdated());
+	}
+
+	/**
+	 * Returns the collections sorted by name.
+	 * 
+	 * @return The collections.
+	 * @since 1.8
+	 */
+	public List<Collection> getCollections() {
+		return getCollections(null, null, 0, 0).getEntities();
+	}
+
+	/**
+	 * Returns the collections from the catalog.
+	 * 
+	 * @param sort   The sort order, this means, name or updated. A leading minus
+	 *               sign selects the descending order. If null, sorts by name.
+	 * @param search The search. If it starts with "keyword:" or "owner:", the
+	 *               collections with the keyword or owner are selected. Otherwise,
+	 *               the collections whose name contains the search or that have it
+	 *               as keyword or owner, ignoring case. If null or blank, all
+	 *               collections are selected.
+	 * @param offset The number of selected collections to skip.
+	 * @param limit  The maximal number of collections to return. All selected
+	 *               collections if not positive.
+	 * @return The page with the collections.
+	 * @since 17
+	 */
+	public Catalog.Page<Collection> getCollections(String sort, String search, int offset, int limit) {
+		Catalog.Page<CollectionConfiguration> page = catalog.getEntities(Catalog.Sort.getSort(sort),
+				Catalog.Sort.isDescending(sort), search, offset, limit);
+
+		List<Collection> collections = new ArrayList<>();
+		for (CollectionConfiguration configuration : page.getEntities())
+			collections.add(getCollection(configuration));
+
+		return new Catalog.Page<>(collections, page.getTotal());
 	}
 
 	/**
@@ -228,6 +313,8 @@ public class CollectionService extends CoreService {
 				if (!Files.exists(path)) {
 					logger.info("Removed collection '" + path.toString() + "'.");
 
+					catalog.remove(path.getFileName().toString());
+
 					return true;
 				} else
 					logger.warn("Troubles removing the collection '" + path.toString() + "'.");
@@ -259,8 +346,11 @@ public class CollectionService extends CoreService {
 
 			if (collection.getRight().isSpecialFulfilled()
 					&& collection.getConfiguration().getConfiguration().update(securityService.getUser(),
-							new CollectionConfiguration.Configuration.Information(name, description, keywords)))
+							new CollectionConfiguration.Configuration.Information(name, description, keywords))) {
+				catalog.register(collection.getConfiguration());
+
 				return collection;
+			}
 		}
 
 		return null;
@@ -281,8 +371,11 @@ public class CollectionService extends CoreService {
 			Collection collection = getCollection(path);
 
 			if (collection.getRight().isSpecialFulfilled()
-					&& collection.getConfiguration().getConfiguration().update(securityService.getUser(), security))
+					&& collection.getConfiguration().getConfiguration().update(securityService.getUser(), security)) {
+				catalog.register(collection.getConfiguration());
+
 				return collection;
+			}
 		}
 
 		return null;
@@ -395,9 +488,10 @@ public class CollectionService extends CoreService {
 			deleteRecursively(temporaryFolder);
 
 			// Persist the configuration
+			final Path file = collection.getConfiguration().getConfiguration().getSetsFile();
 			try {
-				(new PersistenceManager(collection.getConfiguration().getConfiguration().getSetsFile(),
-						Type.data_collection_set_v1)).persist(true, sets);
+				getSetLog(collection)
+						.persist(() -> (new PersistenceManager(file, Type.data_collection_set_v1)).persist(true, sets));
 			} catch (Exception e) {
 				throw new IOException("Cannot persist collection sets configuration file - " + e.getMessage() + ".");
 			}
@@ -466,9 +560,10 @@ public class CollectionService extends CoreService {
 					sets.add(set);
 
 			// Persist the configuration
+			final Path file = collection.getConfiguration().getConfiguration().getSetsFile();
 			try {
-				(new PersistenceManager(collection.getConfiguration().getConfiguration().getSetsFile(),
-						Type.data_collection_set_v1)).persist(true, sets);
+				getSetLog(collection)
+						.persist(() -> (new PersistenceManager(file, Type.data_collection_set_v1)).persist(true, sets));
 			} catch (Exception e) {
 				throw new IOException("Cannot persist collection sets configuration file - " + e.getMessage() + ".");
 			}
@@ -528,9 +623,7 @@ public class CollectionService extends CoreService {
 		if (collection != null && collection.getRight().isReadFulfilled()) {
 			List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets = new ArrayList<>();
 
-			for (de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set set : (new PersistenceManager(
-					collection.getConfiguration().getConfiguration().getSetsFile(), Type.data_collection_set_v1))
-					.getEntities(de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set.class))
+			for (de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set set : getSetLog(collection).getEntities())
 				if (uuids == null || uuids.contains(set.getId()))
 					sets.add(set);
 
@@ -566,18 +659,77 @@ public class CollectionService extends CoreService {
 	}
 
 	/**
-	 * Persist the sets.
+	 * Returns the mutation log of the collection sets. It is direct, this means,
+	 * the mutations rewrite the sets file, since the training service providers
+	 * read the collections from disk.
 	 * 
 	 * @param collection The collection.
-	 * @param sets       The sets to persist.
-	 * @return The number of persisted sets.
-	 * @throws IOException Throws if the sets metadata file can not be persisted.
-	 * @since 1.8
+	 * @return The mutation log of the collection sets.
+	 * @since 17
 	 */
-	private int persist(Collection collection, List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets)
+	private static MutationLog<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> getSetLog(
+			Collection collection) {
+		final Path file = collection.getConfiguration().getConfiguration().getSetsFile();
+
+		return new MutationLog<>(file, de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set.class,
+				() -> (new PersistenceManager(file, Type.data_collection_set_v1))
+						.getEntities(de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set.class),
+				sets -> (new PersistenceManager(file, Type.data_collection_set_v1)).persist(sets),
+				CollectionService::replay, true);
+	}
+
+	/**
+	 * Applies the set mutation record to the sets.
+	 * 
+	 * @param sets   The sets.
+	 * @param record The set mutation record.
+	 * @return The sets with the applied record.
+	 * @throws IOException Throws if the record is not valid.
+	 * @since 17
+	 */
+	private static List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> replay(
+			List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets, JsonNode record)
 			throws IOException {
-		return (new PersistenceManager(collection.getConfiguration().getConfiguration().getSetsFile(),
-				Type.data_collection_set_v1)).persist(sets);
+		final String operation = MutationLog.getOperation(record);
+
+		if (operationSort.equals(operation))
+			return sort(sets, MutationLog.getStrings(record.get("order")), record.path("after").asBoolean());
+		else if (operationUpdate.equals(operation)) {
+			List<Metadata> metadata = new ArrayList<>();
+			for (JsonNode node : record.path("metadata")) {
+				List<String> keywords = MutationLog.getStrings(node.get("keywords"));
+
+				metadata.add(new Metadata(node.path("id").asText(null), node.path("name").asText(null),
+						keywords == null ? null : new HashSet<>(keywords)));
+			}
+
+			return update(sets, metadata);
+		} else if (operationRemove.equals(operation)) {
+			List<String> ids = MutationLog.getStrings(record.get("ids"));
+			if (ids == null)
+				return new ArrayList<>();
+
+			final Set<String> removeIds = new HashSet<>(ids);
+			sets.removeIf(set -> removeIds.contains(set.getId()));
+
+			return sets;
+		} else
+			throw new IOException("unknown set mutation '" + operation + "'");
+	}
+
+	/**
+	 * Returns a new set mutation record to remove the sets.
+	 * 
+	 * @param ids The ids of the sets to remove. If null, remove all sets.
+	 * @return The set mutation record.
+	 * @since 17
+	 */
+	private static ObjectNode createRemoveRecord(java.util.Collection<String> ids) {
+		ObjectNode record = MutationLog.createRecord(operationRemove);
+		if (ids != null)
+			record.set("ids", MutationLog.createArray(ids));
+
+		return record;
 	}
 
 	/**
@@ -654,22 +806,21 @@ public class CollectionService extends CoreService {
 	public List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sortSets(Collection collection,
 			List<String> order, boolean isAfter) throws IOException {
 		if (collection != null && collection.getRight().isWriteFulfilled()) {
+			ObjectNode record = MutationLog.createRecord(operationSort).put("after", isAfter);
+			if (order != null)
+				record.set("order", MutationLog.createArray(order));
 
-			List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> folios = sort(getSets(collection), order,
-					isAfter);
-
-			persist(collection, folios);
-
-			return folios;
+			return getSetLog(collection).mutate(record);
 		} else
 			return null;
 
 	}
 
 	/**
-	 * Update the sets metadata.
+	 * Update the sets metadata. The sets can be shared by the entity cache, thus,
+	 * the updated sets are replaced by modified copies in the list.
 	 * 
-	 * @param sets     The sets.
+	 * @param sets     The sets. The list is modified.
 	 * @param metadata The metadata of the sets to update.
 	 * @return The sets.
 	 * @since 1.8
@@ -681,16 +832,20 @@ public class CollectionService extends CoreService {
 			return sets;
 
 		// index the sets
-		Hashtable<String, de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> indexed = new Hashtable<>();
-		for (de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set set : sets)
-			indexed.put(set.getId(), set);
+		Hashtable<String, Integer> indexed = new Hashtable<>();
+		for (int index = 0; index < sets.size(); index++)
+			indexed.put(sets.get(index).getId(), index);
 
 		// update metadata
 		for (Metadata update : metadata)
 			if (update != null && update.getId() != null && !update.getId().isBlank()) {
-				de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set set = indexed.get(update.getId().trim());
+				Integer index = indexed.get(update.getId().trim());
+
+				if (index != null) {
+					de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set set = EntityCache.copy(sets.get(index),
+							de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set.class);
+					sets.set(index, set);
 
-				if (set != null) {
 					if (update.getName() != null && !update.getName().isBlank())
 						set.setName(update.getName().trim());
 
@@ -723,12 +878,19 @@ public class CollectionService extends CoreService {
 	public List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> updateSets(Collection collection,
 			java.util.Collection<Metadata> metadata) throws IOException {
 		if (collection != null && collection.getRight().isWriteFulfilled()) {
-			List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets = update(getSets(collection),
-					metadata);
+			ObjectNode record = MutationLog.createRecord(operationUpdate);
 
-			persist(collection, sets);
+			ArrayNode nodes = record.putArray("metadata");
+			if (metadata != null)
+				for (Metadata update : metadata)
+					if (update != null) {
+						ObjectNode node = nodes.addObject().put("id", update.getId()).put("name", update.getName());
 
-			return sets;
+						if (update.getKeywords() != null)
+							node.set("keywords", MutationLog.createArray(update.getKeywords()));
+					}
+
+			return getSetLog(collection).mutate(record);
 		} else
 			return null;
 	}
@@ -747,7 +909,7 @@ public class CollectionService extends CoreService {
 	public List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> removeSets(Collection collection,
 			java.util.Collection<String> ids) throws IOException {
 		if (collection != null && collection.getRight().isWriteFulfilled()) {
-			final List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets = new ArrayList<>();
+			final Set<String> removeIds = new HashSet<>();
 
 			final Path folder = collection.getConfiguration().getFolder();
 
@@ -756,8 +918,6 @@ public class CollectionService extends CoreService {
 				OCR4allUtils.delete(OCR4allUtils.getFiles(folder, null, null));
 			} else {
 				// Clear desired sets and the respective derivatives
-				final Set<String> removeIds = new HashSet<>();
-
 				for (String id : ids)
 					if (id != null && !id.isBlank())
 						removeIds.add(id.trim());
@@ -769,13 +929,9 @@ public class CollectionService extends CoreService {
 						} catch (Exception e) {
 							// Ignore troubles removing files
 						}
-					else
-						sets.add(set);
 			}
 
-			persist(collection, sets);
-
-			return sets;
+			return getSetLog(collection).mutate(createRemoveRecord(ids == null ? null : removeIds));
 		} else
 			return null;
 	}
@@ -808,15 +964,7 @@ public class CollectionService extends CoreService {
 					return getSets(collection);
 				else {
 					// The set is empty
-					List<de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set> sets = new ArrayList<>();
-
-					for (de.uniwuerzburg.zpd.ocr4all.application.persistence.data.Set bundle : getSets(collection))
-						if (!set.getId().equals(bundle.getId()))
-							sets.add(bundle);
-
-					persist(collection, sets);
-
-					return sets;
+					return getSetLog(collection).mutate(createRemoveRecord(List.of(set.getId())));
 				}
 			}
 		}
@@ -12,7 +12,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -26,6 +25,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationS
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.exchange.PartitionConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.exchange.PartitionConfiguration.Configuration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRW;
 
@@ -53,6 +53,11 @@ public class PartitionService extends CoreService {
 	 */
 	protected final Path folder;
 
+	/**
+	 * The catalog of the partitions.
+	 */
+	private final Catalog<PartitionConfiguration> catalog;
+
 	/**
 	 * Creates a partition service.
 	 * 
@@ -69,6 +74,8 @@ public class PartitionService extends CoreService {
 		this.exchangeService = exchangeService;
 
 		folder = configurationService.getExchange().getFolder().normalize();
+
+		catalog = new Catalog<>(PartitionService::describe, this::scan);
 	}
 
 	/**
@@ -163,8 +170,12 @@ public class PartitionService extends CoreService {
 				return null;
 			}
 
-			return getPartition(new PartitionConfiguration(configurationService.getExchange().getPartition(), folder,
-					new Configuration.CoreData(user, name, description, keywords)));
+			PartitionConfiguration configuration = new PartitionConfiguration(
+					configurationService.getExchange().getPartition(), folder,
+					new Configuration.CoreData(user, name, description, keywords));
+			catalog.register(configuration);
+
+			return getPartition(configuration);
 		} else
 			return null;
 	}
@@ -183,28 +194,80 @@ public class PartitionService extends CoreService {
 	}
 
 	/**
-	 * Returns the partitions sorted by name.
+	 * Returns the partition configurations of the folder.
 	 * 
-	 * @return The partitions.
+	 * @return The partition configurations.
 	 * @since 17
 	 */
-	public List<Partition> getPartitions() {
-		List<Partition> partitions = new ArrayList<>();
+	private List<PartitionConfiguration> scan() {
+		List<PartitionConfiguration> configurations = new ArrayList<>();
 
-		try {
-			Files.list(PartitionService.this.folder).filter(Files::isDirectory).forEach(path -> {
+		try (Stream<Path> stream = Files.list(PartitionService.this.folder)) {
+			stream.filter(Files::isDirectory).forEach(path -> {
 				// Ignore directories beginning with a dot
 				if (!path.getFileName().toString().startsWith("."))
-					partitions.add(getPartition(path));
+					configurations.add(
+							new PartitionConfiguration(configurationService.getExchange().getPartition(), path));
 			});
 		} catch (IOException e) {
 			logger.warn("Cannot not load partitions - " + e.getMessage());
 		}
 
-		Collections.sort(partitions, (p1, p2) -> p1.getConfiguration().getConfiguration().getName()
-				.compareToIgnoreCase(p2.getConfiguration().getConfiguration().getName()));
+		logger.info("Catalogued " + configurations.size() + " partitions.");
+
+		return configurations;
+	}
+
+	/**
+	 * Returns the catalog descriptor of the partition configuration.
+	 * 
+	 * @param configuration The partition configuration.
+	 * @return The catalog descriptor.
+	 * @since 17
+	 */
+	private static Catalog.Descriptor describe(PartitionConfiguration configuration) {
+		Configuration.Information information = configuration.getConfiguration().getInformation();
+
+		return new Catalog.Descriptor(configuration.getId(), configuration.getConfiguration().getName(),
+				information == null ? null : information.getKeywords(), configuration.getConfiguration().getUser(),
+				configuration.getConfiguration().getUpdated());
+	}
+
+	/**
+	 * Returns the partitions sorted by name.
+	 * 
+	 * @return The partitions.
+	 * @since 17
+	 */
+	public List<Partition> getPartitions() {
+		return getPartitions(null, null, 0, 0).getEntities();
+	}
+
+	/**
+	 * Returns the partitions from the catalog.
+	 * 
+	 * @param sort   The sort order, this means, name or updated. A leading minus
+	 *               sign selects the descending order. If null, sorts by name.
+	 * @param search The search. If it starts with "keyword:" or "owner:", the
+	 *               partitions with the keyword or owner are selected. Otherwise,
+	 *               the partitions whose name contains the search or that have it
+	 *               as keyword or owner, ignoring case. If null or blank, all
+	 *               partitions are selected.
+	 * @param offset The number of selected partitions to skip.
+	 * @param limit  The maximal number of partitions to return. All selected
+	 *               partitions if not positive.
+	 * @return The page with the partitions.
+	 * @since 17
+	 */
+	public Catalog.Page<Partition> getPartitions(String sort, String search, int offset, int limit) {
+		Catalog.Page<PartitionConfiguration> page = catalog.getEntities(Catalog.Sort.getSort(sort),
+				Catalog.Sort.isDescending(sort), search, offset, limit);
+
+		List<Partition> partitions = new ArrayList<>();
+		for (PartitionConfiguration configuration : page.getEntities())
+			partitions.add(getPartition(configuration));
 
-		return partitions;
+		return new Catalog.Page<>(partitions, page.getTotal());
 	}
 
 	/**
@@ -225,6 +288,8 @@ public class PartitionService extends CoreService {
 					if (!Files.exists(path)) {
 						logger.info("Removed partition '" + path.toString() + "'.");
 
+						catalog.remove(path.getFileName().toString());
+
 						return true;
 					} else
 						logger.warn("Troubles removing the partition '" + path.toString() + "'.");
@@ -257,8 +322,11 @@ public class PartitionService extends CoreService {
 				Partition partition = getPartition(path);
 
 				if (partition.getConfiguration().getConfiguration().update(securityService.getUser(),
-						new PartitionConfiguration.Configuration.Information(name, description, keywords)))
+						new PartitionConfiguration.Configuration.Information(name, description, keywords))) {
+					catalog.register(partition.getConfiguration());
+
 					return partition;
+				}
 			}
 		}
 
@@ -280,8 +348,11 @@ public class PartitionService extends CoreService {
 			if (path != null) {
 				Partition partition = getPartition(path);
 
-				if (partition.getConfiguration().getConfiguration().update(securityService.getUser(), security))
+				if (partition.getConfiguration().getConfiguration().update(securityService.getUser(), security)) {
+					catalog.register(partition.getConfiguration());
+
 					return partition;
+				}
 			}
 		}
 
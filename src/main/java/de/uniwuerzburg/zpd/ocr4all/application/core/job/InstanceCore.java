@@ -231,17 +231,25 @@ public abstract class InstanceCore<T extends de.uniwuerzburg.zpd.ocr4all.applica
 	protected abstract void executeCallback();
 
 	/**
-	 * Executes the process instance if it is in scheduled state.
+	 * Executes the process instance if it is in scheduled state. The execution
+	 * time is recorded per service provider.
 	 * 
+	 * @param metrics The metrics to record the execution time. Null if the
+	 *                execution time is not recorded.
 	 * @return The state of the instance.
 	 * @since 1.8
 	 */
-	public State execute() {
+	State execute(JobMetrics metrics) {
 		if (isInitialized()) {
 			setState(State.running);
 			setStart();
 
+			final long begin = System.nanoTime();
+
 			executeCallback();
+
+			if (metrics != null)
+				metrics.executed(serviceProvider.getClass().getName(), state, System.nanoTime() - begin);
 		}
 
 		return state;
@@ -264,10 +272,40 @@ public abstract class InstanceCore<T extends de.uniwuerzburg.zpd.ocr4all.applica
 	 * @since 1.8
 	 */
 	public State cancel() {
+		return stop(State.canceled, null);
+	}
+
+	/**
+	 * Interrupts the process instance in a new thread if it is not done, e.g. if
+	 * the watchdog detects a timeout or a stall. The note is added to the journal
+	 * step.
+	 * 
+	 * @param note The note.
+	 * @return The state of the instance. It is interrupted if the instance was not
+	 *         done. Otherwise, the state of the done instance is returned.
+	 * @since 17
+	 */
+	public State interrupt(String note) {
+		return stop(State.interrupted, note);
+	}
+
+	/**
+	 * Stops the process instance in a new thread if it is not done.
+	 * 
+	 * @param stopState The state of the stopped instance.
+	 * @param note      The note for the journal step. Null if no note is
+	 *                  required.
+	 * @return The state of the instance.
+	 * @since 17
+	 */
+	private State stop(State stopState, String note) {
 		if (isInitialized() || isRunning()) {
 			final boolean isRunning = State.running.equals(state);
 
-			setState(State.canceled);
+			if (note != null && journal != null)
+				journal.addNote(note);
+
+			setState(stopState);
 			setEnd();
 
 			ProcessorCore processor = cancelCallback();
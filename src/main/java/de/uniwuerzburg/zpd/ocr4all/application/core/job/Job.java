@@ -9,13 +9,16 @@ package de.uniwuerzburg.zpd.ocr4all.application.core.job;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ApplicationConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 
 /**
@@ -159,29 +162,53 @@ public abstract class Job {
 	private final Processing processing;
 
 	/**
-	 * The state. The initial state is initialized.
+	 * The state. The initial state is initialized. It is read by the scheduler and
+	 * written by the executing thread.
 	 */
-	private State state = State.initialized;
+	private volatile State state = State.initialized;
 
 	/**
 	 * The journal.
 	 */
 	private final Journal journal;
 
+	/**
+	 * The observer that is notified on state transitions, progress and log
+	 * updates. Null if not set.
+	 */
+	private volatile Observer observer = null;
+
 	/**
 	 * The created time.
 	 */
 	private final Date created = new Date();
 
+	/**
+	 * The scheduled time.
+	 */
+	private Date scheduled = null;
+
 	/**
 	 * The start time.
 	 */
-	private Date start = null;
+	private volatile Date start = null;
 
 	/**
 	 * The end time.
 	 */
-	private Date end = null;
+	private volatile Date end = null;
+
+	/**
+	 * True if the job was interrupted and it is waiting for the execution thread
+	 * to return.
+	 */
+	private volatile boolean isInterruptPending = false;
+
+	/**
+	 * The metrics of the scheduler. Null if the job was not started by the
+	 * scheduler.
+	 */
+	private volatile JobMetrics metrics = null;
 
 	/**
 	 * Creates a job
@@ -245,6 +272,19 @@ public abstract class Job {
 		return null;
 	}
 
+	/**
+	 * Returns the ids of the service providers that the job executes. The
+	 * scheduler admits the job against the resource budget with the costs declared
+	 * for them. Extending classes can overwrite this method.
+	 *
+	 * @return The service provider ids. Empty if the job does not execute service
+	 *         providers.
+	 * @since 17
+	 */
+	public Set<String> getServiceProviders() {
+		return new HashSet<>();
+	}
+
 	/**
 	 * Returns true if execute or special right is available.
 	 *
@@ -282,6 +322,43 @@ public abstract class Job {
 	 */
 	public abstract Set<Job> depend(Collection<Job> jobs);
 
+	/**
+	 * Returns the resource that the job locks while it is running. The scheduler
+	 * does not start jobs with the same resource at the same time, this means, a
+	 * job depends on the running jobs with the same resource. Extending classes
+	 * can overwrite this method to lock a resource.
+	 *
+	 * @return The resource. Null if the job does not lock a resource.
+	 * @since 17
+	 */
+	public String getResource() {
+		return null;
+	}
+
+	/**
+	 * Returns the user the job is running for. The scheduler uses it to share the
+	 * thread pools fairly between the users. Extending classes can overwrite this
+	 * method to set the user.
+	 *
+	 * @return The user. Null if not defined.
+	 * @since 17
+	 */
+	public String getUser() {
+		return null;
+	}
+
+	/**
+	 * Returns the id of the project the job is running on. The scheduler uses it to
+	 * share the thread pools fairly between the projects. Extending classes can
+	 * overwrite this method to set the project id.
+	 *
+	 * @return The project id. Null if not defined.
+	 * @since 17
+	 */
+	public String getProjectId() {
+		return null;
+	}
+
 	/**
 	 * Executes the job if it is in scheduled state.
 	 *
@@ -353,17 +430,24 @@ public abstract class Job {
 	 * Schedules the job if it is not under the control of the scheduler and the
 	 * given id is greater than 0.
 	 *
-	 * @param id The job id.
+	 * @param id       The job id.
+	 * @param observer The observer that is notified on state transitions, progress
+	 *                 and log updates. Null if no observer is required.
 	 * @return True if the job was scheduled.
 	 * @since 1.8
 	 */
-	boolean schedule(int id) {
+	boolean schedule(int id, Observer observer) {
 		if (!isSchedulerControl() && id > 0) {
+			this.observer = observer;
+
 			state = State.scheduled;
+			scheduled = new Date();
 			this.id = id;
 
 			logger.info("scheduled job ID " + getId() + ".");
 
+			changed();
+
 			return true;
 		} else
 			return false;
@@ -427,6 +511,16 @@ public abstract class Job {
 		return created;
 	}
 
+	/**
+	 * Returns the scheduled time. Null if not scheduled.
+	 *
+	 * @return The scheduled time.
+	 * @since 17
+	 */
+	public Date getScheduled() {
+		return scheduled;
+	}
+
 	/**
 	 * Returns the start time. Null if not started.
 	 *
@@ -448,7 +542,33 @@ public abstract class Job {
 	}
 
 	/**
-	 * Starts the job in a new thread if it is in scheduled state.
+	 * Returns the metrics of the scheduler.
+	 *
+	 * @return The metrics of the scheduler. Null if the job was not started by the
+	 *         scheduler.
+	 * @since 17
+	 */
+	JobMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Set the metrics of the scheduler to record the execution times of the
+	 * service provider instances.
+	 *
+	 * @param metrics The metrics to set.
+	 * @since 17
+	 */
+	void setMetrics(JobMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Starts the job in a new thread if it is in scheduled state. The thread can be
+	 * a platform or a virtual thread. The job is not executed while holding the
+	 * monitor of the job, only the state transitions are synchronized with
+	 * cancellations. Thus, blocking executions do not pin the carrier of a virtual
+	 * thread.
 	 *
 	 * @param taskExecutor The task executor.
 	 * @param callback     The callback method when the job finishes. If null, no
@@ -456,28 +576,39 @@ public abstract class Job {
 	 * @return The job state.
 	 * @since 1.8
 	 */
-	synchronized State start(ThreadPoolTaskExecutor taskExecutor, Callback callback) {
+	synchronized State start(TaskExecutor taskExecutor, Callback callback) {
 		if (isStateScheduled())
 			taskExecutor.execute(() -> {
-				if (isStateScheduled()) {
+				synchronized (Job.this) {
+					if (!isStateScheduled())
+						return;
+
 					state = State.running;
 					start = new Date();
+				}
 
-					logger.info("start execution of job ID " + getId() + ".");
+				logger.info("start execution of job ID " + getId() + ".");
 
-					State executionState = execute();
+				changed();
 
-					if (!State.canceled.equals(state)) {
-						state = State.completed.equals(executionState) ? State.completed : State.interrupted;
+				State executionState = execute();
+
+				synchronized (Job.this) {
+					// the job may have been canceled or interrupted by the watchdog
+					if (State.running.equals(state)) {
+						state = !isInterruptPending && State.completed.equals(executionState) ? State.completed
+								: State.interrupted;
 
 						end = new Date();
 					}
+				}
 
-					if (callback != null)
-						callback.done(Job.this);
+				changed();
 
-					logger.info("end execution of the job ID " + getId() + " with state '" + state.name() + "'.");
-				}
+				if (callback != null)
+					callback.done(Job.this);
+
+				logger.info("end execution of the job ID " + getId() + " with state '" + state.name() + "'.");
 			});
 
 		return state;
@@ -499,6 +630,8 @@ public abstract class Job {
 
 			logger.info("canceled job ID " + getId() + ".");
 
+			changed();
+
 			if (isRunning)
 				new Thread(new Runnable() {
 					/*
@@ -516,6 +649,113 @@ public abstract class Job {
 		return state;
 	}
 
+	/**
+	 * Interrupts the job in a new thread if it is running, e.g. if the watchdog
+	 * detects a timeout. The note is added to the running journal step. The job
+	 * stays in running state until its execution thread returns, thus, the
+	 * scheduler releases its resource and pool slot only when the thread is free.
+	 * Afterwards, the state is set to interrupted.
+	 *
+	 * @param note The note.
+	 * @return True if the job was interrupted. False if it is not running or an
+	 *         interrupt is already pending.
+	 * @since 17
+	 */
+	synchronized boolean interrupt(String note) {
+		if (!isStateRunning() || isInterruptPending)
+			return false;
+
+		isInterruptPending = true;
+
+		Journal.Step step = journal.getStep();
+		if (step != null)
+			step.addNote(note);
+
+		logger.warn("interrupting job ID " + getId() + " - " + note);
+
+		changed();
+
+		new Thread(new Runnable() {
+			/*
+			 * (non-Javadoc)
+			 *
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				kill();
+			}
+		}).start();
+
+		return true;
+	}
+
+	/**
+	 * Returns true if the job was interrupted and it is waiting for the execution
+	 * thread to return.
+	 *
+	 * @return True if an interrupt is pending.
+	 * @since 17
+	 */
+	boolean isInterruptPending() {
+		return isInterruptPending;
+	}
+
+	/**
+	 * Returns the current service provider instances. The watchdog inspects the
+	 * running ones for timeouts and stalls. Extending classes can overwrite this
+	 * method to return their instances.
+	 *
+	 * @return The current service provider instances.
+	 * @since 17
+	 */
+	Collection<InstanceCore<?>> getInstances() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Set the observer that is notified on state transitions, progress and log
+	 * updates.
+	 *
+	 * @param observer The observer to set. Null if no observer is required.
+	 * @since 17
+	 */
+	void setObserver(Observer observer) {
+		this.observer = observer;
+	}
+
+	/**
+	 * Notifies the observer that the job has changed.
+	 *
+	 * @since 17
+	 */
+	private void changed() {
+		Observer observer = this.observer;
+
+		if (observer != null)
+			observer.changed(this);
+	}
+
+	/**
+	 * Defines observers for job changes.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Observer {
+		/**
+		 * Callback method when the state, the progress or the logs of the job changed.
+		 * The method is called in the thread that performed the change, thus, it
+		 * should return immediately.
+		 *
+		 * @param job The changed job.
+		 * @since 17
+		 */
+		public void changed(Job job);
+	}
+
 	/**
 	 * Defines callback.
 	 *
@@ -639,6 +879,31 @@ public abstract class Job {
 				step.complete();
 		}
 
+		/**
+		 * Returns the number of buffered log bytes of the steps.
+		 *
+		 * @return The number of buffered log bytes of the steps.
+		 * @since 17
+		 */
+		public long getLogBytes() {
+			long bytes = 0;
+
+			for (Step step : steps)
+				bytes += step.getStandardOutputLog().getBytes() + step.getStandardErrorLog().getBytes();
+
+			return bytes;
+		}
+
+		/**
+		 * Releases the spill files of the step logs.
+		 *
+		 * @since 17
+		 */
+		void release() {
+			for (Step step : steps)
+				step.release();
+		}
+
 		/**
 		 * Returns the size, this means, the number of steps.
 		 *
@@ -670,6 +935,17 @@ public abstract class Job {
 			return isIndexSet() ? steps.get(index) : null;
 		}
 
+		/**
+		 * Returns the step with given index.
+		 *
+		 * @param index The index. The first index is 0.
+		 * @return The step. Null if the index is out of range.
+		 * @since 17
+		 */
+		Step getStep(int index) {
+			return 0 <= index && index < steps.size() ? steps.get(index) : null;
+		}
+
 		/**
 		 * Returns true if the index of the running step is set.
 		 *
@@ -700,7 +976,7 @@ public abstract class Job {
 		 *              then resets the index of the running step.
 		 * @since 1.8
 		 */
-		void setIndex(int index) {
+		synchronized void setIndex(int index) {
 			if (steps.size() > 1) {
 				if (0 <= index && index < steps.size())
 					this.index = index;
@@ -715,7 +991,7 @@ public abstract class Job {
 		 *
 		 * @since 1.8
 		 */
-		void nextIndex() {
+		synchronized void nextIndex() {
 			if (steps.size() > 1) {
 				if (index < 0)
 					index = 0;
@@ -769,14 +1045,14 @@ public abstract class Job {
 			private float progress;
 
 			/**
-			 * The standard output message. Null if not set.
+			 * The standard output log.
 			 */
-			private String standardOutput;
+			private final JobLog standardOutput;
 
 			/**
-			 * The standard error message. Null if not set.
+			 * The standard error log.
 			 */
-			private String standardError;
+			private final JobLog standardError;
 
 			/**
 			 * The note.
@@ -799,9 +1075,29 @@ public abstract class Job {
 
 				this.index = index;
 
+				standardOutput = createLog();
+				standardError = createLog();
+
 				initialize();
 			}
 
+			/**
+			 * Creates a log for the standard output or error.
+			 *
+			 * @return The log.
+			 * @since 17
+			 */
+			private JobLog createLog() {
+				if (configurationService == null)
+					return new JobLog(Integer.MAX_VALUE, Long.MAX_VALUE, null);
+
+				ApplicationConfiguration.JobLogProperties properties = configurationService.getApplication()
+						.getJobLogProperties();
+
+				return new JobLog(properties.getLines(), properties.getBytes(),
+						properties.isSpill() ? configurationService.getTemporary() : null);
+			}
+
 			/**
 			 * Returns the index. The first index is 0.
 			 *
@@ -845,6 +1141,8 @@ public abstract class Job {
 					this.progress = 0;
 				else
 					this.progress = progress;
+
+				changed();
 			}
 
 			/**
@@ -863,27 +1161,54 @@ public abstract class Job {
 			 * @since 1.8
 			 */
 			public boolean isStandardOutputSet() {
-				return standardOutput != null;
+				return standardOutput.isSet();
 			}
 
 			/**
-			 * Returns the standard output message. Null if not set.
+			 * Returns the standard output message. Null if not set. If the log exceeded
+			 * its limits, only the latest lines are returned.
 			 *
 			 * @return The standard output message.
 			 * @since 1.8
 			 */
 			public String getStandardOutput() {
+				return standardOutput.getText();
+			}
+
+			/**
+			 * Returns the standard output log.
+			 *
+			 * @return The standard output log.
+			 * @since 17
+			 */
+			public JobLog getStandardOutputLog() {
 				return standardOutput;
 			}
 
 			/**
-			 * Set the standard output message.
+			 * Set the standard output message. If the message continues the previous set
+			 * message, this means, it is the cumulative output of a service provider, only
+			 * the new part is appended to the log.
 			 *
 			 * @param message The message to set.
 			 * @since 1.8
 			 */
 			public void setStandardOutput(String message) {
-				standardOutput = message;
+				standardOutput.update(message);
+
+				changed();
+			}
+
+			/**
+			 * Appends the message to the standard output.
+			 *
+			 * @param message The message to append.
+			 * @since 17
+			 */
+			public void appendStandardOutput(String message) {
+				standardOutput.append(message);
+
+				changed();
 			}
 
 			/**
@@ -892,7 +1217,7 @@ public abstract class Job {
 			 * @since 1.8
 			 */
 			public void resetStandardOutput() {
-				standardOutput = null;
+				standardOutput.reset();
 			}
 
 			/**
@@ -902,27 +1227,54 @@ public abstract class Job {
 			 * @since 1.8
 			 */
 			public boolean isStandardErrorSet() {
-				return standardError != null;
+				return standardError.isSet();
 			}
 
 			/**
-			 * Returns the standard error message. Null if not set.
+			 * Returns the standard error message. Null if not set. If the log exceeded its
+			 * limits, only the latest lines are returned.
 			 *
 			 * @return The standard error.
 			 * @since 1.8
 			 */
 			public String getStandardError() {
+				return standardError.getText();
+			}
+
+			/**
+			 * Returns the standard error log.
+			 *
+			 * @return The standard error log.
+			 * @since 17
+			 */
+			public JobLog getStandardErrorLog() {
 				return standardError;
 			}
 
 			/**
-			 * Set the standard error message.
+			 * Set the standard error message. If the message continues the previous set
+			 * message, this means, it is the cumulative output of a service provider, only
+			 * the new part is appended to the log.
 			 *
 			 * @param message The message to set.
 			 * @since 1.8
 			 */
 			public void setStandardError(String message) {
-				standardError = message;
+				standardError.update(message);
+
+				changed();
+			}
+
+			/**
+			 * Appends the message to the standard error.
+			 *
+			 * @param message The message to append.
+			 * @since 17
+			 */
+			public void appendStandardError(String message) {
+				standardError.append(message);
+
+				changed();
 			}
 
 			/**
@@ -931,7 +1283,7 @@ public abstract class Job {
 			 * @since 1.8
 			 */
 			public void resetStandardError() {
-				standardError = null;
+				standardError.reset();
 			}
 
 			/**
@@ -1050,6 +1402,16 @@ public abstract class Job {
 			void complete() {
 				setProgress(1);
 			}
+
+			/**
+			 * Releases the spill files of the logs.
+			 *
+			 * @since 17
+			 */
+			void release() {
+				standardOutput.release();
+				standardError.release();
+			}
 		}
 	}
 
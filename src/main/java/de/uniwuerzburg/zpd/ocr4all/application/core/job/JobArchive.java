@@ -0,0 +1,284 @@
+/**
+ * File:     JobArchive.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Defines archives for job records. The latest records are kept in memory. If
+ * the archive file is set, the records are appended to it as JSON lines. The
+ * file is rolled if it exceeds its maximal size. The archive is thread-safe,
+ * whereby the readers of the records do not wait for the file I/O.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class JobArchive {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JobArchive.class);
+
+	/**
+	 * The object mapper.
+	 */
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * The maximal number of records kept in memory.
+	 */
+	private final int maximalRecords;
+
+	/**
+	 * The archive file. Null if the records are not archived.
+	 */
+	private final Path file;
+
+	/**
+	 * The maximal size of the archive file in bytes before it is rolled.
+	 */
+	private final long size;
+
+	/**
+	 * The number of rolled archive files to keep.
+	 */
+	private final int backups;
+
+	/**
+	 * The records in eviction order.
+	 */
+	private final ArrayDeque<JobRecord> records = new ArrayDeque<>();
+
+	/**
+	 * Creates an archive for job records.
+	 *
+	 * @param maximalRecords The maximal number of records kept in memory.
+	 * @param file           The archive file. Null if the records are not
+	 *                       archived.
+	 * @param size           The maximal size of the archive file in bytes before
+	 *                       it is rolled.
+	 * @param backups        The number of rolled archive files to keep.
+	 * @since 17
+	 */
+	JobArchive(int maximalRecords, Path file, long size, int backups) {
+		super();
+
+		this.maximalRecords = maximalRecords;
+		this.file = file;
+		this.size = size;
+		this.backups = backups;
+	}
+
+	/**
+	 * Returns the rolled archive file with given index.
+	 *
+	 * @param index The index. The first index is 1.
+	 * @return The rolled archive file.
+	 * @since 17
+	 */
+	private Path getBackup(int index) {
+		return Paths.get(file.toString() + "." + index);
+	}
+
+	/**
+	 * Loads the latest records from the archive files.
+	 *
+	 * @return The largest job id of the archived records. 0 if no records are
+	 *         available.
+	 * @since 17
+	 */
+	int load() {
+		int id = 0;
+
+		if (file == null)
+			return id;
+
+		List<Path> files = new ArrayList<>();
+		for (int index = backups; index > 0; index--)
+			files.add(getBackup(index));
+		files.add(file);
+
+		for (Path path : files)
+			if (Files.isRegularFile(path))
+				try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					String line;
+					while ((line = reader.readLine()) != null)
+						if (!line.isBlank())
+							try {
+								JobRecord record = parse(objectMapper.readTree(line));
+
+								id = Math.max(id, record.getId());
+								add(record);
+							} catch (Exception e) {
+								logger.warn("ignored invalid job record in archive file '" + path + "'.");
+							}
+				} catch (IOException e) {
+					logger.warn("cannot read job archive file '" + path + "' - " + e.getMessage());
+				}
+
+		return id;
+	}
+
+	/**
+	 * Archives the record.
+	 *
+	 * @param record The record to archive.
+	 * @since 17
+	 */
+	void archive(JobRecord record) {
+		synchronized (records) {
+			add(record);
+		}
+
+		if (file != null)
+			synchronized (this) {
+				try {
+					if (Files.isRegularFile(file) && Files.size(file) > size)
+						roll();
+
+					Files.writeString(file, objectMapper.writeValueAsString(format(record)) + System.lineSeparator(),
+							StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+				} catch (IOException e) {
+					logger.warn("cannot archive job ID " + record.getId() + " - " + e.getMessage());
+				}
+			}
+	}
+
+	/**
+	 * Returns the records in eviction order.
+	 *
+	 * @return The records.
+	 * @since 17
+	 */
+	List<JobRecord> getRecords() {
+		synchronized (records) {
+			return new ArrayList<>(records);
+		}
+	}
+
+	/**
+	 * Adds the record to the records in memory and drops the oldest ones if the
+	 * maximal number of records is exceeded.
+	 *
+	 * @param record The record to add.
+	 * @since 17
+	 */
+	private void add(JobRecord record) {
+		records.addLast(record);
+
+		while (records.size() > maximalRecords)
+			records.removeFirst();
+	}
+
+	/**
+	 * Rolls the archive file, this means, the rolled files are shifted and the
+	 * oldest one is deleted.
+	 *
+	 * @throws IOException Throws if the files cannot be rolled.
+	 * @since 17
+	 */
+	private void roll() throws IOException {
+		if (backups == 0)
+			Files.delete(file);
+		else {
+			Files.deleteIfExists(getBackup(backups));
+
+			for (int index = backups - 1; index > 0; index--)
+				if (Files.exists(getBackup(index)))
+					Files.move(getBackup(index), getBackup(index + 1), StandardCopyOption.REPLACE_EXISTING);
+
+			Files.move(file, getBackup(1), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Formats the record as JSON object.
+	 *
+	 * @param record The record.
+	 * @return The JSON object.
+	 * @since 17
+	 */
+	private ObjectNode format(JobRecord record) {
+		ObjectNode node = objectMapper.createObjectNode();
+
+		node.put("id", record.getId());
+		node.put("type", record.getType());
+		node.put("description", record.getDescription());
+		node.put("user", record.getUser());
+		node.put("project", record.getProjectId());
+		node.put("model", record.getModelId());
+		node.put("state", record.getState() == null ? null : record.getState().name());
+		node.put("created", record.getCreated() == null ? null : record.getCreated().getTime());
+		node.put("start", record.getStart() == null ? null : record.getStart().getTime());
+		node.put("end", record.getEnd() == null ? null : record.getEnd().getTime());
+		node.put("note", record.getNote());
+
+		return node;
+	}
+
+	/**
+	 * Parses the record from the JSON object.
+	 *
+	 * @param node The JSON object.
+	 * @return The record.
+	 * @throws IllegalArgumentException Throws if the state is unknown.
+	 * @since 17
+	 */
+	private static JobRecord parse(JsonNode node) throws IllegalArgumentException {
+		String state = getText(node, "state");
+
+		return new JobRecord(node.path("id").asInt(), getText(node, "type"), getText(node, "description"),
+				getText(node, "user"), getText(node, "project"), getText(node, "model"),
+				state == null ? null : Job.State.valueOf(state), getDate(node, "created"), getDate(node, "start"),
+				getDate(node, "end"), getText(node, "note"));
+	}
+
+	/**
+	 * Returns the text of the field.
+	 *
+	 * @param node  The JSON object.
+	 * @param field The field name.
+	 * @return The text of the field. Null if not available.
+	 * @since 17
+	 */
+	private static String getText(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+
+		return value == null || value.isNull() ? null : value.asText();
+	}
+
+	/**
+	 * Returns the date of the field.
+	 *
+	 * @param node  The JSON object.
+	 * @param field The field name.
+	 * @return The date of the field. Null if not available.
+	 * @since 17
+	 */
+	private static Date getDate(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+
+		return value == null || value.isNull() ? null : new Date(value.asLong());
+	}
+}
@@ -0,0 +1,446 @@
+/**
+ * File:     JobEventService.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.annotation.ApplicationScope;
+
+import jakarta.annotation.PreDestroy;
+
+import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ApplicationConfiguration;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
+
+/**
+ * Defines job event services. They publish the changes of the jobs under
+ * control of the scheduler to the subscribers. The changes are coalesced per
+ * job and published periodically, thus, frequent progress and log updates of a
+ * job result in at most one event per interval. The publications are sent to
+ * every subscriber asynchronously, thus, a slow subscriber does not delay the
+ * others. A subscriber that does not accept a publication within the heartbeat
+ * interval or that is no longer active is dropped and its closer is called, thus,
+ * the client can reconnect.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+@Service
+@ApplicationScope
+public class JobEventService extends CoreService implements SchedulerService.EventListener {
+	/**
+	 * The thread name.
+	 */
+	private static final String threadName = "job-event";
+
+	/**
+	 * The changed jobs since the last publication. The value is true if the job
+	 * was removed.
+	 */
+	private final LinkedHashMap<Job, Boolean> changed = new LinkedHashMap<>();
+
+	/**
+	 * The subscriptions. The key is the subscription id.
+	 */
+	private final Hashtable<Integer, Subscription> subscriptions = new Hashtable<>();
+
+	/**
+	 * The last subscription id.
+	 */
+	private int id = 0;
+
+	/**
+	 * The heartbeat interval in milliseconds.
+	 */
+	private final long heartbeat;
+
+	/**
+	 * The executor that publishes the changed jobs periodically.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * The executor that sends the publications to the subscribers. Every
+	 * subscription has at most one publication in progress.
+	 */
+	private final ExecutorService sender;
+
+	/**
+	 * Creates a job event service.
+	 *
+	 * @param configurationService The configuration service.
+	 * @param schedulerService     The scheduler service.
+	 * @since 17
+	 */
+	public JobEventService(ConfigurationService configurationService, SchedulerService schedulerService) {
+		super(JobEventService.class, configurationService);
+
+		ApplicationConfiguration.JobEventProperties properties = configurationService.getApplication()
+				.getJobEventProperties();
+
+		heartbeat = properties.getHeartbeat();
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, threadName);
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		final AtomicInteger senders = new AtomicInteger();
+		sender = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, threadName + "-send-" + senders.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		executor.scheduleWithFixedDelay(() -> publish(), properties.getInterval(), properties.getInterval(),
+				TimeUnit.MILLISECONDS);
+
+		schedulerService.register(this);
+	}
+
+	/**
+	 * Shuts the executors down when the service is destroyed.
+	 *
+	 * @since 17
+	 */
+	@PreDestroy
+	private void destroy() {
+		executor.shutdownNow();
+		sender.shutdownNow();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService.
+	 * EventListener#updated(de.uniwuerzburg.zpd.ocr4all.application.core.job.Job)
+	 */
+	@Override
+	public void updated(Job job) {
+		if (!subscriptions.isEmpty())
+			synchronized (changed) {
+				changed.putIfAbsent(job, false);
+			}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService.
+	 * EventListener#removed(de.uniwuerzburg.zpd.ocr4all.application.core.job.Job)
+	 */
+	@Override
+	public void removed(Job job) {
+		if (!subscriptions.isEmpty())
+			synchronized (changed) {
+				changed.put(job, true);
+			}
+	}
+
+	/**
+	 * Subscribes to the job events.
+	 *
+	 * @param filter     The filter to select the jobs of the subscriber. If null,
+	 *                   all jobs are selected.
+	 * @param subscriber The subscriber.
+	 * @param closer     The closer that is called when the subscription is
+	 *                   dropped by the service. Null if not required.
+	 * @return The subscription id.
+	 * @since 17
+	 */
+	public synchronized int subscribe(Predicate<Job> filter, Subscriber subscriber, Runnable closer) {
+		subscriptions.put(++id, new Subscription(filter, subscriber, closer));
+
+		logger.info("subscribed job events with ID " + id + ", " + subscriptions.size() + " subscriptions.");
+
+		return id;
+	}
+
+	/**
+	 * Unsubscribes from the job events.
+	 *
+	 * @param id The subscription id.
+	 * @since 17
+	 */
+	public void unsubscribe(int id) {
+		if (subscriptions.remove(id) != null)
+			logger.info("unsubscribed job events with ID " + id + ", " + subscriptions.size() + " subscriptions.");
+	}
+
+	/**
+	 * Drops the subscription and calls its closer asynchronously, since closing
+	 * can block while a publication of the subscriber is still in progress.
+	 *
+	 * @param id The subscription id.
+	 * @since 17
+	 */
+	private void drop(int id) {
+		Subscription subscription = subscriptions.remove(id);
+		if (subscription == null)
+			return;
+
+		logger.info("dropped job events subscription ID " + id + ", " + subscriptions.size() + " subscriptions.");
+
+		if (subscription.closer != null)
+			try {
+				sender.execute(() -> close(id, subscription));
+			} catch (RejectedExecutionException e) {
+				// The service is shutting down
+				close(id, subscription);
+			}
+	}
+
+	/**
+	 * Calls the closer of the subscription.
+	 *
+	 * @param id           The subscription id.
+	 * @param subscription The subscription.
+	 * @since 17
+	 */
+	private void close(int id, Subscription subscription) {
+		try {
+			subscription.closer.run();
+		} catch (Exception e) {
+			logger.warn("cannot close job events subscription ID " + id + " - " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Publishes the changed jobs to the subscribers. Subscribers without events
+	 * receive an empty heartbeat publication after the heartbeat interval. If the
+	 * previous publication of a subscriber is still in progress, the events are
+	 * coalesced until it is done.
+	 *
+	 * @since 17
+	 */
+	private void publish() {
+		final List<Event> events = new ArrayList<>();
+		synchronized (changed) {
+			for (Job job : changed.keySet())
+				events.add(new Event(job, changed.get(job)));
+
+			changed.clear();
+		}
+
+		final long now = System.currentTimeMillis();
+		for (int id : new ArrayList<>(subscriptions.keySet())) {
+			Subscription subscription = subscriptions.get(id);
+			if (subscription == null)
+				continue;
+
+			final List<Event> selection;
+			synchronized (subscription) {
+				for (Event event : events)
+					if (subscription.filter == null || subscription.filter.test(event.getJob()))
+						subscription.pending.merge(event.getJob(), event,
+								(previous, current) -> previous.isRemoved() ? previous : current);
+
+				if (subscription.sending > 0) {
+					if (now - subscription.sending >= heartbeat) {
+						logger.warn("dropped subscription ID " + id + ", since it did not accept the job events within "
+								+ heartbeat + " ms.");
+
+						drop(id);
+					}
+
+					continue;
+				}
+
+				if (subscription.pending.isEmpty() && now - subscription.published < heartbeat)
+					continue;
+
+				selection = new ArrayList<>(subscription.pending.values());
+				subscription.pending.clear();
+				subscription.sending = now;
+			}
+
+			try {
+				sender.execute(() -> send(id, subscription, selection));
+			} catch (RejectedExecutionException e) {
+				// The service is shutting down
+				drop(id);
+			}
+		}
+	}
+
+	/**
+	 * Sends the events to the subscriber. If the subscriber is not active or
+	 * the events cannot be sent, it is dropped.
+	 *
+	 * @param id           The subscription id.
+	 * @param subscription The subscription.
+	 * @param events       The events. Empty for a heartbeat.
+	 * @since 17
+	 */
+	private void send(int id, Subscription subscription, List<Event> events) {
+		boolean isActive;
+		try {
+			isActive = subscription.subscriber.publish(events);
+		} catch (Exception e) {
+			logger.warn("cannot publish job events to subscription ID " + id + " - " + e.getMessage());
+
+			isActive = false;
+		}
+
+		synchronized (subscription) {
+			subscription.sending = 0;
+
+			if (isActive)
+				subscription.published = System.currentTimeMillis();
+		}
+
+		if (!isActive)
+			drop(id);
+	}
+
+	/**
+	 * Defines subscribers for job events.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Subscriber {
+		/**
+		 * Publishes the events.
+		 *
+		 * @param events The events of the selected jobs. Empty for a heartbeat.
+		 * @return True if the subscriber is active. Otherwise, it is dropped.
+		 * @since 17
+		 */
+		public boolean publish(List<Event> events);
+	}
+
+	/**
+	 * Defines job events.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Event {
+		/**
+		 * The job.
+		 */
+		private final Job job;
+
+		/**
+		 * True if the job was removed from the scheduler.
+		 */
+		private final boolean isRemoved;
+
+		/**
+		 * Creates a job event.
+		 *
+		 * @param job       The job.
+		 * @param isRemoved True if the job was removed from the scheduler.
+		 * @since 17
+		 */
+		private Event(Job job, boolean isRemoved) {
+			super();
+
+			this.job = job;
+			this.isRemoved = isRemoved;
+		}
+
+		/**
+		 * Returns the job.
+		 *
+		 * @return The job.
+		 * @since 17
+		 */
+		public Job getJob() {
+			return job;
+		}
+
+		/**
+		 * Returns true if the job was removed from the scheduler.
+		 *
+		 * @return True if the job was removed from the scheduler.
+		 * @since 17
+		 */
+		public boolean isRemoved() {
+			return isRemoved;
+		}
+	}
+
+	/**
+	 * Defines subscriptions.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Subscription {
+		/**
+		 * The filter to select the jobs. Null if all jobs are selected.
+		 */
+		private final Predicate<Job> filter;
+
+		/**
+		 * The subscriber.
+		 */
+		private final Subscriber subscriber;
+
+		/**
+		 * The closer that is called when the subscription is dropped. Null if not
+		 * required.
+		 */
+		private final Runnable closer;
+
+		/**
+		 * The time of the last publication in milliseconds.
+		 */
+		private long published = System.currentTimeMillis();
+
+		/**
+		 * The time in milliseconds when the publication in progress was started. 0
+		 * if no publication is in progress.
+		 */
+		private long sending = 0;
+
+		/**
+		 * The selected events that are not yet sent, coalesced per job.
+		 */
+		private final LinkedHashMap<Job, Event> pending = new LinkedHashMap<>();
+
+		/**
+		 * Creates a subscription.
+		 *
+		 * @param filter     The filter to select the jobs. Null if all jobs are
+		 *                   selected.
+		 * @param subscriber The subscriber.
+		 * @param closer     The closer that is called when the subscription is
+		 *                   dropped. Null if not required.
+		 * @since 17
+		 */
+		public Subscription(Predicate<Job> filter, Subscriber subscriber, Runnable closer) {
+			super();
+
+			this.filter = filter;
+			this.subscriber = subscriber;
+			this.closer = closer;
+		}
+	}
+}
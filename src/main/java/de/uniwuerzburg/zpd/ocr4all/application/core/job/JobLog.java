@@ -0,0 +1,569 @@
+/**
+ * File:     JobLog.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.TemporaryConfiguration;
+
+/**
+ * Defines bounded logs for the standard output and error of job steps. The log
+ * is a ring buffer of lines with an absolute line offset. If the maximal number
+ * of lines or bytes is exceeded, the oldest lines are dropped or, if a spill
+ * folder is available, written to a temporary file. This class is thread-safe.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class JobLog {
+	/**
+	 * The maximal length of the tail of the last updated message that is kept to
+	 * recognize cumulative updates.
+	 */
+	private static final int tailLength = 64;
+
+	/**
+	 * The maximal number of buffered lines.
+	 */
+	private final int maximumLines;
+
+	/**
+	 * The maximal number of buffered bytes.
+	 */
+	private final long maximumBytes;
+
+	/**
+	 * The temporary configuration to spill the dropped lines. Null if the dropped
+	 * lines are lost.
+	 */
+	private final TemporaryConfiguration spillFolder;
+
+	/**
+	 * True if the dropped lines are spilled. It is unset if the spill file could
+	 * not be written.
+	 */
+	private boolean isSpill;
+
+	/**
+	 * The buffered lines.
+	 */
+	private final ArrayDeque<String> lines = new ArrayDeque<>();
+
+	/**
+	 * The absolute offset of the first buffered line.
+	 */
+	private long offset = 0;
+
+	/**
+	 * The number of buffered bytes.
+	 */
+	private long bytes = 0;
+
+	/**
+	 * True if the last buffered line is not yet terminated.
+	 */
+	private boolean isOpen = false;
+
+	/**
+	 * True if the log is set.
+	 */
+	private boolean isSet = false;
+
+	/**
+	 * The spill file. Null if not created.
+	 */
+	private Path spillFile = null;
+
+	/**
+	 * The spill file writer. Null if not opened.
+	 */
+	private BufferedWriter spillWriter = null;
+
+	/**
+	 * The length of the last updated message. -1 if the last change was not an
+	 * update.
+	 */
+	private int updatedLength = -1;
+
+	/**
+	 * The tail of the last updated message.
+	 */
+	private String updatedTail = null;
+
+	/**
+	 * The text of the buffered lines. Null if it has to be rebuilt.
+	 */
+	private String text = null;
+
+	/**
+	 * Creates a job log.
+	 *
+	 * @param maximumLines The maximal number of buffered lines. If smaller than 1,
+	 *                     the buffer keeps 1 line.
+	 * @param maximumBytes The maximal number of buffered bytes. The last line is
+	 *                     always kept.
+	 * @param spillFolder  The temporary configuration to spill the dropped lines.
+	 *                     Null if the dropped lines are lost.
+	 * @since 17
+	 */
+	public JobLog(int maximumLines, long maximumBytes, TemporaryConfiguration spillFolder) {
+		super();
+
+		this.maximumLines = Math.max(1, maximumLines);
+		this.maximumBytes = maximumBytes;
+		this.spillFolder = spillFolder;
+
+		isSpill = spillFolder != null;
+	}
+
+	/**
+	 * Returns the number of bytes of the line in UTF-8 encoding.
+	 *
+	 * @param line The line.
+	 * @return The number of bytes of the line.
+	 * @since 17
+	 */
+	private static long getBytes(String line) {
+		long bytes = 0;
+
+		for (int index = 0; index < line.length(); index++) {
+			char character = line.charAt(index);
+
+			if (character < 0x80)
+				bytes++;
+			else if (character < 0x800)
+				bytes += 2;
+			else if (Character.isHighSurrogate(character)) {
+				bytes += 4;
+				index++;
+			} else
+				bytes += 3;
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Returns true if the log is set.
+	 *
+	 * @return True if the log is set.
+	 * @since 17
+	 */
+	public synchronized boolean isSet() {
+		return isSet;
+	}
+
+	/**
+	 * Returns the absolute offset of the first buffered line.
+	 *
+	 * @return The absolute offset of the first buffered line.
+	 * @since 17
+	 */
+	public synchronized long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the total number of lines, this means, the absolute offset after the
+	 * last line.
+	 *
+	 * @return The total number of lines.
+	 * @since 17
+	 */
+	public synchronized long getLength() {
+		return offset + lines.size();
+	}
+
+	/**
+	 * Returns the number of buffered bytes.
+	 *
+	 * @return The number of buffered bytes.
+	 * @since 17
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the text of the buffered lines. If lines were dropped, the text only
+	 * contains the latest lines.
+	 *
+	 * @return The text of the buffered lines. Null if the log is not set.
+	 * @since 17
+	 */
+	public synchronized String getText() {
+		if (!isSet)
+			return null;
+
+		if (text == null) {
+			StringBuilder buffer = new StringBuilder();
+
+			for (String line : lines)
+				buffer.append(line).append(System.lineSeparator());
+
+			if (isOpen && buffer.length() > 0)
+				buffer.setLength(buffer.length() - System.lineSeparator().length());
+
+			text = buffer.toString();
+		}
+
+		return text;
+	}
+
+	/**
+	 * Appends the message to the log. The message is split into lines. If the last
+	 * line is not yet terminated, the first line of the message continues it.
+	 *
+	 * @param message The message to append. Nothing is done if null.
+	 * @since 17
+	 */
+	public synchronized void append(String message) {
+		updatedLength = -1;
+		updatedTail = null;
+
+		add(message);
+	}
+
+	/**
+	 * Updates the log with the message. Service providers either report the
+	 * cumulative output or single messages. If the message continues the last
+	 * updated message, only the new part is appended. Otherwise, the log is
+	 * replaced by the message.
+	 *
+	 * @param message The message. If null, the log is reset.
+	 * @since 17
+	 */
+	public synchronized void update(String message) {
+		if (message == null) {
+			reset();
+
+			return;
+		}
+
+		if (updatedLength >= 0 && message.length() >= updatedLength
+				&& message.startsWith(updatedTail, updatedLength - updatedTail.length()))
+			add(message.substring(updatedLength));
+		else {
+			clear();
+
+			add(message);
+		}
+
+		updatedLength = message.length();
+		updatedTail = message.substring(Math.max(0, message.length() - tailLength));
+	}
+
+	/**
+	 * Resets the log and deletes its spill file.
+	 *
+	 * @since 17
+	 */
+	public synchronized void reset() {
+		clear();
+
+		isSet = false;
+	}
+
+	/**
+	 * Releases the spill file. The buffered lines are retained, however, the
+	 * dropped lines are no longer available.
+	 *
+	 * @since 17
+	 */
+	public synchronized void release() {
+		deleteSpill();
+
+		isSpill = false;
+	}
+
+	/**
+	 * Clears the buffered lines and deletes the spill file.
+	 *
+	 * @since 17
+	 */
+	private void clear() {
+		lines.clear();
+		offset = 0;
+		bytes = 0;
+		isOpen = false;
+
+		updatedLength = -1;
+		updatedTail = null;
+		text = null;
+
+		deleteSpill();
+
+		isSpill = spillFolder != null;
+	}
+
+	/**
+	 * Closes and deletes the spill file.
+	 *
+	 * @since 17
+	 */
+	private void deleteSpill() {
+		closeSpill();
+
+		if (spillFile != null) {
+			try {
+				Files.deleteIfExists(spillFile);
+			} catch (IOException e) {
+				// Nothing to do
+			}
+
+			spillFile = null;
+		}
+	}
+
+	/**
+	 * Adds the message to the buffer and drops the oldest lines if the limits are
+	 * exceeded.
+	 *
+	 * @param message The message to add. Nothing is done if null.
+	 * @since 17
+	 */
+	private void add(String message) {
+		if (message == null)
+			return;
+
+		isSet = true;
+		text = null;
+
+		int begin = 0;
+		while (begin < message.length()) {
+			int end = message.indexOf('\n', begin);
+			boolean isTerminated = end >= 0;
+			if (!isTerminated)
+				end = message.length();
+
+			String line = message.substring(begin, end > begin && message.charAt(end - 1) == '\r' ? end - 1 : end);
+
+			if (isOpen) {
+				String last = lines.pollLast();
+				bytes -= getBytes(last);
+
+				line = last + line;
+			}
+
+			lines.addLast(line);
+			bytes += getBytes(line);
+			isOpen = !isTerminated;
+
+			begin = end + 1;
+		}
+
+		while (lines.size() > 1 && (lines.size() > maximumLines || bytes > maximumBytes)) {
+			String line = lines.pollFirst();
+			bytes -= getBytes(line);
+			offset++;
+
+			spill(line);
+		}
+	}
+
+	/**
+	 * Writes the dropped line to the spill file if a spill folder is available.
+	 *
+	 * @param line The dropped line.
+	 * @since 17
+	 */
+	private void spill(String line) {
+		if (!isSpill)
+			return;
+
+		try {
+			if (spillWriter == null) {
+				if (spillFile == null)
+					spillFile = spillFolder.getTemporaryFile(".log");
+
+				spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+						StandardOpenOption.APPEND);
+			}
+
+			spillWriter.write(line);
+			spillWriter.write('\n');
+		} catch (IOException e) {
+			// the spilled lines are incomplete
+			deleteSpill();
+
+			isSpill = false;
+		}
+	}
+
+	/**
+	 * Closes the spill file writer.
+	 *
+	 * @since 17
+	 */
+	private void closeSpill() {
+		if (spillWriter != null) {
+			try {
+				spillWriter.close();
+			} catch (IOException e) {
+				// Nothing to do
+			}
+
+			spillWriter = null;
+		}
+	}
+
+	/**
+	 * Returns the lines starting at given offset. The last line is returned if it
+	 * is not yet terminated, however, it is not included in the next offset. Thus,
+	 * it is returned again with the following request.
+	 *
+	 * @param offset The absolute offset of the first requested line. Dropped lines
+	 *               that were not spilled are skipped.
+	 * @param limit  The maximal number of lines. If not positive, all available
+	 *               lines are returned.
+	 * @return The lines.
+	 * @since 17
+	 */
+	public synchronized Lines getLines(long offset, int limit) {
+		final long length = getLength();
+		final long spilled = spillFile == null ? 0 : this.offset;
+
+		long begin = Math.max(0, Math.min(offset, length));
+		if (begin < this.offset && begin >= spilled)
+			begin = this.offset;
+
+		long end = limit > 0 ? Math.min(length, begin + limit) : length;
+
+		List<String> result = new ArrayList<>();
+
+		if (begin < this.offset) {
+			long spillEnd = Math.min(end, this.offset);
+
+			try {
+				if (spillWriter != null)
+					spillWriter.flush();
+
+				try (Stream<String> stream = Files.lines(spillFile, StandardCharsets.UTF_8)) {
+					stream.skip(begin).limit(spillEnd - begin).forEach(result::add);
+				}
+			} catch (IOException | UncheckedIOException e) {
+				result.clear();
+
+				begin = this.offset;
+				end = limit > 0 ? Math.min(length, begin + limit) : length;
+			}
+		}
+
+		if (end > this.offset) {
+			long index = this.offset;
+			for (String line : lines) {
+				if (index >= end)
+					break;
+				if (index >= begin)
+					result.add(line);
+
+				index++;
+			}
+		}
+
+		return new Lines(begin, isOpen && end == length && end > begin ? end - 1 : end, length, result);
+	}
+
+	/**
+	 * Defines lines of job logs.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Lines {
+		/**
+		 * The absolute offset of the first line.
+		 */
+		private final long offset;
+
+		/**
+		 * The absolute offset to request the following lines.
+		 */
+		private final long next;
+
+		/**
+		 * The total number of lines of the log.
+		 */
+		private final long length;
+
+		/**
+		 * The lines.
+		 */
+		private final List<String> lines;
+
+		/**
+		 * Creates lines of a job log.
+		 *
+		 * @param offset The absolute offset of the first line.
+		 * @param next   The absolute offset to request the following lines.
+		 * @param length The total number of lines of the log.
+		 * @param lines  The lines.
+		 * @since 17
+		 */
+		private Lines(long offset, long next, long length, List<String> lines) {
+			super();
+
+			this.offset = offset;
+			this.next = next;
+			this.length = length;
+			this.lines = lines;
+		}
+
+		/**
+		 * Returns the absolute offset of the first line.
+		 *
+		 * @return The absolute offset of the first line.
+		 * @since 17
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Returns the absolute offset to request the following lines.
+		 *
+		 * @return The absolute offset to request the following lines.
+		 * @since 17
+		 */
+		public long getNext() {
+			return next;
+		}
+
+		/**
+		 * Returns the total number of lines of the log.
+		 *
+		 * @return The total number of lines of the log.
+		 * @since 17
+		 */
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Returns the lines.
+		 *
+		 * @return The lines.
+		 * @since 17
+		 */
+		public List<String> getLines() {
+			return lines;
+		}
+	}
+}
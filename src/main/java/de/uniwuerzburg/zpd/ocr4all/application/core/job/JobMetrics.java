@@ -0,0 +1,226 @@
+/**
+ * File:     JobMetrics.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Defines the metrics of the job system. The meters are exported by the
+ * actuator, e.g. to Prometheus. They are the basis to size the thread pools.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class JobMetrics {
+	/**
+	 * The prefix of the meter names.
+	 */
+	private static final String prefix = "ocr4all.job.";
+
+	/**
+	 * The tag for the job type, this means, the lower case simple class name of
+	 * the job.
+	 */
+	private static final String tagType = "type";
+
+	/**
+	 * The tag for the thread pool.
+	 */
+	private static final String tagPool = "pool";
+
+	/**
+	 * The tag for the service provider id.
+	 */
+	private static final String tagProvider = "provider";
+
+	/**
+	 * The tag for the state.
+	 */
+	private static final String tagState = "state";
+
+	/**
+	 * The tag for the rejection reason.
+	 */
+	private static final String tagReason = "reason";
+
+	/**
+	 * Defines rejection reasons.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	enum Rejection {
+		/**
+		 * The scheduler rejected the job, since the thread pool is saturated.
+		 */
+		saturated,
+		/**
+		 * The thread pool rejected the job.
+		 */
+		executor
+	}
+
+	/**
+	 * The meter registry.
+	 */
+	private final MeterRegistry registry;
+
+	/**
+	 * The timer for the scheduling rounds.
+	 */
+	private final Timer schedule;
+
+	/**
+	 * The gauges of the thread pools. The key is the thread pool name.
+	 */
+	private final Hashtable<String, List<Meter>> gauges = new Hashtable<>();
+
+	/**
+	 * Creates metrics for the job system.
+	 *
+	 * @param registry The meter registry.
+	 * @since 17
+	 */
+	JobMetrics(MeterRegistry registry) {
+		super();
+
+		this.registry = registry;
+
+		schedule = Timer.builder(prefix + "schedule").description("The time spent in a scheduling round.")
+				.register(registry);
+	}
+
+	/**
+	 * Returns the job type, this means, the lower case simple class name of the
+	 * job.
+	 *
+	 * @param job The job.
+	 * @return The job type.
+	 * @since 17
+	 */
+	private static String getType(Job job) {
+		return job.getClass().getSimpleName().toLowerCase();
+	}
+
+	/**
+	 * Registers the gauges of the thread pool.
+	 *
+	 * @param pool    The thread pool name.
+	 * @param size    The supplier for the size of the thread pool.
+	 * @param active  The supplier for the number of running jobs of the thread
+	 *                pool.
+	 * @param waiting The supplier for the number of scheduled jobs that are
+	 *                waiting for the thread pool.
+	 * @since 17
+	 */
+	void register(String pool, Supplier<Number> size, Supplier<Number> active, Supplier<Number> waiting) {
+		unregister(pool);
+
+		gauges.put(pool,
+				List.of(Gauge.builder(prefix + "pool.size", size).description("The size of the thread pool.")
+						.tag(tagPool, pool).register(registry),
+						Gauge.builder(prefix + "pool.active", active)
+								.description("The number of running jobs of the thread pool.").tag(tagPool, pool)
+								.register(registry),
+						Gauge.builder(prefix + "pool.waiting", waiting)
+								.description("The number of scheduled jobs waiting for the thread pool.")
+								.tag(tagPool, pool).register(registry)));
+	}
+
+	/**
+	 * Unregisters the gauges of the thread pool.
+	 *
+	 * @param pool The thread pool name.
+	 * @since 17
+	 */
+	void unregister(String pool) {
+		List<Meter> meters = gauges.remove(pool);
+
+		if (meters != null)
+			for (Meter meter : meters)
+				registry.remove(meter);
+	}
+
+	/**
+	 * Records the duration of a scheduling round.
+	 *
+	 * @param nanoseconds The duration in nanoseconds.
+	 * @since 17
+	 */
+	void scheduled(long nanoseconds) {
+		schedule.record(nanoseconds, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time the job waited in the scheduler queue until it was passed
+	 * to its thread pool.
+	 *
+	 * @param job          The job.
+	 * @param pool         The thread pool name.
+	 * @param milliseconds The wait time in milliseconds.
+	 * @since 17
+	 */
+	void waited(Job job, String pool, long milliseconds) {
+		Timer.builder(prefix + "wait").description("The time jobs wait in the scheduler queue.")
+				.tag(tagType, getType(job)).tag(tagPool, pool).register(registry)
+				.record(milliseconds, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Records the execution time of the done job.
+	 *
+	 * @param job  The done job.
+	 * @param pool The thread pool name.
+	 * @since 17
+	 */
+	void executed(Job job, String pool) {
+		if (job.getStart() != null && job.getEnd() != null)
+			Timer.builder(prefix + "execution").description("The execution time of the jobs.")
+					.tag(tagType, getType(job)).tag(tagPool, pool).tag(tagState, job.getState().name())
+					.register(registry)
+					.record(job.getEnd().getTime() - job.getStart().getTime(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Counts a rejected job.
+	 *
+	 * @param job    The rejected job.
+	 * @param pool   The thread pool name.
+	 * @param reason The rejection reason.
+	 * @since 17
+	 */
+	void rejected(Job job, String pool, Rejection reason) {
+		registry.counter(prefix + "rejected", tagType, getType(job), tagPool, pool, tagReason, reason.name())
+				.increment();
+	}
+
+	/**
+	 * Records the execution time of a service provider instance.
+	 *
+	 * @param provider    The service provider id.
+	 * @param state       The state of the instance after the execution.
+	 * @param nanoseconds The execution time in nanoseconds.
+	 * @since 17
+	 */
+	void executed(String provider, Job.State state, long nanoseconds) {
+		Timer.builder(prefix + "provider.execution")
+				.description("The execution time of the service provider instances.").tag(tagProvider, provider)
+				.tag(tagState, state == null ? "unknown" : state.name()).register(registry)
+				.record(nanoseconds, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,383 @@
+/**
+ * File:     JobQueue.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Defines dependency-aware queues for scheduled jobs. The jobs are ordered by
+ * their rank, this means, the queue order of the scheduler. Parallel jobs that
+ * lock a resource are kept in a queue per resource, i.e. a project or a
+ * sandbox. Only the first job of a resource queue is ready, if the resource is
+ * not locked by a running job. Thus, a job that finishes only wakes up the jobs
+ * that are waiting for its resource. The queue is not thread-safe, the
+ * scheduler has to synchronize its calls.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class JobQueue {
+	/**
+	 * The last assigned rank.
+	 */
+	private long rank = 0;
+
+	/**
+	 * The ranks of the scheduled jobs.
+	 */
+	private final Hashtable<Job, Long> ranks = new Hashtable<>();
+
+	/**
+	 * The queue order.
+	 */
+	private final Comparator<Job> order = (job1, job2) -> Long.compare(ranks.get(job1), ranks.get(job2));
+
+	/**
+	 * The scheduled jobs in queue order.
+	 */
+	private final TreeSet<Job> jobs = new TreeSet<>(order);
+
+	/**
+	 * The scheduled sequential jobs in queue order.
+	 */
+	private final TreeSet<Job> sequential = new TreeSet<>(order);
+
+	/**
+	 * The scheduled parallel jobs that are ready to start in queue order.
+	 */
+	private final TreeSet<Job> ready = new TreeSet<>(order);
+
+	/**
+	 * The scheduled parallel jobs waiting for a resource in queue order. The key
+	 * is the resource.
+	 */
+	private final Hashtable<String, TreeSet<Job>> resources = new Hashtable<>();
+
+	/**
+	 * The ready jobs of the resource queues. The key is the resource.
+	 */
+	private final Hashtable<String, Job> heads = new Hashtable<>();
+
+	/**
+	 * The resources locked by running jobs. The key is the resource.
+	 */
+	private final Hashtable<String, Job> locked = new Hashtable<>();
+
+	/**
+	 * Default constructor for a job queue.
+	 *
+	 * @since 17
+	 */
+	JobQueue() {
+		super();
+	}
+
+	/**
+	 * Returns the number of scheduled jobs.
+	 *
+	 * @return The number of scheduled jobs.
+	 * @since 17
+	 */
+	int size() {
+		return jobs.size();
+	}
+
+	/**
+	 * Returns true if the job is scheduled.
+	 *
+	 * @param job The job.
+	 * @return True if the job is scheduled.
+	 * @since 17
+	 */
+	boolean contains(Job job) {
+		return job != null && ranks.containsKey(job);
+	}
+
+	/**
+	 * Returns the scheduled jobs in queue order.
+	 *
+	 * @return The scheduled jobs in queue order.
+	 * @since 17
+	 */
+	List<Job> getJobs() {
+		return new ArrayList<>(jobs);
+	}
+
+	/**
+	 * Returns the first scheduled sequential job.
+	 *
+	 * @return The first scheduled sequential job. Null if not available.
+	 * @since 17
+	 */
+	Job getSequential() {
+		return sequential.isEmpty() ? null : sequential.first();
+	}
+
+	/**
+	 * Returns the parallel jobs that are ready to start and are scheduled before
+	 * the given job.
+	 *
+	 * @param barrier The job that terminates the ready jobs. If null, all ready
+	 *                jobs are returned.
+	 * @return The ready jobs in queue order.
+	 * @since 17
+	 */
+	List<Job> getReady(Job barrier) {
+		return new ArrayList<>(barrier == null ? ready : ready.headSet(barrier, false));
+	}
+
+	/**
+	 * Adds the job at the end of the queue.
+	 *
+	 * @param job The job to add.
+	 * @return True if the job was added.
+	 * @since 17
+	 */
+	boolean add(Job job) {
+		if (job == null || contains(job))
+			return false;
+
+		ranks.put(job, ++rank);
+		jobs.add(job);
+
+		classify(job);
+
+		return true;
+	}
+
+	/**
+	 * Removes the job from the queue.
+	 *
+	 * @param job The job to remove.
+	 * @return True if the job was removed.
+	 * @since 17
+	 */
+	boolean remove(Job job) {
+		if (!contains(job))
+			return false;
+
+		declassify(job);
+		jobs.remove(job);
+
+		ranks.remove(job);
+
+		return true;
+	}
+
+	/**
+	 * Moves the job to the given index.
+	 *
+	 * @param job   The job to move.
+	 * @param index The index. If the index is smaller than 0, the job is moved to
+	 *              the beginning of the queue. If it is larger than the queue
+	 *              size, it is moved to the end of the queue.
+	 * @return True if the job was moved.
+	 * @since 17
+	 */
+	boolean move(Job job, int index) {
+		if (!contains(job))
+			return false;
+
+		if (index <= 0)
+			rerank(job, ranks.get(jobs.first()) - 1);
+		else if (index >= jobs.size() - 1)
+			rerank(job, ++rank);
+		else {
+			List<Job> order = getJobs();
+			order.remove(job);
+			order.add(index, job);
+
+			rebuild(order);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Swaps the jobs.
+	 *
+	 * @param job1 The job to swap.
+	 * @param job2 The job to swap.
+	 * @return True if the jobs were swapped.
+	 * @since 17
+	 */
+	boolean swap(Job job1, Job job2) {
+		if (job1 == job2 || !contains(job1) || !contains(job2))
+			return false;
+
+		final long rank1 = ranks.get(job1);
+		final long rank2 = ranks.get(job2);
+
+		declassify(job1);
+		declassify(job2);
+		jobs.remove(job1);
+		jobs.remove(job2);
+
+		ranks.put(job1, rank2);
+		ranks.put(job2, rank1);
+
+		jobs.add(job1);
+		jobs.add(job2);
+		classify(job1);
+		classify(job2);
+
+		return true;
+	}
+
+	/**
+	 * Locks the resource of the running job.
+	 *
+	 * @param job The running job.
+	 * @since 17
+	 */
+	void lock(Job job) {
+		String resource = job.getResource();
+
+		if (resource != null) {
+			locked.put(resource, job);
+
+			updateHead(resource);
+		}
+	}
+
+	/**
+	 * Releases the resource of the done job and wakes up the first job waiting for
+	 * it.
+	 *
+	 * @param job The done job.
+	 * @since 17
+	 */
+	void release(Job job) {
+		String resource = job.getResource();
+
+		if (resource != null && locked.get(resource) == job) {
+			locked.remove(resource);
+
+			updateHead(resource);
+		}
+	}
+
+	/**
+	 * Sets the rank of the job.
+	 *
+	 * @param job  The job.
+	 * @param rank The rank to set.
+	 * @since 17
+	 */
+	private void rerank(Job job, long rank) {
+		declassify(job);
+		jobs.remove(job);
+
+		ranks.put(job, rank);
+
+		jobs.add(job);
+		classify(job);
+	}
+
+	/**
+	 * Rebuilds the queue with given order.
+	 *
+	 * @param order The jobs in the queue order.
+	 * @since 17
+	 */
+	private void rebuild(List<Job> order) {
+		jobs.clear();
+		sequential.clear();
+		ready.clear();
+		resources.clear();
+		heads.clear();
+		ranks.clear();
+
+		rank = 0;
+		for (Job job : order)
+			add(job);
+	}
+
+	/**
+	 * Classifies the job, this means, adds it to the sequential jobs, the ready
+	 * jobs or the queue of its resource.
+	 *
+	 * @param job The job.
+	 * @since 17
+	 */
+	private void classify(Job job) {
+		if (job.isProcessingSequential())
+			sequential.add(job);
+		else {
+			String resource = job.getResource();
+
+			if (resource == null)
+				ready.add(job);
+			else {
+				TreeSet<Job> queue = resources.get(resource);
+				if (queue == null) {
+					queue = new TreeSet<>(order);
+					resources.put(resource, queue);
+				}
+
+				queue.add(job);
+
+				updateHead(resource);
+			}
+		}
+	}
+
+	/**
+	 * Declassifies the job, this means, removes it from the sequential jobs, the
+	 * ready jobs and the queue of its resource.
+	 *
+	 * @param job The job.
+	 * @since 17
+	 */
+	private void declassify(Job job) {
+		if (job.isProcessingSequential())
+			sequential.remove(job);
+		else {
+			ready.remove(job);
+
+			String resource = job.getResource();
+			if (resource != null) {
+				TreeSet<Job> queue = resources.get(resource);
+				if (queue != null) {
+					queue.remove(job);
+
+					if (queue.isEmpty())
+						resources.remove(resource);
+				}
+
+				updateHead(resource);
+			}
+		}
+	}
+
+	/**
+	 * Updates the ready job of the resource queue. The first job of the queue is
+	 * ready if the resource is not locked.
+	 *
+	 * @param resource The resource.
+	 * @since 17
+	 */
+	private void updateHead(String resource) {
+		Job head = heads.remove(resource);
+		if (head != null)
+			ready.remove(head);
+
+		TreeSet<Job> queue = resources.get(resource);
+		if (queue != null && !queue.isEmpty() && !locked.containsKey(resource)) {
+			head = queue.first();
+
+			heads.put(resource, head);
+			ready.add(head);
+		}
+	}
+}
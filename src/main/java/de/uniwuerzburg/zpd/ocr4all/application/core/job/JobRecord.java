@@ -0,0 +1,274 @@
+/**
+ * File:     JobRecord.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.Date;
+
+/**
+ * Defines job records. They are immutable compact summaries of done jobs that
+ * were evicted from the scheduler by the retention policy.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public final class JobRecord {
+	/**
+	 * The maximal length of the note.
+	 */
+	private static final int maximalNoteLength = 256;
+
+	/**
+	 * The job id.
+	 */
+	private final int id;
+
+	/**
+	 * The type, this means, the lower case simple class name of the job.
+	 */
+	private final String type;
+
+	/**
+	 * The short description.
+	 */
+	private final String description;
+
+	/**
+	 * The user. Null if not available.
+	 */
+	private final String user;
+
+	/**
+	 * The project id. Null if not available.
+	 */
+	private final String projectId;
+
+	/**
+	 * The model id of training jobs. Null if not available.
+	 */
+	private final String modelId;
+
+	/**
+	 * The final state.
+	 */
+	private final Job.State state;
+
+	/**
+	 * The created time.
+	 */
+	private final Date created;
+
+	/**
+	 * The start time. Null if not started.
+	 */
+	private final Date start;
+
+	/**
+	 * The end time. Null if not ended.
+	 */
+	private final Date end;
+
+	/**
+	 * The truncated note. Null if not available.
+	 */
+	private final String note;
+
+	/**
+	 * Creates a job record.
+	 *
+	 * @param id          The job id.
+	 * @param type        The type.
+	 * @param description The short description.
+	 * @param user        The user. Null if not available.
+	 * @param projectId   The project id. Null if not available.
+	 * @param modelId     The model id of training jobs. Null if not available.
+	 * @param state       The final state.
+	 * @param created     The created time.
+	 * @param start       The start time. Null if not started.
+	 * @param end         The end time. Null if not ended.
+	 * @param note        The note. It is truncated if it is too long. Null if not
+	 *                    available.
+	 * @since 17
+	 */
+	public JobRecord(int id, String type, String description, String user, String projectId, String modelId,
+			Job.State state, Date created, Date start, Date end, String note) {
+		super();
+
+		this.id = id;
+		this.type = type;
+		this.description = description;
+		this.user = user;
+		this.projectId = projectId;
+		this.modelId = modelId;
+		this.state = state;
+		this.created = created == null ? null : new Date(created.getTime());
+		this.start = start == null ? null : new Date(start.getTime());
+		this.end = end == null ? null : new Date(end.getTime());
+		this.note = note == null || note.length() <= maximalNoteLength ? note
+				: note.substring(0, maximalNoteLength - 3) + "...";
+	}
+
+	/**
+	 * Creates a job record for the done job. The note is built from the notes of
+	 * the journal steps. If no note is available, the last line of the standard
+	 * error of the running step is used.
+	 *
+	 * @param job The done job.
+	 * @since 17
+	 */
+	public JobRecord(Job job) {
+		this(job.getId(), job.getClass().getSimpleName().toLowerCase(), job.getShortDescription(), job.getUser(),
+				job.getProjectId(), job instanceof Training training ? training.getModelId() : null, job.getState(),
+				job.getCreated(), job.getStart(), job.getEnd(), getNote(job.getJournal()));
+	}
+
+	/**
+	 * Returns the note of the journal.
+	 *
+	 * @param journal The journal.
+	 * @return The note of the journal. Null if not available.
+	 * @since 17
+	 */
+	private static String getNote(Job.Journal journal) {
+		StringBuilder buffer = new StringBuilder();
+
+		for (Job.Journal.Step step : journal.getSteps())
+			if (step.isNoteSet() && !step.getNote().isBlank()) {
+				if (buffer.length() > 0)
+					buffer.append("\n");
+
+				buffer.append(step.getNote().trim());
+
+				if (buffer.length() > maximalNoteLength)
+					break;
+			}
+
+		if (buffer.length() == 0 && journal.getStep() != null) {
+			String error = journal.getStep().getStandardError();
+
+			if (error != null && !error.isBlank()) {
+				error = error.trim();
+
+				return error.substring(error.lastIndexOf('\n') + 1).trim();
+			}
+		}
+
+		return buffer.length() == 0 ? null : buffer.toString();
+	}
+
+	/**
+	 * Returns the job id.
+	 *
+	 * @return The job id.
+	 * @since 17
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the type, this means, the lower case simple class name of the job.
+	 *
+	 * @return The type.
+	 * @since 17
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the short description.
+	 *
+	 * @return The short description.
+	 * @since 17
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Returns the user.
+	 *
+	 * @return The user. Null if not available.
+	 * @since 17
+	 */
+	public String getUser() {
+		return user;
+	}
+
+	/**
+	 * Returns the project id.
+	 *
+	 * @return The project id. Null if not available.
+	 * @since 17
+	 */
+	public String getProjectId() {
+		return projectId;
+	}
+
+	/**
+	 * Returns the model id of training jobs.
+	 *
+	 * @return The model id. Null if not available.
+	 * @since 17
+	 */
+	public String getModelId() {
+		return modelId;
+	}
+
+	/**
+	 * Returns the final state.
+	 *
+	 * @return The final state.
+	 * @since 17
+	 */
+	public Job.State getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the created time.
+	 *
+	 * @return The created time.
+	 * @since 17
+	 */
+	public Date getCreated() {
+		return created == null ? null : new Date(created.getTime());
+	}
+
+	/**
+	 * Returns the start time.
+	 *
+	 * @return The start time. Null if not started.
+	 * @since 17
+	 */
+	public Date getStart() {
+		return start == null ? null : new Date(start.getTime());
+	}
+
+	/**
+	 * Returns the end time.
+	 *
+	 * @return The end time. Null if not ended.
+	 * @since 17
+	 */
+	public Date getEnd() {
+		return end == null ? null : new Date(end.getTime());
+	}
+
+	/**
+	 * Returns the truncated note.
+	 *
+	 * @return The truncated note. Null if not available.
+	 * @since 17
+	 */
+	public String getNote() {
+		return note;
+	}
+
+}
@@ -0,0 +1,234 @@
+/**
+ * File:     JobRecoveryService.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Sandbox;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.SandboxService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot;
+import de.uniwuerzburg.zpd.ocr4all.application.core.workflow.WorkflowService;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Defines job recovery services. On startup, they reschedule the workflows of
+ * the job store that were not done before the restart. The snapshots of the
+ * steps that were interrupted by the restart are marked as interrupted and the
+ * rescheduled workflows resume from their last completed steps.
+ * 
+ * <p>
+ * A workflow is removed from the job store only if it was rescheduled, its user
+ * has no longer the execute right on the project or the project is blocked. If
+ * it cannot be rescheduled, since the scheduler is saturated or the project,
+ * sandbox or workflow is not available, it is retried later and it is kept in
+ * the job store for the next restart if all attempts fail.
+ * </p>
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+@Service
+public class JobRecoveryService extends CoreService {
+	/**
+	 * The maximal number of attempts to recover a workflow.
+	 */
+	private static final int attempts = 10;
+
+	/**
+	 * The delay in seconds before retrying to recover a workflow whose project,
+	 * sandbox or workflow is not available.
+	 */
+	private static final int retryDelay = 60;
+
+	/**
+	 * The scheduler service.
+	 */
+	private final SchedulerService schedulerService;
+
+	/**
+	 * The project service.
+	 */
+	private final ProjectService projectService;
+
+	/**
+	 * The sandbox service.
+	 */
+	private final SandboxService sandboxService;
+
+	/**
+	 * The workflow service.
+	 */
+	private final WorkflowService workflowService;
+
+	/**
+	 * The executor for the retries.
+	 */
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "job-recovery");
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
+	/**
+	 * Creates a job recovery service.
+	 *
+	 * @param configurationService The configuration service.
+	 * @param schedulerService     The scheduler service.
+	 * @param projectService       The project service.
+	 * @param sandboxService       The sandbox service.
+	 * @param workflowService      The workflow service.
+	 * @since 17
+	 */
+	public JobRecoveryService(ConfigurationService configurationService, SchedulerService schedulerService,
+			ProjectService projectService, SandboxService sandboxService, WorkflowService workflowService) {
+		super(JobRecoveryService.class, configurationService);
+
+		this.schedulerService = schedulerService;
+		this.projectService = projectService;
+		this.sandboxService = sandboxService;
+		this.workflowService = workflowService;
+	}
+
+	/**
+	 * Recovers the workflows of the job store when the application is ready. The
+	 * store is loaded by the scheduler service on its first access.
+	 *
+	 * @since 17
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void recover() {
+		for (JobStore.Entry entry : schedulerService.recover())
+			recover(entry, 1);
+	}
+
+	/**
+	 * Shuts the retries down when the service is destroyed. The workflows that
+	 * are not recovered yet are kept in the job store.
+	 *
+	 * @since 17
+	 */
+	@PreDestroy
+	private void destroy() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Recovers the workflow. If it cannot be rescheduled, the recovery is retried
+	 * later.
+	 *
+	 * @param entry   The stored workflow.
+	 * @param attempt The attempt number, starting with 1.
+	 * @since 17
+	 */
+	private void recover(JobStore.Entry entry, int attempt) {
+		int delay = retryDelay;
+		try {
+			Project project = projectService.recover(entry.getProject(), entry.getUser());
+
+			if (project == null) {
+				if (projectService.isAvailable(entry.getProject())) {
+					logger.warn("cannot recover workflow job ID " + entry.getId() + ", since the user '"
+							+ entry.getUser() + "' has no execute right on the project '" + entry.getProject()
+							+ "' or it is blocked.");
+
+					schedulerService.recovered(entry.getId());
+
+					return;
+				}
+
+				logger.warn("cannot recover workflow job ID " + entry.getId() + ", since the project '"
+						+ entry.getProject() + "' is not available.");
+			} else {
+				Sandbox sandbox = sandboxService.authorize(project, entry.getSandbox());
+
+				if (sandbox == null)
+					logger.warn("cannot recover workflow job ID " + entry.getId() + ", since the sandbox '"
+							+ entry.getSandbox() + "' of project '" + entry.getProject() + "' is not available.");
+				else {
+					interrupt(sandbox, entry.getInterrupted());
+
+					Workflow workflow = workflowService.getJobWorkflow(
+							entry.getLocale() == null ? Locale.getDefault() : Locale.forLanguageTag(entry.getLocale()),
+							entry.getDescription(), project, sandbox, entry.getTrack(), entry.getWorkflow());
+
+					if (workflow == null)
+						logger.warn("cannot recover workflow job ID " + entry.getId() + ", since the workflow '"
+								+ entry.getWorkflow() + "' is not available.");
+					else {
+						workflow.resume(entry.getCompleted());
+
+						schedulerService.schedule(workflow);
+						schedulerService.recovered(entry.getId());
+
+						logger.info("recovered workflow job ID " + entry.getId() + " as job ID " + workflow.getId()
+								+ ", resuming " + entry.getCompleted().size() + " completed steps.");
+
+						return;
+					}
+				}
+			}
+		} catch (SaturationException e) {
+			logger.warn("cannot recover workflow job ID " + entry.getId() + " - " + e.getMessage());
+
+			delay = Math.max(1, e.getRetryAfter());
+		} catch (Exception e) {
+			logger.warn("cannot recover workflow job ID " + entry.getId() + " - " + e.getMessage());
+		}
+
+		if (attempt < attempts)
+			try {
+				executor.schedule(() -> recover(entry, attempt + 1), delay, TimeUnit.SECONDS);
+
+				logger.info("retry recovering workflow job ID " + entry.getId() + " in " + delay + " seconds (attempt "
+						+ (attempt + 1) + "/" + attempts + ").");
+			} catch (RejectedExecutionException e) {
+				// The service is shutting down
+			}
+		else
+			logger.warn("gave up recovering workflow job ID " + entry.getId() + " after " + attempts
+					+ " attempts, it is kept in the job store for the next restart.");
+	}
+
+	/**
+	 * Marks the snapshots of the interrupted steps as interrupted if their
+	 * processes are still scheduled or running.
+	 *
+	 * @param sandbox The sandbox.
+	 * @param tracks  The snapshot tracks of the interrupted steps.
+	 * @since 17
+	 */
+	private void interrupt(Sandbox sandbox, List<List<Integer>> tracks) {
+		for (List<Integer> track : tracks)
+			try {
+				Snapshot snapshot = sandbox.getSnapshot(track);
+				Job.State state = snapshot.getConfiguration().getProcessState();
+
+				if ((Job.State.scheduled.equals(state) || Job.State.running.equals(state))
+						&& snapshot.getConfiguration().getConfiguration().updateProcess(Job.State.interrupted))
+					logger.info("marked snapshot " + track + " of sandbox '" + sandbox.getId() + "' as interrupted.");
+			} catch (IllegalArgumentException e) {
+				logger.warn("cannot mark snapshot " + track + " of sandbox '" + sandbox.getId() + "' as interrupted - "
+						+ e.getMessage());
+			}
+	}
+}
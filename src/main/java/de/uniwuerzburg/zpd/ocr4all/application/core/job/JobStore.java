@@ -0,0 +1,514 @@
+/**
+ * File:     JobStore.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Defines durable stores for the scheduled workflows. The events of the
+ * workflows, this means, scheduled, step created, step completed and done, are
+ * appended to the store file as JSON lines and synchronized to the storage
+ * device. After a restart, the workflows that are not done are loaded from the
+ * store and resumed from their last completed steps. The store file is
+ * compacted when it is loaded, this means, only the events of the pending
+ * workflows are kept.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class JobStore implements Workflow.StepCallback {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JobStore.class);
+
+	/**
+	 * Defines events.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private enum Event {
+		scheduled, created, completed, done
+	}
+
+	/**
+	 * The object mapper.
+	 */
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * The store file.
+	 */
+	private final Path file;
+
+	/**
+	 * The ids of the stored workflows that are not done.
+	 */
+	private final Set<Integer> pending = new HashSet<>();
+
+	/**
+	 * Creates a store for the scheduled workflows.
+	 *
+	 * @param file The store file.
+	 * @since 17
+	 */
+	JobStore(Path file) {
+		super();
+
+		this.file = file;
+	}
+
+	/**
+	 * Loads the workflows that are not done from the store file and compacts it.
+	 *
+	 * @return The pending workflows in scheduling order.
+	 * @since 17
+	 */
+	synchronized List<Entry> load() {
+		Map<Integer, Entry> entries = new LinkedHashMap<>();
+		List<JsonNode> events = new ArrayList<>();
+
+		if (Files.isRegularFile(file))
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null)
+					if (!line.isBlank())
+						try {
+							JsonNode node = objectMapper.readTree(line);
+							final int id = node.path("id").asInt();
+
+							switch (Event.valueOf(node.path("event").asText())) {
+							case scheduled:
+								entries.put(id, new Entry(id, getText(node, "user"), getText(node, "locale"),
+										getText(node, "description"), getText(node, "project"),
+										getText(node, "sandbox"), getTrack(node), getText(node, "workflow")));
+								break;
+							case created:
+								if (entries.containsKey(id))
+									entries.get(id).created.put(getText(node, "path"), getTrack(node));
+								break;
+							case completed:
+								if (entries.containsKey(id))
+									entries.get(id).completed.put(getText(node, "path"), getTrack(node));
+								break;
+							case done:
+								entries.remove(id);
+								break;
+							}
+
+							events.add(node);
+						} catch (Exception e) {
+							// a torn last line of a crash is ignored
+							logger.warn("ignored invalid event in job store file '" + file + "'.");
+						}
+			} catch (IOException e) {
+				logger.warn("cannot read job store file '" + file + "' - " + e.getMessage());
+			}
+
+		pending.addAll(entries.keySet());
+
+		compact(events);
+
+		return new ArrayList<>(entries.values());
+	}
+
+	/**
+	 * Rewrites the store file with the events of the pending workflows. The file
+	 * is replaced atomically, thus, a crash does not lose events.
+	 *
+	 * @param events The events.
+	 * @since 17
+	 */
+	private void compact(List<JsonNode> events) {
+		StringBuilder buffer = new StringBuilder();
+		for (JsonNode event : events)
+			if (pending.contains(event.path("id").asInt()))
+				buffer.append(event.toString()).append(System.lineSeparator());
+
+		Path temporary = Paths.get(file.toString() + ".tmp");
+		try {
+			Files.writeString(temporary, buffer, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.warn("cannot compact job store file '" + file + "' - " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Appends the event to the store file and synchronizes it to the storage
+	 * device.
+	 *
+	 * @param event The event.
+	 * @since 17
+	 */
+	private void append(ObjectNode event) {
+		try {
+			Files.writeString(file, objectMapper.writeValueAsString(event) + System.lineSeparator(),
+					StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+					StandardOpenOption.DSYNC);
+		} catch (IOException e) {
+			logger.warn("cannot store event " + event.path("event").asText() + " of job ID "
+					+ event.path("id").asInt() + " - " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Creates an event.
+	 *
+	 * @param event The event type.
+	 * @param id    The job id.
+	 * @return The event.
+	 * @since 17
+	 */
+	private ObjectNode createEvent(Event event, int id) {
+		ObjectNode node = objectMapper.createObjectNode();
+
+		node.put("event", event.name());
+		node.put("id", id);
+
+		return node;
+	}
+
+	/**
+	 * Stores the scheduled workflow.
+	 *
+	 * @param workflow The scheduled workflow.
+	 * @since 17
+	 */
+	synchronized void scheduled(Workflow workflow) {
+		ObjectNode node = createEvent(Event.scheduled, workflow.getId());
+
+		node.put("user", workflow.getProject().getUser());
+		node.put("locale", workflow.locale == null ? null : workflow.locale.toLanguageTag());
+		node.put("description", workflow.getSpecifiedShortDescription());
+		node.put("project", workflow.getProject().getId());
+		node.put("sandbox", workflow.getSandbox().getId());
+		putTrack(node, workflow.getRootSnapshot().getConfiguration().getTrack());
+		node.put("workflow", workflow.getWorkflowId());
+
+		append(node);
+
+		pending.add(workflow.getId());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Workflow.StepCallback#
+	 * created(de.uniwuerzburg.zpd.ocr4all.application.core.job.Workflow,
+	 * java.lang.String, java.util.List)
+	 */
+	@Override
+	public synchronized void created(Workflow workflow, String path, List<Integer> track) {
+		step(Event.created, workflow, path, track);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Workflow.StepCallback#
+	 * completed(de.uniwuerzburg.zpd.ocr4all.application.core.job.Workflow,
+	 * java.lang.String, java.util.List)
+	 */
+	@Override
+	public synchronized void completed(Workflow workflow, String path, List<Integer> track) {
+		step(Event.completed, workflow, path, track);
+	}
+
+	/**
+	 * Stores the step event of the workflow if it is pending.
+	 *
+	 * @param event    The step event.
+	 * @param workflow The workflow.
+	 * @param path     The path id of the step.
+	 * @param track    The snapshot track of the step.
+	 * @since 17
+	 */
+	private void step(Event event, Workflow workflow, String path, List<Integer> track) {
+		if (pending.contains(workflow.getId())) {
+			ObjectNode node = createEvent(event, workflow.getId());
+
+			node.put("path", path);
+			putTrack(node, track);
+
+			append(node);
+		}
+	}
+
+	/**
+	 * Stores that the job is done if it is pending. Recovered workflows are done as
+	 * soon as they are rescheduled.
+	 *
+	 * @param id The job id.
+	 * @since 17
+	 */
+	synchronized void done(int id) {
+		if (pending.remove(id))
+			append(createEvent(Event.done, id));
+	}
+
+	/**
+	 * Puts the track to the event.
+	 *
+	 * @param node  The event.
+	 * @param track The track.
+	 * @since 17
+	 */
+	private static void putTrack(ObjectNode node, List<Integer> track) {
+		ArrayNode array = node.putArray("track");
+		for (Integer index : track)
+			array.add(index);
+	}
+
+	/**
+	 * Returns the track of the event.
+	 *
+	 * @param node The event.
+	 * @return The track.
+	 * @since 17
+	 */
+	private static List<Integer> getTrack(JsonNode node) {
+		List<Integer> track = new ArrayList<>();
+		for (JsonNode index : node.path("track"))
+			track.add(index.asInt());
+
+		return track;
+	}
+
+	/**
+	 * Returns the text of the field.
+	 *
+	 * @param node  The JSON object.
+	 * @param field The field name.
+	 * @return The text of the field. Null if not available.
+	 * @since 17
+	 */
+	private static String getText(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+
+		return value == null || value.isNull() ? null : value.asText();
+	}
+
+	/**
+	 * Defines the entries of the workflows that are not done.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	static final class Entry {
+		/**
+		 * The job id.
+		 */
+		private final int id;
+
+		/**
+		 * The user.
+		 */
+		private final String user;
+
+		/**
+		 * The locale language tag.
+		 */
+		private final String locale;
+
+		/**
+		 * The short description. Null if the workflow short description is used.
+		 */
+		private final String description;
+
+		/**
+		 * The project id.
+		 */
+		private final String project;
+
+		/**
+		 * The sandbox id.
+		 */
+		private final String sandbox;
+
+		/**
+		 * The track of the root snapshot.
+		 */
+		private final List<Integer> track;
+
+		/**
+		 * The workflow id.
+		 */
+		private final String workflow;
+
+		/**
+		 * The snapshot tracks of the created steps. The key is the path id.
+		 */
+		private final Map<String, List<Integer>> created = new LinkedHashMap<>();
+
+		/**
+		 * The snapshot tracks of the completed steps. The key is the path id.
+		 */
+		private final Map<String, List<Integer>> completed = new LinkedHashMap<>();
+
+		/**
+		 * Creates a workflow entry.
+		 *
+		 * @param id          The job id.
+		 * @param user        The user.
+		 * @param locale      The locale language tag.
+		 * @param description The short description. Null if the workflow short
+		 *                    description is used.
+		 * @param project     The project id.
+		 * @param sandbox     The sandbox id.
+		 * @param track       The track of the root snapshot.
+		 * @param workflow    The workflow id.
+		 * @since 17
+		 */
+		private Entry(int id, String user, String locale, String description, String project, String sandbox,
+				List<Integer> track, String workflow) {
+			super();
+
+			this.id = id;
+			this.user = user;
+			this.locale = locale;
+			this.description = description;
+			this.project = project;
+			this.sandbox = sandbox;
+			this.track = track;
+			this.workflow = workflow;
+		}
+
+		/**
+		 * Returns the job id.
+		 *
+		 * @return The job id.
+		 * @since 17
+		 */
+		public int getId() {
+			return id;
+		}
+
+		/**
+		 * Returns the user.
+		 *
+		 * @return The user.
+		 * @since 17
+		 */
+		public String getUser() {
+			return user;
+		}
+
+		/**
+		 * Returns the locale language tag.
+		 *
+		 * @return The locale language tag.
+		 * @since 17
+		 */
+		public String getLocale() {
+			return locale;
+		}
+
+		/**
+		 * Returns the short description.
+		 *
+		 * @return The short description. Null if the workflow short description is
+		 *         used.
+		 * @since 17
+		 */
+		public String getDescription() {
+			return description;
+		}
+
+		/**
+		 * Returns the project id.
+		 *
+		 * @return The project id.
+		 * @since 17
+		 */
+		public String getProject() {
+			return project;
+		}
+
+		/**
+		 * Returns the sandbox id.
+		 *
+		 * @return The sandbox id.
+		 * @since 17
+		 */
+		public String getSandbox() {
+			return sandbox;
+		}
+
+		/**
+		 * Returns the track of the root snapshot.
+		 *
+		 * @return The track of the root snapshot.
+		 * @since 17
+		 */
+		public List<Integer> getTrack() {
+			return track;
+		}
+
+		/**
+		 * Returns the workflow id.
+		 *
+		 * @return The workflow id.
+		 * @since 17
+		 */
+		public String getWorkflow() {
+			return workflow;
+		}
+
+		/**
+		 * Returns the snapshot tracks of the completed steps.
+		 *
+		 * @return The snapshot tracks of the completed steps. The key is the path
+		 *         id.
+		 * @since 17
+		 */
+		public Map<String, List<Integer>> getCompleted() {
+			return Collections.unmodifiableMap(completed);
+		}
+
+		/**
+		 * Returns the snapshot tracks of the steps that were created, but not
+		 * completed, this means, the steps that were interrupted by the restart.
+		 *
+		 * @return The snapshot tracks of the interrupted steps.
+		 * @since 17
+		 */
+		public List<List<Integer>> getInterrupted() {
+			List<List<Integer>> interrupted = new ArrayList<>();
+			for (String path : created.keySet())
+				if (!completed.containsKey(path))
+					interrupted.add(created.get(path));
+
+			return interrupted;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/**
+ * File:     JobWatchdog.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ApplicationConfiguration;
+
+/**
+ * Defines watchdogs for the running jobs. They periodically inspect the running
+ * jobs and interrupt the jobs that exceed the timeout of their type. The
+ * running service provider instances of the jobs are interrupted if they exceed
+ * the timeout of their service provider or if their progress has not changed
+ * for the stall time.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class JobWatchdog {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(JobWatchdog.class);
+
+	/**
+	 * The thread name.
+	 */
+	private static final String threadName = "job-watchdog";
+
+	/**
+	 * The timeout properties.
+	 */
+	private final ApplicationConfiguration.JobTimeoutProperties properties;
+
+	/**
+	 * The supplier for the running jobs.
+	 */
+	private final Supplier<Collection<Job>> jobs;
+
+	/**
+	 * The supplier for the timeouts in minutes of the service providers. The key
+	 * is the service provider id.
+	 */
+	private final Supplier<Hashtable<String, Integer>> timeouts;
+
+	/**
+	 * The last progress changes of the running instances. Only used by the
+	 * watchdog thread.
+	 */
+	private final Map<InstanceCore<?>, Progress> progresses = new IdentityHashMap<>();
+
+	/**
+	 * The executor that runs the inspections.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Creates a watchdog for the running jobs and starts it.
+	 *
+	 * @param properties The timeout properties.
+	 * @param jobs       The supplier for the running jobs.
+	 * @param timeouts   The supplier for the timeouts in minutes of the service
+	 *                   providers. The key is the service provider id.
+	 * @since 17
+	 */
+	JobWatchdog(ApplicationConfiguration.JobTimeoutProperties properties, Supplier<Collection<Job>> jobs,
+			Supplier<Hashtable<String, Integer>> timeouts) {
+		super();
+
+		this.properties = properties;
+		this.jobs = jobs;
+		this.timeouts = timeouts;
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, threadName);
+			thread.setDaemon(true);
+
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(() -> {
+			try {
+				inspect();
+			} catch (Exception e) {
+				logger.warn("cannot inspect the running jobs - " + e.getMessage());
+			}
+		}, properties.getInterval(), properties.getInterval(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Shuts the watchdog down. Inspections in progress are interrupted.
+	 *
+	 * @since 17
+	 */
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Returns the timeout of the job type in milliseconds.
+	 *
+	 * @param job The job.
+	 * @return The timeout in milliseconds. 0 means no timeout.
+	 * @since 17
+	 */
+	private long getTimeout(Job job) {
+		if (job instanceof Work)
+			return properties.getWork();
+		else if (job instanceof Task)
+			return properties.getTask();
+		else if (job instanceof Workflow)
+			return properties.getWorkflow();
+		else if (job instanceof Training)
+			return properties.getTraining();
+		else
+			return 0;
+	}
+
+	/**
+	 * Returns the elapsed time in milliseconds since the start.
+	 *
+	 * @param start The start. Null if not started.
+	 * @param now   The current time in milliseconds.
+	 * @return The elapsed time in milliseconds. 0 if not started.
+	 * @since 17
+	 */
+	private static long getElapsed(Date start, long now) {
+		return start == null ? 0 : now - start.getTime();
+	}
+
+	/**
+	 * Inspects the running jobs and interrupts the jobs and service provider
+	 * instances that exceed their timeouts or stall.
+	 *
+	 * @since 17
+	 */
+	private void inspect() {
+		final long now = System.currentTimeMillis();
+		final Hashtable<String, Integer> providerTimeouts = timeouts.get();
+
+		final Map<InstanceCore<?>, Progress> active = new IdentityHashMap<>();
+
+		for (Job job : jobs.get()) {
+			if (!Job.State.running.equals(job.getState()) || job.isInterruptPending())
+				continue;
+
+			final long jobTimeout = getTimeout(job);
+			if (jobTimeout > 0 && getElapsed(job.getStart(), now) > jobTimeout) {
+				job.interrupt("interrupted by the watchdog: job timeout after " + (jobTimeout / 60000) + " minutes.");
+
+				continue;
+			}
+
+			for (InstanceCore<?> instance : job.getInstances()) {
+				if (instance.isDone() || instance.getStart() == null)
+					continue;
+
+				final String id = instance.serviceProvider.getClass().getName();
+
+				final Integer providerTimeout = providerTimeouts.get(id);
+				if (providerTimeout != null && providerTimeout > 0
+						&& getElapsed(instance.getStart(), now) > providerTimeout * 60000L) {
+					instance.interrupt("interrupted by the watchdog: service provider timeout after "
+							+ providerTimeout + " minutes.");
+
+					logger.warn("interrupted service provider " + id + " of job ID " + job.getId()
+							+ ", since it exceeds its timeout of " + providerTimeout + " minutes.");
+
+					continue;
+				}
+
+				if (properties.getStall() > 0) {
+					final float value = instance.journal.getProgress();
+
+					Progress progress = progresses.get(instance);
+					if (progress == null || progress.value != value)
+						progress = new Progress(value, now);
+
+					if (now - progress.changed > properties.getStall()) {
+						instance.interrupt("interrupted by the watchdog: no progress for "
+								+ (properties.getStall() / 60000) + " minutes.");
+
+						logger.warn("interrupted service provider " + id + " of job ID " + job.getId()
+								+ ", since its progress stalls for " + (properties.getStall() / 60000) + " minutes.");
+					} else
+						active.put(instance, progress);
+				}
+			}
+		}
+
+		// Drop the progresses of the done instances
+		progresses.clear();
+		progresses.putAll(active);
+	}
+
+	/**
+	 * Defines progress changes.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Progress {
+		/**
+		 * The progress value.
+		 */
+		private final float value;
+
+		/**
+		 * The time in milliseconds when the progress value changed.
+		 */
+		private final long changed;
+
+		/**
+		 * Creates a progress change.
+		 *
+		 * @param value   The progress value.
+		 * @param changed The time in milliseconds when the progress value changed.
+		 * @since 17
+		 */
+		private Progress(float value, long changed) {
+			super();
+
+			this.value = value;
+			this.changed = changed;
+		}
+	}
+}
@@ -53,6 +53,11 @@ public abstract class Process extends Job {
 	 */
 	private final Sandbox sandbox;
 
+	/**
+	 * The resource, this means, the project or sandbox folder.
+	 */
+	private final String resource;
+
 	/**
 	 * Creates a process.
 	 * 
@@ -109,6 +114,10 @@ public abstract class Process extends Job {
 
 		this.project = project;
 		this.sandbox = sandbox;
+
+		resource = sandbox == null
+				? "project:" + project.getConfiguration().getFolder().toAbsolutePath().normalize()
+				: "sandbox:" + sandbox.getConfiguration().getFolder().toAbsolutePath().normalize();
 	}
 
 	/**
@@ -140,6 +149,36 @@ public abstract class Process extends Job {
 		return dependencies;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getResource()
+	 */
+	@Override
+	public String getResource() {
+		return resource;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getUser()
+	 */
+	@Override
+	public String getUser() {
+		return project.getUser();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getProjectId()
+	 */
+	@Override
+	public String getProjectId() {
+		return project.getId();
+	}
+
 	/**
 	 * Returns true if it a project type.
 	 *
@@ -452,6 +491,10 @@ public abstract class Process extends Job {
 				journal.setFurtherInformation(new StepFurtherInformation());
 
 				ProcessFramework framework = getFramework();
+
+				// the progress and messages are persisted in the snapshot write-behind with
+				// the state transitions, and per interval only if it is set
+				final long snapshotInterval = configurationService.getApplication().getJobSnapshotInterval();
 				try {
 					executionState = processor.execute(new ProcessorServiceProvider.Processor.LockSnapshotCallback() {
 						/*
@@ -463,6 +506,10 @@ public abstract class Process extends Job {
 						@Override
 						public void updatedProgress(float progress) {
 							journal.setProgress(progress);
+
+							if (snapshot != null)
+								snapshot.getConfiguration().getConfiguration().bufferProcess(progress, null, null,
+										snapshotInterval);
 						}
 
 						/*
@@ -475,6 +522,10 @@ public abstract class Process extends Job {
 						@Override
 						public void updatedStandardOutput(String message) {
 							journal.setStandardOutput(message);
+
+							if (snapshot != null)
+								snapshot.getConfiguration().getConfiguration().bufferProcess(-1, message, null,
+										snapshotInterval);
 						}
 
 						/*
@@ -487,6 +538,10 @@ public abstract class Process extends Job {
 						@Override
 						public void updatedStandardError(String message) {
 							journal.setStandardError(message);
+
+							if (snapshot != null)
+								snapshot.getConfiguration().getConfiguration().bufferProcess(-1, null, message,
+										snapshotInterval);
 						}
 
 						/*
@@ -519,7 +574,8 @@ public abstract class Process extends Job {
 				}
 			}
 
-			if (!State.canceled.equals(getState())) {
+			// the instance may have been canceled or interrupted by the watchdog
+			if (isRunning()) {
 				setState(ProcessorServiceProvider.Processor.State.completed.equals(executionState) ? State.completed
 						: State.interrupted);
 				setEnd();
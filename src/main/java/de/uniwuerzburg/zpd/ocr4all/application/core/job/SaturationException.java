@@ -0,0 +1,54 @@
+/**
+ * File:     SaturationException.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+/**
+ * Defines saturation exceptions. They are thrown if a job is rejected, since
+ * the queue of its thread pool reached its capacity.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class SaturationException extends RuntimeException {
+	/**
+	 * The serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of seconds a client should wait before retrying.
+	 */
+	private final int retryAfter;
+
+	/**
+	 * Constructs a new saturation exception with the specified detail message.
+	 *
+	 * @param message    the detail message. The detail message is saved for later
+	 *                   retrieval by the {@link #getMessage()} method.
+	 * @param retryAfter The number of seconds a client should wait before
+	 *                   retrying.
+	 * @since 17
+	 */
+	public SaturationException(String message, int retryAfter) {
+		super(message);
+
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Returns the number of seconds a client should wait before retrying.
+	 *
+	 * @return The number of seconds a client should wait before retrying.
+	 * @since 17
+	 */
+	public int getRetryAfter() {
+		return retryAfter;
+	}
+
+}
@@ -15,13 +15,28 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.annotation.ApplicationScope;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ApplicationConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
 
@@ -118,6 +133,11 @@ public class SchedulerService extends CoreService {
 		index
 	}
 
+	/**
+	 * The number of recent wait times that are kept per tenant.
+	 */
+	private static final int tenantWaitTimes = 256;
+
 	/**
 	 * The job id.
 	 */
@@ -134,9 +154,45 @@ public class SchedulerService extends CoreService {
 	private final Hashtable<Integer, Job> running = new Hashtable<>();
 
 	/**
-	 * The scheduled jobs.
+	 * The scheduled jobs. They are indexed by the resources they are waiting for.
+	 */
+	private final JobQueue scheduled = new JobQueue();
+
+	/**
+	 * The retention properties for the done jobs.
+	 */
+	private final ApplicationConfiguration.JobRetentionProperties retention;
+
+	/**
+	 * The archive for the records of the evicted done jobs.
+	 */
+	private final JobArchive archive;
+
+	/**
+	 * The store for the scheduled workflows. Null if the store is disabled.
+	 */
+	private final JobStore store;
+
+	/**
+	 * The workflows that were not done before the restart and are not yet
+	 * recovered.
 	 */
-	private final List<Job> scheduled = new ArrayList<>();
+	private final List<JobStore.Entry> recoverable = new ArrayList<>();
+
+	/**
+	 * The event listeners. They are notified in the threads that changed the jobs.
+	 */
+	private final List<EventListener> eventListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The scheduling policy.
+	 */
+	private final SchedulingPolicy policy;
+
+	/**
+	 * The recent wait times of the started jobs. The key is the tenant.
+	 */
+	private final Hashtable<String, WaitTimes> waitTimes = new Hashtable<>();
 
 	/**
 	 * The start time.
@@ -156,48 +212,153 @@ public class SchedulerService extends CoreService {
 	/**
 	 * The thread pool for work.
 	 */
-	private final ThreadPoolTaskExecutor threadPoolWork;
+	private final TaskExecutor threadPoolWork;
 
 	/**
 	 * The thread pool for task.
 	 */
-	private final ThreadPoolTaskExecutor threadPoolTask;
+	private final TaskExecutor threadPoolTask;
 
 	/**
 	 * The thread pool for workflow.
 	 */
-	private final ThreadPoolTaskExecutor threadPoolWorkflow;
+	private final TaskExecutor threadPoolWorkflow;
 
 	/**
 	 * The thread pool for training.
 	 */
-	private final ThreadPoolTaskExecutor threadPoolTraining;
+	private final TaskExecutor threadPoolTraining;
 
 	/**
 	 * The thread pool for workspace.
 	 */
-	private final Hashtable<String, ThreadPoolTaskExecutor> threadPoolWorkspace = new Hashtable<>();
+	private final Hashtable<String, TaskExecutor> threadPoolWorkspace = new Hashtable<>();
+
+	/**
+	 * The permits of the virtual thread executors, this means, the maximal number
+	 * of jobs running concurrently. The scheduler only passes a job to a virtual
+	 * thread executor if a permit is available. The executors are not throttled
+	 * themselves, since a finishing job schedules the next job before its thread
+	 * terminates.
+	 */
+	private final Hashtable<TaskExecutor, Integer> virtualThreadPermits = new Hashtable<>();
+
+	/**
+	 * The thread pool names.
+	 */
+	private final Hashtable<TaskExecutor, String> threadPoolNames = new Hashtable<>();
+
+	/**
+	 * The watchdog for the running jobs.
+	 */
+	private final JobWatchdog watchdog;
+
+	/**
+	 * The metrics.
+	 */
+	private final JobMetrics metrics;
+
+	/**
+	 * The number of running jobs of the thread pools, published by the scheduling
+	 * rounds, thus, the metrics do not need the scheduler lock.
+	 */
+	private volatile Hashtable<TaskExecutor, Integer> active = new Hashtable<>();
+
+	/**
+	 * The number of scheduled jobs that are waiting for the thread pools. It is
+	 * maintained when the jobs are queued and removed from the queue.
+	 */
+	private final Hashtable<TaskExecutor, Integer> waiting = new Hashtable<>();
+
+	/**
+	 * The thread pools of the queued jobs when they were queued.
+	 */
+	private final Hashtable<Job, TaskExecutor> waitingThreadPools = new Hashtable<>();
+
+	/**
+	 * The retainer, this means, the thread that applies the retention policy to
+	 * the done jobs.
+	 */
+	private final ScheduledExecutorService retainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "job-retention");
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
+	/**
+	 * True if the retention policy is requested to be applied.
+	 */
+	private final AtomicBoolean isRetainRequested = new AtomicBoolean(false);
+
+	/**
+	 * The thread pool capacities, this means, the maximal number of scheduled jobs
+	 * that are waiting for a thread of the pool.
+	 */
+	private final ApplicationConfiguration.ThreadPoolCapacityProperties threadPoolCapacities;
+
+	/**
+	 * The number of seconds a client should wait before retrying a request that was
+	 * rejected, since the thread pool is saturated.
+	 */
+	private final int retryAfter;
+
+	/**
+	 * The resource budget, this means, the CPU cores and the memory that the
+	 * running jobs can use together.
+	 */
+	private final ApplicationConfiguration.ThreadPoolBudgetProperties budget;
+
+	/**
+	 * The estimated CPU cores used by the service providers. The key is the
+	 * service provider id.
+	 */
+	private final Hashtable<String, Integer> cpuCosts;
+
+	/**
+	 * The estimated memory in megabytes used by the service providers. The key is
+	 * the service provider id.
+	 */
+	private final Hashtable<String, Integer> memoryCosts;
 
 	/**
 	 * Creates a scheduler service.
 	 * 
 	 * @param configurationService The configuration service.
+	 * @param meterRegistry        The meter registry.
 	 * @since 1.8
 	 */
-	public SchedulerService(ConfigurationService configurationService) {
+	public SchedulerService(ConfigurationService configurationService, MeterRegistry meterRegistry) {
 		super(SchedulerService.class, configurationService);
 
+		metrics = new JobMetrics(meterRegistry);
+
+		threadPoolCapacities = configurationService.getApplication().getThreadPoolCapacityProperties();
+		retryAfter = configurationService.getApplication().getThreadPoolRetryAfter();
+
+		budget = configurationService.getApplication().getThreadPoolBudgetProperties();
+		cpuCosts = configurationService.getWorkspace().getConfiguration().getSchedulerCpuCosts();
+		memoryCosts = configurationService.getWorkspace().getConfiguration().getSchedulerMemoryCosts();
+
+		logger.info("resource budget " + budget.getCpu() + " CPU cores, "
+				+ (budget.getMemory() == 0 ? "unlimited" : budget.getMemory() + " MB") + " memory.");
+
 		/*
 		 * The application thread pools
 		 */
+		final ApplicationConfiguration.ThreadPoolVirtualProperties virtual = configurationService.getApplication()
+				.getThreadPoolVirtualProperties();
+
 		threadPoolWork = createThreadPool(taskExecutorThreadNamePrefix, ThreadPool.work.getLabel(),
-				configurationService.getApplication().getThreadPoolSizeProperties().getWork());
+				configurationService.getApplication().getThreadPoolSizeProperties().getWork(), virtual.isWork());
 		threadPoolTask = createThreadPool(taskExecutorThreadNamePrefix, ThreadPool.task.getLabel(),
-				configurationService.getApplication().getThreadPoolSizeProperties().getTask());
+				configurationService.getApplication().getThreadPoolSizeProperties().getTask(), virtual.isTask());
 		threadPoolWorkflow = createThreadPool(taskExecutorThreadNamePrefix, ThreadPool.workflow.getLabel(),
-				configurationService.getApplication().getThreadPoolSizeProperties().getWorkflow());
+				configurationService.getApplication().getThreadPoolSizeProperties().getWorkflow(),
+				virtual.isWorkflow());
 		threadPoolTraining = createThreadPool(taskExecutorThreadNamePrefix, ThreadPool.training.getLabel(),
-				configurationService.getApplication().getThreadPoolSizeProperties().getTraining());
+				configurationService.getApplication().getThreadPoolSizeProperties().getTraining(),
+				virtual.isTraining());
 
 		/*
 		 * The workspace thread pools
@@ -208,60 +369,278 @@ public class SchedulerService extends CoreService {
 		Hashtable<String, Integer> poolSizes = configurationService.getWorkspace().getConfiguration()
 				.getTaskExecutorPoolSizes();
 		for (String threadName : poolSizes.keySet())
-			threadPoolWorkspace.put(threadName,
-					createThreadPool(taskExecutorThreadNamePrefixWorkspace, threadName, poolSizes.get(threadName)));
+			threadPoolWorkspace.put(threadName, createThreadPool(taskExecutorThreadNamePrefixWorkspace, threadName,
+					poolSizes.get(threadName), virtual.isWorkspace()));
 
 		// The callback for thread pool for workspace updates
 		configurationService.getWorkspace().getConfiguration().register((threadName, corePoolSize) -> {
 			if (corePoolSize == 0) {
-				ThreadPoolTaskExecutor threadPool = threadPoolWorkspace.remove(threadName);
+				TaskExecutor threadPool = threadPoolWorkspace.remove(threadName);
 
 				if (threadPool != null) {
-					threadPool.shutdown();
+					shutdown(threadPool);
 
 					logger.info(
 							"removed thread pool '" + taskExecutorThreadNamePrefixWorkspace + "-" + threadName + "'.");
 				}
 			} else {
-				ThreadPoolTaskExecutor threadPool = threadPoolWorkspace.get(threadName);
+				TaskExecutor threadPool = threadPoolWorkspace.get(threadName);
 				if (threadPool == null)
-					threadPoolWorkspace.put(threadName,
-							createThreadPool(taskExecutorThreadNamePrefixWorkspace, threadName, corePoolSize));
+					threadPoolWorkspace.put(threadName, createThreadPool(taskExecutorThreadNamePrefixWorkspace,
+							threadName, corePoolSize, virtual.isWorkspace()));
 				else {
-					threadPool.setCorePoolSize(corePoolSize);
-					threadPool.afterPropertiesSet();
+					resize(threadPool, corePoolSize);
 
 					logger.info("updated size of workspace thread pool '" + threadName + "' to " + corePoolSize + ".");
 				}
 			}
 		});
+
+		/*
+		 * The scheduling policy
+		 */
+		String policyName = configurationService.getWorkspace().getConfiguration().getSchedulerPolicy();
+		Optional<SchedulingPolicy.Type> policyType = SchedulingPolicy.Type.getType(policyName);
+		if (policyName != null && policyType.isEmpty())
+			logger.warn("unknown scheduling policy '" + policyName + "' - using default policy '"
+					+ SchedulingPolicy.Type.defaultType.name() + "'.");
+
+		policy = SchedulingPolicy.getPolicy(policyType.orElse(null),
+				configurationService.getWorkspace().getConfiguration().getSchedulerWeights(),
+				configurationService.getWorkspace().getConfiguration().getSchedulerPriorities());
+
+		logger.info("scheduling policy '" + policy.getType().name() + "'.");
+
+		/*
+		 * The retention of the done jobs. The job ids continue after the archived
+		 * ones.
+		 */
+		retention = configurationService.getApplication().getJobRetentionProperties();
+
+		archive = new JobArchive(retention.getRecords(),
+				retention.isArchive() ? configurationService.getWorkspace().getConfiguration().getJobsFile() : null,
+				retention.getArchiveSize(), retention.getArchiveBackups());
+		id = archive.load();
+
+		// The maximal age is given in minutes
+		retainer.scheduleWithFixedDelay(this::retain, 1, 1, TimeUnit.MINUTES);
+
+		/*
+		 * The workflows that were not done before the restart. Their ids are
+		 * reserved, since they are stored until they are recovered.
+		 */
+		if (configurationService.getApplication().isJobStore()) {
+			store = new JobStore(configurationService.getWorkspace().getConfiguration().getJobStoreFile());
+
+			recoverable.addAll(store.load());
+			for (JobStore.Entry entry : recoverable)
+				id = Math.max(id, entry.getId());
+
+			if (!recoverable.isEmpty())
+				logger.info("job store holds " + recoverable.size() + " workflows to recover.");
+		} else
+			store = null;
+
+		/*
+		 * The watchdog for the timeouts and stalls of the running jobs
+		 */
+		final ApplicationConfiguration.JobTimeoutProperties timeout = configurationService.getApplication()
+				.getJobTimeoutProperties();
+
+		watchdog = new JobWatchdog(timeout, () -> {
+			synchronized (running) {
+				return new ArrayList<>(running.values());
+			}
+		}, () -> configurationService.getWorkspace().getConfiguration().getSchedulerTimeouts());
+
+		logger.info("job watchdog every " + timeout.getInterval() + " ms, stall "
+				+ (timeout.getStall() == 0 ? "not detected" : "after " + (timeout.getStall() / 60000) + " minutes")
+				+ ".");
+	}
+
+	/**
+	 * Shuts the watchdog and the retainer down when the service is destroyed.
+	 *
+	 * @since 17
+	 */
+	@PreDestroy
+	private void destroy() {
+		watchdog.shutdown();
+		retainer.shutdownNow();
 	}
 
 	/**
-	 * Creates a thread pool.
+	 * Creates a thread pool. In virtual thread mode, every job runs on a new
+	 * virtual thread and the core pool size is the number of permits, this means,
+	 * the maximal number of jobs running concurrently. Virtual threads require a
+	 * Java 21 runtime, otherwise a pool of platform threads is created.
 	 * 
 	 * @param prefix       The prefix for the .
 	 * @param threadName   The thread name.
 	 * @param corePoolSize The core pool size.
+	 * @param isVirtual    True if the jobs should run on virtual threads.
 	 * @return The thread pool.
 	 * @since 1.8
 	 */
-	private ThreadPoolTaskExecutor createThreadPool(String prefix, String threadName, int corePoolSize) {
+	private TaskExecutor createThreadPool(String prefix, String threadName, int corePoolSize, boolean isVirtual) {
 		String name = prefix + "-" + threadName;
 
+		if (isVirtual)
+			try {
+				SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+
+				executor.setVirtualThreads(true);
+				resize(executor, corePoolSize);
+
+				register(executor, name);
+
+				logger.info("created virtual thread executor '" + name + "' with " + corePoolSize + " permits.");
+
+				return executor;
+			} catch (UnsupportedOperationException e) {
+				logger.warn("cannot create virtual thread executor '" + name + "' - " + e.getMessage()
+						+ " - use platform threads.");
+			}
+
 		ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
 
 		threadPool.setThreadNamePrefix(name + "-");
-		threadPool.setCorePoolSize(corePoolSize);
+		threadPool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		threadPool.setWaitForTasksToCompleteOnShutdown(false);
 
-		threadPool.afterPropertiesSet();
+		resize(threadPool, corePoolSize);
+		register(threadPool, name);
 
 		logger.info("created thread pool '" + name + "' with size " + corePoolSize + ".");
 
 		return threadPool;
 	}
 
+	/**
+	 * Registers the name and the gauges of the thread pool.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @param name       The thread pool name.
+	 * @since 17
+	 */
+	private void register(TaskExecutor threadPool, String name) {
+		threadPoolNames.put(threadPool, name);
+
+		metrics.register(name, () -> getSize(threadPool), () -> active.getOrDefault(threadPool, 0),
+				() -> waiting.getOrDefault(threadPool, 0));
+	}
+
+	/**
+	 * Returns the thread pool name.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @return The thread pool name.
+	 * @since 17
+	 */
+	private String getName(TaskExecutor threadPool) {
+		return threadPoolNames.getOrDefault(threadPool, "unknown");
+	}
+
+	/**
+	 * Queues the job and counts it as waiting for its thread pool.
+	 * 
+	 * @param job The job to queue.
+	 * @return True if the job was queued.
+	 * @since 17
+	 */
+	private synchronized boolean enqueue(Job job) {
+		if (!scheduled.add(job))
+			return false;
+
+		final TaskExecutor threadPool = getThreadPool(job);
+		waitingThreadPools.put(job, threadPool);
+		waiting.merge(threadPool, 1, Integer::sum);
+
+		return true;
+	}
+
+	/**
+	 * Removes the job from the queue and releases its count of the waiting jobs.
+	 * 
+	 * @param job The job to remove.
+	 * @return True if the job was removed from the queue.
+	 * @since 17
+	 */
+	private synchronized boolean dequeue(Job job) {
+		if (!scheduled.remove(job))
+			return false;
+
+		final TaskExecutor threadPool = waitingThreadPools.remove(job);
+		if (threadPool != null)
+			waiting.computeIfPresent(threadPool, (key, count) -> count > 1 ? count - 1 : null);
+
+		return true;
+	}
+
+	/**
+	 * Sets the size of the thread pool. A pool of platform threads does not grow
+	 * beyond its core pool size and its queue is bounded by it, since the scheduler
+	 * only passes jobs to a thread pool that has an idle thread. The queue buffers
+	 * the jobs that are passed while the threads of finished jobs are released. For
+	 * virtual threads, the size is the number of permits.
+	 * 
+	 * @param threadPool   The thread pool.
+	 * @param corePoolSize The core pool size.
+	 * @since 17
+	 */
+	private void resize(TaskExecutor threadPool, int corePoolSize) {
+		if (threadPool instanceof SimpleAsyncTaskExecutor)
+			virtualThreadPermits.put(threadPool, corePoolSize);
+		else if (threadPool instanceof ThreadPoolTaskExecutor executor) {
+			if (corePoolSize > executor.getMaxPoolSize()) {
+				executor.setMaxPoolSize(corePoolSize);
+				executor.setCorePoolSize(corePoolSize);
+			} else {
+				executor.setCorePoolSize(corePoolSize);
+				executor.setMaxPoolSize(corePoolSize);
+			}
+
+			executor.setQueueCapacity(corePoolSize);
+			executor.afterPropertiesSet();
+		}
+	}
+
+	/**
+	 * Returns the size of the thread pool, this means, the maximal number of jobs
+	 * running concurrently.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @return The size of the thread pool.
+	 * @since 17
+	 */
+	private int getSize(TaskExecutor threadPool) {
+		if (threadPool instanceof SimpleAsyncTaskExecutor)
+			return virtualThreadPermits.getOrDefault(threadPool, 1);
+		else if (threadPool instanceof ThreadPoolTaskExecutor executor)
+			return executor.getCorePoolSize();
+		else
+			return 1;
+	}
+
+	/**
+	 * Shuts the thread pool down. The running jobs are not interrupted.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @since 17
+	 */
+	private void shutdown(TaskExecutor threadPool) {
+		String name = threadPoolNames.remove(threadPool);
+		if (name != null)
+			metrics.unregister(name);
+
+		if (threadPool instanceof SimpleAsyncTaskExecutor executor) {
+			virtualThreadPermits.remove(threadPool);
+
+			executor.close();
+		} else if (threadPool instanceof ThreadPoolTaskExecutor executor)
+			executor.shutdown();
+	}
+
 	/**
 	 * Returns the start time.
 	 *
@@ -344,13 +723,24 @@ public class SchedulerService extends CoreService {
 	}
 
 	/**
-	 * Starts the job.
+	 * Returns the scheduling policy.
+	 *
+	 * @return The scheduling policy.
+	 * @since 17
+	 */
+	public SchedulingPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Returns the thread pool of the job.
 	 * 
-	 * @param job The job to start.
-	 * @since 1.8
+	 * @param job The job.
+	 * @return The thread pool of the job.
+	 * @since 17
 	 */
-	private void start(Job job) {
-		ThreadPoolTaskExecutor threadPool = null;
+	private TaskExecutor getThreadPool(Job job) {
+		TaskExecutor threadPool = null;
 
 		if (job.getThreadPoolWorkspace() != null) {
 			threadPool = threadPoolWorkspace.get(job.getThreadPoolWorkspace());
@@ -376,191 +766,506 @@ public class SchedulerService extends CoreService {
 				break;
 			}
 
-		job.start(threadPool, instance -> schedule());
-
-		if (job.isStateRunning())
-			running.put(job.getId(), job);
+		return threadPool;
 	}
 
 	/**
-	 * Schedule the jobs.
+	 * Starts the job.
 	 * 
+	 * @param job        The job to start.
+	 * @param threadPool The thread pool.
+	 * @return True if the job was passed to the thread pool. False if the thread
+	 *         pool rejected it.
 	 * @since 1.8
 	 */
-	private synchronized void schedule() {
-		// expunge done jobs from running table and search for a sequential job
-		boolean isSequentialRunning = false;
-		for (Job job : new ArrayList<>(running.values()))
-			if (job.isDone())
-				running.remove(job.getId());
-			else if (job.isProcessingSequential())
-				isSequentialRunning = true;
+	private boolean start(Job job, TaskExecutor threadPool) {
+		final String name = getName(threadPool);
 
-		synchronized (scheduled) {
-			for (Job job : new ArrayList<>(scheduled))
-				if (!job.isStateScheduled())
-					scheduled.remove(job);
+		job.setMetrics(metrics);
 
-			// if a sequential process is running, do not schedule additional processes
-			if (isRunning && !isSequentialRunning)
-				for (Job job : new ArrayList<>(scheduled))
-					if (job.isProcessingSequential()) {
-						if (running.isEmpty()) {
-							scheduled.remove(job);
+		try {
+			job.start(threadPool, instance -> {
+				metrics.executed(instance, name);
 
-							start(job);
-						}
+				schedule();
 
-						break;
-					} else if (job.depend(running.values()).isEmpty()) {
-						scheduled.remove(job);
+				requestRetain();
+			});
+		} catch (TaskRejectedException e) {
+			logger.warn("thread pool rejected job " + job.getId() + " - " + e.getMessage());
 
-						start(job);
-					}
+			metrics.rejected(job, name, JobMetrics.Rejection.executor);
+
+			return false;
 		}
-	}
 
-	/**
-	 * Schedules the job if it is not under scheduler control.
-	 * 
-	 * @param job The job to schedule.
-	 * @return The job state.
-	 * @since 1.8
-	 */
-	public synchronized Job.State schedule(Job job) {
-		if (job != null && !job.isSchedulerControl() && job.schedule(++id)) {
-			jobs.put(job.getId(), job);
+		String tenant = policy.getTenant(job);
+		WaitTimes times = waitTimes.get(tenant);
+		if (times == null) {
+			times = new WaitTimes();
+			waitTimes.put(tenant, times);
+		}
+		final long wait = System.currentTimeMillis() - job.getScheduled().getTime();
+		times.add(wait);
+		metrics.waited(job, name, wait);
 
-			scheduled.add(job);
+		policy.started(job);
 
-			schedule();
+		/*
+		 * The job is running as soon as it is passed to the thread pool, even if the
+		 * thread has not yet changed its state. Thus, its resource is locked until it
+		 * is done.
+		 */
+		if (!job.isDone()) {
+			running.put(job.getId(), job);
+
+			scheduled.lock(job);
 		}
 
-		return job == null ? null : job.getState();
+		return true;
 	}
 
 	/**
-	 * Reschedules the job to the desired position.
+	 * Schedule the jobs. Only the scheduled jobs that are ready, this means, whose
+	 * resource is not locked by a running job, are inspected. A ready job is only
+	 * started if its thread pool has an idle thread and its cost fits into the
+	 * resource budget. Thus, the jobs wait in the scheduler queue, where the
+	 * scheduling policy selects the next job to start. If the selected job does not
+	 * fit, its cost is reserved for the remainder of the round, so that lighter
+	 * jobs can be packed beside the running ones without starving it.
 	 * 
-	 * @param id       The job id.
-	 * @param position The position.
-	 * @param index    The index. It is needed if the index position type is used.
-	 *                 If the index is smaller than 0, it is rescheduled at the
-	 *                 beginning of the queue. If it is larger than the queue size,
-	 *                 it is rescheduled to the end of the queue.
-	 * @throws IllegalArgumentException Throws if the job is unknown.
 	 * @since 1.8
 	 */
-	private synchronized void reschedule(int id, Position position, int index) throws IllegalArgumentException {
-		Job job = getJob(id);
+	private synchronized void schedule() {
+		final long begin = System.nanoTime();
 
-		synchronized (scheduled) {
-			if (scheduled.remove(job))
-				switch (position) {
-				case first:
-					scheduled.add(0, job);
-					break;
-
-				case last:
-					scheduled.add(job);
-					break;
-
-				case index:
-					if (index < 0)
-						scheduled.add(0, job);
-					else if (index >= scheduled.size())
-						scheduled.add(job);
-					else
-						scheduled.add(index, job);
-					break;
-
-				default:
-					break;
-				}
-		}
+		// expunge done jobs from running table, release their resources, count the
+		// busy threads and search for a sequential job
+		boolean isSequentialRunning = false;
+		Hashtable<TaskExecutor, Integer> busy = new Hashtable<>();
+		Cost used = Cost.none;
+		for (Job job : new ArrayList<>(running.values()))
+			if (job.isDone()) {
+				running.remove(job.getId());
 
-		schedule();
-	}
+				scheduled.release(job);
+			} else {
+				busy.merge(getThreadPool(job), 1, Integer::sum);
+				used = used.add(getCost(job));
 
-	/**
-	 * Swaps the scheduled jobs.
-	 * 
-	 * @param id1 The id of the job to swap.
-	 * @param id2 The id of the job to swap.
-	 * @since 1.8
-	 */
-	public void swapScheduled(int id1, int id2) {
-		if (id1 > 0 && id2 > 0 && id1 != id2) {
-			int index1 = -1, index2 = -1;
+				if (job.isProcessingSequential())
+					isSequentialRunning = true;
+			}
 
-			synchronized (scheduled) {
-				int index = 0;
-				for (Job job : scheduled) {
-					if (job.getId() == id1) {
-						index1 = index;
+		// if a sequential process is running, do not schedule additional processes
+		if (isRunning && !isSequentialRunning) {
+			// a sequential job can only start if no further job is running
+			Job sequential = scheduled.getSequential();
 
-						if (index2 >= 0)
-							break;
-					} else if (job.getId() == id2) {
-						index2 = index;
+			// the ready jobs whose thread pool has an idle thread
+			List<Job> candidates = new ArrayList<>();
+			Hashtable<Job, TaskExecutor> threadPools = new Hashtable<>();
+			for (Job job : scheduled.getReady(sequential))
+				if (!job.isStateScheduled())
+					dequeue(job);
+				else {
+					TaskExecutor threadPool = getThreadPool(job);
 
-						if (index1 >= 0)
-							break;
+					if (isIdle(threadPool, busy)) {
+						candidates.add(job);
+						threadPools.put(job, threadPool);
 					}
-					index++;
 				}
 
-				if (index1 >= 0 && index2 >= 0) {
-					if (index1 > index2) {
-						int aux = index1;
+			boolean isReserved = false;
+			while (!candidates.isEmpty()) {
+				Job job = policy.next(candidates);
+				TaskExecutor threadPool = threadPools.get(job);
+
+				candidates.remove(job);
 
-						index1 = index2;
-						index2 = aux;
+				final Cost cost = getCost(job);
+				if (!isAdmissible(cost, used)) {
+					if (!isReserved) {
+						used = used.add(cost);
+						isReserved = true;
 					}
 
-					Job job1 = scheduled.remove(index1);
-					Job job2 = scheduled.remove(index2 - 1);
+					continue;
+				}
+
+				if (start(job, threadPool)) {
+					dequeue(job);
+					busy.merge(threadPool, 1, Integer::sum);
+					used = used.add(cost);
 
-					scheduled.add(index1, job2);
-					scheduled.add(index2, job1);
+					if (isIdle(threadPool, busy))
+						continue;
 				}
+
+				candidates.removeIf(candidate -> threadPools.get(candidate) == threadPool);
 			}
 
-			schedule();
+			if (sequential != null && running.isEmpty()) {
+				if (!sequential.isStateScheduled() || start(sequential, getThreadPool(sequential)))
+					dequeue(sequential);
+			}
 		}
-	}
 
-	/**
-	 * Reschedules the job to the desired index. The first index is 1.
-	 * 
-	 * @param id    The job id.
-	 * @param index The index. If the index is smaller than 0, it is rescheduled at
-	 *              the beginning of the queue. If it is larger than the queue size,
-	 *              it is rescheduled to the end of the queue.
-	 * @throws IllegalArgumentException Throws if the job is unknown.
-	 * @since 1.8
-	 */
-	public void reschedule(int id, int index) throws IllegalArgumentException {
-		reschedule(id, Position.index, index - 1);
+		active = busy;
+
+		metrics.scheduled(System.nanoTime() - begin);
 	}
 
 	/**
-	 * Reschedules the job to the top of the queue.
-	 * 
-	 * @param id The job id.
-	 * @throws IllegalArgumentException Throws if the job is unknown.
-	 * @since 1.8
+	 * Requests the retention policy to be applied to the done jobs by the retainer
+	 * thread. Pending requests are coalesced.
+	 *
+	 * @since 17
 	 */
-	public void rescheduleBegin(int id) throws IllegalArgumentException {
-		reschedule(id, Position.first, 0);
+	private void requestRetain() {
+		if (isRetainRequested.compareAndSet(false, true))
+			try {
+				retainer.execute(this::retain);
+			} catch (RejectedExecutionException e) {
+				// The service is shutting down
+				isRetainRequested.set(false);
+			}
 	}
 
 	/**
-	 * Reschedules the job to the end of the queue.
-	 * 
-	 * @param id The job id.
-	 * @throws IllegalArgumentException Throws if the job is unknown.
-	 * @since 1.8
+	 * Applies the retention policy to the done jobs. The oldest done jobs are
+	 * evicted and replaced by compact records as long as the maximal number, the
+	 * maximal age or the maximal log bytes of the retained done jobs are exceeded.
+	 * It runs on the retainer thread when a job is done and periodically for the
+	 * maximal age, but never under the scheduler lock, since it inspects all jobs
+	 * and archives the records on disk.
+	 *
+	 * @since 17
+	 */
+	private void retain() {
+		isRetainRequested.set(false);
+
+		List<Job> done = new ArrayList<>();
+		long bytes = 0;
+		for (Job job : new ArrayList<>(jobs.values()))
+			if (job.isDone() && job.getEnd() != null) {
+				done.add(job);
+				bytes += job.getJournal().getLogBytes();
+			}
+
+		Collections.sort(done, (o1, o2) -> o1.getEnd().compareTo(o2.getEnd()));
+
+		final long expired = System.currentTimeMillis() - retention.getAge();
+		int count = done.size();
+		for (Job job : done) {
+			if (count <= retention.getCount() && job.getEnd().getTime() >= expired && bytes <= retention.getBytes())
+				break;
+
+			count--;
+			bytes -= job.getJournal().getLogBytes();
+
+			// the job may have been removed in the meantime
+			if (jobs.remove(job.getId(), job)) {
+				removed(job);
+
+				archive.archive(new JobRecord(job));
+			}
+		}
+	}
+
+	/**
+	 * Returns the cost of the job, this means, the maximal costs declared for its
+	 * service providers.
+	 * 
+	 * @param job The job.
+	 * @return The cost of the job.
+	 * @since 17
+	 */
+	private Cost getCost(Job job) {
+		int cpu = 0;
+		long memory = 0;
+		for (String id : job.getServiceProviders()) {
+			cpu = Math.max(cpu, cpuCosts.getOrDefault(id, 0));
+			memory = Math.max(memory, memoryCosts.getOrDefault(id, 0));
+		}
+
+		return cpu == 0 && memory == 0 ? Cost.none : new Cost(cpu, memory);
+	}
+
+	/**
+	 * Returns true if the cost fits into the resource budget beside the used
+	 * resources. Jobs without cost are always admissible. A job whose cost exceeds
+	 * the budget is only admissible if no other job uses resources.
+	 * 
+	 * @param cost The cost of the job.
+	 * @param used The used resources.
+	 * @return True if the cost fits into the resource budget.
+	 * @since 17
+	 */
+	private boolean isAdmissible(Cost cost, Cost used) {
+		if (cost == Cost.none || used == Cost.none)
+			return true;
+
+		return used.getCpu() + cost.getCpu() <= budget.getCpu()
+				&& (budget.getMemory() == 0 || used.getMemory() + cost.getMemory() <= budget.getMemory());
+	}
+
+	/**
+	 * Returns true if the thread pool has an idle thread.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @param busy       The number of busy threads of the thread pools.
+	 * @return True if the thread pool has an idle thread.
+	 * @since 17
+	 */
+	private boolean isIdle(TaskExecutor threadPool, Hashtable<TaskExecutor, Integer> busy) {
+		Integer threads = busy.get(threadPool);
+
+		return getSize(threadPool) > (threads == null ? 0 : threads);
+	}
+
+	/**
+	 * Returns the number of seconds a client should wait before retrying a request
+	 * that was rejected, since the thread pool is saturated.
+	 *
+	 * @return The number of seconds a client should wait before retrying a
+	 *         rejected request.
+	 * @since 17
+	 */
+	public int getRetryAfter() {
+		return retryAfter;
+	}
+
+	/**
+	 * Returns the capacity of the thread pool, this means, the maximal number of
+	 * scheduled jobs that are waiting for a thread of the pool.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @return The capacity. 0 if the capacity is not limited.
+	 * @since 17
+	 */
+	private int getCapacity(TaskExecutor threadPool) {
+		if (threadPool == threadPoolTraining)
+			return threadPoolCapacities.getTraining();
+		else if (threadPool == threadPoolWorkflow)
+			return threadPoolCapacities.getWorkflow();
+		else if (threadPool == threadPoolTask)
+			return threadPoolCapacities.getTask();
+		else if (threadPool == threadPoolWork)
+			return threadPoolCapacities.getWork();
+		else
+			return threadPoolCapacities.getWorkspace();
+	}
+
+	/**
+	 * Returns true if the number of scheduled jobs that are waiting for a thread of
+	 * the pool reached its capacity.
+	 * 
+	 * @param threadPool The thread pool.
+	 * @return True if the thread pool is saturated.
+	 * @since 17
+	 */
+	private synchronized boolean isCapacityReached(TaskExecutor threadPool) {
+		final int capacity = getCapacity(threadPool);
+
+		return capacity > 0 && waiting.getOrDefault(threadPool, 0) >= capacity;
+	}
+
+	/**
+	 * Returns true if the number of scheduled jobs that are waiting for a thread of
+	 * the application thread pool reached its capacity. The workspace thread pools
+	 * are only inspected when scheduling their jobs.
+	 * 
+	 * @param threadPool The application thread pool.
+	 * @return True if the application thread pool is saturated.
+	 * @since 17
+	 */
+	public boolean isSaturated(ThreadPool threadPool) {
+		switch (threadPool) {
+		case training:
+			return isCapacityReached(threadPoolTraining);
+		case workflow:
+			return isCapacityReached(threadPoolWorkflow);
+		case task:
+			return isCapacityReached(threadPoolTask);
+		case work:
+			return isCapacityReached(threadPoolWork);
+		case workspace:
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Places the job under scheduler control if it is not yet.
+	 * 
+	 * @param job The job to admit.
+	 * @return True if the job was admitted.
+	 * @throws SaturationException Throws if the number of scheduled jobs that are
+	 *                             waiting for a thread of the job pool reached its
+	 *                             capacity.
+	 * @since 17
+	 */
+	private synchronized boolean admit(Job job) throws SaturationException {
+		if (job != null && !job.isSchedulerControl() && isCapacityReached(getThreadPool(job))) {
+			final String threadPool = job.getThreadPoolWorkspace() == null ? job.getThreadPool().name()
+					: ThreadPool.workspace.name() + " " + job.getThreadPoolWorkspace();
+
+			logger.warn("rejected job '" + job.getShortDescription() + "', since the thread pool " + threadPool
+					+ " is saturated.");
+
+			metrics.rejected(job, getName(getThreadPool(job)), JobMetrics.Rejection.saturated);
+
+			throw new SaturationException("SchedulerService: the thread pool " + threadPool
+					+ " is saturated, retry after " + retryAfter + " seconds.", retryAfter);
+		}
+
+		if (job != null && !job.isSchedulerControl() && job.schedule(++id, this::updated)) {
+			jobs.put(job.getId(), job);
+
+			if (store != null && job instanceof Workflow) {
+				store.scheduled((Workflow) job);
+				((Workflow) job).setStepCallback(store);
+			}
+
+			return true;
+		} else
+			return false;
+	}
+
+	/**
+	 * Schedules the job if it is not under scheduler control.
+	 * 
+	 * @param job The job to schedule.
+	 * @return The job state.
+	 * @throws SaturationException Throws if the number of scheduled jobs that are
+	 *                             waiting for a thread of the job pool reached its
+	 *                             capacity.
+	 * @since 1.8
+	 */
+	public synchronized Job.State schedule(Job job) throws SaturationException {
+		if (admit(job)) {
+			enqueue(job);
+
+			schedule();
+		}
+
+		return job == null ? null : job.getState();
+	}
+
+	/**
+	 * Holds the job if it is not under scheduler control. A held job is scheduled,
+	 * but it is not queued, thus, it does not wait for a thread of its pool until
+	 * it is released. Jobs that depend on an event, e.g. a batch, are held so that
+	 * they do not block a thread while waiting.
+	 * 
+	 * @param job The job to hold.
+	 * @return The job state.
+	 * @throws SaturationException Throws if the number of scheduled jobs that are
+	 *                             waiting for a thread of the job pool reached its
+	 *                             capacity.
+	 * @since 17
+	 */
+	public synchronized Job.State hold(Job job) throws SaturationException {
+		admit(job);
+
+		return job == null ? null : job.getState();
+	}
+
+	/**
+	 * Releases the held job, this means, it is queued in order to start. Jobs that
+	 * are not held are ignored.
+	 * 
+	 * @param job The held job.
+	 * @since 17
+	 */
+	public synchronized void release(Job job) {
+		if (job != null && job.isStateScheduled() && jobs.get(job.getId()) == job && enqueue(job))
+			schedule();
+	}
+
+	/**
+	 * Reschedules the job to the desired position.
+	 * 
+	 * @param id       The job id.
+	 * @param position The position.
+	 * @param index    The index. It is needed if the index position type is used.
+	 *                 If the index is smaller than 0, it is rescheduled at the
+	 *                 beginning of the queue. If it is larger than the queue size,
+	 *                 it is rescheduled to the end of the queue.
+	 * @throws IllegalArgumentException Throws if the job is unknown.
+	 * @since 1.8
+	 */
+	private synchronized void reschedule(int id, Position position, int index) throws IllegalArgumentException {
+		Job job = getJob(id);
+
+		switch (position) {
+		case first:
+			scheduled.move(job, -1);
+			break;
+
+		case last:
+			scheduled.move(job, Integer.MAX_VALUE);
+			break;
+
+		case index:
+			scheduled.move(job, index);
+			break;
+
+		default:
+			break;
+		}
+
+		schedule();
+	}
+
+	/**
+	 * Swaps the scheduled jobs.
+	 * 
+	 * @param id1 The id of the job to swap.
+	 * @param id2 The id of the job to swap.
+	 * @since 1.8
+	 */
+	public synchronized void swapScheduled(int id1, int id2) {
+		if (id1 > 0 && id2 > 0 && id1 != id2) {
+			scheduled.swap(jobs.get(id1), jobs.get(id2));
+
+			schedule();
+		}
+	}
+
+	/**
+	 * Reschedules the job to the desired index. The first index is 1.
+	 * 
+	 * @param id    The job id.
+	 * @param index The index. If the index is smaller than 0, it is rescheduled at
+	 *              the beginning of the queue. If it is larger than the queue size,
+	 *              it is rescheduled to the end of the queue.
+	 * @throws IllegalArgumentException Throws if the job is unknown.
+	 * @since 1.8
+	 */
+	public void reschedule(int id, int index) throws IllegalArgumentException {
+		reschedule(id, Position.index, index - 1);
+	}
+
+	/**
+	 * Reschedules the job to the top of the queue.
+	 * 
+	 * @param id The job id.
+	 * @throws IllegalArgumentException Throws if the job is unknown.
+	 * @since 1.8
+	 */
+	public void rescheduleBegin(int id) throws IllegalArgumentException {
+		reschedule(id, Position.first, 0);
+	}
+
+	/**
+	 * Reschedules the job to the end of the queue.
+	 * 
+	 * @param id The job id.
+	 * @throws IllegalArgumentException Throws if the job is unknown.
+	 * @since 1.8
 	 */
 	public void rescheduleEnd(int id) throws IllegalArgumentException {
 		reschedule(id, Position.last, 0);
@@ -617,7 +1322,48 @@ public class SchedulerService extends CoreService {
 	 * @since 1.8
 	 */
 	public Set<Job> associatedScheduled(Job.Cluster cluster) {
-		return associated(cluster, scheduled);
+		return associated(cluster, getScheduled());
+	}
+
+	/**
+	 * Returns the scheduled jobs in queue order.
+	 * 
+	 * @return The scheduled jobs in queue order.
+	 * @since 17
+	 */
+	private synchronized List<Job> getScheduled() {
+		return scheduled.getJobs();
+	}
+
+	/**
+	 * Returns the tenants of the scheduling policy with their scheduled jobs and
+	 * recent wait times.
+	 * 
+	 * @return The tenants sorted by name.
+	 * @since 17
+	 */
+	public synchronized List<Tenant> getTenants() {
+		Hashtable<String, Tenant> tenants = new Hashtable<>();
+		for (String name : waitTimes.keySet())
+			tenants.put(name, new Tenant(name, policy.getWeight(name), waitTimes.get(name)));
+
+		final long now = System.currentTimeMillis();
+		for (Job job : scheduled.getJobs()) {
+			String name = policy.getTenant(job);
+
+			Tenant tenant = tenants.get(name);
+			if (tenant == null) {
+				tenant = new Tenant(name, policy.getWeight(name), null);
+				tenants.put(name, tenant);
+			}
+
+			tenant.scheduled(now - job.getScheduled().getTime());
+		}
+
+		List<Tenant> sorted = new ArrayList<>(tenants.values());
+		Collections.sort(sorted, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+
+		return sorted;
 	}
 
 	/**
@@ -641,9 +1387,166 @@ public class SchedulerService extends CoreService {
 	 * @since 1.8
 	 */
 	public void cancelJob(int id) throws IllegalArgumentException {
-		getJob(id).cancel();
+		Job job = getJob(id);
+
+		synchronized (this) {
+			job.cancel();
+
+			if (job.isDone())
+				dequeue(job);
+		}
 
 		schedule();
+
+		requestRetain();
+	}
+
+	/**
+	 * Returns the workflows that were not done before the restart and removes them
+	 * from the recoverable ones.
+	 *
+	 * @return The workflows to recover in scheduling order.
+	 * @since 17
+	 */
+	synchronized List<JobStore.Entry> recover() {
+		List<JobStore.Entry> entries = new ArrayList<>(recoverable);
+		recoverable.clear();
+
+		return entries;
+	}
+
+	/**
+	 * Removes the recovered workflow from the store, since it was rescheduled with
+	 * a new id or it cannot be recovered.
+	 *
+	 * @param id The job id of the recovered workflow.
+	 * @since 17
+	 */
+	void recovered(int id) {
+		if (store != null)
+			store.done(id);
+	}
+
+	/**
+	 * Notifies the event listeners that the job was updated.
+	 *
+	 * @param job The updated job.
+	 * @since 17
+	 */
+	private void updated(Job job) {
+		if (store != null && job.isDone())
+			store.done(job.getId());
+
+		for (EventListener listener : eventListeners)
+			listener.updated(job);
+	}
+
+	/**
+	 * Releases the removed job and notifies the event listeners.
+	 *
+	 * @param job The removed job.
+	 * @since 17
+	 */
+	private void removed(Job job) {
+		job.setObserver(null);
+		job.getJournal().release();
+
+		for (EventListener listener : eventListeners)
+			listener.removed(job);
+	}
+
+	/**
+	 * Registers the event listener.
+	 *
+	 * @param listener The listener to register.
+	 * @since 17
+	 */
+	public void register(EventListener listener) {
+		if (listener != null)
+			eventListeners.add(listener);
+	}
+
+	/**
+	 * Unregisters the event listener.
+	 *
+	 * @param listener The listener to unregister.
+	 * @since 17
+	 */
+	public void unregister(EventListener listener) {
+		eventListeners.remove(listener);
+	}
+
+	/**
+	 * Returns true if the job is associated to the given clusters. The selection
+	 * rules are the same as for {@link #getJobs(Collection, Set, String)}.
+	 *
+	 * @param job              The job.
+	 * @param clusters         The clusters. If null, all jobs are associated.
+	 * @param trainingModelIds The assemble model ids of the associated training
+	 *                         jobs.
+	 * @param owner            The owner for the work jobs.
+	 * @return True if the job is associated to the given clusters.
+	 * @since 17
+	 */
+	public static boolean isAssociated(Job job, Collection<Job.Cluster> clusters, Set<String> trainingModelIds,
+			String owner) {
+		if (job == null)
+			return false;
+		else if (clusters == null)
+			return true;
+		else if (job instanceof Training training)
+			return trainingModelIds != null && trainingModelIds.contains(training.getModelId());
+		else if (job instanceof Work work)
+			return work.isOwnerRequirements(owner);
+		else {
+			final Set<Job> jobs = Collections.singleton(job);
+
+			for (Job.Cluster cluster : clusters)
+				if (cluster != null && !cluster.associated(jobs).isEmpty())
+					return true;
+
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the records of the evicted done jobs.
+	 *
+	 * @return The records of the evicted done jobs in eviction order.
+	 * @since 17
+	 */
+	public List<JobRecord> getRecords() {
+		return archive.getRecords();
+	}
+
+	/**
+	 * Returns true if the record of an evicted job is associated to the given
+	 * clusters. The selection rules are the same as for
+	 * {@link #isAssociated(Job, Collection, Set, String)}, whereby only projects
+	 * are considered as clusters.
+	 *
+	 * @param record           The job record.
+	 * @param clusters         The clusters. If null, all records are associated.
+	 * @param trainingModelIds The assemble model ids of the associated training
+	 *                         jobs.
+	 * @param owner            The owner for the work jobs.
+	 * @return True if the record is associated to the given clusters.
+	 * @since 17
+	 */
+	private static boolean isAssociated(JobRecord record, Collection<Job.Cluster> clusters,
+			Set<String> trainingModelIds, String owner) {
+		if (clusters == null)
+			return true;
+		else if (record.getModelId() != null)
+			return trainingModelIds != null && trainingModelIds.contains(record.getModelId());
+		else if (record.getProjectId() != null) {
+			for (Job.Cluster cluster : clusters)
+				if (cluster instanceof Project project && record.getProjectId().equals(project.getId()))
+					return true;
+
+			return false;
+		} else
+			return record.getUser() == null || record.getUser().equals(owner == null ? null : owner.trim());
 	}
 
 	/**
@@ -652,13 +1555,9 @@ public class SchedulerService extends CoreService {
 	 * @since 1.8
 	 */
 	public synchronized void expungeDone() {
-		List<Integer> expunges = new ArrayList<>();
-		for (int id : jobs.keySet())
-			if (jobs.get(id).isDone())
-				expunges.add(id);
-
-		for (int id : expunges)
-			jobs.remove(id);
+		for (Job job : new ArrayList<>(jobs.values()))
+			if (job.isDone() && jobs.remove(job.getId(), job))
+				removed(job);
 	}
 
 	/**
@@ -671,8 +1570,8 @@ public class SchedulerService extends CoreService {
 	public synchronized boolean removeDone(int id) {
 		Job job = jobs.get(id);
 
-		if (job != null && job.isDone()) {
-			jobs.remove(id);
+		if (job != null && job.isDone() && jobs.remove(id, job)) {
+			removed(job);
 
 			return true;
 		} else
@@ -746,22 +1645,56 @@ public class SchedulerService extends CoreService {
 
 		// Add scheduled target jobs to the container in the same order
 		Container container = new Container();
-		for (Job job : scheduled)
+		for (Job job : getScheduled())
 			if (jobs.remove(job))
 				container.getScheduled().add(job);
 
-		// Adds running and completed target jobs to the snapshot and sorts them.
+		// Adds held, running and completed target jobs to the snapshot and sorts them.
 		for (Job job : jobs)
-			if (job.isStateRunning())
+			if (job.isStateScheduled())
+				container.getScheduled().add(job);
+			else if (job.isStateRunning())
 				container.getRunning().add(job);
 			else
 				container.getDone().add(job);
 
+		// Adds the records of the evicted target jobs
+		for (JobRecord record : getRecords())
+			if (isAssociated(record, clusters, trainingModelIds, owner))
+				container.getRecords().add(record);
+
 		container.sort();
 
 		return container;
 	}
 
+	/**
+	 * Defines event listeners for the jobs under control of the scheduler.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public interface EventListener {
+		/**
+		 * Callback method when the state, the progress or the logs of the job were
+		 * updated. The method is called in the thread that performed the update,
+		 * thus, it should return immediately.
+		 *
+		 * @param job The updated job.
+		 * @since 17
+		 */
+		public void updated(Job job);
+
+		/**
+		 * Callback method when the done job was removed from the scheduler.
+		 *
+		 * @param job The removed job.
+		 * @since 17
+		 */
+		public void removed(Job job);
+	}
+
 	/**
 	 * Defines scheduler containers.
 	 *
@@ -785,6 +1718,11 @@ public class SchedulerService extends CoreService {
 		 */
 		private final List<Job> done = new ArrayList<>();
 
+		/**
+		 * The records of the evicted done jobs sorted by end time in descending order.
+		 */
+		private final List<JobRecord> records = new ArrayList<>();
+
 		/**
 		 * Default constructor for a scheduler snapshot.
 		 * 
@@ -802,6 +1740,7 @@ public class SchedulerService extends CoreService {
 		private void sort() {
 			Collections.sort(running, (o1, o2) -> o2.getStart().compareTo(o1.getStart()));
 			Collections.sort(done, (o1, o2) -> o2.getEnd().compareTo(o1.getEnd()));
+			Collections.reverse(records);
 		}
 
 		/**
@@ -834,5 +1773,284 @@ public class SchedulerService extends CoreService {
 			return done;
 		}
 
+		/**
+		 * Returns the records of the evicted done jobs sorted by end time in
+		 * descending order.
+		 *
+		 * @return The records of the evicted done jobs.
+		 * @since 17
+		 */
+		public List<JobRecord> getRecords() {
+			return records;
+		}
+
+	}
+
+	/**
+	 * Defines immutable resource costs.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static final class Cost {
+		/**
+		 * The cost of jobs that do not declare resources.
+		 */
+		private static final Cost none = new Cost(0, 0);
+
+		/**
+		 * The CPU cores.
+		 */
+		private final int cpu;
+
+		/**
+		 * The memory in megabytes.
+		 */
+		private final long memory;
+
+		/**
+		 * Creates a resource cost.
+		 * 
+		 * @param cpu    The CPU cores.
+		 * @param memory The memory in megabytes.
+		 * @since 17
+		 */
+		private Cost(int cpu, long memory) {
+			super();
+
+			this.cpu = cpu;
+			this.memory = memory;
+		}
+
+		/**
+		 * Returns the sum of this and the given cost.
+		 * 
+		 * @param cost The cost to add.
+		 * @return The sum.
+		 * @since 17
+		 */
+		public Cost add(Cost cost) {
+			return cost == none ? this : (this == none ? cost : new Cost(cpu + cost.cpu, memory + cost.memory));
+		}
+
+		/**
+		 * Returns the CPU cores.
+		 *
+		 * @return The CPU cores.
+		 * @since 17
+		 */
+		public int getCpu() {
+			return cpu;
+		}
+
+		/**
+		 * Returns the memory in megabytes.
+		 *
+		 * @return The memory in megabytes.
+		 * @since 17
+		 */
+		public long getMemory() {
+			return memory;
+		}
+	}
+
+	/**
+	 * Defines recent wait times in milliseconds. The wait time of a job is the time
+	 * between being scheduled and started.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static final class WaitTimes {
+		/**
+		 * The recent wait times. It is a ring buffer.
+		 */
+		private final long[] times = new long[tenantWaitTimes];
+
+		/**
+		 * The number of started jobs.
+		 */
+		private long started = 0;
+
+		/**
+		 * Adds the wait time of a started job.
+		 * 
+		 * @param time The wait time.
+		 * @since 17
+		 */
+		public void add(long time) {
+			times[(int) (started++ % times.length)] = Math.max(0, time);
+		}
+
+		/**
+		 * Returns the recent wait times sorted in ascending order.
+		 * 
+		 * @return The recent wait times sorted in ascending order.
+		 * @since 17
+		 */
+		public long[] getSorted() {
+			long[] sorted = Arrays.copyOf(times, (int) Math.min(started, times.length));
+			Arrays.sort(sorted);
+
+			return sorted;
+		}
+	}
+
+	/**
+	 * Defines tenants of the scheduling policy, this means, users or projects.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static final class Tenant {
+		/**
+		 * The name.
+		 */
+		private final String name;
+
+		/**
+		 * The weight.
+		 */
+		private final int weight;
+
+		/**
+		 * The number of scheduled jobs.
+		 */
+		private int scheduled = 0;
+
+		/**
+		 * The wait time of the longest waiting scheduled job in milliseconds.
+		 */
+		private long waitOldest = 0;
+
+		/**
+		 * The number of started jobs.
+		 */
+		private final long started;
+
+		/**
+		 * The mean wait time of the recently started jobs in milliseconds.
+		 */
+		private final long waitMean;
+
+		/**
+		 * The 95th percentile wait time of the recently started jobs in milliseconds.
+		 */
+		private final long waitPercentile95;
+
+		/**
+		 * Creates a tenant.
+		 * 
+		 * @param name      The name.
+		 * @param weight    The weight.
+		 * @param waitTimes The recent wait times. Null if no job was started.
+		 * @since 17
+		 */
+		private Tenant(String name, int weight, WaitTimes waitTimes) {
+			super();
+
+			this.name = name;
+			this.weight = weight;
+
+			long[] times = waitTimes == null ? new long[0] : waitTimes.getSorted();
+			started = waitTimes == null ? 0 : waitTimes.started;
+
+			if (times.length == 0) {
+				waitMean = 0;
+				waitPercentile95 = 0;
+			} else {
+				long sum = 0;
+				for (long time : times)
+					sum += time;
+
+				waitMean = sum / times.length;
+				waitPercentile95 = times[(int) Math.ceil(0.95 * times.length) - 1];
+			}
+		}
+
+		/**
+		 * Adds a scheduled job.
+		 * 
+		 * @param wait The wait time of the job in milliseconds.
+		 * @since 17
+		 */
+		private void scheduled(long wait) {
+			scheduled++;
+			waitOldest = Math.max(waitOldest, wait);
+		}
+
+		/**
+		 * Returns the name.
+		 *
+		 * @return The name.
+		 * @since 17
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the weight.
+		 *
+		 * @return The weight.
+		 * @since 17
+		 */
+		public int getWeight() {
+			return weight;
+		}
+
+		/**
+		 * Returns the number of scheduled jobs, this means, the queue depth.
+		 *
+		 * @return The number of scheduled jobs.
+		 * @since 17
+		 */
+		public int getScheduled() {
+			return scheduled;
+		}
+
+		/**
+		 * Returns the wait time of the longest waiting scheduled job in milliseconds.
+		 *
+		 * @return The wait time of the longest waiting scheduled job.
+		 * @since 17
+		 */
+		public long getWaitOldest() {
+			return waitOldest;
+		}
+
+		/**
+		 * Returns the number of started jobs.
+		 *
+		 * @return The number of started jobs.
+		 * @since 17
+		 */
+		public long getStarted() {
+			return started;
+		}
+
+		/**
+		 * Returns the mean wait time of the recently started jobs in milliseconds.
+		 *
+		 * @return The mean wait time of the recently started jobs.
+		 * @since 17
+		 */
+		public long getWaitMean() {
+			return waitMean;
+		}
+
+		/**
+		 * Returns the 95th percentile wait time of the recently started jobs in
+		 * milliseconds.
+		 *
+		 * @return The 95th percentile wait time of the recently started jobs.
+		 * @since 17
+		 */
+		public long getWaitPercentile95() {
+			return waitPercentile95;
+		}
 	}
 }
@@ -0,0 +1,378 @@
+/**
+ * File:     SchedulingPolicy.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Defines scheduling policies. A policy selects the next job to start among the
+ * scheduled jobs that are ready, this means, whose resource is not locked and
+ * whose thread pool has an idle thread.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public abstract class SchedulingPolicy {
+	/**
+	 * The tenant for jobs without user or project.
+	 */
+	public static final String unknownTenant = "unknown";
+
+	/**
+	 * Defines policy types.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public enum Type {
+		/**
+		 * The first in first out policy, this means, the jobs are started in queue
+		 * order.
+		 */
+		fifo,
+		/**
+		 * The weighted fair queuing policy per user.
+		 */
+		user,
+		/**
+		 * The weighted fair queuing policy per project.
+		 */
+		project,
+		/**
+		 * The priority class policy. The priority classes are the thread pools.
+		 */
+		priority;
+
+		/**
+		 * The default type.
+		 */
+		public static final Type defaultType = fifo;
+
+		/**
+		 * Returns the type for given name.
+		 *
+		 * @param name The name. The name is case insensitive.
+		 * @return The type for given name. Empty, if the type is not defined.
+		 * @since 17
+		 */
+		public static Optional<Type> getType(String name) {
+			if (name != null) {
+				name = name.trim().toLowerCase();
+
+				for (Type type : Type.values())
+					if (type.name().equals(name))
+						return Optional.of(type);
+			}
+
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * The type.
+	 */
+	private final Type type;
+
+	/**
+	 * The weights of the tenants. The key is the tenant.
+	 */
+	private final Map<String, Integer> weights;
+
+	/**
+	 * Creates a scheduling policy.
+	 *
+	 * @param type    The type.
+	 * @param weights The weights of the tenants. The key is the tenant.
+	 * @since 17
+	 */
+	protected SchedulingPolicy(Type type, Map<String, Integer> weights) {
+		super();
+
+		this.type = type;
+		this.weights = weights == null ? new Hashtable<>() : new Hashtable<>(weights);
+	}
+
+	/**
+	 * Returns the scheduling policy.
+	 *
+	 * @param type       The type. If null, use the default type.
+	 * @param weights    The weights of the tenants, this means, users or projects.
+	 *                   The key is the tenant. Tenants without weight have weight
+	 *                   1.
+	 * @param priorities The priorities of the thread pools. The key is the thread
+	 *                   pool name. Thread pools without priority have priority 0.
+	 * @return The scheduling policy.
+	 * @since 17
+	 */
+	public static SchedulingPolicy getPolicy(Type type, Map<String, Integer> weights,
+			Map<String, Integer> priorities) {
+		switch (type == null ? Type.defaultType : type) {
+		case user:
+			return new FairShare(Type.user, weights);
+		case project:
+			return new FairShare(Type.project, weights);
+		case priority:
+			return new Priority(weights, priorities);
+		case fifo:
+		default:
+			return new Fifo(weights);
+		}
+	}
+
+	/**
+	 * Returns the type.
+	 *
+	 * @return The type.
+	 * @since 17
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the weight of the tenant.
+	 *
+	 * @param tenant The tenant.
+	 * @return The weight of the tenant. This is a positive number.
+	 * @since 17
+	 */
+	public int getWeight(String tenant) {
+		Integer weight = weights.get(tenant);
+
+		return weight == null || weight < 1 ? 1 : weight;
+	}
+
+	/**
+	 * Returns the tenant of the job. For the project policy this is the project
+	 * id, otherwise the user. The user of a process is the owner of its project.
+	 *
+	 * @param job The job.
+	 * @return The tenant of the job.
+	 * @since 17
+	 */
+	public String getTenant(Job job) {
+		String tenant = Type.project.equals(type) ? job.getProjectId() : job.getUser();
+
+		return tenant == null || tenant.isBlank() ? unknownTenant : tenant;
+	}
+
+	/**
+	 * Returns the next job to start.
+	 *
+	 * @param candidates The candidates in queue order. It is not empty.
+	 * @return The next job to start.
+	 * @since 17
+	 */
+	public abstract Job next(List<Job> candidates);
+
+	/**
+	 * Callback method when the job was started. Extending classes can overwrite
+	 * this method to update their accounts.
+	 *
+	 * @param job The started job.
+	 * @since 17
+	 */
+	public void started(Job job) {
+	}
+
+	/**
+	 * Defines first in first out scheduling policies.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Fifo extends SchedulingPolicy {
+		/**
+		 * Creates a first in first out scheduling policy.
+		 *
+		 * @param weights The weights of the tenants. The key is the tenant.
+		 * @since 17
+		 */
+		public Fifo(Map<String, Integer> weights) {
+			super(Type.fifo, weights);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see
+		 * de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulingPolicy#next(java.
+		 * util.List)
+		 */
+		@Override
+		public Job next(List<Job> candidates) {
+			return candidates.get(0);
+		}
+	}
+
+	/**
+	 * Defines weighted fair queuing policies. It uses stride scheduling, this
+	 * means, every tenant has a pass that is incremented by the inverse of its
+	 * weight when one of its jobs is started. The tenant with the smallest pass
+	 * starts its first job in queue order.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class FairShare extends SchedulingPolicy {
+		/**
+		 * The maximal number of passes before the idle tenants are expunged.
+		 */
+		private static final int maximalPasses = 1024;
+
+		/**
+		 * The passes of the tenants. The key is the tenant.
+		 */
+		private final Hashtable<String, Double> passes = new Hashtable<>();
+
+		/**
+		 * The virtual time, this means, the pass of the last started job. Idle tenants
+		 * resume with this pass, thus, they do not gain credit while idle.
+		 */
+		private double virtualTime = 0;
+
+		/**
+		 * Creates a weighted fair queuing policy.
+		 *
+		 * @param type    The type. It is either user or project.
+		 * @param weights The weights of the tenants. The key is the tenant.
+		 * @since 17
+		 */
+		public FairShare(Type type, Map<String, Integer> weights) {
+			super(type, weights);
+		}
+
+		/**
+		 * Returns the pass of the tenant.
+		 *
+		 * @param tenant The tenant.
+		 * @return The pass of the tenant.
+		 * @since 17
+		 */
+		private double getPass(String tenant) {
+			Double pass = passes.get(tenant);
+
+			return pass == null || pass < virtualTime ? virtualTime : pass;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see
+		 * de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulingPolicy#next(java.
+		 * util.List)
+		 */
+		@Override
+		public Job next(List<Job> candidates) {
+			Job next = null;
+			double nextPass = 0;
+
+			for (Job job : candidates) {
+				double pass = getPass(getTenant(job));
+
+				if (next == null || pass < nextPass) {
+					next = job;
+					nextPass = pass;
+				}
+			}
+
+			return next;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see
+		 * de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulingPolicy#started(de.
+		 * uniwuerzburg.zpd.ocr4all.application.core.job.Job)
+		 */
+		@Override
+		public void started(Job job) {
+			String tenant = getTenant(job);
+
+			virtualTime = getPass(tenant);
+			passes.put(tenant, virtualTime + 1.0 / getWeight(tenant));
+
+			if (passes.size() > maximalPasses)
+				passes.values().removeIf(pass -> pass <= virtualTime);
+		}
+	}
+
+	/**
+	 * Defines priority class policies. The priority classes are the thread pools.
+	 * The jobs with the highest priority are started first in queue order.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Priority extends SchedulingPolicy {
+		/**
+		 * The priorities of the thread pools. The key is the thread pool name.
+		 */
+		private final Hashtable<String, Integer> priorities;
+
+		/**
+		 * Creates a priority class policy.
+		 *
+		 * @param weights    The weights of the tenants. The key is the tenant.
+		 * @param priorities The priorities of the thread pools. The key is the thread
+		 *                   pool name.
+		 * @since 17
+		 */
+		public Priority(Map<String, Integer> weights, Map<String, Integer> priorities) {
+			super(Type.priority, weights);
+
+			this.priorities = priorities == null ? new Hashtable<>() : new Hashtable<>(priorities);
+		}
+
+		/**
+		 * Returns the priority of the job.
+		 *
+		 * @param job The job.
+		 * @return The priority of the job.
+		 * @since 17
+		 */
+		private int getPriority(Job job) {
+			Integer priority = priorities.get(job.getThreadPool().name());
+
+			return priority == null ? 0 : priority;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see
+		 * de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulingPolicy#next(java.
+		 * util.List)
+		 */
+		@Override
+		public Job next(List<Job> candidates) {
+			Job next = null;
+			int nextPriority = 0;
+
+			for (Job job : candidates) {
+				int priority = getPriority(job);
+
+				if (next == null || priority > nextPriority) {
+					next = job;
+					nextPriority = priority;
+				}
+			}
+
+			return next;
+		}
+	}
+}
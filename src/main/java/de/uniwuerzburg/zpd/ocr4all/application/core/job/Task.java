@@ -7,8 +7,11 @@
  */
 package de.uniwuerzburg.zpd.ocr4all.application.core.job;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
@@ -201,6 +204,17 @@ public final class Task extends Process {
 		return serviceProvider.getThreadPool();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getServiceProviders()
+	 */
+	@Override
+	public Set<String> getServiceProviders() {
+		return Set.of(serviceProvider.getClass().getName());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -222,7 +236,7 @@ public final class Task extends Process {
 			return State.interrupted;
 		}
 
-		return instance.execute();
+		return instance.execute(getMetrics());
 	}
 
 	/*
@@ -246,4 +260,16 @@ public final class Task extends Process {
 		if (instance != null)
 			instance.cancel();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getInstances()
+	 */
+	@Override
+	Collection<InstanceCore<?>> getInstances() {
+		final Instance instance = this.instance;
+
+		return instance == null ? Collections.emptyList() : List.of(instance);
+	}
 }
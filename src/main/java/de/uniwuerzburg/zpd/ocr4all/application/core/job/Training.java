@@ -10,7 +10,11 @@ package de.uniwuerzburg.zpd.ocr4all.application.core.job;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.springframework.util.FileSystemUtils;
 
@@ -113,6 +117,16 @@ public class Training extends ProcessorAction {
 		return shortDescription;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getUser()
+	 */
+	@Override
+	public String getUser() {
+		return user;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -134,6 +148,17 @@ public class Training extends ProcessorAction {
 		return serviceProvider.getThreadPool();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getServiceProviders()
+	 */
+	@Override
+	public Set<String> getServiceProviders() {
+		return Set.of(serviceProvider.getClass().getName());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -169,7 +194,7 @@ public class Training extends ProcessorAction {
 			return State.interrupted;
 		}
 
-		return instance.execute();
+		return instance.execute(getMetrics());
 	}
 
 	/**
@@ -193,6 +218,18 @@ public class Training extends ProcessorAction {
 			instance.cancel();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getInstances()
+	 */
+	@Override
+	Collection<InstanceCore<?>> getInstances() {
+		final Instance instance = this.instance;
+
+		return instance == null ? Collections.emptyList() : List.of(instance);
+	}
+
 	/**
 	 * Defines instances.
 	 *
@@ -320,7 +357,8 @@ public class Training extends ProcessorAction {
 				}
 			}
 
-			if (!State.canceled.equals(getState())) {
+			// the instance may have been canceled or interrupted by the watchdog
+			if (isRunning()) {
 				setState(ProcessorServiceProvider.Processor.State.completed.equals(executionState) ? State.completed
 						: State.interrupted);
 				setEnd();
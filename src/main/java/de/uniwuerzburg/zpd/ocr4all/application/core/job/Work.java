@@ -59,6 +59,16 @@ public class Work extends Action {
 		return owner == null || owner.equals(user == null ? null : user.trim());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getUser()
+	 */
+	@Override
+	public String getUser() {
+		return owner;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
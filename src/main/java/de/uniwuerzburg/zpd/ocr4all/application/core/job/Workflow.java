@@ -7,9 +7,21 @@
  */
 package de.uniwuerzburg.zpd.ocr4all.application.core.job;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
@@ -45,7 +57,7 @@ public class Workflow extends Process {
 	 * The target snapshot in which the process is being executed. Null if not
 	 * started.
 	 */
-	private de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot targetSnapshot = null;
+	private volatile de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot targetSnapshot = null;
 
 	/**
 	 * The metadata.
@@ -63,14 +75,54 @@ public class Workflow extends Process {
 	private final List<de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path> paths;
 
 	/**
-	 * The running process instance. Null if not started.
+	 * The journal step indexes of the provider paths in depth-first order.
 	 */
-	private Instance instance = null;
+	private final Map<de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path, Integer> stepIndexes = new IdentityHashMap<>();
+
+	/**
+	 * The running process instances. A workflow runs more than one instance at the
+	 * same time if its sibling paths are executed concurrently.
+	 */
+	private final Set<Instance> instances = Collections.synchronizedSet(new HashSet<>());
+
+	/**
+	 * The lock to create the snapshots of concurrent branches.
+	 */
+	private final Object snapshotLock = new Object();
+
+	/**
+	 * The executor for the concurrent branches. Null if the paths are executed
+	 * sequentially.
+	 */
+	private ExecutorService branchExecutor = null;
+
+	/**
+	 * The permits for the concurrent branches. Null if the paths are executed
+	 * sequentially.
+	 */
+	private Semaphore branchPermits = null;
 
 	/**
 	 * True if the workflow was canceled.
 	 */
-	private boolean isCanceled = false;
+	private volatile boolean isCanceled = false;
+
+	/**
+	 * True if a branch was not completed, this means, the branches that are not
+	 * started yet are skipped.
+	 */
+	private volatile boolean isAborted = false;
+
+	/**
+	 * The callback for the step events. Null if not required.
+	 */
+	private volatile StepCallback stepCallback = null;
+
+	/**
+	 * The snapshot tracks of the steps completed before a restart. The key is the
+	 * path ID.
+	 */
+	private final Hashtable<String, List<Integer>> resumed = new Hashtable<>();
 
 	/**
 	 * Creates a workflow.
@@ -121,6 +173,82 @@ public class Workflow extends Process {
 		this.rootSnapshot = rootSnapshot;
 		this.providers = providers;
 		this.paths = paths;
+
+		indexSteps(paths, 0);
+	}
+
+	/**
+	 * Returns the short description set on creation.
+	 *
+	 * @return The short description. Null if the workflow short description is
+	 *         used.
+	 * @since 17
+	 */
+	String getSpecifiedShortDescription() {
+		return shortDescription;
+	}
+
+	/**
+	 * Returns the root snapshot.
+	 *
+	 * @return The root snapshot.
+	 * @since 17
+	 */
+	de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot getRootSnapshot() {
+		return rootSnapshot;
+	}
+
+	/**
+	 * Returns the workflow id.
+	 *
+	 * @return The workflow id.
+	 * @since 17
+	 */
+	String getWorkflowId() {
+		return metadata.getId();
+	}
+
+	/**
+	 * Set the callback for the step events.
+	 *
+	 * @param stepCallback The callback to set. Null if not required.
+	 * @since 17
+	 */
+	void setStepCallback(StepCallback stepCallback) {
+		this.stepCallback = stepCallback;
+	}
+
+	/**
+	 * Resumes the steps completed before a restart, this means, their snapshots are
+	 * reused instead of executing their service providers again.
+	 *
+	 * @param completed The snapshot tracks of the completed steps. The key is the
+	 *                  path ID.
+	 * @since 17
+	 */
+	void resume(Map<String, List<Integer>> completed) {
+		if (completed != null)
+			resumed.putAll(completed);
+	}
+
+	/**
+	 * Indexes the journal steps of the paths using depth-first search.
+	 *
+	 * @param paths The paths.
+	 * @param index The next free step index.
+	 * @return The next free step index.
+	 * @since 17
+	 */
+	private int indexSteps(List<de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path> paths, int index) {
+		if (paths != null)
+			for (de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path path : paths)
+				if (path != null) {
+					stepIndexes.put(path, index);
+
+					index = indexSteps(path.getChildren(), index + 1);
+				}
+
+		return index;
 	}
 
 	/*
@@ -133,7 +261,7 @@ public class Workflow extends Process {
 	public String getShortDescription() {
 		return shortDescription != null ? shortDescription
 				: "workflow " + metadata.getLabel()
-						+ (instance == null ? ""
+						+ (targetSnapshot == null ? ""
 								: " (" + (getJournal().getIndex() + 1) + "/" + getJournal().getSize() + ")")
 						+ " / root snaptshot " + rootSnapshot.getConfiguration().getTrack();
 	}
@@ -148,6 +276,21 @@ public class Workflow extends Process {
 		return SchedulerService.ThreadPool.workflow;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getServiceProviders()
+	 */
+	@Override
+	public Set<String> getServiceProviders() {
+		Set<String> ids = new HashSet<>();
+		for (Provider provider : providers.values())
+			ids.add(provider.getServiceProvider().getClass().getName());
+
+		return ids;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -155,7 +298,18 @@ public class Workflow extends Process {
 	 */
 	@Override
 	protected State execute() {
-		return execute(rootSnapshot, paths);
+		final int branches = configurationService.getApplication().getWorkflowBranches();
+		if (branches > 1) {
+			branchExecutor = Executors.newFixedThreadPool(branches - 1);
+			branchPermits = new Semaphore(branches - 1);
+		}
+
+		try {
+			return execute(rootSnapshot, paths);
+		} finally {
+			if (branchExecutor != null)
+				branchExecutor.shutdownNow();
+		}
 	}
 
 	/*
@@ -167,9 +321,22 @@ public class Workflow extends Process {
 	protected void kill() {
 		isCanceled = true;
 
-		if (instance != null)
-			instance.cancel();
+		synchronized (instances) {
+			for (Instance instance : instances)
+				instance.cancel();
+		}
+	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.Job#getInstances()
+	 */
+	@Override
+	Collection<InstanceCore<?>> getInstances() {
+		synchronized (instances) {
+			return new ArrayList<>(instances);
+		}
 	}
 
 	/**
@@ -189,7 +356,10 @@ public class Workflow extends Process {
 	}
 
 	/**
-	 * Executes the workflow defined in the paths using depth-first search.
+	 * Executes the workflow defined in the paths using depth-first search. If
+	 * concurrent branches are enabled and a permit is available, the sibling paths
+	 * are forked and executed concurrently. Otherwise, they are executed in the
+	 * calling thread. The method returns when all forked branches are joined.
 	 *
 	 * @param parentSnapshot The parent snapshot.
 	 * @param paths          The paths.
@@ -199,55 +369,218 @@ public class Workflow extends Process {
 	 */
 	private State execute(de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot parentSnapshot,
 			List<de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path> paths) {
-		if (!isCanceled && paths != null)
+		List<de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path> siblings = new ArrayList<>();
+		if (paths != null)
 			for (de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path path : paths)
-				if (isCanceled)
-					return State.canceled;
-				else if (path != null) {
-					getJournal().nextIndex();
-
-					Provider provider = providers.get(path.getId());
-					if (provider == null) {
-						getJournal().getStep().setNote("unknown service provider with path ID '" + path.getId() + "'.");
-
-						return State.interrupted;
-					}
-
-					de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot snapshot;
-					try {
-						snapshot = getSandbox().createSnapshot(provider.getSnapshotType(),
-								parentSnapshot.getConfiguration().getTrack(),
-								provider.getServiceProvider().getName(null),
-								"workflow '" + metadata.getLabel() + "' (" + (getJournal().getIndex() + 1) + "/"
-										+ getJournal().getSize() + ") / ID " + metadata.getId() + " / root snaptshot "
-										+ rootSnapshot.getConfiguration().getTrack()
-										+ (metadata.getDescription() == null ? "" : " / " + metadata.getDescription()),
-								provider.getProcessor(), configurationService.getInstance());
-
-						/*
-						 * The snapshot is lockable iff the path reaches its target.
-						 */
-						instance = new Instance(provider.getServiceProvider(), snapshot, isTarget(path),
-								getJournal().getStep());
-					} catch (IllegalArgumentException e) {
-						getJournal().getStep().setNote(OCR4allUtils.getStackTrace(e));
-
-						return State.interrupted;
-					}
-
-					// executes the instance
-					targetSnapshot = snapshot;
-					State state = instance.execute();
-					if (!State.completed.equals(state))
-						return state;
-
-					// performs depth-first search (DFS) on path
-					state = execute(snapshot, path.getChildren());
-					if (!State.completed.equals(state))
-						return state;
+				if (path != null)
+					siblings.add(path);
+
+		State state = State.completed;
+		List<Future<State>> forks = new ArrayList<>();
+
+		for (int index = 0; index < siblings.size(); index++) {
+			if (isCanceled || isAborted)
+				break;
+
+			final de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path path = siblings.get(index);
+
+			/*
+			 * The last sibling is always executed in the calling thread, since it has to
+			 * wait for the forked siblings anyway.
+			 */
+			if (branchPermits != null && index + 1 < siblings.size() && branchPermits.tryAcquire())
+				try {
+					forks.add(branchExecutor.submit(() -> {
+						try {
+							return execute(parentSnapshot, path);
+						} finally {
+							branchPermits.release();
+						}
+					}));
+
+					continue;
+				} catch (Exception e) {
+					branchPermits.release();
+
+					logger.warn("cannot fork workflow branch for path ID '" + path.getId() + "' of job ID " + getId()
+							+ ", executing it sequentially - " + e.getMessage() + ".");
 				}
 
-		return isCanceled ? State.canceled : State.completed;
+			state = execute(parentSnapshot, path);
+			if (!State.completed.equals(state)) {
+				isAborted = true;
+
+				break;
+			}
+		}
+
+		// joins the forked branches
+		for (Future<State> fork : forks) {
+			State forkState;
+			try {
+				forkState = fork.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+
+				forkState = State.interrupted;
+			} catch (ExecutionException e) {
+				logger.warn("workflow branch of job ID " + getId() + " failed - " + e.getMessage() + ".");
+
+				forkState = State.interrupted;
+			}
+
+			if (!State.completed.equals(forkState)) {
+				isAborted = true;
+
+				if (State.completed.equals(state))
+					state = forkState;
+			}
+		}
+
+		return isCanceled ? State.canceled : state;
+	}
+
+	/**
+	 * Executes the path and afterwards its children using depth-first search.
+	 *
+	 * @param parentSnapshot The parent snapshot.
+	 * @param path           The path.
+	 * @return The end state of the execution, this means, canceled, completed or
+	 *         interrupted.
+	 * @since 17
+	 */
+	private State execute(de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot parentSnapshot,
+			de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path path) {
+		if (isCanceled)
+			return State.canceled;
+
+		final int stepIndex = stepIndexes.get(path);
+		final Journal.Step step = getJournal().getStep(stepIndex);
+		getJournal().setIndex(stepIndex);
+
+		Provider provider = providers.get(path.getId());
+		if (provider == null) {
+			step.setNote("unknown service provider with path ID '" + path.getId() + "'.");
+
+			return State.interrupted;
+		}
+
+		// resumes the step if it was completed before a restart
+		List<Integer> resumedTrack = resumed.get(path.getId());
+		if (resumedTrack != null)
+			try {
+				de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot resumedSnapshot = getSandbox()
+						.getSnapshot(resumedTrack);
+
+				if (resumedSnapshot.getConfiguration().isProcessCompleted())
+					return reuse(resumedSnapshot, path, step,
+							"resumed snapshot " + resumedTrack + " completed before restart.");
+			} catch (IllegalArgumentException e) {
+				logger.warn("cannot resume snapshot " + resumedTrack + " of workflow job ID " + getId() + " - "
+						+ e.getMessage());
+			}
+
+		/*
+		 * Reuses a completed snapshot of the parent snapshot with the same service
+		 * provider, arguments and parent output instead of executing the provider.
+		 */
+		final String cacheKey = configurationService.getApplication().isWorkflowCache()
+				? WorkflowCache.getKey(provider, parentSnapshot)
+				: null;
+		if (cacheKey != null) {
+			de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot cachedSnapshot;
+			synchronized (snapshotLock) {
+				cachedSnapshot = WorkflowCache.lookup(parentSnapshot, cacheKey, isTarget(path));
+			}
+
+			if (cachedSnapshot != null)
+				return reuse(cachedSnapshot, path, step, "workflow step cache hit: reused snapshot "
+						+ cachedSnapshot.getConfiguration().getTrack() + ".");
+		}
+
+		de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot snapshot;
+		Instance instance;
+		try {
+			/*
+			 * The derived snapshots of concurrent branches are created one after another,
+			 * since the snapshot track is determined by the existing derived snapshots.
+			 */
+			synchronized (snapshotLock) {
+				snapshot = getSandbox().createSnapshot(provider.getSnapshotType(),
+						parentSnapshot.getConfiguration().getTrack(), provider.getServiceProvider().getName(null),
+						"workflow '" + metadata.getLabel() + "' (" + (stepIndex + 1) + "/" + getJournal().getSize()
+								+ ") / ID " + metadata.getId() + " / root snaptshot "
+								+ rootSnapshot.getConfiguration().getTrack()
+								+ (metadata.getDescription() == null ? "" : " / " + metadata.getDescription()),
+						provider.getProcessor(), configurationService.getInstance());
+			}
+
+			/*
+			 * The snapshot is lockable iff the path reaches its target.
+			 */
+			instance = new Instance(provider.getServiceProvider(), snapshot, isTarget(path), step);
+		} catch (IllegalArgumentException e) {
+			step.setNote(OCR4allUtils.getStackTrace(e));
+
+			return State.interrupted;
+		}
+
+		StepCallback callback = stepCallback;
+		if (callback != null)
+			callback.created(this, path.getId(), snapshot.getConfiguration().getTrack());
+
+		// executes the instance
+		targetSnapshot = snapshot;
+		instances.add(instance);
+
+		State state;
+		try {
+			// the workflow may have been canceled before the instance was registered
+			state = isCanceled ? instance.cancel() : instance.execute(getMetrics());
+		} finally {
+			instances.remove(instance);
+		}
+
+		if (!State.completed.equals(state))
+			return state;
+
+		if (cacheKey != null)
+			WorkflowCache.store(snapshot, cacheKey);
+
+		callback = stepCallback;
+		if (callback != null)
+			callback.completed(this, path.getId(), snapshot.getConfiguration().getTrack());
+
+		// performs depth-first search (DFS) on path
+		return execute(snapshot, path.getChildren());
+	}
+
+	/**
+	 * Reuses the completed snapshot for the step instead of executing its service
+	 * provider and continues with the children of the path.
+	 *
+	 * @param snapshot The completed snapshot to reuse.
+	 * @param path     The path.
+	 * @param step     The journal step.
+	 * @param note     The note for the journal step.
+	 * @return The end state of the execution of the children, this means,
+	 *         canceled, completed or interrupted.
+	 * @since 17
+	 */
+	private State reuse(de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot snapshot,
+			de.uniwuerzburg.zpd.ocr4all.application.persistence.workflow.Path path, Journal.Step step,
+			String note) {
+		step.setNote(note);
+		step.complete();
+
+		targetSnapshot = snapshot;
+
+		StepCallback callback = stepCallback;
+		if (callback != null)
+			callback.completed(this, path.getId(), snapshot.getConfiguration().getTrack());
+
+		// performs depth-first search (DFS) on path
+		return execute(snapshot, path.getChildren());
 	}
 
 	/*
@@ -261,6 +594,35 @@ public class Workflow extends Process {
 		return targetSnapshot;
 	}
 
+	/**
+	 * Defines callbacks for the step events of workflows.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	interface StepCallback {
+		/**
+		 * Notifies that the snapshot of the step was created.
+		 *
+		 * @param workflow The workflow.
+		 * @param path     The path ID of the step.
+		 * @param track    The snapshot track.
+		 * @since 17
+		 */
+		public void created(Workflow workflow, String path, List<Integer> track);
+
+		/**
+		 * Notifies that the step was completed.
+		 *
+		 * @param workflow The workflow.
+		 * @param path     The path ID of the step.
+		 * @param track    The snapshot track.
+		 * @since 17
+		 */
+		public void completed(Workflow workflow, String path, List<Integer> track);
+	}
+
 	/**
 	 * Provider is an immutable class that defines workflow providers.
 	 *
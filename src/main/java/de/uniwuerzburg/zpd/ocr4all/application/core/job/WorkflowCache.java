@@ -0,0 +1,245 @@
+/**
+ * File:     WorkflowCache.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.job
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.job;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.SnapshotConfiguration;
+import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Snapshot;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.spi.ServiceProvider;
+
+/**
+ * Defines content-addressed caches for workflow steps. The key of a step is a
+ * hash of the service provider id and version, the snapshot type, the
+ * normalized service provider arguments and the fingerprint of the output of
+ * the parent snapshot. The key of a completed step is stored in the
+ * configuration folder of its snapshot. A later step with the same key reuses
+ * this snapshot instead of running the service provider again.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+final class WorkflowCache {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(WorkflowCache.class);
+
+	/**
+	 * The name of the key file in the snapshot configuration folder.
+	 */
+	private static final String keyFileName = "cache";
+
+	/**
+	 * The hash algorithm.
+	 */
+	private static final String algorithm = "SHA-256";
+
+	/**
+	 * Avoid instantiation of the class.
+	 *
+	 * @since 17
+	 */
+	private WorkflowCache() {
+		super();
+	}
+
+	/**
+	 * Returns the key of the workflow step.
+	 *
+	 * @param provider       The workflow provider of the step.
+	 * @param parentSnapshot The parent snapshot.
+	 * @return The key. Null if it cannot be computed.
+	 * @since 17
+	 */
+	static String getKey(Workflow.Provider provider, Snapshot parentSnapshot) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(algorithm);
+
+			update(digest, provider.getServiceProvider().getClass().getName());
+			update(digest, String.valueOf(provider.getServiceProvider().getVersion()));
+			update(digest, provider.getSnapshotType() == null ? null : provider.getSnapshotType().name());
+			update(digest, normalize(provider.getProcessor()));
+
+			fingerprint(digest, parentSnapshot.getConfiguration().getSandbox().getFolder());
+
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException | IOException e) {
+			logger.warn("cannot compute workflow step cache key - " + e.getMessage());
+
+			return null;
+		}
+	}
+
+	/**
+	 * Updates the digest with the text and a separator.
+	 *
+	 * @param digest The digest.
+	 * @param text   The text. Null is distinguished from empty text.
+	 * @since 17
+	 */
+	private static void update(MessageDigest digest, String text) {
+		digest.update((text == null ? "\u0001" : text).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Returns the normalized arguments of the service provider, this means, the
+	 * arguments of every type are sorted by their names.
+	 *
+	 * @param serviceProvider The service provider.
+	 * @return The normalized arguments.
+	 * @since 17
+	 */
+	private static String normalize(ServiceProvider serviceProvider) {
+		if (serviceProvider == null)
+			return null;
+
+		StringBuilder buffer = new StringBuilder();
+
+		append(buffer, "boolean", serviceProvider.getBooleans(),
+				argument -> argument.getArgument() + "=" + argument.getValue());
+		append(buffer, "decimal", serviceProvider.getDecimals(),
+				argument -> argument.getArgument() + "=" + argument.getValue());
+		append(buffer, "integer", serviceProvider.getIntegers(),
+				argument -> argument.getArgument() + "=" + argument.getValue());
+		append(buffer, "string", serviceProvider.getStrings(),
+				argument -> argument.getArgument() + "=" + argument.getValue());
+		append(buffer, "image", serviceProvider.getImages(),
+				argument -> argument.getArgument() + "=" + argument.getValues());
+		append(buffer, "select", serviceProvider.getSelects(),
+				argument -> argument.getArgument() + "=" + argument.getValues());
+		append(buffer, "weight", serviceProvider.getWeights(), argument -> {
+			List<String> assembles = new ArrayList<>();
+			if (argument.getAssembles() != null)
+				for (de.uniwuerzburg.zpd.ocr4all.application.persistence.spi.WeightArgument.Assemble assemble : argument
+						.getAssembles())
+					if (assemble != null)
+						assembles.add(assemble.getId() + ":" + assemble.getModels());
+
+			return argument.getArgument() + "=" + assembles;
+		});
+
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends the arguments sorted by their normalized text.
+	 *
+	 * @param <T>       The argument type.
+	 * @param buffer    The buffer.
+	 * @param type      The argument type name.
+	 * @param arguments The arguments. Null if not available.
+	 * @param text      The function that returns the normalized text of an
+	 *                  argument.
+	 * @since 17
+	 */
+	private static <T> void append(StringBuilder buffer, String type, Collection<T> arguments,
+			Function<T, String> text) {
+		if (arguments != null)
+			for (String argument : arguments.stream().filter(argument -> argument != null).map(text).sorted()
+					.collect(Collectors.toList()))
+				buffer.append(type).append(':').append(argument).append('\n');
+	}
+
+	/**
+	 * Updates the digest with the fingerprint of the folder, this means, the
+	 * relative path, size and modification time of its regular files.
+	 *
+	 * @param digest The digest.
+	 * @param folder The folder.
+	 * @throws IOException Throws if the folder cannot be traversed.
+	 * @since 17
+	 */
+	private static void fingerprint(MessageDigest digest, Path folder) throws IOException {
+		if (!Files.isDirectory(folder))
+			return;
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(folder)) {
+			files = stream.filter(Files::isRegularFile).sorted(Comparator.comparing(Path::toString))
+					.collect(Collectors.toList());
+		}
+
+		for (Path file : files) {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+			update(digest, folder.relativize(file).toString() + ":" + attributes.size() + ":"
+					+ attributes.lastModifiedTime().toMillis());
+		}
+	}
+
+	/**
+	 * Returns the key file of the snapshot.
+	 *
+	 * @param snapshot The snapshot.
+	 * @return The key file.
+	 * @since 17
+	 */
+	private static Path getKeyFile(SnapshotConfiguration snapshot) {
+		return snapshot.getConfiguration().getFolder().resolve(keyFileName);
+	}
+
+	/**
+	 * Returns the derived snapshot of the parent snapshot that was completed with
+	 * the given key.
+	 *
+	 * @param parentSnapshot The parent snapshot.
+	 * @param key            The key.
+	 * @param isTarget       True if the step reaches its target. Otherwise, the
+	 *                       snapshot has to allow derived snapshots.
+	 * @return The snapshot. Null if not available.
+	 * @since 17
+	 */
+	static Snapshot lookup(Snapshot parentSnapshot, String key, boolean isTarget) {
+		for (SnapshotConfiguration derived : parentSnapshot.getConfiguration().getDerived(true))
+			if (derived.isProcessCompleted() && (isTarget || derived.isAllowDerivedSnapshots()))
+				try {
+					Path file = getKeyFile(derived);
+
+					if (Files.isRegularFile(file) && key.equals(Files.readString(file, StandardCharsets.UTF_8).trim()))
+						return parentSnapshot.getSandbox().getSnapshot(derived.getTrack());
+				} catch (IOException | IllegalArgumentException e) {
+					logger.warn("cannot inspect workflow step cache of snapshot " + derived.getTrack() + " - "
+							+ e.getMessage());
+				}
+
+		return null;
+	}
+
+	/**
+	 * Stores the key of the completed snapshot.
+	 *
+	 * @param snapshot The completed snapshot.
+	 * @param key      The key.
+	 * @since 17
+	 */
+	static void store(Snapshot snapshot, String key) {
+		try {
+			Files.writeString(getKeyFile(snapshot.getConfiguration()), key, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			logger.warn("cannot store workflow step cache key of snapshot " + snapshot.getConfiguration().getTrack()
+					+ " - " + e.getMessage());
+		}
+	}
+}
@@ -31,6 +31,9 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.job.Process;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.sandbox.Sandbox;
 import de.uniwuerzburg.zpd.ocr4all.application.core.repository.ContainerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.EntityCache;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.HistoryStore;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.ImageFormat;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.ImageUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.History;
@@ -39,7 +42,6 @@ import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.folio.Folio;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.project.ActionHistory;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.project.ProjectHistory;
-import de.uniwuerzburg.zpd.ocr4all.application.persistence.util.PersistenceTools;
 import de.uniwuerzburg.zpd.ocr4all.application.spi.env.Target;
 
 /**
@@ -205,9 +207,9 @@ public class Project implements Job.Cluster {
 	private final Set<Right> rights = new HashSet<>();
 
 	/**
-	 * The history persistence manager.
+	 * The history store.
 	 */
-	private PersistenceManager historyManager = null;
+	private HistoryStore historyStore = null;
 
 	/**
 	 * Creates a project.
@@ -303,17 +305,17 @@ public class Project implements Job.Cluster {
 	}
 
 	/**
-	 * Returns the history persistence manager. Create a new one if necessary.
+	 * Returns the history store. Create a new one if necessary.
 	 * 
-	 * @return The history persistence manager.
-	 * @since 1.8
+	 * @return The history store.
+	 * @since 17
 	 */
-	private PersistenceManager getHistoryManager() {
-		if (historyManager == null)
-			historyManager = new PersistenceManager(configuration.getConfiguration().getHistoryFile(),
+	private HistoryStore getHistoryStore() {
+		if (historyStore == null)
+			historyStore = new HistoryStore(configuration.getConfiguration().getHistoryFile(),
 					Type.project_action_history_v1, Type.job_process_history_v1);
 
-		return historyManager;
+		return historyStore;
 	}
 
 	/**
@@ -328,7 +330,7 @@ public class Project implements Job.Cluster {
 				history.setDate(new Date());
 				history.setUser(getUser());
 
-				getHistoryManager().persist(true, history);
+				getHistoryStore().add(history);
 			} catch (Exception e) {
 				logger.warn("Could not add the history to the project '" + configuration.getConfiguration().getName()
 						+ "' - " + e.getMessage());
@@ -343,8 +345,7 @@ public class Project implements Job.Cluster {
 	 */
 	public List<History> getHistory() {
 		try {
-			return getHistoryManager().getEntities(History.class, message -> logger.warn(message),
-					PersistenceTools.getTrackingDateComparator(false));
+			return getHistoryStore().getHistory();
 		} catch (IOException e) {
 			logger.warn(e.getMessage());
 
@@ -352,6 +353,27 @@ public class Project implements Job.Cluster {
 		}
 	}
 
+	/**
+	 * Returns a page of the history, the newest entries first.
+	 * 
+	 * @param offset    The number of newest entries to skip.
+	 * @param limit     The maximal number of entries to return. All entries if
+	 *                  not positive.
+	 * @param isSummary True if the standard output and error of the process
+	 *                  entries are omitted.
+	 * @return The page with the history entries.
+	 * @since 17
+	 */
+	public Catalog.Page<History> getHistory(int offset, int limit, boolean isSummary) {
+		try {
+			return getHistoryStore().getHistory(offset, limit, isSummary);
+		} catch (IOException e) {
+			logger.warn(e.getMessage());
+
+			return new Catalog.Page<>(new ArrayList<>(), 0);
+		}
+	}
+
 	/**
 	 * Zips the history.
 	 * 
@@ -360,7 +382,7 @@ public class Project implements Job.Cluster {
 	 */
 	public void zipHistory(OutputStream outputStream) {
 		try {
-			getHistoryManager().zip(outputStream);
+			getHistoryStore().zip(outputStream);
 		} catch (NullPointerException | IOException e) {
 			logger.warn(e.getMessage());
 		}
@@ -689,8 +711,9 @@ public class Project implements Job.Cluster {
 	public List<Folio> getFolios(Set<String> uuids) throws IOException {
 		List<Folio> folios = new ArrayList<>();
 
-		for (Folio folio : (new PersistenceManager(configuration.getConfiguration().getFolioFile(), Type.folio_v1))
-				.getEntities(Folio.class))
+		final Path file = configuration.getConfiguration().getFolioFile();
+		for (Folio folio : EntityCache.getEntities(file, Folio.class,
+				() -> (new PersistenceManager(file, Type.folio_v1)).getEntities(Folio.class)))
 			if (uuids == null || uuids.contains(folio.getId()))
 				folios.add(folio);
 
@@ -706,7 +729,12 @@ public class Project implements Job.Cluster {
 	 * @since 1.8
 	 */
 	private int persist(List<Folio> folios) throws IOException {
-		return (new PersistenceManager(configuration.getConfiguration().getFolioFile(), Type.folio_v1)).persist(folios);
+		try {
+			return (new PersistenceManager(configuration.getConfiguration().getFolioFile(), Type.folio_v1))
+					.persist(folios);
+		} finally {
+			EntityCache.invalidate(configuration.getConfiguration().getFolioFile());
+		}
 	}
 
 	/**
@@ -809,8 +837,7 @@ public class Project implements Job.Cluster {
 
 			// import folios
 			final List<Folio> folios = new ArrayList<>();
-			for (Folio folio : (new PersistenceManager(container.getConfiguration().getConfiguration().getFolioFile(),
-					Type.folio_v1)).getEntities(Folio.class))
+			for (Folio folio : ContainerService.getFolioLog(container).getEntities())
 				if (!projectFolios.contains(folio.getId()) && (ids == null || importFolios.contains(folio.getId())))
 					try {
 						copy(folio.getId() + "." + folio.getFormat().name(), foliosContainerFolder,
@@ -834,6 +861,8 @@ public class Project implements Job.Cluster {
 						folios);
 			} catch (Exception e) {
 				throw new IOException("Cannot persist project folios configuration file - " + e.getMessage() + ".");
+			} finally {
+				EntityCache.invalidate(configuration.getConfiguration().getFolioFile());
 			}
 
 			return folios;
@@ -7,12 +7,11 @@
  */
 package de.uniwuerzburg.zpd.ocr4all.application.core.project;
 
-import java.nio.file.Path;
-
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.ProjectConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityDesktopService;
 
 /**
@@ -41,12 +40,13 @@ public class ProjectDesktopService extends ProjectService {
 	 * (non-Javadoc)
 	 * 
 	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService#
-	 * loadProject(java.nio.file.Path)
+	 * loadProject(de.uniwuerzburg.zpd.ocr4all.application.core.configuration.
+	 * project.ProjectConfiguration)
 	 */
 	@Override
-	protected Project loadProject(Path path) {
-		Project project = new Project(configurationService.getWorkspace().getProjects().getProject(path, null),
-				configurationService.getImage(), configurationService.getRepository());
+	protected Project loadProject(ProjectConfiguration configuration) {
+		Project project = new Project(configuration, configurationService.getImage(),
+				configurationService.getRepository());
 
 		project.setSecurityLevel(securityService.getSecurityLevel());
 		project.addAllRights();
@@ -54,4 +54,16 @@ public class ProjectDesktopService extends ProjectService {
 		return project;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService#
+	 * loadProject(de.uniwuerzburg.zpd.ocr4all.application.core.configuration.
+	 * project.ProjectConfiguration, java.lang.String)
+	 */
+	@Override
+	protected Project loadProject(ProjectConfiguration configuration, String user) {
+		return loadProject(configuration);
+	}
+
 }
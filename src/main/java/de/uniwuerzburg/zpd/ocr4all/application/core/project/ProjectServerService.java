@@ -7,7 +7,7 @@
  */
 package de.uniwuerzburg.zpd.ocr4all.application.core.project;
 
-import java.nio.file.Path;
+import java.util.Set;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -16,6 +16,7 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationS
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.ProjectConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project.Right;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityServerService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
 
 /**
  * Defines project services for server profiles.
@@ -42,15 +43,45 @@ public class ProjectServerService extends ProjectService {
 	 * (non-Javadoc)
 	 * 
 	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService#
-	 * loadProject(java.nio.file.Path)
+	 * loadProject(de.uniwuerzburg.zpd.ocr4all.application.core.configuration.
+	 * project.ProjectConfiguration)
 	 */
 	@Override
-	protected Project loadProject(Path path) {
-		final String user = securityService.getUser();
+	protected Project loadProject(ProjectConfiguration configuration) {
+		return loadProject(configuration, securityService.getUser(), securityService.getSecurityLevel(),
+				securityService.getActiveGroups());
+	}
 
-		Project project = new Project(configurationService.getWorkspace().getProjects().getProject(path, user),
-				configurationService.getImage(), configurationService.getRepository());
-		project.setSecurityLevel(securityService.getSecurityLevel());
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.project.ProjectService#
+	 * loadProject(de.uniwuerzburg.zpd.ocr4all.application.core.configuration.
+	 * project.ProjectConfiguration, java.lang.String)
+	 */
+	@Override
+	protected Project loadProject(ProjectConfiguration configuration, String user) {
+		final SecurityService.Level level = user == null ? null : securityService.getSecurityLevel(user);
+
+		return level == null ? null
+				: loadProject(configuration, user, level, securityService.getActiveGroups(user));
+	}
+
+	/**
+	 * Creates the project for the configuration and sets the rights of the user.
+	 * 
+	 * @param configuration The project configuration.
+	 * @param user          The user. Null if no user is logged in.
+	 * @param level         The security level of the user.
+	 * @param groups        The active groups of the user.
+	 * @return The project.
+	 * @since 17
+	 */
+	private Project loadProject(ProjectConfiguration configuration, String user, SecurityService.Level level,
+			Set<String> groups) {
+		Project project = new Project(configuration, configurationService.getImage(),
+				configurationService.getRepository());
+		project.setSecurityLevel(level);
 
 		/*
 		 * Set the project security rights
@@ -65,8 +96,7 @@ public class ProjectServerService extends ProjectService {
 				addRights(project, project.getConfiguration().getConfiguration().getRights(user));
 
 				// The groups rights
-				addRights(project,
-						project.getConfiguration().getConfiguration().getRights(securityService.getActiveGroups()));
+				addRights(project, project.getConfiguration().getConfiguration().getRights(groups));
 
 				// The other rights
 				addRights(project, project.getConfiguration().getConfiguration().getRights());
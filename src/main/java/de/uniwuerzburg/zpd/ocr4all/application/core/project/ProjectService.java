@@ -10,13 +10,20 @@ package de.uniwuerzburg.zpd.ocr4all.application.core.project;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.ProjectConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
 
 /**
@@ -32,6 +39,12 @@ public abstract class ProjectService extends CoreService {
 	 */
 	protected final SecurityService securityService;
 
+	/**
+	 * The registry of the project configurations for the project listings. The
+	 * key is the project folder.
+	 */
+	private final ConcurrentHashMap<Path, Registration> registry = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a project service.
 	 * 
@@ -48,13 +61,25 @@ public abstract class ProjectService extends CoreService {
 	}
 
 	/**
-	 * Loads the project and returns it.
+	 * Creates the project for the configuration and sets the rights of the
+	 * caller.
 	 * 
-	 * @param path The project path.
+	 * @param configuration The project configuration.
 	 * @return The project.
-	 * @since 1.8
+	 * @since 17
+	 */
+	protected abstract Project loadProject(ProjectConfiguration configuration);
+
+	/**
+	 * Creates the project for the configuration and sets the rights of the user
+	 * outside of a security context.
+	 * 
+	 * @param configuration The project configuration.
+	 * @param user          The user.
+	 * @return The project. Null if the user is not available or not active.
+	 * @since 17
 	 */
-	protected abstract Project loadProject(Path path);
+	protected abstract Project loadProject(ProjectConfiguration configuration, String user);
 
 	/**
 	 * Returns the projects root folder.
@@ -85,7 +110,8 @@ public abstract class ProjectService extends CoreService {
 	 */
 	private Optional<Project> getProject(Path path) {
 		if (Files.isDirectory(path)) {
-			Project project = loadProject(path);
+			Project project = loadProject(
+					configurationService.getWorkspace().getProjects().getProject(path, securityService.getUser()));
 
 			logger.info("Loaded project: " + project);
 
@@ -97,6 +123,42 @@ public abstract class ProjectService extends CoreService {
 		}
 	}
 
+	/**
+	 * Returns the project with the registered configuration. The configuration is
+	 * loaded and registered if it is not registered yet or its main configuration
+	 * file changed. The rights of the caller are set on a new project, thus, they
+	 * are evaluated on every call against the registered security configuration.
+	 * 
+	 * <p>
+	 * The registered configurations are shared by the listings, thus, they should
+	 * not be modified.
+	 * </p>
+	 * 
+	 * @param path The project path.
+	 * @return The project. Empty, if the project is not a available.
+	 * @since 17
+	 */
+	private Optional<Project> getRegisteredProject(Path path) {
+		Registration registration = registry.get(path);
+
+		if (registration == null || !registration.isValid()) {
+			ProjectConfiguration configuration = configurationService.getWorkspace().getProjects().getProject(path,
+					null);
+			if (configuration == null) {
+				registry.remove(path);
+
+				return Optional.empty();
+			}
+
+			registration = new Registration(configuration);
+			registry.put(path, registration);
+
+			logger.info("Registered project: " + configuration.getConfiguration().getName());
+		}
+
+		return Optional.of(loadProject(registration.configuration));
+	}
+
 	/**
 	 * Returns the projects sorted by name.
 	 * 
@@ -111,12 +173,20 @@ public abstract class ProjectService extends CoreService {
 		try {
 			Optional<Path> projectsPath = getProjectsPath();
 			if (projectsPath.isPresent()) {
-				Files.list(projectsPath.get()).filter(Files::isDirectory).forEach(path -> {
-					Optional<Project> project = getProject(path);
-					if (project.isPresent() && (isRightExist || project.get().isRights(rights))
-							&& (!isRightExist || project.get().isRightExist()))
-						projects.add(project.get());
-				});
+				final Set<Path> folders = new HashSet<>();
+				try (Stream<Path> stream = Files.list(projectsPath.get())) {
+					stream.filter(Files::isDirectory).forEach(path -> {
+						folders.add(path);
+
+						Optional<Project> project = getRegisteredProject(path);
+						if (project.isPresent() && (isRightExist || project.get().isRights(rights))
+								&& (!isRightExist || project.get().isRightExist()))
+							projects.add(project.get());
+					});
+				}
+
+				// Removes the deleted projects from the registry
+				registry.keySet().retainAll(folders);
 
 				Collections.sort(projects, (p1, p2) -> p1.getConfiguration().getConfiguration().getName()
 						.compareToIgnoreCase(p2.getConfiguration().getConfiguration().getName()));
@@ -177,6 +247,28 @@ public abstract class ProjectService extends CoreService {
 		return project.isPresent() && project.get().isRightExist() ? project.get() : null;
 	}
 
+	/**
+	 * Returns the project with given folder for the user outside of a security
+	 * context, e.g. to recover the jobs of the user after a restart. The rights of
+	 * the user are evaluated against the current project security, since they may
+	 * have been revoked in the meantime.
+	 * 
+	 * @param folder The project folder.
+	 * @param user   The user.
+	 * @return The project. Null if not available or the user has no longer the
+	 *         execute right.
+	 * @since 17
+	 */
+	public Project recover(String folder, String user) {
+		Path path = configurationService.getWorkspace().getProjects().getProjectPath(folder);
+		if (path == null || !Files.isDirectory(path))
+			return null;
+
+		Project project = loadProject(configurationService.getWorkspace().getProjects().getProject(path, user), user);
+
+		return project != null && project.isExecute() ? authorize(project) : null;
+	}
+
 	/**
 	 * Authorizes the project.
 	 * 
@@ -202,4 +294,78 @@ public abstract class ProjectService extends CoreService {
 						: null;
 	}
 
+	/**
+	 * Defines registrations of project configurations. They are valid as long as
+	 * the modification time and size of the main configuration file do not
+	 * change.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Registration {
+		/**
+		 * The project configuration.
+		 */
+		private final ProjectConfiguration configuration;
+
+		/**
+		 * The modification time of the main configuration file. Null if not
+		 * available.
+		 */
+		private final FileTime modified;
+
+		/**
+		 * The size of the main configuration file.
+		 */
+		private final long size;
+
+		/**
+		 * Creates a registration of a project configuration.
+		 * 
+		 * @param configuration The project configuration.
+		 * @since 17
+		 */
+		private Registration(ProjectConfiguration configuration) {
+			super();
+
+			this.configuration = configuration;
+
+			BasicFileAttributes attributes = getAttributes();
+			modified = attributes == null ? null : attributes.lastModifiedTime();
+			size = attributes == null ? 0 : attributes.size();
+		}
+
+		/**
+		 * Returns the attributes of the main configuration file.
+		 * 
+		 * @return The attributes of the main configuration file. Null if not
+		 *         available.
+		 * @since 17
+		 */
+		private BasicFileAttributes getAttributes() {
+			try {
+				return Files.readAttributes(configuration.getConfiguration().getMainFile(),
+						BasicFileAttributes.class);
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Returns true if the main configuration file did not change.
+		 * 
+		 * @return True if the main configuration file did not change.
+		 * @since 17
+		 */
+		private boolean isValid() {
+			if (modified == null)
+				return false;
+
+			BasicFileAttributes attributes = getAttributes();
+
+			return attributes != null && modified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+		}
+	}
+
 }
@@ -18,14 +18,14 @@ import java.util.List;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.SnapshotConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.project.SandboxConfiguration;
 import de.uniwuerzburg.zpd.ocr4all.application.core.project.Project;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.HistoryStore;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.History;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Instance;
-import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.project.ActionHistory;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.project.ProjectHistory;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.spi.ServiceProvider;
-import de.uniwuerzburg.zpd.ocr4all.application.persistence.util.PersistenceTools;
 
 /**
  * Defines sandboxes.
@@ -51,9 +51,9 @@ public class Sandbox {
 	private final SandboxConfiguration configuration;
 
 	/**
-	 * The history persistence manager.
+	 * The history store.
 	 */
-	private PersistenceManager historyManager = null;
+	private HistoryStore historyStore = null;
 
 	/**
 	 * Creates a sandbox.
@@ -141,17 +141,17 @@ public class Sandbox {
 	}
 
 	/**
-	 * Returns the history persistence manager. Create a new one if necessary.
+	 * Returns the history store. Create a new one if necessary.
 	 * 
-	 * @return The history persistence manager.
-	 * @since 1.8
+	 * @return The history store.
+	 * @since 17
 	 */
-	private PersistenceManager getHistoryManager() {
-		if (historyManager == null)
-			historyManager = new PersistenceManager(configuration.getConfiguration().getHistoryFile(),
+	private HistoryStore getHistoryStore() {
+		if (historyStore == null)
+			historyStore = new HistoryStore(configuration.getConfiguration().getHistoryFile(),
 					Type.project_action_history_v1, Type.job_process_history_v1);
 
-		return historyManager;
+		return historyStore;
 	}
 
 	/**
@@ -166,7 +166,7 @@ public class Sandbox {
 				history.setDate(new Date());
 				history.setUser(project.getUser());
 
-				getHistoryManager().persist(true, history);
+				getHistoryStore().add(history);
 			} catch (Exception e) {
 				logger.warn("Could not add the history to the sandbox '" + configuration.getConfiguration().getName()
 						+ "' - " + e.getMessage());
@@ -181,8 +181,7 @@ public class Sandbox {
 	 */
 	public List<History> getHistory() {
 		try {
-			return getHistoryManager().getEntities(History.class, message -> logger.warn(message),
-					PersistenceTools.getTrackingDateComparator(false));
+			return getHistoryStore().getHistory();
 		} catch (IOException e) {
 			logger.warn(e.getMessage());
 
@@ -190,6 +189,27 @@ public class Sandbox {
 		}
 	}
 
+	/**
+	 * Returns a page of the history, the newest entries first.
+	 * 
+	 * @param offset    The number of newest entries to skip.
+	 * @param limit     The maximal number of entries to return. All entries if
+	 *                  not positive.
+	 * @param isSummary True if the standard output and error of the process
+	 *                  entries are omitted.
+	 * @return The page with the history entries.
+	 * @since 17
+	 */
+	public Catalog.Page<History> getHistory(int offset, int limit, boolean isSummary) {
+		try {
+			return getHistoryStore().getHistory(offset, limit, isSummary);
+		} catch (IOException e) {
+			logger.warn(e.getMessage());
+
+			return new Catalog.Page<>(new ArrayList<>(), 0);
+		}
+	}
+
 	/**
 	 * Zips the history.
 	 * 
@@ -198,7 +218,7 @@ public class Sandbox {
 	 */
 	public void zipHistory(OutputStream outputStream) {
 		try {
-			getHistoryManager().zip(outputStream);
+			getHistoryStore().zip(outputStream);
 		} catch (NullPointerException | IOException e) {
 			logger.warn(e.getMessage());
 		}
@@ -351,8 +371,8 @@ public class Sandbox {
 		else {
 			final Snapshot snapshot = getSnapshot(trackParent);
 			if (snapshot.getConfiguration().isAllowDerivedSnapshots())
-				snapshotConfiguration = snapshot.getConfiguration().createDerived(type, label, description,
-						serviceProvider, instance);
+				snapshotConfiguration = snapshot.getConfiguration().createDerived(project.getUser(), type, label,
+						description, serviceProvider, instance);
 		}
 
 		if (snapshotConfiguration == null)
@@ -154,9 +154,30 @@ public class SandboxService extends CoreService {
 	 * @since 17
 	 */
 	public SnapshotTree getSnapshotTree(Project project, Sandbox sandbox) {
+		return getSnapshotTree(project, sandbox, false);
+	}
+
+	/**
+	 * Return the snapshot tree. The snapshot tree is maintained in memory.
+	 * 
+	 * @param project       The project.
+	 * @param sandbox       The sandbox.
+	 * @param isSynchronize True if the snapshot tree should be synchronized with
+	 *                      the file system first.
+	 * @return The snapshot tree if authorized. Otherwise returns null. If no
+	 *         snapshots are available, the root snapshot and its children are null.
+	 * @since 17
+	 */
+	public SnapshotTree getSnapshotTree(Project project, Sandbox sandbox, boolean isSynchronize) {
 		sandbox = authorize(project, sandbox);
 
-		return sandbox == null ? null : new SnapshotTree(sandbox);
+		if (sandbox == null)
+			return null;
+
+		if (isSynchronize)
+			sandbox.getConfiguration().getSnapshots().synchronize();
+
+		return new SnapshotTree(sandbox);
 	}
 
 	/**
@@ -17,12 +17,17 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -30,6 +35,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import de.uniwuerzburg.zpd.ocr4all.application.core.CoreService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ConfigurationService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.configuration.ImageConfiguration;
@@ -39,17 +48,21 @@ import de.uniwuerzburg.zpd.ocr4all.application.core.exchange.PartitionService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.exchange.PartitionService.Partition;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Job.Journal;
+import de.uniwuerzburg.zpd.ocr4all.application.core.job.SaturationException;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService;
 import de.uniwuerzburg.zpd.ocr4all.application.core.job.Work;
 import de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.Catalog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.ImageFormat;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.ImageUtils;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.MutationLog;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.folio.Folio;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.security.SecurityGrantRWS;
 import de.uniwuerzburg.zpd.ocr4all.application.spi.util.SystemProcess;
+import jakarta.annotation.PreDestroy;
 
 /**
  * Defines container services.
@@ -60,6 +73,21 @@ import de.uniwuerzburg.zpd.ocr4all.application.spi.util.SystemProcess;
  */
 @Service
 public class ContainerService extends CoreService {
+	/**
+	 * The sort operation of the folio mutation records.
+	 */
+	private static final String operationSort = "sort";
+
+	/**
+	 * The update operation of the folio mutation records.
+	 */
+	private static final String operationUpdate = "update";
+
+	/**
+	 * The remove operation of the folio mutation records.
+	 */
+	private static final String operationRemove = "remove";
+
 	/**
 	 * The security service.
 	 */
@@ -85,6 +113,32 @@ public class ContainerService extends CoreService {
 	 */
 	protected final Path folder;
 
+	/**
+	 * The catalog of the containers.
+	 */
+	private final Catalog<ContainerConfiguration> catalog;
+
+	/**
+	 * The open import batches of the folio uploads. The key is the container id.
+	 */
+	private final Hashtable<String, ImportBatch> importBatches = new Hashtable<>();
+
+	/**
+	 * The closed import batches whose import did not start yet. The key is the id
+	 * of the job that is released to import the batch.
+	 */
+	private final Hashtable<Integer, ImportBatch> importers = new Hashtable<>();
+
+	/**
+	 * The timer that closes the import batches after their coalescing interval.
+	 */
+	private final ScheduledExecutorService importBatchTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "import-batch");
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
 	/**
 	 * Creates a container service.
 	 * 
@@ -105,6 +159,50 @@ public class ContainerService extends CoreService {
 		this.schedulerService = schedulerService;
 
 		folder = configurationService.getRepository().getFolder().normalize();
+
+		catalog = new Catalog<>(ContainerService::describe, this::scan);
+
+		// Passes the import of a batch on if its importer was canceled before starting
+		schedulerService.register(new SchedulerService.EventListener() {
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService.
+			 * EventListener#updated(de.uniwuerzburg.zpd.ocr4all.application.core.job.Job)
+			 */
+			@Override
+			public void updated(Job job) {
+				final ImportBatch batch = job.isDone() ? importers.get(job.getId()) : null;
+
+				if (batch != null)
+					try {
+						importBatchTimer.execute(() -> batch.next((Work) job));
+					} catch (RejectedExecutionException e) {
+						// The service is shutting down
+					}
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see de.uniwuerzburg.zpd.ocr4all.application.core.job.SchedulerService.
+			 * EventListener#removed(de.uniwuerzburg.zpd.ocr4all.application.core.job.Job)
+			 */
+			@Override
+			public void removed(Job job) {
+				// Nothing to do
+			}
+		});
+	}
+
+	/**
+	 * Shuts the timer of the import batches down when the service is destroyed.
+	 *
+	 * @since 17
+	 */
+	@PreDestroy
+	private void destroy() {
+		importBatchTimer.shutdownNow();
 	}
 
 	/**
@@ -188,8 +286,12 @@ public class ContainerService extends CoreService {
 				return null;
 			}
 
-			return getContainer(new ContainerConfiguration(configurationService.getRepository().getContainer(), folder,
-					new Configuration.CoreData(user, name, description, keywords)));
+			ContainerConfiguration configuration = new ContainerConfiguration(
+					configurationService.getRepository().getContainer(), folder,
+					new Configuration.CoreData(user, name, description, keywords));
+			catalog.register(configuration);
+
+			return getContainer(configuration);
 		} else
 			return null;
 	}
@@ -208,28 +310,80 @@ public class ContainerService extends CoreService {
 	}
 
 	/**
-	 * Returns the containers sorted by name.
+	 * Returns the container configurations of the folder.
 	 * 
-	 * @return The containers.
-	 * @since 1.8
+	 * @return The container configurations.
+	 * @since 17
 	 */
-	public List<Container> getContainers() {
-		List<Container> containers = new ArrayList<>();
+	private List<ContainerConfiguration> scan() {
+		List<ContainerConfiguration> configurations = new ArrayList<>();
 
-		try {
-			Files.list(ContainerService.this.folder).filter(Files::isDirectory).forEach(path -> {
+		try (Stream<Path> stream = Files.list(ContainerService.this.folder)) {
+			stream.filter(Files::isDirectory).forEach(path -> {
 				// Ignore directories beginning with a dot
 				if (!path.getFileName().toString().startsWith("."))
-					containers.add(getContainer(path));
+					configurations.add(
+							new ContainerConfiguration(configurationService.getRepository().getContainer(), path));
 			});
 		} catch (IOException e) {
 			logger.warn("Cannot not load containers - " + e.getMessage());
 		}
 
-		Collections.sort(containers, (p1, p2) -> p1.getConfiguration().getConfiguration().getName()
-				.compareToIgnoreCase(p2.getConfiguration().getConfiguration().getName()));
+		logger.info("Catalogued " + configurations.size() + " containers.");
 
-		return containers;
+		return configurations;
+	}
+
+	/**
+	 * Returns the catalog descriptor of the container configuration.
+	 * 
+	 * @param configuration The container configuration.
+	 * @return The catalog descriptor.
+	 * @since 17
+	 */
+	private static Catalog.Descriptor describe(ContainerConfiguration configuration) {
+		Configuration.Information information = configuration.getConfiguration().getInformation();
+
+		return new Catalog.Descriptor(configuration.getId(), configuration.getConfiguration().getName(),
+				information == null ? null : information.getKeywords(), configuration.getConfiguration().getUser(),
+				configuration.getConfiguration().getUpdated());
+	}
+
+	/**
+	 * Returns the containers sorted by name.
+	 * 
+	 * @return The containers.
+	 * @since 1.8
+	 */
+	public List<Container> getContainers() {
+		return getContainers(null, null, 0, 0).getEntities();
+	}
+
+	/**
+	 * Returns the containers from the catalog.
+	 * 
+	 * @param sort   The sort order, this means, name or updated. A leading minus
+	 *               sign selects the descending order. If null, sorts by name.
+	 * @param search The search. If it starts with "keyword:" or "owner:", the
+	 *               containers with the keyword or owner are selected. Otherwise,
+	 *               the containers whose name contains the search or that have it
+	 *               as keyword or owner, ignoring case. If null or blank, all
+	 *               containers are selected.
+	 * @param offset The number of selected containers to skip.
+	 * @param limit  The maximal number of containers to return. All selected
+	 *               containers if not positive.
+	 * @return The page with the containers.
+	 * @since 17
+	 */
+	public Catalog.Page<Container> getContainers(String sort, String search, int offset, int limit) {
+		Catalog.Page<ContainerConfiguration> page = catalog.getEntities(Catalog.Sort.getSort(sort),
+				Catalog.Sort.isDescending(sort), search, offset, limit);
+
+		List<Container> containers = new ArrayList<>();
+		for (ContainerConfiguration configuration : page.getEntities())
+			containers.add(getContainer(configuration));
+
+		return new Catalog.Page<>(containers, page.getTotal());
 	}
 
 	/**
@@ -249,6 +403,8 @@ public class ContainerService extends CoreService {
 				if (!Files.exists(path)) {
 					logger.info("Removed container '" + path.toString() + "'.");
 
+					catalog.remove(path.getFileName().toString());
+
 					return true;
 				} else
 					logger.warn("Troubles removing the container '" + path.toString() + "'.");
@@ -280,8 +436,11 @@ public class ContainerService extends CoreService {
 
 			if (container.getRight().isSpecialFulfilled()
 					&& container.getConfiguration().getConfiguration().update(securityService.getUser(),
-							new ContainerConfiguration.Configuration.Information(name, description, keywords)))
+							new ContainerConfiguration.Configuration.Information(name, description, keywords))) {
+				catalog.register(container.getConfiguration());
+
 				return container;
+			}
 		}
 
 		return null;
@@ -302,8 +461,11 @@ public class ContainerService extends CoreService {
 			Container container = getContainer(path);
 
 			if (container.getRight().isSpecialFulfilled()
-					&& container.getConfiguration().getConfiguration().update(securityService.getUser(), security))
+					&& container.getConfiguration().getConfiguration().update(securityService.getUser(), security)) {
+				catalog.register(container.getConfiguration());
+
 				return container;
+			}
 		}
 
 		return null;
@@ -380,9 +542,49 @@ public class ContainerService extends CoreService {
 		List<Folio> getFolios();
 	}
 
+	/**
+	 * Schedules a job to import the folios into the container.
+	 * 
+	 * @param description        The job description.
+	 * @param container          The container.
+	 * @param temporaryDirectory The temporary directory.
+	 * @param folderFolios       The folder with the folios to import.
+	 * @param callback           The callback to obtain the folios.
+	 * @return The scheduled job.
+	 * @throws SaturationException Throws if the work thread pool is saturated.
+	 * @since 17
+	 */
 	private Work scheduleImportJob(String description, Container container, Path temporaryDirectory, Path folderFolios,
 			ScheduleImportJobCallback callback) {
-		Work work = new Work(securityService.getUser(), configurationService, description, new Work.Instance() {
+		Work work = new Work(securityService.getUser(), configurationService, description,
+				createImportInstance(container, temporaryDirectory, folderFolios, callback));
+
+		// schedule the job
+		try {
+			schedulerService.schedule(work);
+		} catch (SaturationException e) {
+			deleteRecursively(temporaryDirectory);
+
+			throw e;
+		}
+
+		return work;
+	}
+
+	/**
+	 * Creates a work instance to import the folios into the container.
+	 * 
+	 * @param container          The container.
+	 * @param temporaryDirectory The temporary directory. It is deleted when the
+	 *                           work is done.
+	 * @param folderFolios       The folder with the folios to import.
+	 * @param callback           The callback to obtain the folios.
+	 * @return The work instance.
+	 * @since 17
+	 */
+	private Work.Instance createImportInstance(Container container, Path temporaryDirectory, Path folderFolios,
+			ScheduleImportJobCallback callback) {
+		return new Work.Instance() {
 			/**
 			 * True if the work was canceled.
 			 */
@@ -399,8 +601,7 @@ public class ContainerService extends CoreService {
 			private void push(Journal.Step journal, float progress, String message) {
 				journal.setProgress(progress);
 
-				journal.setStandardOutput((journal.isStandardOutputSet() ? journal.getStandardOutput() : "") + message
-						+ System.lineSeparator());
+				journal.appendStandardOutput(message + System.lineSeparator());
 			}
 
 			/*
@@ -634,8 +835,13 @@ public class ContainerService extends CoreService {
 
 				// Persist the configuration
 				try {
-					(new PersistenceManager(container.getConfiguration().getConfiguration().getFolioFile(),
-							Type.folio_v1)).persist(true, folios);
+					final Path file = container.getConfiguration().getConfiguration().getFolioFile();
+
+					getFolioLog(container).persist(() -> {
+						(new PersistenceManager(file, Type.folio_v1)).persist(true, folios);
+
+						return folios.size();
+					});
 				} catch (Exception e) {
 					journal.setStandardError(
 							"Cannot persist container folios configuration file - " + e.getMessage() + ".");
@@ -659,12 +865,86 @@ public class ContainerService extends CoreService {
 			public void cancel(Journal.Step journal) {
 				isCanceled = true;
 			}
-		});
+		};
+	}
 
-		// schedule the job
-		schedulerService.schedule(work);
+	/**
+	 * Schedules a job to import the uploaded folios into the container in a
+	 * batch. If a batch of the container is open, the folios are moved into it.
+	 * Otherwise, a new batch is opened that coalesces the uploads arriving within
+	 * the interval. The job is held by the scheduler until the batch is closed or
+	 * imported, thus, it does not occupy a thread while waiting.
+	 * 
+	 * @param description        The job description.
+	 * @param container          The container.
+	 * @param temporaryDirectory The temporary directory of the upload.
+	 * @param folderFolios       The folder with the uploaded folios.
+	 * @param folios             The uploaded folios.
+	 * @param interval           The coalescing interval in milliseconds.
+	 * @return The scheduled job.
+	 * @throws IOException         Throws if the folios cannot be moved into the
+	 *                             open batch.
+	 * @throws SaturationException Throws if the work thread pool is saturated.
+	 * @since 17
+	 */
+	private Work scheduleImportBatchJob(String description, Container container, Path temporaryDirectory,
+			Path folderFolios, List<Folio> folios, long interval) throws IOException, SaturationException {
+		final String id = container.getConfiguration().getId();
 
-		return work;
+		List<String> fileNames = new ArrayList<>();
+		for (Folio folio : folios)
+			fileNames.add(folio.getId() + "." + folio.getFormat().name());
+
+		synchronized (importBatches) {
+			ImportBatch batch = importBatches.get(id);
+
+			final boolean isOpened = batch == null || !batch.isOpen();
+			if (isOpened)
+				batch = new ImportBatch(container, temporaryDirectory, folderFolios, interval);
+			else
+				try {
+					move(fileNames, folderFolios, batch.folderFolios);
+				} catch (IOException e) {
+					remove(fileNames, batch.folderFolios);
+
+					throw e;
+				} finally {
+					deleteRecursively(temporaryDirectory);
+				}
+
+			batch.folios.addAll(folios);
+
+			Work work = batch.createJob(description);
+
+			// hold the job until the batch is closed or imported
+			try {
+				schedulerService.hold(work);
+			} catch (SaturationException e) {
+				batch.folios.removeAll(folios);
+
+				if (isOpened)
+					deleteRecursively(batch.temporaryDirectory);
+				else
+					remove(fileNames, batch.folderFolios);
+
+				throw e;
+			}
+
+			batch.members.add(work);
+
+			if (isOpened) {
+				importBatches.put(id, batch);
+
+				try {
+					importBatchTimer.schedule(batch::close, interval, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					// The service is shutting down
+					batch.isClosed = true;
+				}
+			}
+
+			return work;
+		}
 	}
 
 	/**
@@ -675,11 +955,17 @@ public class ContainerService extends CoreService {
 	 * @param files          The folios.
 	 * @return The job storing the folios. Null if container is unknown or the write
 	 *         right is not fulfilled.
-	 * @throws IOException Throws on storage troubles.
+	 * @throws IOException         Throws on storage troubles.
+	 * @throws SaturationException Throws if the work thread pool is saturated.
 	 * @since 1.8
 	 */
-	public Work upload(Container container, String jobDescription, MultipartFile[] files) throws IOException {
+	public Work upload(Container container, String jobDescription, MultipartFile[] files)
+			throws IOException, SaturationException {
 		if (container != null && files != null && container.getRight().isWriteFulfilled()) {
+			// Rejects the folios if the work thread pool is saturated
+			if (schedulerService.isSaturated(SchedulerService.ThreadPool.work))
+				throw new SaturationException("the work thread pool is saturated.", schedulerService.getRetryAfter());
+
 			// The system commands
 			final String identifyCommand = configurationService.getSystemCommand().getIdentify();
 			if (!configurationService.getSystemCommand().isIdentifyAvailable())
@@ -748,12 +1034,18 @@ public class ContainerService extends CoreService {
 						}
 				}
 
-			return scheduleImportJob(
-					jobDescription == null || jobDescription.isBlank()
-							? "upload " + folios.size() + " folio" + (folios.size() == 1 ? "" : "s") + " into "
-									+ container.getConfiguration().getConfiguration().getName()
-							: jobDescription.trim(),
-					container, temporaryDirectory, folderFolios, () -> folios);
+			final String description = jobDescription == null || jobDescription.isBlank()
+					? "upload " + folios.size() + " folio" + (folios.size() == 1 ? "" : "s") + " into "
+							+ container.getConfiguration().getConfiguration().getName()
+					: jobDescription.trim();
+
+			// Coalesces the uploads into batches
+			final long batchInterval = configurationService.getApplication().getJobBatchInterval();
+
+			return batchInterval == 0
+					? scheduleImportJob(description, container, temporaryDirectory, folderFolios, () -> folios)
+					: scheduleImportBatchJob(description, container, temporaryDirectory, folderFolios, folios,
+							batchInterval);
 		}
 
 		return null;
@@ -767,12 +1059,18 @@ public class ContainerService extends CoreService {
 	 * @param fileSet        The exchange file set.
 	 * @return The job storing the folios. Null if container is unknown or the write
 	 *         right is not fulfilled or no images are available.
-	 * @throws IOException Throws on storage troubles.
+	 * @throws IOException         Throws on storage troubles.
+	 * @throws SaturationException Throws if the work thread pool is saturated.
 	 * @since 1.8
 	 */
-	public Work exchangeImport(Container container, String jobDescription, FileSet fileSet) throws IOException {
+	public Work exchangeImport(Container container, String jobDescription, FileSet fileSet)
+			throws IOException, SaturationException {
 		if (container != null && fileSet != null && fileSet.getDatasets() != null
 				&& container.getRight().isWriteFulfilled()) {
+			// Rejects the folios if the work thread pool is saturated
+			if (schedulerService.isSaturated(SchedulerService.ThreadPool.work))
+				throw new SaturationException("the work thread pool is saturated.", schedulerService.getRetryAfter());
+
 			// The system commands
 			final String identifyCommand = configurationService.getSystemCommand().getIdentify();
 			if (!configurationService.getSystemCommand().isIdentifyAvailable())
@@ -897,12 +1195,10 @@ public class ContainerService extends CoreService {
 	 * @since 1.8
 	 */
 	public Folio getFolio(Container container, String uuid) throws IOException {
-		if (uuid == null)
+		if (uuid == null || container == null || !container.getRight().isReadFulfilled())
 			return null;
 		else {
-			List<Folio> folios = getFolios(container, Set.of(uuid));
-
-			return folios == null || folios.isEmpty() ? null : folios.get(0);
+			return getFolioLog(container).getEntity(Folio::getId, uuid);
 		}
 	}
 
@@ -933,8 +1229,7 @@ public class ContainerService extends CoreService {
 		if (container != null && container.getRight().isReadFulfilled()) {
 			List<Folio> folios = new ArrayList<>();
 
-			for (Folio folio : (new PersistenceManager(container.getConfiguration().getConfiguration().getFolioFile(),
-					Type.folio_v1)).getEntities(Folio.class))
+			for (Folio folio : getFolioLog(container).getEntities())
 				if (uuids == null || uuids.contains(folio.getId()))
 					folios.add(folio);
 
@@ -944,17 +1239,101 @@ public class ContainerService extends CoreService {
 	}
 
 	/**
-	 * Persist the folios.
+	 * Returns the mutation log of the container folios.
 	 * 
 	 * @param container The container.
-	 * @param folios    The folios to persist.
-	 * @return The number of persisted folios.
-	 * @throws IOException Throws if the folios metadata file can not be persisted.
-	 * @since 1.8
+	 * @return The mutation log of the container folios.
+	 * @since 17
 	 */
-	private int persist(Container container, List<Folio> folios) throws IOException {
-		return (new PersistenceManager(container.getConfiguration().getConfiguration().getFolioFile(), Type.folio_v1))
-				.persist(folios);
+	public static MutationLog<Folio> getFolioLog(Container container) {
+		final Path file = container.getConfiguration().getConfiguration().getFolioFile();
+
+		return new MutationLog<>(file, Folio.class,
+				() -> (new PersistenceManager(file, Type.folio_v1)).getEntities(Folio.class),
+				folios -> (new PersistenceManager(file, Type.folio_v1)).persist(folios), ContainerService::replay);
+	}
+
+	/**
+	 * Returns a new folio mutation record to sort the folios.
+	 * 
+	 * @param order   The order to sort, that is list of folios ids.
+	 * @param isAfter True if the folios that do not belong to the order are to be
+	 *                inserted after the folios that belong to the order. Otherwise,
+	 *                they are placed at the beginning.
+	 * @return The folio mutation record.
+	 * @since 17
+	 */
+	private static ObjectNode createSortRecord(List<String> order, boolean isAfter) {
+		ObjectNode record = MutationLog.createRecord(operationSort).put("after", isAfter);
+		if (order != null)
+			record.set("order", MutationLog.createArray(order));
+
+		return record;
+	}
+
+	/**
+	 * Returns a new folio mutation record to update the folios metadata.
+	 * 
+	 * @param metadata The metadata of the folios to update.
+	 * @return The folio mutation record.
+	 * @since 17
+	 */
+	private static ObjectNode createUpdateRecord(Collection<ImageUtils.Metadata> metadata) {
+		ObjectNode record = MutationLog.createRecord(operationUpdate);
+
+		ArrayNode nodes = record.putArray("metadata");
+		if (metadata != null)
+			for (ImageUtils.Metadata update : metadata)
+				if (update != null) {
+					ObjectNode node = nodes.addObject().put("id", update.getId()).put("name", update.getName());
+
+					if (update.getKeywords() != null)
+						node.set("keywords", MutationLog.createArray(update.getKeywords()));
+
+					if (update.getPageXMLType() != null)
+						node.set("pageXMLType", MutationLog.getObjectMapper().valueToTree(update.getPageXMLType()));
+				}
+
+		return record;
+	}
+
+	/**
+	 * Applies the folio mutation record to the folios.
+	 * 
+	 * @param folios The folios.
+	 * @param record The folio mutation record.
+	 * @return The folios with the applied record.
+	 * @throws IOException Throws if the record is not valid.
+	 * @since 17
+	 */
+	private static List<Folio> replay(List<Folio> folios, JsonNode record) throws IOException {
+		final String operation = MutationLog.getOperation(record);
+
+		if (operationSort.equals(operation))
+			return ImageUtils.sort(folios, MutationLog.getStrings(record.get("order")), record.path("after").asBoolean());
+		else if (operationUpdate.equals(operation)) {
+			List<ImageUtils.Metadata> metadata = new ArrayList<>();
+			for (JsonNode node : record.path("metadata")) {
+				List<String> keywords = MutationLog.getStrings(node.get("keywords"));
+
+				metadata.add(new ImageUtils.Metadata(node.path("id").asText(null), node.path("name").asText(null),
+						keywords == null ? null : new HashSet<>(keywords),
+						node.hasNonNull("pageXMLType") ? MutationLog.getObjectMapper()
+								.treeToValue(node.get("pageXMLType"), Folio.PageXMLType.class) : null));
+			}
+
+			return ImageUtils.update(folios, metadata);
+		} else if (operationRemove.equals(operation)) {
+			List<String> ids = MutationLog.getStrings(record.get("ids"));
+			if (ids == null)
+				return new ArrayList<>();
+
+			final Set<String> removeIds = new HashSet<>(ids);
+			folios.removeIf(folio -> removeIds.contains(folio.getId()));
+
+			return folios;
+		} else
+			throw new IOException("unknown folio mutation '" + operation + "'");
 	}
 
 	/**
@@ -972,13 +1351,9 @@ public class ContainerService extends CoreService {
 	 * @since 1.8
 	 */
 	public List<Folio> sortFolios(Container container, List<String> order, boolean isAfter) throws IOException {
-		if (container != null && container.getRight().isWriteFulfilled()) {
-			List<Folio> folios = ImageUtils.sort(getFolios(container), order, isAfter);
-
-			persist(container, folios);
-
-			return folios;
-		} else
+		if (container != null && container.getRight().isWriteFulfilled())
+			return getFolioLog(container).mutate(createSortRecord(order, isAfter));
+		else
 			return null;
 
 	}
@@ -994,13 +1369,9 @@ public class ContainerService extends CoreService {
 	 * @since 1.8
 	 */
 	public List<Folio> updateFolios(Container container, Collection<ImageUtils.Metadata> metadata) throws IOException {
-		if (container != null && container.getRight().isWriteFulfilled()) {
-			List<Folio> folios = ImageUtils.update(getFolios(container), metadata);
-
-			persist(container, folios);
-
-			return folios;
-		} else
+		if (container != null && container.getRight().isWriteFulfilled())
+			return getFolioLog(container).mutate(createUpdateRecord(metadata));
+		else
 			return null;
 	}
 
@@ -1017,7 +1388,7 @@ public class ContainerService extends CoreService {
 	 */
 	public List<Folio> removeFolios(Container container, Collection<String> ids) throws IOException {
 		if (container != null && container.getRight().isWriteFulfilled()) {
-			final List<Folio> folios = new ArrayList<>();
+			final ObjectNode record = MutationLog.createRecord(operationRemove);
 
 			final Path foliosFolder = container.getConfiguration().getImages().getFolios();
 			final Path normalizedFolder = container.getConfiguration().getImages().getNormalized().getFolder();
@@ -1045,6 +1416,8 @@ public class ContainerService extends CoreService {
 					if (id != null && !id.isBlank())
 						removeIds.add(id.trim());
 
+				record.set("ids", MutationLog.createArray(removeIds));
+
 				final String normalizedFormat = container.getConfiguration().getImages().getNormalized().getFormat()
 						.name();
 				final String derivativesFormat = derivatives.getFormat().name();
@@ -1065,18 +1438,305 @@ public class ContainerService extends CoreService {
 						} catch (Exception e) {
 							// Ignore troubles removing files
 						}
-					else
-						folios.add(folio);
 			}
 
-			persist(container, folios);
-
-			return folios;
+			return getFolioLog(container).mutate(record);
 		} else
 			return null;
 
 	}
 
+	/**
+	 * Defines import batches. They coalesce the folio uploads into a container
+	 * that arrive within the interval, so that the folios are normalized, the
+	 * derivatives are created and the folios configuration file is persisted
+	 * only once. Every upload has its own job, that is held by the scheduler and
+	 * does not wait for a thread. When the batch closes, the first job that is not
+	 * canceled is released to import the batch. The other jobs are released when
+	 * the import is done and follow its state.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private class ImportBatch {
+		/**
+		 * The container.
+		 */
+		private final Container container;
+
+		/**
+		 * The temporary directory.
+		 */
+		private final Path temporaryDirectory;
+
+		/**
+		 * The folder with the folios to import.
+		 */
+		private final Path folderFolios;
+
+		/**
+		 * The time in milliseconds when the batch closes for further uploads.
+		 */
+		private final long deadline;
+
+		/**
+		 * The folios to import.
+		 */
+		private final List<Folio> folios = new ArrayList<>();
+
+		/**
+		 * The jobs of the batch.
+		 */
+		private final List<Work> members = new ArrayList<>();
+
+		/**
+		 * The work instance that imports the folios.
+		 */
+		private final Work.Instance instance;
+
+		/**
+		 * The job that imports the batch. Null if the batch is not closed.
+		 */
+		private Work importer = null;
+
+		/**
+		 * True if the batch is closed for further uploads.
+		 */
+		private boolean isClosed = false;
+
+		/**
+		 * True if a job imports the batch.
+		 */
+		private boolean isStarted = false;
+
+		/**
+		 * The end state of the import. Null if the import is not done.
+		 */
+		private Job.State state = null;
+
+		/**
+		 * The standard error of the import. Null if not available.
+		 */
+		private String error = null;
+
+		/**
+		 * Creates an import batch.
+		 * 
+		 * @param container          The container.
+		 * @param temporaryDirectory The temporary directory.
+		 * @param folderFolios       The folder with the folios to import.
+		 * @param interval           The coalescing interval in milliseconds.
+		 * @since 17
+		 */
+		private ImportBatch(Container container, Path temporaryDirectory, Path folderFolios, long interval) {
+			super();
+
+			this.container = container;
+			this.temporaryDirectory = temporaryDirectory;
+			this.folderFolios = folderFolios;
+
+			deadline = System.currentTimeMillis() + interval;
+
+			instance = createImportInstance(container, temporaryDirectory, folderFolios, () -> folios);
+		}
+
+		/**
+		 * Returns true if the batch is open for further uploads.
+		 * 
+		 * @return True if the batch is open for further uploads.
+		 * @since 17
+		 */
+		private boolean isOpen() {
+			return !isClosed && System.currentTimeMillis() < deadline;
+		}
+
+		/**
+		 * Creates a job of the batch. It becomes a member of the batch as soon as it
+		 * is held by the scheduler.
+		 * 
+		 * @param description The job description.
+		 * @return The job.
+		 * @since 17
+		 */
+		private Work createJob(String description) {
+			Member member = new Member();
+			member.job = new Work(securityService.getUser(), configurationService, description, member);
+
+			return member.job;
+		}
+
+		/**
+		 * Closes the batch for further uploads and releases the job that imports it.
+		 * 
+		 * @since 17
+		 */
+		private void close() {
+			synchronized (importBatches) {
+				isClosed = true;
+
+				importBatches.remove(container.getConfiguration().getId(), this);
+			}
+
+			next(null);
+		}
+
+		/**
+		 * Releases the next job that is not canceled to import the batch, if the
+		 * import did not start and the given job is the current importer. If all jobs
+		 * of the batch are canceled, the batch is discarded.
+		 * 
+		 * @param previous The previous importer. Null if the batch was just closed.
+		 * @since 17
+		 */
+		private void next(Work previous) {
+			final Work job;
+			synchronized (this) {
+				if (isStarted || importer != previous)
+					return;
+
+				if (importer != null)
+					importers.remove(importer.getId());
+
+				importer = null;
+				for (Work member : members)
+					if (member.isStateScheduled()) {
+						importer = member;
+
+						break;
+					}
+
+				job = importer;
+				if (job != null)
+					importers.put(job.getId(), this);
+			}
+
+			if (job == null) {
+				deleteRecursively(temporaryDirectory);
+
+				logger.info("discarded the import batch into "
+						+ container.getConfiguration().getConfiguration().getName()
+						+ ", since all its jobs are canceled.");
+			} else
+				schedulerService.release(job);
+		}
+
+		/**
+		 * Imports the batch and releases the jobs that follow its state.
+		 * 
+		 * @param journal The journal.
+		 * @return The end state of the import.
+		 * @since 17
+		 */
+		private Job.State importBatch(Journal.Step journal) {
+			journal.appendStandardOutput("importing a batch of " + folios.size() + " folio"
+					+ (folios.size() == 1 ? "" : "s") + " from " + members.size() + " upload"
+					+ (members.size() == 1 ? "" : "s") + System.lineSeparator());
+
+			Job.State result = Job.State.interrupted;
+			try {
+				result = instance.execute(journal);
+			} finally {
+				synchronized (this) {
+					state = result;
+					error = journal.isStandardErrorSet() ? journal.getStandardError() : null;
+				}
+
+				for (Work member : members)
+					schedulerService.release(member);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Defines the work instances of the jobs of the batch.
+		 *
+		 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+		 * @version 1.0
+		 * @since 17
+		 */
+		private class Member implements Work.Instance {
+			/**
+			 * The job.
+			 */
+			private Work job = null;
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * de.uniwuerzburg.zpd.ocr4all.application.core.job.Work.Instance#execute(de.
+			 * uniwuerzburg.zpd.ocr4all.application.core.job.Job.Journal)
+			 */
+			@Override
+			public Job.State execute(Journal.Step journal) {
+				final boolean isImporter;
+				synchronized (ImportBatch.this) {
+					isImporter = job == importer && !isStarted;
+
+					if (isImporter) {
+						isStarted = true;
+
+						importers.remove(job.getId());
+					}
+				}
+
+				return isImporter ? importBatch(journal) : follow(journal);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * de.uniwuerzburg.zpd.ocr4all.application.core.job.Work.Instance#cancel(de.
+			 * uniwuerzburg.zpd.ocr4all.application.core.job.Job.Journal)
+			 */
+			@Override
+			public void cancel(Journal.Step journal) {
+				synchronized (ImportBatch.this) {
+					if (job != importer)
+						return;
+
+					// Cancels the import only if all jobs of the batch are canceled
+					for (Work member : members)
+						if (member != job && !member.isDone())
+							return;
+				}
+
+				instance.cancel(journal);
+			}
+
+			/**
+			 * Follows the state of the batch.
+			 * 
+			 * @param journal The journal.
+			 * @return The end state of the batch.
+			 * @since 17
+			 */
+			private Job.State follow(Journal.Step journal) {
+				journal.appendStandardOutput("coalesced into a batch import into "
+						+ container.getConfiguration().getConfiguration().getName() + System.lineSeparator());
+
+				synchronized (ImportBatch.this) {
+					// The job was canceled while it was starting to import the batch
+					if (state == null)
+						return Job.State.canceled;
+
+					if (error != null)
+						journal.setStandardError(error);
+					else if (Job.State.completed.equals(state)) {
+						journal.setProgress(1F);
+						journal.appendStandardOutput("imported the batch of " + folios.size() + " folio"
+								+ (folios.size() == 1 ? "" : "s") + System.lineSeparator());
+					}
+
+					return state;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Container is an immutable class that defines containers.
 	 *
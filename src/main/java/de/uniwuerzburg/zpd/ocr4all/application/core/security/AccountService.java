@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -107,26 +108,17 @@ public class AccountService extends CoreService implements UserDetailsService {
 	}
 
 	/**
-	 * The users. The key is the user login and the value the respective user.
+	 * The accounts. The snapshot is immutable and replaced as a whole when the
+	 * users, passwords or groups change, thus, the readers do not require a lock.
 	 */
-	private final Hashtable<String, User> users = new Hashtable<>();
+	private volatile Accounts accounts = new Accounts(new Hashtable<>(), new Hashtable<>(), new Hashtable<>(), null,
+			null);
 
 	/**
-	 * The passwords. The key is the user login and the value the respective
-	 * password.
+	 * The revision of the accounts. It is incremented every time a new snapshot
+	 * of the accounts is published.
 	 */
-	private final Hashtable<String, Password> passwords = new Hashtable<>();
-
-	/**
-	 * The groups. The key is the group label and the value the respective group.
-	 */
-	private final Hashtable<String, Group> groups = new Hashtable<>();
-
-	/**
-	 * The active groups. The key is the user login and the value are the respective
-	 * groups.
-	 */
-	private final Hashtable<String, Set<String>> activeGroups = new Hashtable<>();
+	private volatile long revision = 0;
 
 	/**
 	 * The service to encode the passwords.
@@ -196,7 +188,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 			group = new Group(administratorGroup, "Administrator group", null, null);
 		else
 			for (String administrator : group.getUsers()) {
-				user = users.get(administrator);
+				user = accounts.users.get(administrator);
 
 				if (user != null)
 					break;
@@ -221,7 +213,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 
 				logger.info("Created administrator group '" + group.getLabel() + "'.");
 			} else
-				for (Group userGroup : groups.values())
+				for (Group userGroup : accounts.groups.values())
 					if (userGroup.getUsers().contains(user.getLogin()))
 						userGroups.add(userGroup.getLabel());
 
@@ -345,16 +337,15 @@ public class AccountService extends CoreService implements UserDetailsService {
 					logger.debug("Deleted monitored file '" + file.getAbsolutePath() + "'.");
 
 					if (user.getFileName().toString().equals(file.getName())) {
-						users.clear();
+						publish(new Hashtable<>(), null, null);
 
 						logger.info("Removed users.");
 					} else if (group.getFileName().toString().equals(file.getName())) {
-						groups.clear();
-						activeGroups.clear();
+						publish(null, null, new Hashtable<>());
 
 						logger.info("Removed groups.");
 					} else if (password.getFileName().toString().equals(file.getName())) {
-						passwords.clear();
+						publish(null, new Hashtable<>(), null);
 
 						logger.info("Removed passwords.");
 					}
@@ -405,11 +396,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	private synchronized void loadUsers() {
-		if (!users.isEmpty()) {
-			users.clear();
-
-			logger.debug("Removed previous users.");
-		}
+		final Hashtable<String, User> users = new Hashtable<>();
 
 		final Path path = configurationService.getWorkspace().getConfiguration().getUserFile();
 		final WorkspaceConfiguration.Version version = configurationService.getWorkspace().getConfiguration()
@@ -438,6 +425,8 @@ public class AccountService extends CoreService implements UserDetailsService {
 					}
 				}, (file, lines, added, total) -> logger
 						.info("Loaded " + added + "/" + total + " users: " + file + " (lines " + lines + ")."));
+
+		publish(users, null, null);
 	}
 
 	/**
@@ -446,11 +435,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	private synchronized void loadPasswords() {
-		if (!passwords.isEmpty()) {
-			passwords.clear();
-
-			logger.debug("Removed previous passwords.");
-		}
+		final Hashtable<String, Password> passwords = new Hashtable<>();
 
 		final Path path = configurationService.getWorkspace().getConfiguration().getPasswordFile();
 		final WorkspaceConfiguration.Version version = configurationService.getWorkspace().getConfiguration()
@@ -488,6 +473,8 @@ public class AccountService extends CoreService implements UserDetailsService {
 					}
 				}, (file, lines, added, total) -> logger
 						.info("Loaded " + added + "/" + total + " passwords: " + file + " (lines " + lines + ")."));
+
+		publish(null, passwords, null);
 	}
 
 	/**
@@ -496,12 +483,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	private synchronized void loadGroups() {
-		if (!groups.isEmpty()) {
-			groups.clear();
-			activeGroups.clear();
-
-			logger.debug("Removed previous groups.");
-		}
+		final Hashtable<String, Group> groups = new Hashtable<>();
 
 		List<String> description = null;
 
@@ -537,17 +519,6 @@ public class AccountService extends CoreService implements UserDetailsService {
 								} else {
 									groups.put(group.getLabel(), group);
 
-									if (State.active.equals(group.getState()))
-										for (String user : group.getUsers()) {
-											Set<String> currentGroups = activeGroups.get(user);
-											if (currentGroups == null) {
-												currentGroups = new HashSet<>();
-												activeGroups.put(user, currentGroups);
-											}
-
-											currentGroups.add(group.getLabel());
-										}
-
 									logger.debug(
 											"Added group " + groups.size() + ": " + group + " (line " + line + ").");
 
@@ -561,6 +532,44 @@ public class AccountService extends CoreService implements UserDetailsService {
 							}
 						}, (file, lines, added, total) -> logger.info(
 								"Loaded " + added + "/" + total + " groups: " + file + " (lines " + lines + ")."));
+
+		publish(null, null, groups);
+	}
+
+	/**
+	 * Publishes a new snapshot of the accounts.
+	 *
+	 * @param users     The users. If null, the current users are kept.
+	 * @param passwords The passwords. If null, the current passwords are kept.
+	 * @param groups    The groups. If null, the current groups are kept.
+	 * @since 17
+	 */
+	private synchronized void publish(Map<String, User> users, Map<String, Password> passwords,
+			Map<String, Group> groups) {
+		final Accounts current = accounts;
+
+		accounts = new Accounts(users == null ? current.users : users,
+				passwords == null ? current.passwords : passwords, groups == null ? current.groups : groups,
+				configurationService.getApplication().isAdministratorGroupSet()
+						? configurationService.getApplication().getAdministratorGroup()
+						: null,
+				configurationService.getApplication().isCoordinatorGroupSet()
+						? configurationService.getApplication().getCoordinatorGroup()
+						: null);
+
+		revision++;
+	}
+
+	/**
+	 * Returns the revision of the accounts. It changes every time the users,
+	 * passwords or groups are reloaded or edited, thus, it can be used to
+	 * invalidate information derived from the accounts.
+	 *
+	 * @return The revision of the accounts.
+	 * @since 17
+	 */
+	public long getRevision() {
+		return revision;
 	}
 
 	/**
@@ -570,11 +579,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	public List<User> getUsers() {
-		List<User> list = new ArrayList<>(users.values());
-
-		Collections.sort(list, (u1, u2) -> u1.getLogin().compareTo(u2.getLogin()));
-
-		return list;
+		return new ArrayList<>(accounts.sortedUsers);
 	}
 
 	/**
@@ -587,7 +592,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	public boolean isUserAvailable(String login) {
 		login = SecurityEntity.filter(login);
 
-		return login != null && users.containsKey(login.toLowerCase());
+		return login != null && accounts.users.containsKey(login.toLowerCase());
 	}
 
 	/**
@@ -600,7 +605,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	public User getUser(String login) {
 		login = SecurityEntity.filter(login);
 
-		return login == null ? null : users.get(login.toLowerCase());
+		return login == null ? null : accounts.users.get(login.toLowerCase());
 	}
 
 	/**
@@ -613,7 +618,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	public boolean isPasswordAvailable(String login) {
 		login = SecurityEntity.filter(login);
 
-		return login != null && passwords.containsKey(login.toLowerCase());
+		return login != null && accounts.passwords.containsKey(login.toLowerCase());
 	}
 
 	/**
@@ -623,11 +628,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	public List<Group> getGroups() {
-		List<Group> list = new ArrayList<>(groups.values());
-
-		Collections.sort(list, (g1, g2) -> g1.getLabel().compareTo(g2.getLabel()));
-
-		return list;
+		return new ArrayList<>(accounts.sortedGroups);
 	}
 
 	/**
@@ -640,7 +641,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	public boolean isGroupAvailable(String label) {
 		label = SecurityEntity.filter(label);
 
-		return label != null && groups.containsKey(label.toLowerCase());
+		return label != null && accounts.groups.containsKey(label.toLowerCase());
 	}
 
 	/**
@@ -653,7 +654,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	public Group getGroup(String label) {
 		label = SecurityEntity.filter(label);
 
-		return label == null ? null : groups.get(label.toLowerCase());
+		return label == null ? null : accounts.groups.get(label.toLowerCase());
 	}
 
 	/**
@@ -664,7 +665,9 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	public Set<String> getActiveGroups(String login) {
-		return activeGroups.containsKey(login) ? new HashSet<>(activeGroups.get(login)) : new HashSet<>();
+		final Set<String> groups = login == null ? null : accounts.activeGroups.get(login);
+
+		return groups == null ? new HashSet<>() : new HashSet<>(groups);
 	}
 
 	/**
@@ -675,14 +678,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	public boolean isAdministrator(String login) {
-		if (login == null)
-			return false;
-		else {
-			login = login.trim().toLowerCase();
-
-			return configurationService.getApplication().isAdministratorGroupSet() && activeGroups.containsKey(login)
-					&& activeGroups.get(login).contains(configurationService.getApplication().getAdministratorGroup());
-		}
+		return login != null && accounts.administrators.contains(login.trim().toLowerCase());
 	}
 
 	/**
@@ -693,14 +689,7 @@ public class AccountService extends CoreService implements UserDetailsService {
 	 * @since 1.8
 	 */
 	public boolean isCoordinator(String login) {
-		if (login == null)
-			return false;
-		else {
-			login = login.trim().toLowerCase();
-
-			return configurationService.getApplication().isCoordinatorGroupSet() && activeGroups.containsKey(login)
-					&& activeGroups.get(login).contains(configurationService.getApplication().getCoordinatorGroup());
-		}
+		return login != null && accounts.coordinators.contains(login.trim().toLowerCase());
 	}
 
 	/**
@@ -1032,19 +1021,20 @@ public class AccountService extends CoreService implements UserDetailsService {
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		final String login = username.toLowerCase();
+		final Accounts accounts = this.accounts;
 
-		if (!users.containsKey(login)) {
+		if (!accounts.users.containsKey(login)) {
 			logger.info("No available user '" + login + "'.");
 
 			throw new UsernameNotFoundException("User '" + login + "' not found.");
-		} else if (!passwords.containsKey(login)) {
+		} else if (!accounts.passwords.containsKey(login)) {
 			logger.info("No credentials found for user '" + login + "'.");
 
 			throw new UsernameNotFoundException("Credentials for user '" + login + "' not found.");
 		}
 
-		final User user = users.get(login);
-		final Password password = passwords.get(login);
+		final User user = accounts.users.get(login);
+		final Password password = accounts.passwords.get(login);
 
 		logger.info("Requested credentials for user '" + login + "' - state " + user.getState().name() + ".");
 
@@ -1131,10 +1121,10 @@ public class AccountService extends CoreService implements UserDetailsService {
 
 				authorities.add(new SimpleGrantedAuthority(Role.USER.getGrantedAuthority()));
 
-				if (isCoordinator(login) || isAdministrator(login))
+				if (accounts.coordinators.contains(login) || accounts.administrators.contains(login))
 					authorities.add(new SimpleGrantedAuthority(Role.COORD.getGrantedAuthority()));
 
-				if (isAdministrator(login))
+				if (accounts.administrators.contains(login))
 					authorities.add(new SimpleGrantedAuthority(Role.ADMIN.getGrantedAuthority()));
 
 				return authorities;
@@ -1142,6 +1132,107 @@ public class AccountService extends CoreService implements UserDetailsService {
 		};
 	}
 
+	/**
+	 * Accounts is an immutable class that defines snapshots of the users,
+	 * passwords and groups with their indexes.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Accounts {
+		/**
+		 * The users. The key is the user login and the value the respective user.
+		 */
+		private final Map<String, User> users;
+
+		/**
+		 * The passwords. The key is the user login and the value the respective
+		 * password.
+		 */
+		private final Map<String, Password> passwords;
+
+		/**
+		 * The groups. The key is the group label and the value the respective group.
+		 */
+		private final Map<String, Group> groups;
+
+		/**
+		 * The active groups. The key is the user login and the value are the
+		 * respective groups.
+		 */
+		private final Map<String, Set<String>> activeGroups;
+
+		/**
+		 * The logins of the users that belong to the administrator group.
+		 */
+		private final Set<String> administrators;
+
+		/**
+		 * The logins of the users that belong to the coordinator group.
+		 */
+		private final Set<String> coordinators;
+
+		/**
+		 * The users sorted by login.
+		 */
+		private final List<User> sortedUsers;
+
+		/**
+		 * The groups sorted by label.
+		 */
+		private final List<Group> sortedGroups;
+
+		/**
+		 * Creates a snapshot of the accounts. The maps are not modified afterwards.
+		 *
+		 * @param users              The users.
+		 * @param passwords          The passwords.
+		 * @param groups             The groups.
+		 * @param administratorGroup The administrator group. Null if not set.
+		 * @param coordinatorGroup   The coordinator group. Null if not set.
+		 * @since 17
+		 */
+		private Accounts(Map<String, User> users, Map<String, Password> passwords, Map<String, Group> groups,
+				String administratorGroup, String coordinatorGroup) {
+			super();
+
+			this.users = Collections.unmodifiableMap(users);
+			this.passwords = Collections.unmodifiableMap(passwords);
+			this.groups = Collections.unmodifiableMap(groups);
+
+			Hashtable<String, Set<String>> activeGroups = new Hashtable<>();
+			for (Group group : groups.values())
+				if (State.active.equals(group.getState()))
+					for (String user : group.getUsers())
+						activeGroups.computeIfAbsent(user, key -> new HashSet<>()).add(group.getLabel());
+
+			Set<String> administrators = new HashSet<>();
+			Set<String> coordinators = new HashSet<>();
+			for (Map.Entry<String, Set<String>> entry : activeGroups.entrySet()) {
+				if (administratorGroup != null && entry.getValue().contains(administratorGroup))
+					administrators.add(entry.getKey());
+
+				if (coordinatorGroup != null && entry.getValue().contains(coordinatorGroup))
+					coordinators.add(entry.getKey());
+
+				entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+			}
+
+			this.activeGroups = Collections.unmodifiableMap(activeGroups);
+			this.administrators = Collections.unmodifiableSet(administrators);
+			this.coordinators = Collections.unmodifiableSet(coordinators);
+
+			List<User> sortedUsers = new ArrayList<>(users.values());
+			Collections.sort(sortedUsers, (u1, u2) -> u1.getLogin().compareTo(u2.getLogin()));
+			this.sortedUsers = Collections.unmodifiableList(sortedUsers);
+
+			List<Group> sortedGroups = new ArrayList<>(groups.values());
+			Collections.sort(sortedGroups, (g1, g2) -> g1.getLabel().compareTo(g2.getLabel()));
+			this.sortedGroups = Collections.unmodifiableList(sortedGroups);
+		}
+	}
+
 	/**
 	 * Defines credentials.
 	 *
@@ -81,4 +81,26 @@ public class SecurityDesktopService extends SecurityService {
 		return new HashSet<>();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService#
+	 * getSecurityLevel(java.lang.String)
+	 */
+	@Override
+	public Level getSecurityLevel(String user) {
+		return Level.administrator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService#
+	 * getActiveGroups(java.lang.String)
+	 */
+	@Override
+	public Set<String> getActiveGroups(String user) {
+		return new HashSet<>();
+	}
+
 }
@@ -91,4 +91,30 @@ public class SecurityServerService extends SecurityService {
 		return accountService.getActiveGroups(getUser());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService#
+	 * getSecurityLevel(java.lang.String)
+	 */
+	@Override
+	public Level getSecurityLevel(String user) {
+		User account = accountService.getUser(user);
+
+		return account == null || !State.active.equals(account.getState()) ? null
+				: accountService.isAdministrator(user) ? Level.administrator
+						: (accountService.isCoordinator(user) ? Level.coordinator : Level.user);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.uniwuerzburg.zpd.ocr4all.application.core.security.SecurityService#
+	 * getActiveGroups(java.lang.String)
+	 */
+	@Override
+	public Set<String> getActiveGroups(String user) {
+		return accountService.getActiveGroups(user == null ? null : user.toLowerCase());
+	}
+
 }
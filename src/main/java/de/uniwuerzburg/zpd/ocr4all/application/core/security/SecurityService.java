@@ -134,4 +134,25 @@ public abstract class SecurityService extends CoreService {
 	 */
 	public abstract Set<String> getActiveGroups();
 
+	/**
+	 * Returns the security level of the user outside of a security context, e.g.
+	 * to recover the jobs of the user after a restart.
+	 *
+	 * @param user The user.
+	 * @return The security level of the user. Null if the user is not available or
+	 *         not active.
+	 * @since 17
+	 */
+	public abstract Level getSecurityLevel(String user);
+
+	/**
+	 * Returns the active groups of the user outside of a security context, e.g. to
+	 * recover the jobs of the user after a restart.
+	 * 
+	 * @param user The user.
+	 * @return The active groups.
+	 * @since 17
+	 */
+	public abstract Set<String> getActiveGroups(String user);
+
 }
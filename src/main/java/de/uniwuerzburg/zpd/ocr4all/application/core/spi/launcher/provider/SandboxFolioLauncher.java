@@ -27,6 +27,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.ImageFormat;
 import de.uniwuerzburg.zpd.ocr4all.application.core.util.OCR4allUtils;
+import de.uniwuerzburg.zpd.ocr4all.application.core.util.ShardUtils;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
 import de.uniwuerzburg.zpd.ocr4all.application.persistence.folio.Folio;
@@ -753,25 +754,38 @@ public class SandboxFolioLauncher extends SandboxCoreLauncher {
 					arguments.addAll(Arrays.asList("-set", "filename:t", "%t", "+adjoin",
 							folderSandboxFolios.toString() + "/%[filename:t]." + imageFormat.name()));
 
-					updatedStandardOutput("Preprocess images.");
-					SystemProcess preprocessJob = new SystemProcess(folderProjectFolios, convertCommand);
+					// the images are independent, thus, they are preprocessed concurrently in
+					// shards with their own system process if the sharding is enabled
+					final Set<String> fileNames = OCR4allUtils.getFileNames(folderProjectFolios);
+					final int shards = ShardUtils.getShards(fileNames.size());
 
-					for (String fileName : OCR4allUtils.getFileNames(folderProjectFolios)) {
-						// set image name
-						arguments.set(0, fileName);
+					updatedStandardOutput("Preprocess images" + (shards == 1 ? "" : " in " + shards + " shards") + ".");
 
-						// process image
-						preprocessJob.execute(arguments);
+					String error = ShardUtils.execute(identifier, fileNames, shards, () -> {
+						final SystemProcess preprocessJob = new SystemProcess(folderProjectFolios, convertCommand);
+						final List<String> shardArguments = new ArrayList<>(arguments);
 
-						if (preprocessJob.getExitValue() != 0) {
-							String error = preprocessJob.getStandardError();
-							updatedStandardError(
-									"Cannot preprocess images" + (error.isBlank() ? "" : " - " + error.trim()) + ".");
+						return fileName -> {
+							// set image name
+							shardArguments.set(0, fileName);
 
-							return ProcessorServiceProvider.Processor.State.interrupted;
-						}
+							// process image
+							preprocessJob.execute(shardArguments);
+
+							if (preprocessJob.getExitValue() == 0)
+								return null;
+
+							String message = preprocessJob.getStandardError();
+							return message.isBlank() ? fileName : message.trim();
+						};
+					}, () -> isCanceled(), progress -> callback.updatedProgress(0.35F + 0.55F * progress));
+
+					if (error != null) {
+						updatedStandardError("Cannot preprocess images - " + error + ".");
+
+						return ProcessorServiceProvider.Processor.State.interrupted;
 					}
-				} catch (IOException e) {
+				} catch (IOException | InterruptedException e) {
 					updatedStandardError("Sandbox images cannot be created - " + e.getMessage() + ".");
 
 					return ProcessorServiceProvider.Processor.State.interrupted;
@@ -0,0 +1,580 @@
+/**
+ * File:     Catalog.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Defines in-memory catalogs of the entities of a folder, e.g. the containers
+ * of the repository. The catalog is built once by scanning the folder and is
+ * kept current by the create, update and remove paths of the service, that
+ * register and remove the entities. The entities are indexed by name, keywords,
+ * owner and update date, thus, they can be searched, sorted and paged without
+ * reading their configuration files.
+ *
+ * <p>
+ * The registered entities are shared by the listings, thus, they should not
+ * be modified.
+ * </p>
+ *
+ * @param <E> The entity type.
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class Catalog<E> {
+	/**
+	 * Defines sort orders.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public enum Sort {
+		/**
+		 * Sorts by name.
+		 */
+		name,
+		/**
+		 * Sorts by update date.
+		 */
+		updated;
+
+		/**
+		 * The prefix for descending orders.
+		 */
+		private static final String descending = "-";
+
+		/**
+		 * Returns the sort order for the given name. A leading minus sign selects
+		 * the descending order.
+		 *
+		 * @param name The name.
+		 * @return The sort order. The name order if the name is null or unknown.
+		 * @since 17
+		 */
+		public static Sort getSort(String name) {
+			if (name != null) {
+				name = name.trim();
+				if (name.startsWith(descending))
+					name = name.substring(descending.length());
+
+				for (Sort sort : Sort.values())
+					if (sort.name().equalsIgnoreCase(name))
+						return sort;
+			}
+
+			return Sort.name;
+		}
+
+		/**
+		 * Returns true if the given name selects the descending order.
+		 *
+		 * @param name The name.
+		 * @return True if the given name selects the descending order.
+		 * @since 17
+		 */
+		public static boolean isDescending(String name) {
+			return name != null && name.trim().startsWith(descending);
+		}
+	}
+
+	/**
+	 * The search prefix for keywords.
+	 */
+	private static final String searchKeyword = "keyword:";
+
+	/**
+	 * The search prefix for owners.
+	 */
+	private static final String searchOwner = "owner:";
+
+	/**
+	 * The name order. The names are case insensitive and the ids break ties.
+	 */
+	private static final Comparator<Item<?>> nameOrder = Comparator.comparing((Item<?> item) -> item.name)
+			.thenComparing(item -> item.id);
+
+	/**
+	 * The update date order. The ids break ties.
+	 */
+	private static final Comparator<Item<?>> updatedOrder = Comparator.comparingLong((Item<?> item) -> item.updated)
+			.thenComparing(item -> item.id);
+
+	/**
+	 * The describer of the entities.
+	 */
+	private final Describer<E> describer;
+
+	/**
+	 * The scanner of the folder.
+	 */
+	private final Scanner<E> scanner;
+
+	/**
+	 * The registered entities. The key is the entity id.
+	 */
+	private final Hashtable<String, Item<E>> items = new Hashtable<>();
+
+	/**
+	 * The name index.
+	 */
+	private final TreeSet<Item<E>> names = new TreeSet<>(nameOrder);
+
+	/**
+	 * The update date index.
+	 */
+	private final TreeSet<Item<E>> updates = new TreeSet<>(updatedOrder);
+
+	/**
+	 * The keyword index. The key is the lower case keyword.
+	 */
+	private final Hashtable<String, Set<Item<E>>> keywords = new Hashtable<>();
+
+	/**
+	 * The owner index. The key is the owner.
+	 */
+	private final Hashtable<String, Set<Item<E>>> owners = new Hashtable<>();
+
+	/**
+	 * True if the catalog is built.
+	 */
+	private boolean isBuilt = false;
+
+	/**
+	 * Creates a catalog.
+	 *
+	 * @param describer The describer of the entities.
+	 * @param scanner   The scanner of the folder.
+	 * @since 17
+	 */
+	public Catalog(Describer<E> describer, Scanner<E> scanner) {
+		super();
+
+		this.describer = describer;
+		this.scanner = scanner;
+	}
+
+	/**
+	 * Builds the catalog if it is not built yet.
+	 *
+	 * @since 17
+	 */
+	private synchronized void build() {
+		if (!isBuilt) {
+			for (E entity : scanner.scan())
+				add(entity);
+
+			isBuilt = true;
+		}
+	}
+
+	/**
+	 * Rebuilds the catalog on the next access, e.g. if the folder was changed
+	 * outside of the service.
+	 *
+	 * @since 17
+	 */
+	public synchronized void reset() {
+		items.clear();
+		names.clear();
+		updates.clear();
+		keywords.clear();
+		owners.clear();
+
+		isBuilt = false;
+	}
+
+	/**
+	 * Registers the entity. A registered entity with the same id is replaced.
+	 *
+	 * @param entity The entity. Ignored if null or it has no id.
+	 * @since 17
+	 */
+	public synchronized void register(E entity) {
+		if (isBuilt)
+			add(entity);
+	}
+
+	/**
+	 * Removes the entity.
+	 *
+	 * @param id The entity id.
+	 * @since 17
+	 */
+	public synchronized void remove(String id) {
+		if (id != null) {
+			Item<E> item = items.remove(id);
+
+			if (item != null) {
+				names.remove(item);
+				updates.remove(item);
+
+				for (String keyword : item.keywords)
+					remove(keywords, keyword, item);
+
+				if (item.owner != null)
+					remove(owners, item.owner, item);
+			}
+		}
+	}
+
+	/**
+	 * Adds the entity to the catalog. The caller has to hold the catalog lock.
+	 *
+	 * @param entity The entity.
+	 * @since 17
+	 */
+	private void add(E entity) {
+		if (entity == null)
+			return;
+
+		final Descriptor descriptor = describer.describe(entity);
+		if (descriptor == null || descriptor.id == null)
+			return;
+
+		remove(descriptor.id);
+
+		final Item<E> item = new Item<>(entity, descriptor);
+
+		items.put(item.id, item);
+		names.add(item);
+		updates.add(item);
+
+		for (String keyword : item.keywords)
+			keywords.computeIfAbsent(keyword, key -> new HashSet<>()).add(item);
+
+		if (item.owner != null)
+			owners.computeIfAbsent(item.owner, key -> new HashSet<>()).add(item);
+	}
+
+	/**
+	 * Removes the item from the index.
+	 *
+	 * @param <E>   The entity type.
+	 * @param index The index.
+	 * @param key   The index key.
+	 * @param item  The item.
+	 * @since 17
+	 */
+	private static <E> void remove(Hashtable<String, Set<Item<E>>> index, String key, Item<E> item) {
+		Set<Item<E>> entries = index.get(key);
+
+		if (entries != null) {
+			entries.remove(item);
+
+			if (entries.isEmpty())
+				index.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the entities.
+	 *
+	 * @param sort         The sort order. If null, sorts by name.
+	 * @param isDescending True if the order is descending.
+	 * @param search       The search. If it starts with "keyword:" or "owner:",
+	 *                     the entities with the keyword or owner are selected.
+	 *                     Otherwise, the entities whose name contains the search
+	 *                     or that have it as keyword or owner, ignoring case. If
+	 *                     null or blank, all entities are selected.
+	 * @param offset       The number of selected entities to skip.
+	 * @param limit        The maximal number of entities to return. All selected
+	 *                     entities if not positive.
+	 * @return The page with the entities.
+	 * @since 17
+	 */
+	public synchronized Page<E> getEntities(Sort sort, boolean isDescending, String search, int offset, int limit) {
+		build();
+
+		// The selection
+		Set<Item<E>> selection = null;
+		String text = null;
+		if (search != null && !search.isBlank()) {
+			search = search.trim().toLowerCase();
+
+			if (search.startsWith(searchKeyword))
+				selection = keywords.getOrDefault(search.substring(searchKeyword.length()).trim(),
+						Collections.emptySet());
+			else if (search.startsWith(searchOwner))
+				selection = getOwner(search.substring(searchOwner.length()).trim());
+			else {
+				text = search;
+
+				selection = new HashSet<>(keywords.getOrDefault(search, Collections.emptySet()));
+				selection.addAll(getOwner(search));
+			}
+		}
+
+		NavigableSet<Item<E>> order = Sort.updated.equals(sort) ? updates : names;
+		if (isDescending)
+			order = order.descendingSet();
+
+		final List<E> entities = new ArrayList<>();
+		int total = 0;
+		for (Item<E> item : order)
+			if (selection == null || selection.contains(item) || (text != null && item.name.contains(text))) {
+				if (total >= offset && (limit <= 0 || entities.size() < limit))
+					entities.add(item.entity);
+
+				total++;
+			}
+
+		return new Page<>(entities, total);
+	}
+
+	/**
+	 * Returns the entities sorted by name.
+	 *
+	 * @return The entities sorted by name.
+	 * @since 17
+	 */
+	public List<E> getEntities() {
+		return getEntities(Sort.name, false, null, 0, 0).getEntities();
+	}
+
+	/**
+	 * Returns the items of the owner ignoring case.
+	 *
+	 * @param owner The lower case owner.
+	 * @return The items of the owner.
+	 * @since 17
+	 */
+	private Set<Item<E>> getOwner(String owner) {
+		Set<Item<E>> selection = new HashSet<>();
+
+		for (String key : owners.keySet())
+			if (key.equalsIgnoreCase(owner))
+				selection.addAll(owners.get(key));
+
+		return selection;
+	}
+
+	/**
+	 * Defines describers of the entities.
+	 *
+	 * @param <E> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Describer<E> {
+		/**
+		 * Returns the descriptor of the entity.
+		 *
+		 * @param entity The entity.
+		 * @return The descriptor. Null if the entity is not available.
+		 * @since 17
+		 */
+		public Descriptor describe(E entity);
+	}
+
+	/**
+	 * Defines scanners of the folder.
+	 *
+	 * @param <E> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Scanner<E> {
+		/**
+		 * Returns the entities of the folder.
+		 *
+		 * @return The entities.
+		 * @since 17
+		 */
+		public List<E> scan();
+	}
+
+	/**
+	 * Descriptor is an immutable class that defines the indexed data of an
+	 * entity.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Descriptor {
+		/**
+		 * The id.
+		 */
+		private final String id;
+
+		/**
+		 * The name.
+		 */
+		private final String name;
+
+		/**
+		 * The keywords.
+		 */
+		private final Collection<String> keywords;
+
+		/**
+		 * The owner.
+		 */
+		private final String owner;
+
+		/**
+		 * The update date.
+		 */
+		private final Date updated;
+
+		/**
+		 * Creates a descriptor.
+		 *
+		 * @param id       The id.
+		 * @param name     The name. If null, the id is used.
+		 * @param keywords The keywords. Null if not available.
+		 * @param owner    The owner. Null if not available.
+		 * @param updated  The update date. Null if not available.
+		 * @since 17
+		 */
+		public Descriptor(String id, String name, Collection<String> keywords, String owner, Date updated) {
+			super();
+
+			this.id = id;
+			this.name = name;
+			this.keywords = keywords;
+			this.owner = owner;
+			this.updated = updated;
+		}
+	}
+
+	/**
+	 * Defines catalog items.
+	 *
+	 * @param <E> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Item<E> {
+		/**
+		 * The entity.
+		 */
+		private final E entity;
+
+		/**
+		 * The id.
+		 */
+		private final String id;
+
+		/**
+		 * The lower case name.
+		 */
+		private final String name;
+
+		/**
+		 * The lower case keywords.
+		 */
+		private final Set<String> keywords = new HashSet<>();
+
+		/**
+		 * The owner. Null if not available.
+		 */
+		private final String owner;
+
+		/**
+		 * The update time in milliseconds. 0 if not available.
+		 */
+		private final long updated;
+
+		/**
+		 * Creates a catalog item.
+		 *
+		 * @param entity     The entity.
+		 * @param descriptor The descriptor of the entity.
+		 * @since 17
+		 */
+		private Item(E entity, Descriptor descriptor) {
+			super();
+
+			this.entity = entity;
+
+			id = descriptor.id;
+			name = (descriptor.name == null || descriptor.name.isBlank() ? descriptor.id : descriptor.name.trim())
+					.toLowerCase();
+
+			if (descriptor.keywords != null)
+				for (String keyword : descriptor.keywords)
+					if (keyword != null && !keyword.isBlank())
+						keywords.add(keyword.trim().toLowerCase());
+
+			owner = descriptor.owner == null || descriptor.owner.isBlank() ? null : descriptor.owner.trim();
+			updated = descriptor.updated == null ? 0 : descriptor.updated.getTime();
+		}
+	}
+
+	/**
+	 * Page is an immutable class that defines pages of catalog entities.
+	 *
+	 * @param <E> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Page<E> {
+		/**
+		 * The entities.
+		 */
+		private final List<E> entities;
+
+		/**
+		 * The total number of selected entities.
+		 */
+		private final int total;
+
+		/**
+		 * Creates a page.
+		 *
+		 * @param entities The entities.
+		 * @param total    The total number of selected entities.
+		 * @since 17
+		 */
+		public Page(List<E> entities, int total) {
+			super();
+
+			this.entities = entities;
+			this.total = total;
+		}
+
+		/**
+		 * Returns the entities.
+		 *
+		 * @return The entities.
+		 * @since 17
+		 */
+		public List<E> getEntities() {
+			return entities;
+		}
+
+		/**
+		 * Returns the total number of selected entities.
+		 *
+		 * @return The total number of selected entities.
+		 * @since 17
+		 */
+		public int getTotal() {
+			return total;
+		}
+	}
+}
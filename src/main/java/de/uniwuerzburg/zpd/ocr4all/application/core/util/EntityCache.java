@@ -0,0 +1,598 @@
+/**
+ * File:     EntityCache.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Defines a shared cache for the parsed entities of the persistence files. The
+ * entries are keyed by the file path and are valid as long as the modification
+ * time and size of the file do not change. Writers of the same process
+ * invalidate the entries of the files they persist. The cache is bounded by the
+ * total number of entities and evicts the least recently used files first.
+ * Single entities of cached lists are looked up by a hash index on their ids,
+ * that is built once per file version.
+ *
+ * <p>
+ * The cached entities are shared by all readers, thus, they are never modified
+ * in place. The mutations work on copies of the entities they change, see
+ * {@link #copy(Object, Class)}, and the mutated entities replace the cached
+ * ones only after they were persisted.
+ * </p>
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class EntityCache {
+	/**
+	 * The prefix of the meter names.
+	 */
+	private static final String prefix = "ocr4all.cache.entity.";
+
+	/**
+	 * The number of cache hits.
+	 */
+	private static final AtomicLong hits = new AtomicLong();
+
+	/**
+	 * The number of cache misses.
+	 */
+	private static final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * The object mapper to copy the entities.
+	 */
+	private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	/**
+	 * The cached files in access order. The key is the normalized absolute file
+	 * path.
+	 */
+	private static final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+	/**
+	 * The locks to serialize the writers of the same file. The file paths are
+	 * mapped to the locks by their hash codes.
+	 */
+	private static final Object[] locks = new Object[64];
+
+	/**
+	 * The maximal number of cached entities. If 0, the entities are not cached.
+	 */
+	private static int capacity = 0;
+
+	/**
+	 * The number of cached entities.
+	 */
+	private static int size = 0;
+
+	static {
+		for (int index = 0; index < locks.length; index++)
+			locks[index] = new Object();
+	}
+
+	/**
+	 * Avoid instantiation of the class.
+	 *
+	 * @since 17
+	 */
+	private EntityCache() {
+		super();
+	}
+
+	/**
+	 * Set the maximal number of cached entities. The least recently used files
+	 * are evicted if the cache exceeds the new capacity.
+	 *
+	 * @param capacity The maximal number of cached entities. If 0, the entities
+	 *                 are not cached.
+	 * @since 17
+	 */
+	public static synchronized void setCapacity(int capacity) {
+		EntityCache.capacity = Math.max(0, capacity);
+
+		evict();
+	}
+
+	/**
+	 * Registers the meters of the cache, that are the requests by their results
+	 * and the number of cached entities.
+	 *
+	 * @param registry The meter registry.
+	 * @since 17
+	 */
+	public static void register(MeterRegistry registry) {
+		FunctionCounter.builder(prefix + "requests", hits, AtomicLong::get)
+				.description("The requests of the entity cache.").tag("result", "hit").register(registry);
+		FunctionCounter.builder(prefix + "requests", misses, AtomicLong::get)
+				.description("The requests of the entity cache.").tag("result", "miss").register(registry);
+
+		Gauge.builder(prefix + "size", () -> size).description("The number of entities in the entity cache.")
+				.register(registry);
+	}
+
+	/**
+	 * Returns a deep copy of the entity, that can be modified without affecting
+	 * the readers of the cached entity. The entities are the persistence beans,
+	 * thus, they are copied by their JSON representation.
+	 *
+	 * @param <T>    The entity type.
+	 * @param entity The entity to copy.
+	 * @param type   The entity type.
+	 * @return The copy. Null if the entity is null.
+	 * @throws IllegalArgumentException Throws if the entity cannot be copied.
+	 * @since 17
+	 */
+	public static <T> T copy(T entity, Class<T> type) throws IllegalArgumentException {
+		return entity == null ? null : objectMapper.convertValue(objectMapper.valueToTree(entity), type);
+	}
+
+	/**
+	 * Returns the cached entities of the file. If they are not cached or the file
+	 * changed, they are loaded and cached.
+	 *
+	 * @param <T>    The entity type.
+	 * @param file   The file.
+	 * @param type   The entity type.
+	 * @param loader The loader for the entities of the file.
+	 * @return A new list with the entities.
+	 * @throws IOException Throws if the entities cannot be loaded.
+	 * @since 17
+	 */
+	public static <T> List<T> getEntities(Path file, Class<T> type, Loader<List<T>> loader) throws IOException {
+		List<T> entities = get(file, type, loader, list -> list == null ? 0 : list.size());
+
+		return entities == null ? new ArrayList<>() : new ArrayList<>(entities);
+	}
+
+	/**
+	 * Returns the cached entity of the file. If it is not cached or the file
+	 * changed, it is loaded and cached.
+	 *
+	 * @param <T>    The entity type.
+	 * @param file   The file.
+	 * @param type   The entity type.
+	 * @param loader The loader for the entity of the file.
+	 * @return The entity. Null if not available.
+	 * @throws IOException Throws if the entity cannot be loaded.
+	 * @since 17
+	 */
+	public static <T> T getEntity(Path file, Class<T> type, Loader<T> loader) throws IOException {
+		return get(file, type, loader, entity -> entity == null ? 0 : 1);
+	}
+
+	/**
+	 * Returns the entity of the file with given id. The entities of the file are
+	 * cached and looked up by a hash index on their ids, that is built once per
+	 * file version.
+	 *
+	 * @param <T>    The entity type.
+	 * @param file   The file.
+	 * @param type   The entity type.
+	 * @param loader The loader for the entities of the file.
+	 * @param key    The function that returns the id of an entity.
+	 * @param id     The entity id.
+	 * @return The entity. Null if not available.
+	 * @throws IOException Throws if the entities cannot be loaded.
+	 * @since 17
+	 */
+	public static <T> T getEntity(Path file, Class<T> type, Loader<List<T>> loader, Function<T, String> key,
+			String id) throws IOException {
+		if (id == null)
+			return null;
+
+		final List<T> entities = get(file, type, loader, list -> list == null ? 0 : list.size());
+		if (entities == null)
+			return null;
+
+		if (file != null)
+			synchronized (EntityCache.class) {
+				Entry entry = entries.get(normalize(file));
+
+				if (entry != null && entry.value == entities) {
+					if (entry.index == null) {
+						entry.index = new Hashtable<>();
+
+						for (T entity : entities) {
+							final String entityId = entity == null ? null : key.apply(entity);
+
+							if (entityId != null)
+								entry.index.putIfAbsent(entityId, entity);
+						}
+					}
+
+					return type.cast(entry.index.get(id));
+				}
+			}
+
+		// The entities are not cached
+		for (T entity : entities)
+			if (entity != null && id.equals(key.apply(entity)))
+				return entity;
+
+		return null;
+	}
+
+	/**
+	 * Mutates the entities of the file and writes the result through to the
+	 * cache, so that the next requests neither parse the file nor rebuild the
+	 * index from the file. The mutations and writers of the same file are
+	 * serialized, thus, every mutation works on the result of the previous one.
+	 *
+	 * @param <T>      The entity type.
+	 * @param file     The file.
+	 * @param type     The entity type.
+	 * @param loader   The loader for the entities of the file.
+	 * @param mutation The mutation. It persists its result.
+	 * @return A new list with the mutated entities.
+	 * @throws IOException Throws if the entities cannot be loaded or the mutation
+	 *                     cannot be persisted.
+	 * @since 17
+	 */
+	public static <T> List<T> update(Path file, Class<T> type, Loader<List<T>> loader, Mutation<T> mutation)
+			throws IOException {
+		final Path path = normalize(file);
+
+		synchronized (getLock(path)) {
+			List<T> entities = getEntities(path, type, loader);
+
+			boolean isPersisted = false;
+			try {
+				entities = mutation.apply(entities);
+				isPersisted = true;
+
+				return new ArrayList<>(entities);
+			} finally {
+				BasicFileAttributes attributes = null;
+				if (isPersisted && capacity > 0 && entities.size() <= capacity)
+					try {
+						attributes = Files.readAttributes(path, BasicFileAttributes.class);
+					} catch (IOException e) {
+						// The entities are loaded on the next request
+					}
+
+				synchronized (EntityCache.class) {
+					Entry entry = entries.remove(path);
+					if (entry != null)
+						size -= entry.weight;
+
+					if (attributes != null) {
+						entries.put(path, new Entry(type, attributes, new ArrayList<>(entities), entities.size()));
+						size += entities.size();
+
+						evict();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Persists the file and invalidates its cached entities. The writers of the
+	 * file are serialized.
+	 *
+	 * @param file   The file.
+	 * @param writer The writer.
+	 * @return The number of persisted entities.
+	 * @throws IOException Throws if the entities cannot be persisted.
+	 * @since 17
+	 */
+	public static int persist(Path file, Writer writer) throws IOException {
+		final Path path = normalize(file);
+
+		synchronized (getLock(path)) {
+			try {
+				return writer.write();
+			} finally {
+				invalidate(path);
+			}
+		}
+	}
+
+	/**
+	 * Returns the lock for the writers of the file.
+	 *
+	 * @param path The file path.
+	 * @return The lock.
+	 * @since 17
+	 */
+	static Object getLock(Path path) {
+		return locks[Math.floorMod(normalize(path).hashCode(), locks.length)];
+	}
+
+	/**
+	 * Invalidates the cached entities of the file.
+	 *
+	 * @param file The file.
+	 * @since 17
+	 */
+	public static synchronized void invalidate(Path file) {
+		if (file != null) {
+			Entry entry = entries.remove(normalize(file));
+
+			if (entry != null)
+				size -= entry.weight;
+		}
+	}
+
+	/**
+	 * Returns the normalized absolute path of the file.
+	 *
+	 * @param file The file.
+	 * @return The normalized absolute path of the file.
+	 * @since 17
+	 */
+	private static Path normalize(Path file) {
+		return file.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Returns the cached value of the file. If it is not cached or the file
+	 * changed, it is loaded and cached.
+	 *
+	 * @param <V>    The value type.
+	 * @param file   The file.
+	 * @param type   The entity type.
+	 * @param loader The loader for the value of the file.
+	 * @param weight The weight of the value, this means, its number of entities.
+	 * @return The value.
+	 * @throws IOException Throws if the value cannot be loaded.
+	 * @since 17
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> V get(Path file, Class<?> type, Loader<V> loader, Weight<V> weight) throws IOException {
+		if (capacity == 0 || file == null)
+			return loader.load();
+
+		final Path path = normalize(file);
+
+		final BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (NoSuchFileException e) {
+			invalidate(path);
+
+			return loader.load();
+		}
+
+		synchronized (EntityCache.class) {
+			Entry entry = entries.get(path);
+
+			if (entry != null && entry.type.equals(type) && entry.isValid(attributes)) {
+				hits.incrementAndGet();
+
+				return (V) entry.value;
+			}
+		}
+
+		misses.incrementAndGet();
+
+		// The loading is serialized with the mutations and writers of the file,
+		// thus, a concurrent mutation cannot be overwritten by an outdated value
+		synchronized (getLock(path)) {
+			final BasicFileAttributes current;
+			try {
+				current = Files.readAttributes(path, BasicFileAttributes.class);
+			} catch (NoSuchFileException e) {
+				invalidate(path);
+
+				return loader.load();
+			}
+
+			synchronized (EntityCache.class) {
+				Entry entry = entries.get(path);
+
+				if (entry != null && entry.type.equals(type) && entry.isValid(current))
+					return (V) entry.value;
+			}
+
+			final V value = loader.load();
+			final int entities = weight.get(value);
+
+			synchronized (EntityCache.class) {
+				Entry entry = entries.remove(path);
+				if (entry != null)
+					size -= entry.weight;
+
+				if (entities <= capacity) {
+					entries.put(path, new Entry(type, current, value, entities));
+					size += entities;
+
+					evict();
+				}
+			}
+
+			return value;
+		}
+	}
+
+	/**
+	 * Evicts the least recently used files until the cache does not exceed its
+	 * capacity. The caller has to hold the class lock.
+	 *
+	 * @since 17
+	 */
+	private static void evict() {
+		for (Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator(); size > capacity
+				&& iterator.hasNext();) {
+			size -= iterator.next().getValue().weight;
+
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Defines loaders for the entities of a file.
+	 *
+	 * @param <T> The type of the loaded value.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Loader<T> {
+		/**
+		 * Loads the entities of the file.
+		 *
+		 * @return The loaded value.
+		 * @throws IOException Throws if the file cannot be read.
+		 * @since 17
+		 */
+		public T load() throws IOException;
+	}
+
+	/**
+	 * Defines mutations of the entities of a file.
+	 *
+	 * @param <T> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Mutation<T> {
+		/**
+		 * Mutates the entities and persists the result.
+		 *
+		 * @param entities The current entities. The list can be modified.
+		 * @return The mutated entities.
+		 * @throws IOException Throws if the result cannot be persisted.
+		 * @since 17
+		 */
+		public List<T> apply(List<T> entities) throws IOException;
+	}
+
+	/**
+	 * Defines writers of a file.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Writer {
+		/**
+		 * Persists the entities in the file.
+		 *
+		 * @return The number of persisted entities.
+		 * @throws IOException Throws if the file cannot be written.
+		 * @since 17
+		 */
+		public int write() throws IOException;
+	}
+
+	/**
+	 * Defines weights of the cached values.
+	 *
+	 * @param <V> The value type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	private interface Weight<V> {
+		/**
+		 * Returns the weight of the value.
+		 *
+		 * @param value The value.
+		 * @return The weight of the value.
+		 * @since 17
+		 */
+		public int get(V value);
+	}
+
+	/**
+	 * Defines cache entries.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Entry {
+		/**
+		 * The entity type.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * The modification time of the file.
+		 */
+		private final FileTime modified;
+
+		/**
+		 * The size of the file.
+		 */
+		private final long length;
+
+		/**
+		 * The value.
+		 */
+		private final Object value;
+
+		/**
+		 * The weight, this means, the number of entities.
+		 */
+		private final int weight;
+
+		/**
+		 * The index of the entities by their ids. Null if not built.
+		 */
+		private Hashtable<String, Object> index = null;
+
+		/**
+		 * Creates a cache entry.
+		 *
+		 * @param type       The entity type.
+		 * @param attributes The attributes of the file before loading.
+		 * @param value      The value.
+		 * @param weight     The weight, this means, the number of entities.
+		 * @since 17
+		 */
+		private Entry(Class<?> type, BasicFileAttributes attributes, Object value, int weight) {
+			super();
+
+			this.type = type;
+			modified = attributes.lastModifiedTime();
+			length = attributes.size();
+			this.value = value;
+			this.weight = weight;
+		}
+
+		/**
+		 * Returns true if the file did not change.
+		 *
+		 * @param attributes The current attributes of the file.
+		 * @return True if the file did not change.
+		 * @since 17
+		 */
+		private boolean isValid(BasicFileAttributes attributes) {
+			return modified.equals(attributes.lastModifiedTime()) && length == attributes.size();
+		}
+	}
+}
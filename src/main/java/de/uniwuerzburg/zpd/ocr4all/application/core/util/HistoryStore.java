@@ -0,0 +1,455 @@
+/**
+ * File:     HistoryStore.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.History;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.PersistenceManager;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.Type;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.job.ProcessHistory;
+import de.uniwuerzburg.zpd.ocr4all.application.persistence.util.PersistenceTools;
+
+/**
+ * Defines segmented stores for the project and sandbox histories. The entries
+ * are appended to the history file, that is rotated into a sealed segment once
+ * it holds the segment size number of entries. The sealed segments are named
+ * after the history file with the suffix ".1", ".2" and so on, where ".1" is
+ * the oldest one.
+ *
+ * <p>
+ * The index file of the store, named after the history file with the suffix
+ * ".index", holds the number of entries of the sealed segments. Thus, a page
+ * of the newest entries only reads the segments that overlap it, instead of the
+ * whole history.
+ * </p>
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class HistoryStore {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(HistoryStore.class);
+
+	/**
+	 * The suffix of the index files.
+	 */
+	private static final String indexSuffix = ".index";
+
+	/**
+	 * The indexes of the history files. The key is the history file.
+	 */
+	private static final Hashtable<Path, Index> indexes = new Hashtable<>();
+
+	/**
+	 * The locks to serialize the accesses to the history files. The key is the
+	 * history file.
+	 */
+	private static final Hashtable<Path, Object> locks = new Hashtable<>();
+
+	/**
+	 * The number of entries of a segment that triggers its rotation. 0 if the
+	 * histories are not rotated.
+	 */
+	private static int segmentSize = 0;
+
+	/**
+	 * The history file.
+	 */
+	private final Path file;
+
+	/**
+	 * The persistence types of the history entries.
+	 */
+	private final Type[] types;
+
+	/**
+	 * The lock of the history file, that is shared by all stores of the file.
+	 */
+	private final Object lock;
+
+	/**
+	 * Creates a history store.
+	 *
+	 * @param file  The history file.
+	 * @param types The persistence types of the history entries.
+	 * @since 17
+	 */
+	public HistoryStore(Path file, Type... types) {
+		super();
+
+		this.file = file.normalize();
+		this.types = types;
+
+		lock = locks.computeIfAbsent(this.file, key -> new Object());
+	}
+
+	/**
+	 * Set the number of entries of a segment that triggers its rotation.
+	 *
+	 * @param size The segment size. 0 if the histories are not rotated.
+	 * @since 17
+	 */
+	public static void setSegmentSize(int size) {
+		segmentSize = Math.max(0, size);
+	}
+
+	/**
+	 * Returns the sealed segment with given number.
+	 *
+	 * @param number The segment number. 1 is the oldest segment.
+	 * @return The sealed segment.
+	 * @since 17
+	 */
+	private Path getSegment(int number) {
+		return Paths.get(file.toString() + "." + number);
+	}
+
+	/**
+	 * Returns the index file.
+	 *
+	 * @return The index file.
+	 * @since 17
+	 */
+	private Path getIndexFile() {
+		return Paths.get(file.toString() + indexSuffix);
+	}
+
+	/**
+	 * Returns the modification time and size of the history file.
+	 *
+	 * @return The stamp of the history file. Empty if it does not exist.
+	 * @throws IOException Throws if the file attributes cannot be read.
+	 * @since 17
+	 */
+	private String getStamp() throws IOException {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+			return attributes.lastModifiedTime().toString() + "/" + attributes.size();
+		} catch (NoSuchFileException e) {
+			return "";
+		}
+	}
+
+	/**
+	 * Loads the entries of the segment sorted by date, the newest entries first.
+	 *
+	 * @param segment The segment.
+	 * @return The entries.
+	 * @throws IOException Throws if the entries cannot be loaded.
+	 * @since 17
+	 */
+	private List<History> load(Path segment) throws IOException {
+		return Files.exists(segment)
+				? (new PersistenceManager(segment, types)).getEntities(History.class, message -> logger.warn(message),
+						PersistenceTools.getTrackingDateComparator(false))
+				: new ArrayList<>();
+	}
+
+	/**
+	 * Returns the current index of the history file. Rebuilds it if the history
+	 * file or its segments were changed outside of the store. The caller has to
+	 * hold the lock of the history file.
+	 *
+	 * @return The index.
+	 * @throws IOException Throws if the index cannot be built.
+	 * @since 17
+	 */
+	private Index getIndex() throws IOException {
+		Index index = indexes.get(file);
+
+		if (index == null || !index.stamp.equals(getStamp())
+				|| (!index.segments.isEmpty() && !Files.exists(getSegment(index.segments.size())))
+				|| Files.exists(getSegment(index.segments.size() + 1))) {
+			index = loadIndex();
+
+			indexes.put(file, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Loads the index of the history file. The sealed segments missing in the
+	 * index file are counted and the index file is updated. The caller has to hold
+	 * the lock of the history file.
+	 *
+	 * @return The index.
+	 * @throws IOException Throws if the index cannot be loaded.
+	 * @since 17
+	 */
+	private Index loadIndex() throws IOException {
+		List<Integer> segments = new ArrayList<>();
+
+		final Path indexFile = getIndexFile();
+		if (Files.exists(indexFile))
+			try {
+				for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8))
+					if (!line.isBlank())
+						segments.add(Integer.parseInt(line.trim()));
+			} catch (Exception e) {
+				logger.warn("cannot read history index " + indexFile + " - " + e.getMessage());
+
+				segments.clear();
+			}
+
+		int number = 0;
+		while (Files.exists(getSegment(number + 1)))
+			number++;
+
+		boolean isChanged = segments.size() != number;
+
+		while (segments.size() > number)
+			segments.remove(segments.size() - 1);
+
+		while (segments.size() < number)
+			segments.add(load(getSegment(segments.size() + 1)).size());
+
+		if (isChanged)
+			persistIndex(segments);
+
+		return new Index(segments, load(file).size(), getStamp());
+	}
+
+	/**
+	 * Persists the index file.
+	 *
+	 * @param segments The number of entries of the sealed segments, the oldest
+	 *                 segment first.
+	 * @throws IOException Throws if the index file cannot be persisted.
+	 * @since 17
+	 */
+	private void persistIndex(List<Integer> segments) throws IOException {
+		final StringBuilder buffer = new StringBuilder();
+		for (int entries : segments)
+			buffer.append(entries).append(System.lineSeparator());
+
+		Files.writeString(getIndexFile(), buffer, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Appends the entry to the history. Rotates the history file into a sealed
+	 * segment if it holds the segment size number of entries.
+	 *
+	 * @param history The history entry.
+	 * @throws IOException Throws if the entry cannot be appended.
+	 * @since 17
+	 */
+	public void add(History history) throws IOException {
+		synchronized (lock) {
+			final Index index = getIndex();
+
+			(new PersistenceManager(file, types)).persist(true, history);
+
+			index.entries++;
+			index.stamp = getStamp();
+
+			if (segmentSize > 0 && index.entries >= segmentSize)
+				rotate(index);
+		}
+	}
+
+	/**
+	 * Rotates the history file into a new sealed segment. The caller has to hold
+	 * the lock of the history file.
+	 *
+	 * @param index The index.
+	 * @throws IOException Throws if the history file cannot be rotated.
+	 * @since 17
+	 */
+	private void rotate(Index index) throws IOException {
+		final Path segment = getSegment(index.segments.size() + 1);
+
+		Files.move(file, segment, StandardCopyOption.ATOMIC_MOVE);
+
+		index.segments.add(index.entries);
+		index.entries = 0;
+		index.stamp = getStamp();
+
+		persistIndex(index.segments);
+
+		logger.info("rotated history " + file + " into segment " + segment + ".");
+	}
+
+	/**
+	 * Returns the number of entries of the history.
+	 *
+	 * @return The number of entries.
+	 * @throws IOException Throws if the index cannot be built.
+	 * @since 17
+	 */
+	public int getSize() throws IOException {
+		synchronized (lock) {
+			return getIndex().getSize();
+		}
+	}
+
+	/**
+	 * Returns the entries of the history sorted by date, the newest entries
+	 * first.
+	 *
+	 * @return The entries.
+	 * @throws IOException Throws if the entries cannot be loaded.
+	 * @since 17
+	 */
+	public List<History> getHistory() throws IOException {
+		return getHistory(0, 0, false).getEntities();
+	}
+
+	/**
+	 * Returns a page of the entries of the history sorted by date, the newest
+	 * entries first. Only the segments that overlap the page are read.
+	 *
+	 * @param offset    The number of newest entries to skip.
+	 * @param limit     The maximal number of entries to return. All entries if
+	 *                  not positive.
+	 * @param isSummary True if the standard output and error of the process
+	 *                  entries are omitted.
+	 * @return The page with the entries.
+	 * @throws IOException Throws if the entries cannot be loaded.
+	 * @since 17
+	 */
+	public Catalog.Page<History> getHistory(int offset, int limit, boolean isSummary) throws IOException {
+		final List<History> entities = new ArrayList<>();
+
+		synchronized (lock) {
+			final Index index = getIndex();
+
+			int skip = Math.max(0, offset);
+			int remaining = limit > 0 ? limit : Integer.MAX_VALUE;
+
+			for (int number = index.segments.size(); number >= 0 && remaining > 0; number--) {
+				final int size = number == index.segments.size() ? index.entries : index.segments.get(number);
+
+				if (skip >= size)
+					skip -= size;
+				else {
+					final List<History> segment = load(number == index.segments.size() ? file : getSegment(number + 1));
+
+					for (int i = skip; i < segment.size() && remaining > 0; i++, remaining--)
+						entities.add(segment.get(i));
+
+					skip = 0;
+				}
+			}
+
+			if (isSummary)
+				for (History history : entities)
+					if (history instanceof ProcessHistory) {
+						((ProcessHistory) history).setStandardOutput(null);
+						((ProcessHistory) history).setStandardError(null);
+					}
+
+			return new Catalog.Page<>(entities, index.getSize());
+		}
+	}
+
+	/**
+	 * Zips the history. If the history was rotated, the zip contains the sealed
+	 * segments and the history file.
+	 *
+	 * @param outputStream The output stream for writing the zipped history.
+	 * @throws IOException Throws if the history cannot be zipped.
+	 * @since 17
+	 */
+	public void zip(OutputStream outputStream) throws IOException {
+		synchronized (lock) {
+			final Index index = getIndex();
+
+			if (index.segments.isEmpty())
+				(new PersistenceManager(file, types)).zip(outputStream);
+			else {
+				final ZipOutputStream zip = new ZipOutputStream(outputStream);
+
+				for (int number = 1; number <= index.segments.size() + 1; number++) {
+					final Path segment = number > index.segments.size() ? file : getSegment(number);
+
+					if (Files.exists(segment)) {
+						zip.putNextEntry(new ZipEntry(segment.getFileName().toString()));
+						Files.copy(segment, zip);
+						zip.closeEntry();
+					}
+				}
+
+				zip.finish();
+			}
+		}
+	}
+
+	/**
+	 * Defines indexes of the history files.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	private static class Index {
+		/**
+		 * The number of entries of the sealed segments, the oldest segment first.
+		 */
+		private final List<Integer> segments;
+
+		/**
+		 * The number of entries of the history file.
+		 */
+		private int entries;
+
+		/**
+		 * The modification time and size of the history file.
+		 */
+		private String stamp;
+
+		/**
+		 * Creates an index.
+		 *
+		 * @param segments The number of entries of the sealed segments, the oldest
+		 *                 segment first.
+		 * @param entries  The number of entries of the history file.
+		 * @param stamp    The modification time and size of the history file.
+		 * @since 17
+		 */
+		private Index(List<Integer> segments, int entries, String stamp) {
+			super();
+
+			this.segments = segments;
+			this.entries = entries;
+			this.stamp = stamp;
+		}
+
+		/**
+		 * Returns the number of entries of the history.
+		 *
+		 * @return The number of entries.
+		 * @since 17
+		 */
+		private int getSize() {
+			int size = entries;
+			for (int segment : segments)
+				size += segment;
+
+			return size;
+		}
+	}
+}
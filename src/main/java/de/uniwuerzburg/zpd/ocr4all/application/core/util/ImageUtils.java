@@ -202,9 +202,10 @@ public class ImageUtils {
 	}
 
 	/**
-	 * Update the folios metadata.
+	 * Update the folios metadata. The folios can be shared by the entity cache,
+	 * thus, the updated folios are replaced by modified copies in the list.
 	 * 
-	 * @param folios   The folios.
+	 * @param folios   The folios. The list is modified.
 	 * @param metadata The metadata of the folios to update.
 	 * @return The folios.
 	 * @since 1.8
@@ -214,16 +215,19 @@ public class ImageUtils {
 			return folios;
 
 		// index the folios
-		Hashtable<String, Folio> indexed = new Hashtable<>();
-		for (Folio folio : folios)
-			indexed.put(folio.getId(), folio);
+		Hashtable<String, Integer> indexed = new Hashtable<>();
+		for (int index = 0; index < folios.size(); index++)
+			indexed.put(folios.get(index).getId(), index);
 
 		// update metadata
 		for (Metadata update : metadata)
 			if (update != null && update.getId() != null && !update.getId().isBlank()) {
-				Folio folio = indexed.get(update.getId().trim());
+				Integer index = indexed.get(update.getId().trim());
+
+				if (index != null) {
+					Folio folio = EntityCache.copy(folios.get(index), Folio.class);
+					folios.set(index, folio);
 
-				if (folio != null) {
 					if (update.getName() != null && !update.getName().isBlank())
 						folio.setName(update.getName().trim());
 
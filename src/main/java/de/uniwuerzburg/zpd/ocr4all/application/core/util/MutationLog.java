@@ -0,0 +1,567 @@
+/**
+ * File:     MutationLog.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Defines append-only mutation logs for the entity files. Instead of rewriting
+ * the whole file, a mutation of its entities, e.g. a sort, update or remove, is
+ * appended as a record to the log of the file. The readers apply the records
+ * of the log to the entities of the file in their order. A background
+ * compactor folds the log into the file once it holds the threshold number of
+ * records.
+ *
+ * <p>
+ * The first line of a log is its header with the modification time and size
+ * of the file that the records apply to. If the file changed afterwards, e.g.
+ * since a compaction rewrote the file but could not delete the log, the log is
+ * outdated and ignored.
+ * </p>
+ * 
+ * <p>
+ * The files that are read from disk by third parties, e.g. by the service
+ * providers, have to be current at any time. Their mutation logs are direct,
+ * this means, the mutations rewrite the files and a remaining log is folded
+ * into the file before the entities are read.
+ * </p>
+ * 
+ * <p>
+ * The entities passed to the replayer can be shared with the readers of the
+ * entity cache, thus, the replayer must not modify them in place, but replace
+ * the modified entities by copies, see {@link EntityCache#copy(Object, Class)}.
+ * </p>
+ *
+ * @param <T> The entity type.
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class MutationLog<T> {
+	/**
+	 * The logger.
+	 */
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(MutationLog.class);
+
+	/**
+	 * The suffix of the log files.
+	 */
+	private static final String suffix = ".log";
+
+	/**
+	 * The thread name of the compactor.
+	 */
+	private static final String threadName = "mutation-log-compactor";
+
+	/**
+	 * The operation field of the records.
+	 */
+	private static final String fieldOperation = "operation";
+
+	/**
+	 * The header operation.
+	 */
+	private static final String operationHeader = "header";
+
+	/**
+	 * The header field for the modification time of the file.
+	 */
+	private static final String fieldModified = "modified";
+
+	/**
+	 * The header field for the size of the file.
+	 */
+	private static final String fieldSize = "size";
+
+	/**
+	 * The object mapper.
+	 */
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * The number of records of the logs. The key is the log file.
+	 */
+	private static final Hashtable<Path, Integer> records = new Hashtable<>();
+
+	/**
+	 * The files with scheduled compactions.
+	 */
+	private static final Set<Path> compactions = Collections.synchronizedSet(new HashSet<>());
+
+	/**
+	 * The compactor.
+	 */
+	private static final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, threadName);
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
+	/**
+	 * The number of records of a log that triggers its compaction. If 0, the
+	 * mutations rewrite the files directly.
+	 */
+	private static int threshold = 0;
+
+	/**
+	 * The file.
+	 */
+	private final Path file;
+
+	/**
+	 * The log file.
+	 */
+	private final Path log;
+
+	/**
+	 * The entity type.
+	 */
+	private final Class<T> type;
+
+	/**
+	 * The loader for the entities of the file without the log.
+	 */
+	private final EntityCache.Loader<List<T>> loader;
+
+	/**
+	 * The writer for all entities of the file.
+	 */
+	private final Writer<T> writer;
+
+	/**
+	 * The replayer of the records.
+	 */
+	private final Replayer<T> replayer;
+
+	/**
+	 * True if the mutations rewrite the file directly.
+	 */
+	private final boolean isDirect;
+
+	/**
+	 * Creates a mutation log.
+	 *
+	 * @param file     The file.
+	 * @param type     The entity type.
+	 * @param loader   The loader for the entities of the file without the log.
+	 * @param writer   The writer for all entities of the file.
+	 * @param replayer The replayer of the records.
+	 * @since 17
+	 */
+	public MutationLog(Path file, Class<T> type, EntityCache.Loader<List<T>> loader, Writer<T> writer,
+			Replayer<T> replayer) {
+		this(file, type, loader, writer, replayer, false);
+	}
+
+	/**
+	 * Creates a mutation log.
+	 *
+	 * @param file     The file.
+	 * @param type     The entity type.
+	 * @param loader   The loader for the entities of the file without the log.
+	 * @param writer   The writer for all entities of the file.
+	 * @param replayer The replayer of the records.
+	 * @param isDirect True if the mutations rewrite the file directly, since it
+	 *                 is read from disk by third parties.
+	 * @since 17
+	 */
+	public MutationLog(Path file, Class<T> type, EntityCache.Loader<List<T>> loader, Writer<T> writer,
+			Replayer<T> replayer, boolean isDirect) {
+		super();
+
+		this.file = file.toAbsolutePath().normalize();
+		log = Paths.get(this.file.toString() + suffix);
+
+		this.type = type;
+		this.loader = loader;
+		this.writer = writer;
+		this.replayer = replayer;
+		this.isDirect = isDirect;
+	}
+
+	/**
+	 * Set the number of records of a log that triggers its compaction.
+	 *
+	 * @param threshold The threshold. If 0, the mutations rewrite the files
+	 *                  directly.
+	 * @since 17
+	 */
+	public static void setThreshold(int threshold) {
+		MutationLog.threshold = Math.max(0, threshold);
+	}
+
+	/**
+	 * Returns a new record for the operation.
+	 *
+	 * @param operation The operation.
+	 * @return The new record.
+	 * @since 17
+	 */
+	public static ObjectNode createRecord(String operation) {
+		return objectMapper.createObjectNode().put(fieldOperation, operation);
+	}
+
+	/**
+	 * Returns the operation of the record.
+	 *
+	 * @param record The record.
+	 * @return The operation. Null if not available.
+	 * @since 17
+	 */
+	public static String getOperation(JsonNode record) {
+		return record.hasNonNull(fieldOperation) ? record.get(fieldOperation).asText() : null;
+	}
+
+	/**
+	 * Returns the strings of the array node of a record.
+	 *
+	 * @param node The array node.
+	 * @return The strings. Null if the node is not an array.
+	 * @since 17
+	 */
+	public static List<String> getStrings(JsonNode node) {
+		if (node == null || !node.isArray())
+			return null;
+
+		List<String> strings = new ArrayList<>();
+		for (JsonNode element : node)
+			if (!element.isNull())
+				strings.add(element.asText());
+
+		return strings;
+	}
+
+	/**
+	 * Returns an array node with the strings for a record.
+	 *
+	 * @param strings The strings.
+	 * @return The array node.
+	 * @since 17
+	 */
+	public static ArrayNode createArray(Collection<String> strings) {
+		ArrayNode array = objectMapper.createArrayNode();
+		for (String string : strings)
+			array.add(string);
+
+		return array;
+	}
+
+	/**
+	 * Returns the object mapper to convert the values of the records.
+	 *
+	 * @return The object mapper.
+	 * @since 17
+	 */
+	public static ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	/**
+	 * Returns the entities of the file with the applied log. They are cached.
+	 *
+	 * @return The entities.
+	 * @throws IOException Throws if the entities cannot be loaded.
+	 * @since 17
+	 */
+	public List<T> getEntities() throws IOException {
+		fold();
+
+		return EntityCache.getEntities(file, type, () -> load());
+	}
+
+	/**
+	 * Returns the entity of the file with given id.
+	 *
+	 * @param key The function that returns the id of an entity.
+	 * @param id  The entity id.
+	 * @return The entity. Null if not available.
+	 * @throws IOException Throws if the entities cannot be loaded.
+	 * @since 17
+	 */
+	public T getEntity(Function<T, String> key, String id) throws IOException {
+		fold();
+
+		return EntityCache.getEntity(file, type, () -> load(), key, id);
+	}
+
+	/**
+	 * Folds a remaining log into the file if the mutation log is direct, e.g. a
+	 * log that was written before the file was switched to direct mutations.
+	 *
+	 * @throws IOException Throws if the file cannot be rewritten.
+	 * @since 17
+	 */
+	private void fold() throws IOException {
+		if (isDirect && Files.exists(log))
+			compact();
+	}
+
+	/**
+	 * Loads the entities of the file and applies the log.
+	 *
+	 * @return The entities.
+	 * @throws IOException Throws if the entities cannot be loaded.
+	 * @since 17
+	 */
+	private List<T> load() throws IOException {
+		List<T> entities = loader.load();
+
+		if (!Files.exists(log))
+			return entities;
+
+		int number = 0;
+		try (BufferedReader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			if (header == null || !isCurrent(objectMapper.readTree(header))) {
+				logger.warn("ignored outdated mutation log " + log + ".");
+
+				return entities;
+			}
+
+			String line;
+			while ((line = reader.readLine()) != null)
+				if (!line.isBlank()) {
+					number++;
+
+					try {
+						entities = replayer.replay(entities, objectMapper.readTree(line));
+					} catch (Exception e) {
+						logger.warn("cannot replay record " + number + " of mutation log " + log + " - "
+								+ e.getMessage());
+					}
+				}
+		}
+
+		records.put(log, number);
+
+		return entities;
+	}
+
+	/**
+	 * Returns true if the log header matches the modification time and size of
+	 * the file.
+	 *
+	 * @param header The log header.
+	 * @return True if the log header matches the file.
+	 * @throws IOException Throws if the file attributes cannot be read.
+	 * @since 17
+	 */
+	private boolean isCurrent(JsonNode header) throws IOException {
+		if (!operationHeader.equals(getOperation(header)))
+			return false;
+
+		final ObjectNode current = createHeader();
+
+		// The values are compared by their text, since the numeric node types of
+		// the written and read header may differ
+		return current.path(fieldModified).asText().equals(header.path(fieldModified).asText())
+				&& current.path(fieldSize).asText().equals(header.path(fieldSize).asText());
+	}
+
+	/**
+	 * Creates a header with the current modification time and size of the file.
+	 *
+	 * @return The header.
+	 * @throws IOException Throws if the file attributes cannot be read.
+	 * @since 17
+	 */
+	private ObjectNode createHeader() throws IOException {
+		long size = 0;
+		String modified = "";
+
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+			size = attributes.size();
+			modified = attributes.lastModifiedTime().toString();
+		} catch (NoSuchFileException e) {
+			// The file is empty
+		}
+
+		return createRecord(operationHeader).put(fieldModified, modified).put(fieldSize, size);
+	}
+
+	/**
+	 * Applies the mutation to the entities and appends its record to the log. If
+	 * the log is disabled, the file is rewritten. The mutations of the file are
+	 * serialized.
+	 *
+	 * @param record The mutation record.
+	 * @return The mutated entities.
+	 * @throws IOException Throws if the mutation cannot be persisted.
+	 * @since 17
+	 */
+	public List<T> mutate(ObjectNode record) throws IOException {
+		final int limit = isDirect ? 0 : threshold;
+
+		final List<T> entities = EntityCache.update(file, type, () -> load(), current -> {
+			final List<T> mutated = replayer.replay(current, record);
+
+			if (limit == 0)
+				rewrite(mutated);
+			else
+				append(record);
+
+			return mutated;
+		});
+
+		if (limit > 0 && records.getOrDefault(log, 0) >= limit && compactions.add(file))
+			compactor.execute(() -> {
+				compactions.remove(file);
+
+				try {
+					compact();
+				} catch (Exception e) {
+					logger.warn("cannot compact mutation log " + log + " - " + e.getMessage());
+				}
+			});
+
+		return entities;
+	}
+
+	/**
+	 * Appends the record to the log. A new log starts with its header. The caller
+	 * has to hold the file lock.
+	 *
+	 * @param record The record.
+	 * @throws IOException Throws if the record cannot be appended.
+	 * @since 17
+	 */
+	private void append(ObjectNode record) throws IOException {
+		final StringBuilder buffer = new StringBuilder();
+
+		final boolean isNew = !Files.exists(log);
+		if (isNew)
+			buffer.append(objectMapper.writeValueAsString(createHeader())).append(System.lineSeparator());
+
+		buffer.append(objectMapper.writeValueAsString(record)).append(System.lineSeparator());
+
+		Files.writeString(log, buffer, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+
+		records.put(log, (isNew ? 0 : records.getOrDefault(log, 0)) + 1);
+	}
+
+	/**
+	 * Rewrites the file with the entities and deletes the log. The caller has to
+	 * hold the file lock.
+	 *
+	 * @param entities The entities.
+	 * @throws IOException Throws if the file cannot be rewritten.
+	 * @since 17
+	 */
+	private void rewrite(List<T> entities) throws IOException {
+		writer.write(entities);
+
+		Files.deleteIfExists(log);
+		records.remove(log);
+	}
+
+	/**
+	 * Folds the log into the file.
+	 *
+	 * @throws IOException Throws if the file cannot be rewritten.
+	 * @since 17
+	 */
+	public void compact() throws IOException {
+		synchronized (EntityCache.getLock(file)) {
+			if (Files.exists(log)) {
+				EntityCache.update(file, type, () -> load(), entities -> {
+					rewrite(entities);
+
+					return entities;
+				});
+
+				logger.info("compacted mutation log " + log + ".");
+			}
+		}
+	}
+
+	/**
+	 * Persists the file with the writer after the log was folded into it, e.g.
+	 * to append entities. The cached entities of the file are invalidated.
+	 *
+	 * @param writer The writer.
+	 * @return The number of persisted entities.
+	 * @throws IOException Throws if the file cannot be persisted.
+	 * @since 17
+	 */
+	public int persist(EntityCache.Writer writer) throws IOException {
+		synchronized (EntityCache.getLock(file)) {
+			compact();
+
+			return EntityCache.persist(file, writer);
+		}
+	}
+
+	/**
+	 * Defines writers for all entities of a file.
+	 *
+	 * @param <T> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Writer<T> {
+		/**
+		 * Rewrites the file with the entities.
+		 *
+		 * @param entities The entities.
+		 * @throws IOException Throws if the file cannot be written.
+		 * @since 17
+		 */
+		public void write(List<T> entities) throws IOException;
+	}
+
+	/**
+	 * Defines replayers of the log records.
+	 *
+	 * @param <T> The entity type.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Replayer<T> {
+		/**
+		 * Applies the record to the entities.
+		 *
+		 * @param entities The entities. The list can be modified.
+		 * @param record   The record.
+		 * @return The entities with the applied record.
+		 * @throws IOException Throws if the record is not valid.
+		 * @since 17
+		 */
+		public List<T> replay(List<T> entities, JsonNode record) throws IOException;
+	}
+}
@@ -0,0 +1,225 @@
+/**
+ * File:     ShardUtils.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Defines shard utilities. They process page-independent items, e.g. folios,
+ * concurrently in shards. Every shard is a contiguous subset of the items and
+ * is processed sequentially by its own worker in a separate thread. Since the
+ * shard threads are not under the control of the scheduler, the number of
+ * shards is limited by the maximal number of shards, that is 1 by default,
+ * this means, the sharding is disabled.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+public class ShardUtils {
+	/**
+	 * The interval in milliseconds to poll the cancellation while waiting for the
+	 * shards.
+	 */
+	private static final long pollInterval = 500;
+
+	/**
+	 * The maximal number of shards.
+	 */
+	private static volatile int maximalShards = 1;
+
+	/**
+	 * Set the maximal number of shards.
+	 *
+	 * @param shards The maximal number of shards. If 1, the sharding is disabled.
+	 * @since 17
+	 */
+	public static void setMaximalShards(int shards) {
+		maximalShards = Math.max(1, shards);
+	}
+
+	/**
+	 * Returns the number of shards for the given number of items, this means, the
+	 * maximal number of shards, but not more than the number of available
+	 * processors and items.
+	 *
+	 * @param items The number of items.
+	 * @return The number of shards. At least 1.
+	 * @since 17
+	 */
+	public static int getShards(int items) {
+		return Math.max(1, Math.min(items, Math.min(maximalShards, Runtime.getRuntime().availableProcessors())));
+	}
+
+	/**
+	 * Splits the items into contiguous shards of nearly equal size.
+	 *
+	 * @param <T>    The type of the items.
+	 * @param items  The items.
+	 * @param shards The number of shards.
+	 * @return The shards. Empty shards are dropped.
+	 * @since 17
+	 */
+	public static <T> List<List<T>> split(Collection<T> items, int shards) {
+		final List<T> list = new ArrayList<>(items);
+		shards = Math.max(1, Math.min(shards, list.size()));
+
+		List<List<T>> split = new ArrayList<>();
+		for (int index = 0, begin = 0; index < shards; index++) {
+			int end = begin + (list.size() - begin) / (shards - index);
+
+			if (end > begin)
+				split.add(new ArrayList<>(list.subList(begin, end)));
+
+			begin = end;
+		}
+
+		return split;
+	}
+
+	/**
+	 * Processes the items concurrently in shards. The first failure stops the
+	 * remaining shards after their current item. A cancellation or an interrupt of
+	 * the current thread interrupts the shard threads, which are joined before
+	 * returning.
+	 *
+	 * @param <T>        The type of the items.
+	 * @param name       The name of the shard threads.
+	 * @param items      The items.
+	 * @param shards     The number of shards. If 1, the items are processed in the
+	 *                   current thread.
+	 * @param workers    The supplier for the workers. Every shard gets its own
+	 *                   worker, thus, the workers need not be thread-safe.
+	 * @param isCanceled Returns true if the processing is canceled. If null, the
+	 *                   processing cannot be canceled.
+	 * @param progress   The callback for the aggregated progress of all shards in
+	 *                   the range [0..1]. If null, the progress is not reported.
+	 * @return The error message of the first failure. Null if all items were
+	 *         processed or the processing was canceled.
+	 * @throws InterruptedException Throws if the current thread is interrupted
+	 *                              while waiting for the shards.
+	 * @since 17
+	 */
+	public static <T> String execute(String name, Collection<T> items, int shards, Supplier<Worker<T>> workers,
+			BooleanSupplier isCanceled, Consumer<Float> progress) throws InterruptedException {
+		final int total = items.size();
+		final AtomicInteger processed = new AtomicInteger();
+		final AtomicReference<String> failure = new AtomicReference<>();
+
+		List<Thread> threads = new ArrayList<>();
+		for (List<T> shard : split(items, shards)) {
+			Runnable runnable = () -> {
+				final Worker<T> worker = workers.get();
+
+				for (T item : shard) {
+					if (failure.get() != null || (isCanceled != null && isCanceled.getAsBoolean()))
+						return;
+
+					String error;
+					try {
+						error = worker.process(item);
+					} catch (Exception e) {
+						error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+					}
+
+					if (error != null) {
+						failure.compareAndSet(null, error);
+
+						return;
+					}
+
+					if (progress != null)
+						progress.accept((float) processed.incrementAndGet() / total);
+				}
+			};
+
+			if (shards == 1)
+				runnable.run();
+			else {
+				Thread thread = new Thread(runnable, name + "-shard-" + (threads.size() + 1));
+				threads.add(thread);
+
+				thread.start();
+			}
+		}
+
+		try {
+			for (Thread thread : threads)
+				while (thread.isAlive()) {
+					if (isCanceled != null && isCanceled.getAsBoolean()) {
+						interrupt(threads);
+
+						break;
+					}
+
+					thread.join(pollInterval);
+				}
+		} catch (InterruptedException e) {
+			failure.compareAndSet(null, "interrupted");
+
+			interrupt(threads);
+
+			throw e;
+		}
+
+		// the failures of the interrupted shards are caused by the cancellation
+		return isCanceled != null && isCanceled.getAsBoolean() ? null : failure.get();
+	}
+
+	/**
+	 * Interrupts the shard threads and waits until they are terminated. The
+	 * interrupt status of the current thread is preserved.
+	 *
+	 * @param threads The shard threads.
+	 * @since 17
+	 */
+	private static void interrupt(List<Thread> threads) {
+		for (Thread thread : threads)
+			thread.interrupt();
+
+		boolean isInterrupted = Thread.interrupted();
+		for (Thread thread : threads)
+			while (thread.isAlive())
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					isInterrupted = true;
+				}
+
+		if (isInterrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Defines shard workers.
+	 *
+	 * @param <T> The type of the items.
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	@FunctionalInterface
+	public interface Worker<T> {
+		/**
+		 * Processes the item.
+		 *
+		 * @param item The item to process.
+		 * @return The error message. Null if the item was processed.
+		 * @throws Exception Throws if the item cannot be processed.
+		 * @since 17
+		 */
+		public String process(T item) throws Exception;
+	}
+}
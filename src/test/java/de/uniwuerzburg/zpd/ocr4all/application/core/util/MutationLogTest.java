@@ -0,0 +1,409 @@
+/**
+ * File:     MutationLogTest.java
+ * Package:  de.uniwuerzburg.zpd.ocr4all.application.core.util
+ *
+ * Author:   Herbert Baier (herbert.baier@uni-wuerzburg.de)
+ * Date:     16.10.2026
+ */
+package de.uniwuerzburg.zpd.ocr4all.application.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Defines tests for the mutation logs. They cover the replay of the records,
+ * the outdated log headers and the crash window between the rewrite of the
+ * file and the deletion of its log.
+ *
+ * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+ * @version 1.0
+ * @since 17
+ */
+class MutationLogTest {
+	/**
+	 * The folder for the test files.
+	 */
+	@TempDir
+	Path folder;
+
+	/**
+	 * The file.
+	 */
+	private Path file;
+
+	/**
+	 * Sets the threshold, so that the logs are not compacted in the background,
+	 * and enables the entity cache.
+	 *
+	 * @since 17
+	 */
+	@BeforeEach
+	void setUp() {
+		file = folder.resolve("items.json");
+
+		MutationLog.setThreshold(1000);
+		EntityCache.setCapacity(1000);
+	}
+
+	/**
+	 * Resets the threshold and disables the entity cache.
+	 *
+	 * @since 17
+	 */
+	@AfterEach
+	void tearDown() {
+		MutationLog.setThreshold(0);
+		EntityCache.setCapacity(0);
+	}
+
+	/**
+	 * Test if the records are appended to the log without rewriting the file and
+	 * if they are replayed in their order when the file is loaded again.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void replay() throws IOException {
+		write(List.of(new Item("a", "a"), new Item("b", "b")));
+
+		MutationLog<Item> log = createLog(false);
+		log.mutate(MutationLog.createRecord("add").put("id", "c").put("name", "c"));
+		log.mutate(MutationLog.createRecord("rename").put("id", "a").put("name", "A"));
+		List<Item> mutated = log.mutate(MutationLog.createRecord("remove").put("id", "b"));
+
+		assertEquals("a:A c:c", format(mutated));
+		assertEquals("a:a b:b", format(read()), "the file must not be rewritten");
+		assertTrue(Files.exists(getLogFile()));
+
+		EntityCache.invalidate(file);
+		assertEquals("a:A c:c", format(createLog(false).getEntities()));
+	}
+
+	/**
+	 * Test if the mutations do not modify the entities that are shared with the
+	 * readers of the entity cache.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void replayOntoCopies() throws IOException {
+		write(List.of(new Item("a", "a")));
+
+		MutationLog<Item> log = createLog(false);
+		final Item shared = log.getEntity(Item::getId, "a");
+
+		log.mutate(MutationLog.createRecord("rename").put("id", "a").put("name", "A"));
+
+		assertEquals("a", shared.getName());
+		assertEquals("A", log.getEntity(Item::getId, "a").getName());
+	}
+
+	/**
+	 * Test if the log is ignored if the file changed after the log was started.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void outdatedHeader() throws IOException {
+		write(List.of(new Item("a", "a")));
+
+		createLog(false).mutate(MutationLog.createRecord("add").put("id", "b").put("name", "b"));
+
+		// The file is replaced by a third party
+		write(List.of(new Item("x", "x"), new Item("y", "y"), new Item("z", "z")));
+		EntityCache.invalidate(file);
+
+		assertEquals("x:x y:y z:z", format(createLog(false).getEntities()));
+	}
+
+	/**
+	 * Test if the compaction folds the log into the file and deletes the log.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void compact() throws IOException {
+		write(List.of(new Item("a", "a")));
+
+		MutationLog<Item> log = createLog(false);
+		log.mutate(MutationLog.createRecord("add").put("id", "b").put("name", "b"));
+		log.compact();
+
+		assertFalse(Files.exists(getLogFile()));
+		assertEquals("a:a b:b", format(read()));
+
+		EntityCache.invalidate(file);
+		assertEquals("a:a b:b", format(createLog(false).getEntities()));
+	}
+
+	/**
+	 * Test if the records are not replayed twice if the compaction rewrote the
+	 * file, but could not delete the log.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void crashAfterRewrite() throws IOException {
+		write(List.of(new Item("a", "a")));
+
+		List<Item> mutated = createLog(false)
+				.mutate(MutationLog.createRecord("add").put("id", "b").put("name", "b"));
+
+		// The compaction rewrote the file, but the log remains
+		write(mutated);
+		assertTrue(Files.exists(getLogFile()));
+
+		EntityCache.invalidate(file);
+		assertEquals("a:a b:b", format(createLog(false).getEntities()));
+	}
+
+	/**
+	 * Test if the mutations rewrite the file if the threshold is 0.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void threshold() throws IOException {
+		MutationLog.setThreshold(0);
+		write(List.of(new Item("a", "a")));
+
+		createLog(false).mutate(MutationLog.createRecord("add").put("id", "b").put("name", "b"));
+
+		assertFalse(Files.exists(getLogFile()));
+		assertEquals("a:a b:b", format(read()));
+	}
+
+	/**
+	 * Test if the direct mutation logs rewrite the file and fold a remaining log
+	 * into the file before it is read.
+	 *
+	 * @throws IOException Throws on storage troubles.
+	 * @since 17
+	 */
+	@Test
+	void direct() throws IOException {
+		write(List.of(new Item("a", "a")));
+
+		createLog(false).mutate(MutationLog.createRecord("add").put("id", "b").put("name", "b"));
+		assertTrue(Files.exists(getLogFile()));
+
+		MutationLog<Item> log = createLog(true);
+		assertEquals("a:a b:b", format(log.getEntities()));
+		assertFalse(Files.exists(getLogFile()));
+		assertEquals("a:a b:b", format(read()));
+
+		log.mutate(MutationLog.createRecord("remove").put("id", "a"));
+		assertFalse(Files.exists(getLogFile()));
+		assertEquals("b:b", format(read()));
+	}
+
+	/**
+	 * Returns a mutation log for the file.
+	 *
+	 * @param isDirect True if the mutations rewrite the file directly.
+	 * @return The mutation log.
+	 * @since 17
+	 */
+	private MutationLog<Item> createLog(boolean isDirect) {
+		return new MutationLog<>(file, Item.class, () -> read(), items -> write(items), MutationLogTest::replay,
+				isDirect);
+	}
+
+	/**
+	 * Returns the log file.
+	 *
+	 * @return The log file.
+	 * @since 17
+	 */
+	private Path getLogFile() {
+		return Paths.get(file.toString() + ".log");
+	}
+
+	/**
+	 * Reads the items from the file.
+	 *
+	 * @return The items.
+	 * @throws IOException Throws if the file cannot be read.
+	 * @since 17
+	 */
+	private List<Item> read() throws IOException {
+		List<Item> items = new ArrayList<>();
+
+		if (Files.exists(file))
+			for (String line : Files.readAllLines(file, StandardCharsets.UTF_8))
+				if (!line.isBlank())
+					items.add(MutationLog.getObjectMapper().readValue(line, Item.class));
+
+		return items;
+	}
+
+	/**
+	 * Writes the items to the file.
+	 *
+	 * @param items The items.
+	 * @throws IOException Throws if the file cannot be written.
+	 * @since 17
+	 */
+	private void write(List<Item> items) throws IOException {
+		StringBuilder buffer = new StringBuilder();
+		for (Item item : items)
+			buffer.append(MutationLog.getObjectMapper().writeValueAsString(item)).append(System.lineSeparator());
+
+		Files.writeString(file, buffer, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Applies the record to the items. The renamed items are replaced by copies.
+	 *
+	 * @param items  The items.
+	 * @param record The record.
+	 * @return The items with the applied record.
+	 * @throws IOException Throws if the record is not valid.
+	 * @since 17
+	 */
+	private static List<Item> replay(List<Item> items, JsonNode record) throws IOException {
+		final String operation = MutationLog.getOperation(record);
+		final String id = record.path("id").asText(null);
+
+		if ("add".equals(operation))
+			items.add(new Item(id, record.path("name").asText(null)));
+		else if ("rename".equals(operation)) {
+			for (int index = 0; index < items.size(); index++)
+				if (items.get(index).getId().equals(id)) {
+					Item item = EntityCache.copy(items.get(index), Item.class);
+					item.setName(record.path("name").asText(null));
+
+					items.set(index, item);
+				}
+		} else if ("remove".equals(operation))
+			items.removeIf(item -> item.getId().equals(id));
+		else
+			throw new IOException("unknown operation '" + operation + "'");
+
+		return items;
+	}
+
+	/**
+	 * Returns the items as string.
+	 *
+	 * @param items The items.
+	 * @return The items as string, this means, the ids and names separated by
+	 *         blanks.
+	 * @since 17
+	 */
+	private static String format(List<Item> items) {
+		StringBuilder buffer = new StringBuilder();
+		for (Item item : items) {
+			if (buffer.length() > 0)
+				buffer.append(" ");
+
+			buffer.append(item.getId() + ":" + item.getName());
+		}
+
+		return buffer.toString();
+	}
+
+	/**
+	 * Defines items for the tests.
+	 *
+	 * @author <a href="mailto:herbert.baier@uni-wuerzburg.de">Herbert Baier</a>
+	 * @version 1.0
+	 * @since 17
+	 */
+	public static class Item {
+		/**
+		 * The id.
+		 */
+		private String id;
+
+		/**
+		 * The name.
+		 */
+		private String name;
+
+		/**
+		 * Default constructor for an item.
+		 *
+		 * @since 17
+		 */
+		public Item() {
+			super();
+		}
+
+		/**
+		 * Creates an item.
+		 *
+		 * @param id   The id.
+		 * @param name The name.
+		 * @since 17
+		 */
+		public Item(String id, String name) {
+			super();
+
+			this.id = id;
+			this.name = name;
+		}
+
+		/**
+		 * Returns the id.
+		 *
+		 * @return The id.
+		 * @since 17
+		 */
+		public String getId() {
+			return id;
+		}
+
+		/**
+		 * Set the id.
+		 *
+		 * @param id The id to set.
+		 * @since 17
+		 */
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		/**
+		 * Returns the name.
+		 *
+		 * @return The name.
+		 * @since 17
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Set the name.
+		 *
+		 * @param name The name to set.
+		 * @since 17
+		 */
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}